@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.NotSerializableException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.cluster.BinaryJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.services.utils.cluster.JsonJsonifiableSerializer;
+import org.eclipse.ditto.signals.base.Signal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.SerializerWithStringManifest;
+
+/**
+ * JMH Benchmark for the serializers of signals sent between cluster members for each {@link SignalFamily}.
+ * The serialized size in bytes of the signal is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClusterSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"CBOR", "BINARY", "JSON"})
+    public String serializerName;
+
+    @Param({"THING_MODIFY_COMMAND", "THING_MODIFY_RESPONSE", "THING_QUERY_RESPONSE", "THING_EVENT",
+            "THING_ERROR_RESPONSE", "POLICY_MODIFY_COMMAND", "POLICY_MODIFY_RESPONSE", "POLICY_QUERY_RESPONSE",
+            "POLICY_EVENT", "ACKNOWLEDGEMENT", "MESSAGE_COMMAND", "SEARCH_COMMAND"})
+    public SignalFamily signalFamily;
+
+    private ExtendedActorSystem actorSystem;
+    private SerializerWithStringManifest serializer;
+    private Signal<?> signal;
+    private String manifest;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = (ExtendedActorSystem) ActorSystem.create("ClusterSerializerBenchmark",
+                ConfigFactory.parseMap(Collections.singletonMap("ditto.mapping-strategy.implementation",
+                        GlobalMappingStrategies.class.getName())));
+        if ("BINARY".equals(serializerName)) {
+            serializer = new BinaryJsonifiableSerializer(actorSystem);
+        } else if ("JSON".equals(serializerName)) {
+            serializer = new JsonJsonifiableSerializer(actorSystem);
+        } else {
+            serializer = new CborJsonifiableSerializer(actorSystem);
+        }
+        signal = signalFamily.createSignal();
+        manifest = serializer.manifest(signal);
+        bytes = serializer.toBinary(signal);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinary() {
+        return serializer.toBinary(signal);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinary() throws NotSerializableException {
+        return serializer.fromBinary(bytes, manifest);
+    }
+
+}
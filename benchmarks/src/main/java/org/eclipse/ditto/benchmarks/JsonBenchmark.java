@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for parsing and serializing JSON as string and as CBOR. {@code SMALL} is the Ditto Protocol message
+ * of a {@link SignalFamily#THING_MODIFY_COMMAND}, {@code LARGE} the JSON of a Thing with 50 attributes.
+ * The {@code fresh} benchmarks serialize an object which was just created from its model and thus has no cached
+ * string or CBOR representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"SMALL", "LARGE"})
+    public String size;
+
+    private Supplier<JsonObject> jsonObjectSupplier;
+    private String jsonString;
+    private byte[] cborBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("LARGE".equals(size)) {
+            final Thing thing = SignalFamily.createThing();
+            jsonObjectSupplier = () -> thing.toJson(JsonSchemaVersion.V_2);
+        } else {
+            final JsonifiableAdaptable adaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(
+                    DittoProtocolAdapter.newInstance().toAdaptable(SignalFamily.THING_MODIFY_COMMAND.createSignal()));
+            jsonObjectSupplier = adaptable::toJson;
+        }
+        final JsonObject jsonObject = jsonObjectSupplier.get();
+        jsonString = jsonObject.toString();
+        cborBytes = CborFactory.toByteArray(jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromString() {
+        return JsonFactory.readFrom(jsonString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String freshToString() {
+        return jsonObjectSupplier.get().toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String stringRoundTrip() {
+        return JsonFactory.readFrom(jsonString).toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromCbor() {
+        return CborFactory.readFrom(cborBytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] freshToCbor() throws IOException {
+        return CborFactory.toByteArray(jsonObjectSupplier.get());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] cborRoundTrip() throws IOException {
+        return CborFactory.toByteArray(CborFactory.readFrom(cborBytes));
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreRegisteredTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StoppedTimer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for measuring a single operation with the different metric timers: an expiring timer and a prepared
+ * timer which are created and started per measurement, and a pre-registered timer whose tags are bound once.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MetricsTimerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String TIMER_NAME = "benchmark_timer";
+    private static final String CONNECTION_ID_TAG = "connection_id";
+    private static final String CONNECTION_ID = "benchmark-connection";
+    private static final String DIRECTION_TAG = "direction";
+    private static final String DIRECTION = "inbound";
+
+    private final PreRegisteredTimer preRegisteredTimer = DittoMetrics.preRegisteredTimer(TIMER_NAME, tags());
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public StoppedTimer expiringTimer() {
+        return DittoMetrics.expiringTimer(TIMER_NAME)
+                .tag(CONNECTION_ID_TAG, CONNECTION_ID)
+                .tag(DIRECTION_TAG, DIRECTION)
+                .build()
+                .stop();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public StoppedTimer preparedTimer() {
+        return DittoMetrics.timer(TIMER_NAME)
+                .tag(CONNECTION_ID_TAG, CONNECTION_ID)
+                .tag(DIRECTION_TAG, DIRECTION)
+                .start()
+                .stop();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public long preRegisteredTimer() {
+        return preRegisteredTimer.recordSince(preRegisteredTimer.start());
+    }
+
+    private static Map<String, String> tags() {
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(CONNECTION_ID_TAG, CONNECTION_ID);
+        tags.put(DIRECTION_TAG, DIRECTION);
+        return tags;
+    }
+
+}
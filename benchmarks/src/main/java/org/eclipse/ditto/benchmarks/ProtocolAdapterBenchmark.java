@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the conversion between signals and Ditto Protocol messages by the {@link DittoProtocolAdapter}
+ * for each {@link SignalFamily}. {@code fromJsonString} measures the complete inbound path of a Ditto Protocol
+ * message received as string, {@code toJsonString} the complete outbound path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProtocolAdapterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    // policy events are not supported by the Ditto Protocol adapter
+    @Param({"THING_MODIFY_COMMAND", "THING_MODIFY_RESPONSE", "THING_QUERY_RESPONSE", "THING_EVENT",
+            "THING_ERROR_RESPONSE", "POLICY_MODIFY_COMMAND", "POLICY_MODIFY_RESPONSE", "POLICY_QUERY_RESPONSE",
+            "ACKNOWLEDGEMENT", "MESSAGE_COMMAND", "SEARCH_COMMAND"})
+    public SignalFamily signalFamily;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private Signal<?> signal;
+    private Adaptable adaptable;
+    private String jsonString;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        signal = signalFamily.createSignal();
+        adaptable = protocolAdapter.toAdaptable(signal);
+        jsonString = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Adaptable toAdaptable() {
+        return protocolAdapter.toAdaptable(signal);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromAdaptable() {
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonifiableAdaptable jsonifiableAdaptableFromJson() {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(jsonString));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromJsonString() {
+        return protocolAdapter.fromAdaptable(
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(jsonString)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String toJsonString() {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(signal)).toJsonString();
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.model.messages.MessageHeaders;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.acks.base.Acknowledgement;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
+import org.eclipse.ditto.signals.commands.policies.modify.ModifyPolicyEntry;
+import org.eclipse.ditto.signals.commands.policies.modify.ModifyPolicyEntryResponse;
+import org.eclipse.ditto.signals.commands.policies.query.RetrievePolicyResponse;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeaturePropertyResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.subscription.CreateSubscription;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+
+/**
+ * Representative signals of each family which the Ditto Protocol adapter and the cluster serializers handle.
+ * The names are used as values of the JMH {@code @Param} annotations of the benchmarks.
+ */
+public enum SignalFamily {
+
+    THING_MODIFY_COMMAND {
+        @Override
+        Signal<?> createSignal() {
+            return ModifyFeatureProperty.of(THING_ID, "temperature", JsonPointer.of("value"), JsonValue.of(23.5),
+                    HEADERS);
+        }
+    },
+
+    THING_MODIFY_RESPONSE {
+        @Override
+        Signal<?> createSignal() {
+            return ModifyFeaturePropertyResponse.modified(THING_ID, "temperature", JsonPointer.of("value"), HEADERS);
+        }
+    },
+
+    THING_QUERY_RESPONSE {
+        @Override
+        Signal<?> createSignal() {
+            return RetrieveThingResponse.of(THING_ID, createThing(), HEADERS);
+        }
+    },
+
+    THING_EVENT {
+        @Override
+        Signal<?> createSignal() {
+            return AttributeModified.of(THING_ID, JsonPointer.of("location/city"), JsonValue.of("Immenstaad"), 42L,
+                    HEADERS);
+        }
+    },
+
+    THING_ERROR_RESPONSE {
+        @Override
+        Signal<?> createSignal() {
+            return ThingErrorResponse.of(THING_ID,
+                    ThingNotAccessibleException.newBuilder(THING_ID).dittoHeaders(HEADERS).build());
+        }
+    },
+
+    POLICY_MODIFY_COMMAND {
+        @Override
+        Signal<?> createSignal() {
+            return ModifyPolicyEntry.of(POLICY_ID, POLICY_ENTRY, HEADERS);
+        }
+    },
+
+    POLICY_MODIFY_RESPONSE {
+        @Override
+        Signal<?> createSignal() {
+            return ModifyPolicyEntryResponse.modified(POLICY_ID, HEADERS);
+        }
+    },
+
+    POLICY_QUERY_RESPONSE {
+        @Override
+        Signal<?> createSignal() {
+            final Policy policy = Policy.newBuilder(POLICY_ID).set(POLICY_ENTRY).build();
+            return RetrievePolicyResponse.of(POLICY_ID, policy, HEADERS);
+        }
+    },
+
+    POLICY_EVENT {
+        @Override
+        Signal<?> createSignal() {
+            return PolicyEntryModified.of(POLICY_ID, POLICY_ENTRY, 42L, HEADERS);
+        }
+    },
+
+    ACKNOWLEDGEMENT {
+        @Override
+        Signal<?> createSignal() {
+            return Acknowledgement.of(DittoAcknowledgementLabel.TWIN_PERSISTED, THING_ID, HttpStatusCode.NO_CONTENT,
+                    HEADERS);
+        }
+    },
+
+    MESSAGE_COMMAND {
+        @Override
+        Signal<?> createSignal() {
+            final MessageHeaders messageHeaders = MessageHeaders.newBuilder(MessageDirection.TO, THING_ID, "ping")
+                    .correlationId(CORRELATION_ID)
+                    .contentType("text/plain")
+                    .build();
+            final Message<String> message = Message.<String>newBuilder(messageHeaders).payload("ping").build();
+            return SendThingMessage.of(THING_ID, message, HEADERS);
+        }
+    },
+
+    SEARCH_COMMAND {
+        @Override
+        Signal<?> createSignal() {
+            return CreateSubscription.of("and(eq(attributes/location/city,\"Immenstaad\"),exists(features/temperature))",
+                    "size(50),sort(+thingId)", JsonFieldSelector.newInstance("thingId", "attributes/location"),
+                    Collections.singleton(THING_ID.getNamespace()), HEADERS);
+        }
+    };
+
+    static final String CORRELATION_ID = "b2b3c1e8-0c5f-4a1b-9d1e-8a4f9e4e2a13";
+
+    static final DittoHeaders HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("integration:user")))
+            .correlationId(CORRELATION_ID)
+            .schemaVersion(JsonSchemaVersion.V_2)
+            .contentType("application/json")
+            .responseRequired(true)
+            .build();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:benchmark");
+    private static final PolicyId POLICY_ID = PolicyId.of(THING_ID);
+    private static final int NUMBER_OF_ATTRIBUTES = 50;
+
+    private static final PolicyEntry POLICY_ENTRY = PoliciesModelFactory.newPolicyEntry("DEFAULT",
+            Collections.singletonList(PoliciesModelFactory.newSubject(
+                    PoliciesModelFactory.newSubjectId(SubjectIssuer.INTEGRATION, "user"), SubjectType.GENERATED)),
+            Arrays.asList(
+                    PoliciesModelFactory.newResource("thing", "/", EffectedPermissions.newInstance(
+                            Arrays.asList("READ", "WRITE"), Collections.emptyList())),
+                    PoliciesModelFactory.newResource("message", "/", EffectedPermissions.newInstance(
+                            Collections.singletonList("WRITE"), Collections.emptyList()))));
+
+    /**
+     * Creates a new instance of the representative signal of this family.
+     *
+     * @return the signal.
+     */
+    abstract Signal<?> createSignal();
+
+    /**
+     * Creates a Thing with a policy ID, a feature and {@value #NUMBER_OF_ATTRIBUTES} attributes.
+     *
+     * @return the Thing.
+     */
+    static Thing createThing() {
+        final ThingBuilder.FromScratch thingBuilder = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(POLICY_ID)
+                .setRevision(42L)
+                .setFeatureProperty("temperature", JsonPointer.of("value"), JsonValue.of(23.5));
+        for (int i = 0; i < NUMBER_OF_ATTRIBUTES; i++) {
+            thingBuilder.setAttribute(JsonPointer.of("attribute" + i), JsonValue.of("value" + i));
+        }
+        return thingBuilder.build();
+    }
+
+}
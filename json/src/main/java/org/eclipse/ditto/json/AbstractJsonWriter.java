@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Abstract base implementation of {@link JsonWriter} which keeps track of the currently open objects and arrays and
+ * ensures that elements are only written at valid positions. Subclasses only have to produce the output.
+ */
+@NotThreadSafe
+abstract class AbstractJsonWriter implements JsonWriter {
+
+    private final Deque<Scope> scopes;
+    private boolean rootValueWritten;
+
+    /**
+     * Constructs a new {@code AbstractJsonWriter} object.
+     */
+    protected AbstractJsonWriter() {
+        scopes = new ArrayDeque<>();
+        rootValueWritten = false;
+    }
+
+    @Override
+    public JsonWriter writeStartObject() throws IOException {
+        startObject(beforeValue());
+        scopes.push(new Scope(true));
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeEndObject() throws IOException {
+        final Scope scope = scopes.peek();
+        if (null == scope || !scope.isObject || scope.isAwaitingValue) {
+            throw new IllegalStateException("There is no complete JSON object to be ended!");
+        }
+        scopes.pop();
+        endObject();
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeStartArray() throws IOException {
+        startArray(beforeValue());
+        scopes.push(new Scope(false));
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeEndArray() throws IOException {
+        final Scope scope = scopes.peek();
+        if (null == scope || scope.isObject) {
+            throw new IllegalStateException("There is no JSON array to be ended!");
+        }
+        scopes.pop();
+        endArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeKey(final CharSequence key) throws IOException {
+        requireNonNull(key, "The key must not be null!");
+        final Scope scope = scopes.peek();
+        if (null == scope || !scope.isObject || scope.isAwaitingValue) {
+            throw new IllegalStateException("A key is not expected at this position!");
+        }
+        key(key.toString(), 0 < scope.elementCount);
+        scope.elementCount++;
+        scope.isAwaitingValue = true;
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeValue(final JsonValue value) throws IOException {
+        requireNonNull(value, "The value must not be null!");
+        value(value, beforeValue());
+        return this;
+    }
+
+    /**
+     * Writes the start of an object.
+     *
+     * @param needsSeparator whether the object has to be separated from its preceding sibling.
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void startObject(boolean needsSeparator) throws IOException;
+
+    /**
+     * Writes the end of an object.
+     *
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void endObject() throws IOException;
+
+    /**
+     * Writes the start of an array.
+     *
+     * @param needsSeparator whether the array has to be separated from its preceding sibling.
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void startArray(boolean needsSeparator) throws IOException;
+
+    /**
+     * Writes the end of an array.
+     *
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void endArray() throws IOException;
+
+    /**
+     * Writes a key of an object field.
+     *
+     * @param key the key.
+     * @param needsSeparator whether the field has to be separated from its preceding field.
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void key(String key, boolean needsSeparator) throws IOException;
+
+    /**
+     * Writes a complete value.
+     *
+     * @param value the value.
+     * @param needsSeparator whether the value has to be separated from its preceding sibling.
+     * @throws IOException if writing to the target failed.
+     */
+    protected abstract void value(JsonValue value, boolean needsSeparator) throws IOException;
+
+    /**
+     * Checks whether a value may be written at the current position and updates the current scope accordingly.
+     *
+     * @return whether the value has to be separated from its preceding sibling.
+     */
+    private boolean beforeValue() {
+        @Nullable final Scope scope = scopes.peek();
+        final boolean result;
+        if (null == scope) {
+            if (rootValueWritten) {
+                throw new IllegalStateException("The root value was already written!");
+            }
+            rootValueWritten = true;
+            result = false;
+        } else if (scope.isObject) {
+            if (!scope.isAwaitingValue) {
+                throw new IllegalStateException("A value inside a JSON object has to be preceded by a key!");
+            }
+            scope.isAwaitingValue = false;
+            result = false;
+        } else {
+            result = 0 < scope.elementCount;
+            scope.elementCount++;
+        }
+        return result;
+    }
+
+    private static final class Scope {
+
+        private final boolean isObject;
+        private int elementCount;
+        private boolean isAwaitingValue;
+
+        private Scope(final boolean isObject) {
+            this.isObject = isObject;
+            elementCount = 0;
+            isAwaitingValue = false;
+        }
+
+    }
+
+}
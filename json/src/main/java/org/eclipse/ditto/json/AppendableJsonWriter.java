@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link JsonWriter} which appends the JSON string representation to an {@link Appendable}.
+ * Nested objects and arrays are written field by field, thus their string representation is neither built nor
+ * cached. The target is considered to be borrowed and will not be closed.
+ */
+@NotThreadSafe
+final class AppendableJsonWriter extends AbstractJsonWriter {
+
+    private static final char QUOTE = '\"';
+    private static final char SEPARATOR = ',';
+
+    private final Appendable target;
+    private final JsonCharEscaper jsonCharEscaper;
+
+    private AppendableJsonWriter(final Appendable target) {
+        this.target = target;
+        jsonCharEscaper = JsonCharEscaper.getInstance();
+    }
+
+    /**
+     * Returns an instance of {@code AppendableJsonWriter}.
+     *
+     * @param target the Appendable to write to.
+     * @return the instance.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public static AppendableJsonWriter of(final Appendable target) {
+        return new AppendableJsonWriter(requireNonNull(target, "The target Appendable must not be null!"));
+    }
+
+    @Override
+    protected void startObject(final boolean needsSeparator) throws IOException {
+        appendSeparatorIfNeeded(needsSeparator);
+        target.append('{');
+    }
+
+    @Override
+    protected void endObject() throws IOException {
+        target.append('}');
+    }
+
+    @Override
+    protected void startArray(final boolean needsSeparator) throws IOException {
+        appendSeparatorIfNeeded(needsSeparator);
+        target.append('[');
+    }
+
+    @Override
+    protected void endArray() throws IOException {
+        target.append(']');
+    }
+
+    @Override
+    protected void key(final String key, final boolean needsSeparator) throws IOException {
+        appendSeparatorIfNeeded(needsSeparator);
+        appendEscaped(key);
+        target.append(':');
+    }
+
+    @Override
+    protected void value(final JsonValue value, final boolean needsSeparator) throws IOException {
+        appendSeparatorIfNeeded(needsSeparator);
+        appendValue(value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (target instanceof Flushable) {
+            ((Flushable) target).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void appendSeparatorIfNeeded(final boolean needsSeparator) throws IOException {
+        if (needsSeparator) {
+            target.append(SEPARATOR);
+        }
+    }
+
+    private void appendValue(final JsonValue value) throws IOException {
+        if (value.isNull()) {
+            target.append(value.toString());
+        } else if (value.isObject()) {
+            appendObject(value.asObject());
+        } else if (value.isArray()) {
+            appendArray(value.asArray());
+        } else if (value.isString()) {
+            appendEscaped(value.asString());
+        } else {
+            target.append(value.toString());
+        }
+    }
+
+    private void appendObject(final JsonObject jsonObject) throws IOException {
+        target.append('{');
+        boolean needsSeparator = false;
+        for (final JsonField jsonField : jsonObject) {
+            key(jsonField.getKeyName(), needsSeparator);
+            appendValue(jsonField.getValue());
+            needsSeparator = true;
+        }
+        target.append('}');
+    }
+
+    private void appendArray(final JsonArray jsonArray) throws IOException {
+        target.append('[');
+        boolean needsSeparator = false;
+        for (final JsonValue jsonValue : jsonArray) {
+            appendSeparatorIfNeeded(needsSeparator);
+            appendValue(jsonValue);
+            needsSeparator = true;
+        }
+        target.append(']');
+    }
+
+    private void appendEscaped(final String javaString) throws IOException {
+        target.append(QUOTE);
+        int unescapedStart = 0;
+        final int length = javaString.length();
+        for (int i = 0; i < length; i++) {
+            @Nullable final String replacement = jsonCharEscaper.apply((int) javaString.charAt(i));
+            if (null != replacement) {
+                target.append(javaString, unescapedStart, i);
+                target.append(replacement);
+                unescapedStart = i + 1;
+            }
+        }
+        target.append(javaString, unescapedStart, length);
+        target.append(QUOTE);
+    }
+
+}
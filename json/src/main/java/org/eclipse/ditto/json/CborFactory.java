@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -134,6 +136,36 @@ public final class CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    /**
+     * Returns a new {@link JsonWriter} which writes the CBOR representation of the written elements to the given
+     * stream. Cached CBOR representations of written JSON objects and arrays are embedded without serializing them
+     * again.
+     *
+     * @param outputStream the stream to write to.
+     * @return the writer. It has to be closed in order to flush all written elements into the stream.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if the writer could not be created.
+     * @since 1.2.0
+     */
+    public static JsonWriter newWriter(final OutputStream outputStream) throws IOException {
+        return CborJsonWriter.of(new SerializationContext(JACKSON_CBOR_FACTORY,
+                requireNonNull(outputStream, "The OutputStream must not be null!")));
+    }
+
+    /**
+     * Returns a new {@link JsonWriter} which writes the CBOR representation of the written elements into the given
+     * ByteBuffer.
+     *
+     * @param byteBuffer the ByteBuffer to write into.
+     * @return the writer. It has to be closed in order to flush all written elements into the buffer.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws IOException if the writer could not be created.
+     * @since 1.2.0
+     */
+    public static JsonWriter newWriter(final ByteBuffer byteBuffer) throws IOException {
+        return newWriter(new ByteBufferOutputStream(requireNonNull(byteBuffer, "The ByteBuffer must not be null!")));
+    }
+
     private static JsonParseException createJsonParseException(final ByteBuffer byteBuffer, final Exception e) {
         return JsonParseException.newBuilder()
                 .message(MessageFormat.format(
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link JsonWriter} which writes CBOR into a {@link SerializationContext}.
+ * Complete values are written with {@link JsonValue#writeValue(SerializationContext)}, thus cached CBOR
+ * representations of objects and arrays are embedded as they are.
+ * <p>
+ * This class can not be loaded by Java unless jackson-core and jackson-dataformats-cbor are both available on the
+ * classpath.
+ * </p>
+ */
+@NotThreadSafe
+final class CborJsonWriter extends AbstractJsonWriter {
+
+    private final SerializationContext serializationContext;
+
+    private CborJsonWriter(final SerializationContext serializationContext) {
+        this.serializationContext = serializationContext;
+    }
+
+    /**
+     * Returns an instance of {@code CborJsonWriter}.
+     *
+     * @param serializationContext the CBOR serialization context to write to.
+     * @return the instance.
+     * @throws NullPointerException if {@code serializationContext} is {@code null}.
+     */
+    public static CborJsonWriter of(final SerializationContext serializationContext) {
+        return new CborJsonWriter(requireNonNull(serializationContext, "The serialization context must not be null!"));
+    }
+
+    @Override
+    protected void startObject(final boolean needsSeparator) throws IOException {
+        serializationContext.getJacksonGenerator().writeStartObject();
+    }
+
+    @Override
+    protected void endObject() throws IOException {
+        serializationContext.getJacksonGenerator().writeEndObject();
+    }
+
+    @Override
+    protected void startArray(final boolean needsSeparator) throws IOException {
+        serializationContext.getJacksonGenerator().writeStartArray();
+    }
+
+    @Override
+    protected void endArray() throws IOException {
+        serializationContext.getJacksonGenerator().writeEndArray();
+    }
+
+    @Override
+    protected void key(final String key, final boolean needsSeparator) throws IOException {
+        serializationContext.getJacksonGenerator().writeFieldName(key);
+    }
+
+    @Override
+    protected void value(final JsonValue value, final boolean needsSeparator) throws IOException {
+        value.writeValue(serializationContext);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        serializationContext.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serializationContext.close();
+    }
+
+}
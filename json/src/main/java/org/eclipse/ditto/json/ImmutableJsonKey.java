@@ -25,6 +25,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    private static final InterningCache<JsonKey> CACHE = InterningCache.newInstance(2048, 64);
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -48,7 +50,7 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return CACHE.get(keyValue.toString(), ImmutableJsonKey::new);
     }
 
     @Override
@@ -85,7 +87,8 @@ final class ImmutableJsonKey implements JsonKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(keyValue);
+        // equals Objects.hash(keyValue) but without allocating a varargs array; String caches its own hash code
+        return 31 + keyValue.hashCode();
     }
 
     @Override
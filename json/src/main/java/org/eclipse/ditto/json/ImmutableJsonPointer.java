@@ -13,7 +13,6 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,10 +20,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -34,12 +30,16 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
+    private static final char SLASH_CHAR = '/';
     private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final String ESCAPED_TILDE = "~0";
+    private static final String DECODED_TILDE = "~";
+
+    /**
+     * Parsed pointers like {@code /features/temperature/properties/value} recur on nearly every message, e. g. in
+     * topic paths, RQL filters and field selectors, thus they are interned.
+     */
+    private static final InterningCache<JsonPointer> CACHE = InterningCache.newInstance(1024, 256);
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
@@ -79,25 +79,37 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = CACHE.get(slashDelimitedCharSequence.toString(), ImmutableJsonPointer::parse);
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    private static JsonPointer parse(final String slashDelimitedString) {
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        final int length = slashDelimitedString.length();
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || SLASH_CHAR == slashDelimitedString.charAt(i)) {
+                if (i < length && i > 0 && SLASH_CHAR == slashDelimitedString.charAt(i - 1)) {
+                    throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString)
+                            .build();
+                }
+                if (i > segmentStart) { // ignore empty segments
+                    jsonKeys.add(JsonFactory.newKey(decodeTilde(slashDelimitedString.substring(segmentStart, i))));
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return newInstance(jsonKeys);
+    }
+
+    private static String decodeTilde(final String keyString) {
+        if (keyString.indexOf(ESCAPED_TILDE) < 0) {
+            return keyString;
+        }
+        return keyString.replace(ESCAPED_TILDE, DECODED_TILDE);
     }
 
     private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
@@ -336,8 +348,10 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     private static String escapeTilde(final JsonKey jsonKey) {
         final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+        if (keyString.indexOf(DECODED_TILDE) < 0) {
+            return keyString;
+        }
+        return keyString.replace(DECODED_TILDE, ESCAPED_TILDE);
     }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache which maps strings to the immutable instances parsed from them, for example JSON keys or JSON
+ * pointers. The cache is direct-mapped: each string has exactly one slot determined by its hash code, and a new
+ * instance replaces whatever occupied its slot before. Thus lookups neither lock nor allocate, and the memory
+ * consumption is limited by the number of slots and the maximum length of the cached strings.
+ *
+ * @param <T> the type of the cached instances. They have to be immutable as they are shared between threads.
+ */
+@ThreadSafe
+final class InterningCache<T> {
+
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final int mask;
+    private final int maxStringLength;
+
+    private InterningCache(final int numberOfSlots, final int maxStringLength) {
+        slots = new AtomicReferenceArray<>(numberOfSlots);
+        mask = numberOfSlots - 1;
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Returns a new instance of {@code InterningCache}.
+     *
+     * @param numberOfSlots the number of slots, has to be a power of two.
+     * @param maxStringLength the maximum length of strings whose instances are cached. Instances for longer strings
+     * are always created anew.
+     * @param <T> the type of the cached instances.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code numberOfSlots} is not a positive power of two.
+     */
+    static <T> InterningCache<T> newInstance(final int numberOfSlots, final int maxStringLength) {
+        if (numberOfSlots <= 0 || Integer.bitCount(numberOfSlots) != 1) {
+            throw new IllegalArgumentException("The number of slots must be a positive power of two!");
+        }
+        return new InterningCache<>(numberOfSlots, maxStringLength);
+    }
+
+    /**
+     * Returns the cached instance for the given string or creates, caches and returns a new one.
+     *
+     * @param string the string to get the instance for.
+     * @param creator creates the instance for the string if it is not cached. Exceptions are passed to the caller and
+     * nothing is cached then.
+     * @return the instance.
+     */
+    T get(final String string, final Function<String, T> creator) {
+        if (string.length() > maxStringLength) {
+            return creator.apply(string);
+        }
+        final int hash = string.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        @Nullable final Entry<T> entry = slots.get(index);
+        if (null != entry && entry.string.equals(string)) {
+            return entry.value;
+        }
+        final T result = creator.apply(string);
+        slots.lazySet(index, new Entry<>(string, result));
+        return result;
+    }
+
+    private static final class Entry<T> {
+
+        private final String string;
+        private final T value;
+
+        private Entry(final String string, final T value) {
+            this.string = string;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -97,6 +97,22 @@ public final class JsonFactory {
         return result;
     }
 
+    /**
+     * Returns the key of the given field definition whose pointer is expected to consist of exactly one key.
+     *
+     * @param fieldDefinition the field definition.
+     * @return the single key of the pointer of {@code fieldDefinition}.
+     * @throws IllegalArgumentException if the pointer of {@code fieldDefinition} does not consist of exactly one key.
+     */
+    static JsonKey getSingleKey(final JsonFieldDefinition<?> fieldDefinition) {
+        final JsonPointer pointer = fieldDefinition.getPointer();
+        if (1 != pointer.getLevelCount()) {
+            throw new IllegalArgumentException(
+                    "The pointer of the field definition <" + pointer + "> must consist of exactly one key!");
+        }
+        return pointer.getRoot().orElseThrow(IllegalStateException::new);
+    }
+
     /**
      * Returns a JSON literal that represents the given {@code boolean} value.
      *
@@ -194,6 +210,19 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Returns a new {@link JsonWriter} which appends the JSON string representation of the written elements to the
+     * given target. The target is considered to be borrowed and will not be closed by the writer.
+     *
+     * @param target the Appendable to write to, e. g. a {@code StringBuilder} or a {@code Writer}.
+     * @return the writer.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     * @since 1.2.0
+     */
+    public static JsonWriter newWriter(final Appendable target) {
+        return AppendableJsonWriter.of(target);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
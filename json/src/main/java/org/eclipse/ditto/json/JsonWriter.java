@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A writer which serializes JSON elements one after another into its target without building an intermediate
+ * {@link JsonObject} or {@link JsonArray}.
+ * <p>
+ * Objects and arrays are opened and closed explicitly. Inside an object each value has to be preceded by a key.
+ * Already existing {@link JsonValue}s may be written as a whole at any position a value is expected.
+ * </p>
+ * <p>
+ * Instances are not thread-safe and must be created for each serialization target.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface JsonWriter extends Closeable, Flushable {
+
+    /**
+     * Writes the start of a JSON object.
+     *
+     * @return this writer.
+     * @throws IOException if writing to the target failed.
+     */
+    JsonWriter writeStartObject() throws IOException;
+
+    /**
+     * Writes the end of the JSON object which was started last.
+     *
+     * @return this writer.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if no JSON object was started.
+     */
+    JsonWriter writeEndObject() throws IOException;
+
+    /**
+     * Writes the start of a JSON array.
+     *
+     * @return this writer.
+     * @throws IOException if writing to the target failed.
+     */
+    JsonWriter writeStartArray() throws IOException;
+
+    /**
+     * Writes the end of the JSON array which was started last.
+     *
+     * @return this writer.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if no JSON array was started.
+     */
+    JsonWriter writeEndArray() throws IOException;
+
+    /**
+     * Writes the key of the next field of the current JSON object.
+     *
+     * @param key the key.
+     * @return this writer.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if the writer is not inside a JSON object.
+     */
+    JsonWriter writeKey(CharSequence key) throws IOException;
+
+    /**
+     * Writes the given JSON value as a whole.
+     *
+     * @param value the value to write.
+     * @return this writer.
+     * @throws NullPointerException if {@code value} is {@code null}.
+     * @throws IOException if writing to the target failed.
+     */
+    JsonWriter writeValue(JsonValue value) throws IOException;
+
+    /**
+     * Writes a field consisting of the given key and value into the current JSON object.
+     *
+     * @param key the key of the field.
+     * @param value the value of the field.
+     * @return this writer.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if the writer is not inside a JSON object.
+     */
+    default JsonWriter writeField(final CharSequence key, final JsonValue value) throws IOException {
+        return writeKey(key).writeValue(value);
+    }
+
+    /**
+     * Writes the given field into the current JSON object if it satisfies the given predicate.
+     *
+     * @param field the field to write.
+     * @param predicate the predicate which the field has to satisfy.
+     * @return this writer.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if the writer is not inside a JSON object.
+     */
+    default JsonWriter writeField(final JsonField field, final Predicate<JsonField> predicate) throws IOException {
+        requireNonNull(predicate, "The predicate must not be null!");
+        if (predicate.test(field)) {
+            writeField(field.getKey(), field.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Writes a field of the given definition into the current JSON object if it satisfies the given predicate.
+     * This behaves like {@link JsonObjectBuilder#set(JsonFieldDefinition, Object, Predicate)}, i. e. the value is
+     * converted into the appropriate JSON value and a {@code null} value is written as JSON {@code null}.
+     *
+     * @param fieldDefinition the definition of the field. Its pointer must consist of exactly one key.
+     * @param value the value of the field.
+     * @param predicate the predicate which the field has to satisfy.
+     * @param <T> the type of the value.
+     * @return this writer.
+     * @throws NullPointerException if {@code fieldDefinition} or {@code predicate} is {@code null}.
+     * @throws IllegalArgumentException if the pointer of {@code fieldDefinition} does not consist of exactly one key.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if the writer is not inside a JSON object.
+     */
+    default <T> JsonWriter writeField(final JsonFieldDefinition<T> fieldDefinition, @Nullable final T value,
+            final Predicate<JsonField> predicate) throws IOException {
+
+        requireNonNull(fieldDefinition, "The JSON field definition must not be null!");
+        return writeField(JsonFactory.newField(JsonFactory.getSingleKey(fieldDefinition), JsonFactory.getAppropriateValue(value),
+                fieldDefinition), predicate);
+    }
+
+    /**
+     * Writes the key of a field of the given definition into the current JSON object if the field satisfies the
+     * given predicate. This allows to stream the value of the field afterwards instead of building it up front.
+     * As the value is not known yet, the predicate is evaluated on a field with a JSON {@code null} value; thus it
+     * must only evaluate the key and the definition of the field.
+     *
+     * @param fieldDefinition the definition of the field. Its pointer must consist of exactly one key.
+     * @param predicate the predicate which the field has to satisfy.
+     * @return {@code true} if the key was written and the value has to be written next, {@code false} else.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if the pointer of {@code fieldDefinition} does not consist of exactly one key.
+     * @throws IOException if writing to the target failed.
+     * @throws IllegalStateException if the writer is not inside a JSON object.
+     */
+    default boolean writeKeyIfMatches(final JsonFieldDefinition<?> fieldDefinition,
+            final Predicate<JsonField> predicate) throws IOException {
+
+        requireNonNull(fieldDefinition, "The JSON field definition must not be null!");
+        requireNonNull(predicate, "The predicate must not be null!");
+        final JsonKey key = JsonFactory.getSingleKey(fieldDefinition);
+        final boolean result = predicate.test(JsonFactory.newField(key, JsonFactory.nullLiteral(), fieldDefinition));
+        if (result) {
+            writeKey(key);
+        }
+        return result;
+    }
+
+}
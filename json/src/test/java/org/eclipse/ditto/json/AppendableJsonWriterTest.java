@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.AppendableJsonWriter}.
+ */
+public final class AppendableJsonWriterTest {
+
+    private static final JsonObject KNOWN_OBJECT = JsonObject.newBuilder()
+            .set("string", "Auf der Wiese\n blueht ein kleines \"Blümelein\".")
+            .set("int", 42)
+            .set("double", 23.5)
+            .set("boolean", false)
+            .set("null", JsonValue.nullLiteral())
+            .set("nested", JsonObject.newBuilder()
+                    .set("array", JsonArray.of(1, "two", JsonObject.empty(), JsonArray.empty()))
+                    .build())
+            .build();
+
+    private StringBuilder target;
+    private JsonWriter underTest;
+
+    @Before
+    public void setUp() {
+        target = new StringBuilder();
+        underTest = AppendableJsonWriter.of(target);
+    }
+
+    @Test
+    public void writeValueProducesSameStringAsToString() throws IOException {
+        underTest.writeValue(KNOWN_OBJECT);
+
+        assertThat(target.toString()).isEqualTo(KNOWN_OBJECT.toString());
+    }
+
+    @Test
+    public void streamedObjectEqualsBuiltObject() throws IOException {
+        final JsonFieldDefinition<Integer> intDefinition = JsonFactory.newIntFieldDefinition("int");
+        final JsonFieldDefinition<String> stringDefinition =
+                JsonFactory.newStringFieldDefinition("string", FieldMarker.SPECIAL);
+
+        underTest.writeStartObject()
+                .writeField(intDefinition, 42, field -> true)
+                .writeField(stringDefinition, "skipped", field -> !field.isMarkedAs(FieldMarker.SPECIAL))
+                .writeKey("array")
+                .writeStartArray()
+                .writeValue(JsonValue.of(1))
+                .writeStartObject()
+                .writeField("key", JsonValue.of("value"))
+                .writeEndObject()
+                .writeValue(JsonArray.of(2, 3))
+                .writeEndArray()
+                .writeField("object", KNOWN_OBJECT)
+                .writeEndObject();
+
+        final JsonObject expected = JsonObject.newBuilder()
+                .set(intDefinition, 42)
+                .set("array", JsonArray.of(JsonValue.of(1), JsonObject.newBuilder().set("key", "value").build(),
+                        JsonArray.of(2, 3)))
+                .set("object", KNOWN_OBJECT)
+                .build();
+        assertThat(target.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void valueInsideObjectWithoutKeyFails() throws IOException {
+        underTest.writeStartObject();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.writeValue(JsonValue.of(1)));
+    }
+
+    @Test
+    public void keyInsideArrayFails() throws IOException {
+        underTest.writeStartArray();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.writeKey("key"));
+    }
+
+    @Test
+    public void endObjectAfterDanglingKeyFails() throws IOException {
+        underTest.writeStartObject().writeKey("key");
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(underTest::writeEndObject);
+    }
+
+    @Test
+    public void secondRootValueFails() throws IOException {
+        underTest.writeValue(JsonValue.of(1));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.writeValue(JsonValue.of(2)));
+    }
+
+    private enum FieldMarker implements JsonFieldMarker {
+        SPECIAL
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.CborJsonWriter}.
+ */
+public final class CborJsonWriterTest {
+
+    private static final JsonObject KNOWN_OBJECT = JsonObject.newBuilder()
+            .set("string", "someString")
+            .set("int", 42)
+            .set("nested", JsonObject.newBuilder()
+                    .set("array", JsonArray.of(1, "two", JsonObject.empty()))
+                    .build())
+            .build();
+
+    @Test
+    public void streamedObjectCanBeReadAgain() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonWriter underTest = CborFactory.newWriter(outputStream)) {
+            underTest.writeStartObject()
+                    .writeField("object", KNOWN_OBJECT)
+                    .writeKey("array")
+                    .writeStartArray()
+                    .writeValue(KNOWN_OBJECT)
+                    .writeValue(JsonValue.of(false))
+                    .writeEndArray()
+                    .writeEndObject();
+        }
+
+        final JsonObject expected = JsonObject.newBuilder()
+                .set("object", KNOWN_OBJECT)
+                .set("array", JsonArray.of(KNOWN_OBJECT, JsonValue.of(false)))
+                .build();
+        assertThat(CborFactory.readFrom(outputStream.toByteArray())).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeValueIntoByteBufferEqualsWriteToByteBuffer() throws IOException {
+        final ByteBuffer expected = ByteBuffer.allocate(512);
+        CborFactory.writeToByteBuffer(KNOWN_OBJECT, expected);
+        final ByteBuffer actual = ByteBuffer.allocate(512);
+
+        try (final JsonWriter underTest = CborFactory.newWriter(actual)) {
+            underTest.writeValue(KNOWN_OBJECT);
+        }
+
+        assertThat(actual.flip()).isEqualTo(expected.flip());
+    }
+
+}
@@ -315,4 +315,13 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum/~0die/~0dum/baz");
     }
 
+    @Test
+    public void repeatedlyParsedPointerIsInterned() {
+        final JsonPointer first = ImmutableJsonPointer.ofParsed("/features/temperature/properties/value");
+        final JsonPointer second =
+                ImmutableJsonPointer.ofParsed(new StringBuilder("/features/temperature/properties/value"));
+
+        assertThat(second).isSameAs(first);
+    }
+
 }
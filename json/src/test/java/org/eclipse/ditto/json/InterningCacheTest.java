@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InterningCache}.
+ */
+public final class InterningCacheTest {
+
+    @Test
+    public void numberOfSlotsMustBePowerOfTwo() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InterningCache.newInstance(100, 10));
+    }
+
+    @Test
+    public void cachedInstanceIsReturnedForEqualString() {
+        final InterningCache<Object> underTest = InterningCache.newInstance(16, 10);
+        final AtomicInteger creations = new AtomicInteger();
+        final Function<String, Object> creator = s -> {
+            creations.incrementAndGet();
+            return new Object();
+        };
+
+        final Object first = underTest.get("foo", creator);
+        final Object second = underTest.get(new String("foo"), creator);
+
+        assertThat(second).isSameAs(first);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    public void instancesForLongStringsAreNotCached() {
+        final InterningCache<Object> underTest = InterningCache.newInstance(16, 2);
+
+        assertThat(underTest.get("foo", s -> new Object())).isNotSameAs(underTest.get("foo", s -> new Object()));
+    }
+
+    @Test
+    public void collidingStringReplacesSlot() {
+        final InterningCache<String> underTest = InterningCache.newInstance(1, 10);
+
+        underTest.get("foo", String::toUpperCase);
+
+        assertThat(underTest.get("bar", String::toUpperCase)).isEqualTo("BAR");
+        assertThat(underTest.get("foo", s -> "replaced")).isEqualTo("replaced");
+    }
+
+}
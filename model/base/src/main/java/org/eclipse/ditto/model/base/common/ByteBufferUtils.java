@@ -52,6 +52,25 @@ public final class ByteBufferUtils {
         return clone;
     }
 
+    /**
+     * Returns the remaining bytes of the passed in ByteBuffer as array without changing its position.
+     * If the ByteBuffer wraps exactly its whole backing array, that array is returned without copying it, thus
+     * the returned array must not be modified.
+     *
+     * @param byteBuffer the ByteBuffer to get the bytes of.
+     * @return the remaining bytes of the ByteBuffer.
+     * @since 1.2.0
+     */
+    public static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray() && byteBuffer.arrayOffset() == 0 && byteBuffer.position() == 0 &&
+                byteBuffer.remaining() == byteBuffer.array().length) {
+            return byteBuffer.array();
+        }
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return bytes;
+    }
+
     /**
      * Creates an empty ByteBuffer of size 0.
      * @return an empty ByteBuffer.
@@ -234,6 +234,31 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      */
     LOCATION("location", String.class, false, true,
             HeaderValueValidators.getNoOpValidator()),
+
+    /**
+     * Internal header definition marking a thing command which bypassed the concierge service and therefore has to be
+     * enforced by the things service colocated with the shard of the addressed thing.
+     * External header of the same name is always discarded.
+     * <p>
+     * Key: {@code "ditto-enforce-colocated"}, Java type: {@code boolean}.
+     * </p>
+     *
+     * @since 1.2.0
+     */
+    ENFORCE_COLOCATED("ditto-enforce-colocated", boolean.class, false, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Internal header definition carrying the trace context of a signal, i. e. its trace ID, the last span it passed
+     * and the timestamps needed to measure the latency between the services it passes.
+     * External header of the same name is always discarded.
+     * <p>
+     * Key: {@code "ditto-trace-context"}, Java type: String.
+     * </p>
+     *
+     * @since 1.2.0
+     */
+    TRACE_CONTEXT("ditto-trace-context", String.class, false, false, HeaderValueValidators.getNoOpValidator()),
     ;
 
     /**
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.model.base.json;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.function.Predicate;
@@ -20,6 +21,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 
 /**
  * A {@code Jsonifiable} is an entity which can be represented as JSON (string).
@@ -180,6 +182,27 @@ public interface Jsonifiable<J extends JsonValue> {
         default String toJsonString(final JsonSchemaVersion schemaVersion, final Predicate<T> predicate) {
             return toJson(schemaVersion, predicate).toString();
         }
+
+        /**
+         * Writes the JSON representation of this object to the given writer. The content of the written JSON is
+         * determined by the given predicate and equals the result of {@link #toJson(JsonSchemaVersion, Predicate)}.
+         * <p>
+         * By default the result of {@code toJson} is written. Implementations should override this method to write
+         * their fields one after another without building an intermediate JSON object.
+         * </p>
+         *
+         * @param jsonWriter the writer to write the JSON representation to.
+         * @param schemaVersion the JsonSchemaVersion in which to write the JSON.
+         * @param predicate determines the content of the written JSON.
+         * @throws NullPointerException if any argument is {@code null}.
+         * @throws IOException if writing to the target of {@code jsonWriter} failed.
+         * @since 1.2.0
+         */
+        default void writeJson(final JsonWriter jsonWriter, final JsonSchemaVersion schemaVersion,
+                final Predicate<T> predicate) throws IOException {
+
+            jsonWriter.writeValue(toJson(schemaVersion, predicate));
+        }
     }
 
     /**
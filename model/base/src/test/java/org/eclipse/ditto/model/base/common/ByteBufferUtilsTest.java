@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ByteBufferUtils}.
+ */
+public final class ByteBufferUtilsTest {
+
+    @Test
+    public void toByteArrayReturnsBackingArrayOfWrappingBuffer() {
+        final byte[] bytes = {1, 2, 3};
+
+        assertThat(ByteBufferUtils.toByteArray(ByteBuffer.wrap(bytes))).isSameAs(bytes);
+    }
+
+    @Test
+    public void toByteArrayCopiesRemainingBytesOfSlice() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4}, 1, 2);
+
+        assertThat(ByteBufferUtils.toByteArray(byteBuffer)).containsExactly(2, 3);
+        assertThat(byteBuffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    public void toByteArrayCopiesDirectBuffer() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(2).put(new byte[]{5, 6});
+        byteBuffer.flip();
+
+        assertThat(ByteBufferUtils.toByteArray(byteBuffer)).containsExactly(5, 6);
+    }
+
+}
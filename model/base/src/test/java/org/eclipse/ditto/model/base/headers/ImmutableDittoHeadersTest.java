@@ -101,6 +101,7 @@ public final class ImmutableDittoHeadersTest {
     private static final String KNOWN_ENTITY_ID = "known:entityId";
     private static final String KNOWN_WWW_AUTHENTICATION = "known:www-authentication";
     private static final String KNOWN_LOCATION = "known:location";
+    private static final String KNOWN_TRACE_CONTEXT = "4bf92f3577b34da6;gateway;1590000000000000;1590000000000000";
 
     @Test
     public void assertImmutability() {
@@ -139,6 +140,8 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO)
                 .putHeader(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION)
                 .putHeader(DittoHeaderDefinition.LOCATION.getKey(), KNOWN_LOCATION)
+                .putHeader(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(), String.valueOf(true))
+                .putHeader(DittoHeaderDefinition.TRACE_CONTEXT.getKey(), KNOWN_TRACE_CONTEXT)
                 .acknowledgementRequests(KNOWN_ACK_REQUESTS)
                 .timeout(KNOWN_TIMEOUT)
                 .build();
@@ -347,6 +350,8 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO)
                 .set(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION)
                 .set(DittoHeaderDefinition.LOCATION.getKey(), KNOWN_LOCATION)
+                .set(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(), true)
+                .set(DittoHeaderDefinition.TRACE_CONTEXT.getKey(), KNOWN_TRACE_CONTEXT)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -548,6 +553,8 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO);
         result.put(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION);
         result.put(DittoHeaderDefinition.LOCATION.getKey(), KNOWN_LOCATION);
+        result.put(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(), String.valueOf(true));
+        result.put(DittoHeaderDefinition.TRACE_CONTEXT.getKey(), KNOWN_TRACE_CONTEXT);
 
         return result;
     }
@@ -67,7 +67,19 @@ public final class QueryFilterCriteriaFactory {
     public Criteria filterCriteriaRestrictedByNamespaces(final String filter, final DittoHeaders dittoHeaders,
             final Set<String> namespaces) {
         final Criteria filterCriteria = filterCriteria(filter, dittoHeaders);
-        return restrictByNamespace(namespaces, filterCriteria);
+        return restrictByNamespaces(filterCriteria, namespaces);
+    }
+
+    /**
+     * Restricts an already created filter criterion to items in the given namespaces.
+     *
+     * @param filterCriteria the filter criterion
+     * @param namespaces the namespaces
+     * @return a filter criterion which includes only items of {@code filterCriteria} related to the given namespaces
+     * @since 1.2.0
+     */
+    public Criteria restrictByNamespaces(final Criteria filterCriteria, final Set<String> namespaces) {
+        return criteriaFactory.and(Arrays.asList(namespaceFilterCriteria(namespaces), filterCriteria));
     }
 
     /**
@@ -90,10 +102,6 @@ public final class QueryFilterCriteriaFactory {
         return criteriaFactory;
     }
 
-    private Criteria restrictByNamespace(final Set<String> namespaces, Criteria filterCriteria) {
-        return criteriaFactory.and(Arrays.asList(namespaceFilterCriteria(namespaces), filterCriteria));
-    }
-
     private Criteria namespaceFilterCriteria(final Set<String> namespaces) {
         ConditionChecker.checkNotNull(namespaces);
         return criteriaFactory.fieldCriteria(
@@ -38,6 +38,7 @@ import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.json.SerializationContext;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
@@ -303,6 +304,20 @@ final class ImmutableAttributes implements Attributes {
                 .collect(JsonCollectors.fieldsToObject());
     }
 
+    @Override
+    public void writeJson(final JsonWriter jsonWriter, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) throws IOException {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonWriter.writeStartObject();
+        for (final JsonField field : this) {
+            if (!field.getDefinition().isPresent() || predicate.test(field)) {
+                jsonWriter.writeField(field.getKey(), field.getValue());
+            }
+        }
+        jsonWriter.writeEndObject();
+    }
+
     @Override
     public String toString() {
         return wrapped.toString();
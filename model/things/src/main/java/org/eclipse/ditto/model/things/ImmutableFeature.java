@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.model.things;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -28,6 +29,7 @@ import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonPointerInvalidException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
@@ -199,6 +201,26 @@ final class ImmutableFeature implements Feature {
         return jsonObjectBuilder.build();
     }
 
+    @Override
+    public void writeJson(final JsonWriter jsonWriter, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) throws IOException {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        jsonWriter.writeStartObject();
+        jsonWriter.writeField(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+
+        if (null != definition) {
+            jsonWriter.writeField(JsonFields.DEFINITION, definition.toJson(), predicate);
+        }
+
+        if (null != properties) {
+            jsonWriter.writeField(JsonFields.PROPERTIES, properties, predicate);
+        }
+
+        jsonWriter.writeEndObject();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(featureId, definition, properties);
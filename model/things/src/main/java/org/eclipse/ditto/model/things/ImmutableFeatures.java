@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.things;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +36,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
@@ -257,6 +259,27 @@ final class ImmutableFeatures implements Features {
         return jsonObjectBuilder.build();
     }
 
+    @Override
+    public void writeJson(final JsonWriter jsonWriter, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) throws IOException {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        jsonWriter.writeStartObject();
+        jsonWriter.writeField(JSON_SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+
+        for (final Feature feature : features.values()) {
+            final JsonFieldDefinition<JsonObject> fieldDefinition =
+                    JsonFactory.newJsonObjectFieldDefinition(JsonFactory.newKey(feature.getId()), FieldType.REGULAR,
+                            JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+            if (jsonWriter.writeKeyIfMatches(fieldDefinition, predicate)) {
+                feature.writeJson(jsonWriter, schemaVersion, thePredicate);
+            }
+        }
+
+        jsonWriter.writeEndObject();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
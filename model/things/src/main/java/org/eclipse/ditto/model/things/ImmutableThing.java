@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.model.things;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,6 +27,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -505,6 +507,60 @@ final class ImmutableThing implements Thing {
         return jsonObjectBuilder.build();
     }
 
+    @Override
+    public void writeJson(final JsonWriter jsonWriter, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) throws IOException {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        jsonWriter.writeStartObject();
+        jsonWriter.writeField(JsonFields.SCHEMA_VERSION, schemaVersion.toInt(), predicate);
+
+        if (null != lifecycle) {
+            jsonWriter.writeField(JsonFields.LIFECYCLE, lifecycle.name(), predicate);
+        }
+
+        if (null != revision) {
+            jsonWriter.writeField(JsonFields.REVISION, revision.toLong(), predicate);
+        }
+
+        if (null != modified) {
+            jsonWriter.writeField(JsonFields.MODIFIED, modified.toString(), predicate);
+        }
+
+        if (null != thingId) {
+            jsonWriter.writeField(JsonFields.NAMESPACE, thingId.getNamespace(), predicate);
+            jsonWriter.writeField(JsonFields.ID, thingId.toString(), predicate);
+        }
+
+        if (JsonSchemaVersion.V_1.equals(schemaVersion)) {
+            final AccessControlList theAcl = getAccessControlList().orElseGet(ThingsModelFactory::emptyAcl);
+            jsonWriter.writeField(JsonFields.ACL, theAcl.toJson(), predicate);
+        } else {
+            if (null != policyId) {
+                jsonWriter.writeField(JsonFields.POLICY_ID, String.valueOf(policyId), predicate);
+            }
+            if (null != definition) {
+                if (definition instanceof NullThingDefinition) {
+                    jsonWriter.writeField(JsonFields.DEFINITION, JsonValue.nullLiteral(), predicate);
+                } else {
+                    jsonWriter.writeField(JsonFields.DEFINITION, JsonValue.of(definition.toString()), predicate);
+                }
+            }
+        }
+
+        if (null != attributes) {
+            jsonWriter.writeField(JsonFields.ATTRIBUTES, attributes, predicate);
+        }
+
+        if (null != features && jsonWriter.writeKeyIfMatches(JsonFields.FEATURES, predicate)) {
+            // notice: only "not HIDDEN" sub-fields of features are included
+            features.writeJson(jsonWriter, schemaVersion, thePredicate.and(FieldType.notHidden()));
+        }
+
+        jsonWriter.writeEndObject();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(thingId, policyId, acl, definition, attributes, features, lifecycle, revision,
@@ -29,11 +29,14 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -1121,4 +1124,21 @@ public final class ImmutableThingTest {
 
     }
 
+    @Test
+    public void writeJsonProducesSameJsonAsToJson() throws IOException {
+        final List<Predicate<JsonField>> predicates =
+                Arrays.asList(FieldType.regularOrSpecial(), FieldType.notHidden(), FieldType.all());
+        for (final Thing thing : Arrays.asList(KNOWN_THING_V1, KNOWN_THING_V2)) {
+            for (final JsonSchemaVersion schemaVersion : JsonSchemaVersion.values()) {
+                for (final Predicate<JsonField> predicate : predicates) {
+                    final StringBuilder stringBuilder = new StringBuilder();
+                    thing.writeJson(JsonFactory.newWriter(stringBuilder), schemaVersion, predicate);
+
+                    assertThat(stringBuilder.toString())
+                            .isEqualTo(thing.toJson(schemaVersion, predicate).toString());
+                }
+            }
+        }
+    }
+
 }
@@ -21,7 +21,10 @@ import org.eclipse.ditto.json.JsonPointer;
 
 /**
  * Utility class for matching {@link Payload} path.
+ *
+ * @deprecated since 1.2.0, use {@link TriePayloadPathMatcher} which does not need to evaluate each pattern.
  */
+@Deprecated
 public final class DefaultPayloadPathMatcher implements PayloadPathMatcher {
 
     private final Map<String, Pattern> patterns;
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+
+/**
+ * {@link PayloadPathMatcher} which resolves the name for a path by walking down a trie of path segments.
+ * The cost of a match thus only depends on the level count of the path instead of the number of known paths.
+ * <p>
+ * Paths are registered as templates like {@code /features/*}{@code /properties/**} whose segments are either
+ * <ul>
+ * <li>a literal key which has to be equal to the key of the path at the same level,</li>
+ * <li>{@code *} which matches exactly one arbitrary key or</li>
+ * <li>{@code **} as last segment which matches one or more arbitrary keys.</li>
+ * </ul>
+ * If several templates match a path, literal keys take precedence over {@code *} which takes precedence over
+ * {@code **}, i. e. the most specific template wins.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class TriePayloadPathMatcher implements PayloadPathMatcher {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root;
+
+    private TriePayloadPathMatcher(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a new builder for a {@code TriePayloadPathMatcher}.
+     *
+     * @return the builder.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a {@code TriePayloadPathMatcher} instance that does not match any path.
+     *
+     * @return the empty path matcher instance.
+     */
+    public static TriePayloadPathMatcher empty() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Matches a given {@code path} against the registered templates and returns the corresponding name.
+     *
+     * @param path the path to match.
+     * @return the name of the template which matched.
+     * @throws UnknownPathException if {@code path} matched no template.
+     */
+    @Override
+    public String match(final JsonPointer path) {
+        final String name = root.match(path, 0, path.getLevelCount());
+        if (null == name) {
+            throw UnknownPathException.newBuilder(path).build();
+        }
+        return name;
+    }
+
+    /**
+     * A node of the trie. Nodes are only mutated by the builder before the matcher is built.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        @Nullable private Node singleWildcardChild;
+        @Nullable private String name;
+        @Nullable private String multiWildcardName;
+
+        @Nullable
+        private String match(final JsonPointer path, final int level, final int levelCount) {
+            if (level == levelCount) {
+                return name;
+            }
+            final JsonKey key = path.get(level).orElseThrow(IllegalStateException::new);
+            final Node child = children.get(key.toString());
+            if (null != child) {
+                final String childMatch = child.match(path, level + 1, levelCount);
+                if (null != childMatch) {
+                    return childMatch;
+                }
+            }
+            if (null != singleWildcardChild) {
+                final String wildcardMatch = singleWildcardChild.match(path, level + 1, levelCount);
+                if (null != wildcardMatch) {
+                    return wildcardMatch;
+                }
+            }
+            return multiWildcardName;
+        }
+
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link TriePayloadPathMatcher}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private final Node root;
+
+        private Builder() {
+            root = new Node();
+        }
+
+        /**
+         * Registers the given name for paths matching the given template.
+         *
+         * @param name the name to return for matching paths.
+         * @param pathTemplate the template, e. g. {@code /features/*}.
+         * @return this builder instance to allow method chaining.
+         * @throws NullPointerException if any argument is {@code null}.
+         * @throws IllegalArgumentException if {@code **} is not the last segment of {@code pathTemplate} or if
+         * another name was already registered for {@code pathTemplate}.
+         */
+        public Builder add(final String name, final CharSequence pathTemplate) {
+            checkNotNull(name, "name");
+            checkNotNull(pathTemplate, "pathTemplate");
+            final String[] segments = pathTemplate.toString().split("/");
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                final String segment = segments[i];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (MULTI_WILDCARD.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("<" + MULTI_WILDCARD +
+                                "> is only allowed as last segment of path template <" + pathTemplate + ">!");
+                    }
+                    node.multiWildcardName = checkUnregistered(node.multiWildcardName, name, pathTemplate);
+                    return this;
+                }
+                node = getOrCreateChild(node, segment);
+            }
+            node.name = checkUnregistered(node.name, name, pathTemplate);
+            return this;
+        }
+
+        /**
+         * Creates a new {@link TriePayloadPathMatcher} from the previously registered templates.
+         * The builder must not be used anymore afterwards.
+         *
+         * @return the new matcher.
+         */
+        public TriePayloadPathMatcher build() {
+            return new TriePayloadPathMatcher(root);
+        }
+
+        private static Node getOrCreateChild(final Node node, final String segment) {
+            if (SINGLE_WILDCARD.equals(segment)) {
+                if (null == node.singleWildcardChild) {
+                    node.singleWildcardChild = new Node();
+                }
+                return node.singleWildcardChild;
+            }
+            return node.children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        private static String checkUnregistered(@Nullable final String registeredName, final String name,
+                final CharSequence pathTemplate) {
+
+            if (null != registeredName && !registeredName.equals(name)) {
+                throw new IllegalArgumentException("Path template <" + pathTemplate + "> is already registered for <" +
+                        registeredName + ">!");
+            }
+            return name;
+        }
+
+    }
+
+}
@@ -12,15 +12,11 @@
  */
 package org.eclipse.ditto.protocoladapter.policies;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Pattern;
-
 import org.eclipse.ditto.protocoladapter.AbstractAdapter;
 import org.eclipse.ditto.protocoladapter.Adaptable;
-import org.eclipse.ditto.protocoladapter.DefaultPayloadPathMatcher;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TriePayloadPathMatcher;
 import org.eclipse.ditto.protocoladapter.adaptables.MappingStrategies;
 import org.eclipse.ditto.protocoladapter.signals.SignalMapper;
 import org.eclipse.ditto.signals.base.Signal;
@@ -32,17 +28,15 @@ import org.eclipse.ditto.signals.base.Signal;
  */
 abstract class AbstractPolicyAdapter<T extends Signal<?>> extends AbstractAdapter<T> implements PolicyAdapter<T> {
 
-    private static final Map<String, Pattern> POLICY_PATH_PATTERNS = new HashMap<>();
-
-    static {
-        POLICY_PATH_PATTERNS.put("policy", Pattern.compile("^/$"));
-        POLICY_PATH_PATTERNS.put("policyEntry", Pattern.compile("^/entries/[^/]*$"));
-        POLICY_PATH_PATTERNS.put("policyEntries", Pattern.compile("^/entries$"));
-        POLICY_PATH_PATTERNS.put("resource", Pattern.compile("^/entries/[^/]*/resources/.*$"));
-        POLICY_PATH_PATTERNS.put("resources", Pattern.compile("^/entries/[^/]*/resources$"));
-        POLICY_PATH_PATTERNS.put("subject", Pattern.compile("^/entries/[^/]*/subjects/.*$"));
-        POLICY_PATH_PATTERNS.put("subjects", Pattern.compile("^/entries/[^/]*/subjects$"));
-    }
+    private static final TriePayloadPathMatcher POLICY_PATH_MATCHER = TriePayloadPathMatcher.newBuilder()
+            .add("policy", "/")
+            .add("policyEntry", "/entries/*")
+            .add("policyEntries", "/entries")
+            .add("resource", "/entries/*/resources/**")
+            .add("resources", "/entries/*/resources")
+            .add("subject", "/entries/*/subjects/**")
+            .add("subjects", "/entries/*/subjects")
+            .build();
 
     private final SignalMapper<T> signalMapper;
 
@@ -55,7 +49,7 @@ abstract class AbstractPolicyAdapter<T extends Signal<?>> extends AbstractAdapte
      */
     protected AbstractPolicyAdapter(final MappingStrategies<T> mappingStrategies,
             final SignalMapper<T> signalMapper, final HeaderTranslator headerTranslator) {
-        super(mappingStrategies, headerTranslator, DefaultPayloadPathMatcher.from(POLICY_PATH_PATTERNS));
+        super(mappingStrategies, headerTranslator, POLICY_PATH_MATCHER);
         this.signalMapper = signalMapper;
     }
 
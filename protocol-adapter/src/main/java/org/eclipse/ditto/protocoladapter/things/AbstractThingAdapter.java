@@ -12,13 +12,9 @@
  */
 package org.eclipse.ditto.protocoladapter.things;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Pattern;
-
 import org.eclipse.ditto.protocoladapter.AbstractAdapter;
-import org.eclipse.ditto.protocoladapter.DefaultPayloadPathMatcher;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.protocoladapter.TriePayloadPathMatcher;
 import org.eclipse.ditto.protocoladapter.adaptables.MappingStrategies;
 import org.eclipse.ditto.signals.base.Signal;
 
@@ -29,29 +25,33 @@ import org.eclipse.ditto.signals.base.Signal;
  */
 abstract class AbstractThingAdapter<T extends Signal<?>> extends AbstractAdapter<T> implements ThingAdapter<T> {
 
-    private static final Map<String, Pattern> THING_PATH_PATTERNS = new HashMap<>();
-
-    static {
-        THING_PATH_PATTERNS.put("thing", Pattern.compile("^/$"));
-        THING_PATH_PATTERNS.put("acl", Pattern.compile("^/acl$"));
-        THING_PATH_PATTERNS.put("aclEntry", Pattern.compile("^/acl/[^/]*$"));
-        THING_PATH_PATTERNS.put("policyId", Pattern.compile("^/policyId$"));
-        THING_PATH_PATTERNS.put("policy", Pattern.compile("^/_policy"));
-        THING_PATH_PATTERNS.put("policyEntries", Pattern.compile("^/_policy/entries$"));
-        THING_PATH_PATTERNS.put("policyEntry", Pattern.compile("^/_policy/entries/.*$"));
-        THING_PATH_PATTERNS.put("policyEntrySubjects", Pattern.compile("^/_policy/entries/[^/]*/subjects$"));
-        THING_PATH_PATTERNS.put("policyEntrySubject", Pattern.compile("^/_policy/entries/[^/]*/subjects/.*$"));
-        THING_PATH_PATTERNS.put("policyEntryResources", Pattern.compile("^/_policy/entries/[^/]*/resources$"));
-        THING_PATH_PATTERNS.put("policyEntryResource", Pattern.compile("^/_policy/entries/[^/]*/resources/.*$"));
-        THING_PATH_PATTERNS.put("attributes", Pattern.compile("^/attributes$"));
-        THING_PATH_PATTERNS.put("attribute", Pattern.compile("^/attributes/.*$"));
-        THING_PATH_PATTERNS.put("features", Pattern.compile("^/features$"));
-        THING_PATH_PATTERNS.put("feature", Pattern.compile("^/features/[^/]*$"));
-        THING_PATH_PATTERNS.put("definition", Pattern.compile("^/definition$"));
-        THING_PATH_PATTERNS.put("featureDefinition", Pattern.compile("^/features/[^/]*/definition$"));
-        THING_PATH_PATTERNS.put("featureProperties", Pattern.compile("^/features/[^/]*/properties$"));
-        THING_PATH_PATTERNS.put("featureProperty", Pattern.compile("^/features/[^/]*/properties/.*$"));
-    }
+    /**
+     * Matches the payload paths of thing signals. Paths below {@code /_policy} which match no more specific template
+     * are matched as {@code policy}, like the former prefix pattern {@code ^/_policy} did. Unlike that pattern,
+     * paths whose first key only starts with {@code _policy}, e. g. {@code /_policyX}, are not matched anymore.
+     */
+    static final TriePayloadPathMatcher THING_PATH_MATCHER = TriePayloadPathMatcher.newBuilder()
+            .add("thing", "/")
+            .add("acl", "/acl")
+            .add("aclEntry", "/acl/*")
+            .add("policyId", "/policyId")
+            .add("policy", "/_policy")
+            .add("policy", "/_policy/**")
+            .add("policyEntries", "/_policy/entries")
+            .add("policyEntry", "/_policy/entries/**")
+            .add("policyEntrySubjects", "/_policy/entries/*/subjects")
+            .add("policyEntrySubject", "/_policy/entries/*/subjects/**")
+            .add("policyEntryResources", "/_policy/entries/*/resources")
+            .add("policyEntryResource", "/_policy/entries/*/resources/**")
+            .add("attributes", "/attributes")
+            .add("attribute", "/attributes/**")
+            .add("features", "/features")
+            .add("feature", "/features/*")
+            .add("definition", "/definition")
+            .add("featureDefinition", "/features/*/definition")
+            .add("featureProperties", "/features/*/properties")
+            .add("featureProperty", "/features/*/properties/**")
+            .build();
 
     /**
      * Constructor.
@@ -62,7 +62,7 @@ abstract class AbstractThingAdapter<T extends Signal<?>> extends AbstractAdapter
      */
     protected AbstractThingAdapter(final MappingStrategies<T> mappingStrategies,
             final HeaderTranslator headerTranslator) {
-        super(mappingStrategies, headerTranslator, DefaultPayloadPathMatcher.from(THING_PATH_PATTERNS));
+        super(mappingStrategies, headerTranslator, THING_PATH_MATCHER);
     }
 
 }
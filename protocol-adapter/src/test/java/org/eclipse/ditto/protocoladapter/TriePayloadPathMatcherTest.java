@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TriePayloadPathMatcher}.
+ */
+public final class TriePayloadPathMatcherTest {
+
+    private static final TriePayloadPathMatcher UNDER_TEST = TriePayloadPathMatcher.newBuilder()
+            .add("thing", "/")
+            .add("attributes", "/attributes")
+            .add("attribute", "/attributes/**")
+            .add("feature", "/features/*")
+            .add("featureDefinition", "/features/*/definition")
+            .add("featureProperty", "/features/*/properties/**")
+            .add("policyEntry", "/_policy/entries/**")
+            .add("policyEntrySubjects", "/_policy/entries/*/subjects")
+            .build();
+
+    @Test
+    public void matchRoot() {
+        assertThat(UNDER_TEST.match(JsonPointer.empty())).isEqualTo("thing");
+    }
+
+    @Test
+    public void matchLiteral() {
+        assertThat(UNDER_TEST.match(JsonPointer.of("/attributes"))).isEqualTo("attributes");
+    }
+
+    @Test
+    public void singleWildcardMatchesExactlyOneKey() {
+        assertThat(UNDER_TEST.match(JsonPointer.of("/features/lamp"))).isEqualTo("feature");
+        assertThat(UNDER_TEST.match(JsonPointer.of("/features/definition/definition")))
+                .isEqualTo("featureDefinition");
+    }
+
+    @Test
+    public void multiWildcardMatchesOneOrMoreKeys() {
+        assertThat(UNDER_TEST.match(JsonPointer.of("/attributes/location"))).isEqualTo("attribute");
+        assertThat(UNDER_TEST.match(JsonPointer.of("/attributes/location/city/name"))).isEqualTo("attribute");
+        assertThat(UNDER_TEST.match(JsonPointer.of("/features/lamp/properties/on/value")))
+                .isEqualTo("featureProperty");
+    }
+
+    @Test
+    public void mostSpecificTemplateWins() {
+        assertThat(UNDER_TEST.match(JsonPointer.of("/_policy/entries/DEFAULT/subjects")))
+                .isEqualTo("policyEntrySubjects");
+        assertThat(UNDER_TEST.match(JsonPointer.of("/_policy/entries/DEFAULT/resources")))
+                .isEqualTo("policyEntry");
+    }
+
+    @Test
+    public void unknownPathFails() {
+        assertThatExceptionOfType(UnknownPathException.class)
+                .isThrownBy(() -> UNDER_TEST.match(JsonPointer.of("/features/lamp/unknown")));
+        assertThatExceptionOfType(UnknownPathException.class)
+                .isThrownBy(() -> UNDER_TEST.match(JsonPointer.of("/features")));
+    }
+
+    @Test
+    public void emptyMatcherMatchesNothing() {
+        assertThatExceptionOfType(UnknownPathException.class)
+                .isThrownBy(() -> TriePayloadPathMatcher.empty().match(JsonPointer.empty()));
+    }
+
+    @Test
+    public void multiWildcardInTheMiddleIsRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TriePayloadPathMatcher.newBuilder().add("invalid", "/features/**/properties"));
+    }
+
+    @Test
+    public void conflictingTemplatesAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TriePayloadPathMatcher.newBuilder()
+                        .add("feature", "/features/*")
+                        .add("otherFeature", "/features/*"));
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.protocoladapter.DefaultPayloadPathMatcher;
+import org.eclipse.ditto.protocoladapter.PayloadPathMatcher;
+import org.eclipse.ditto.protocoladapter.TriePayloadPathMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark comparing the regular expression based {@link DefaultPayloadPathMatcher} with the
+ * {@link TriePayloadPathMatcher}. Both match the payload paths of all thing commands and events the protocol adapter
+ * supports against the thing path templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class PayloadPathMatcherBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final Map<String, String> THING_PATH_TEMPLATES = new LinkedHashMap<>();
+
+    static {
+        THING_PATH_TEMPLATES.put("thing", "/");
+        THING_PATH_TEMPLATES.put("acl", "/acl");
+        THING_PATH_TEMPLATES.put("aclEntry", "/acl/*");
+        THING_PATH_TEMPLATES.put("policyId", "/policyId");
+        THING_PATH_TEMPLATES.put("attributes", "/attributes");
+        THING_PATH_TEMPLATES.put("attribute", "/attributes/**");
+        THING_PATH_TEMPLATES.put("features", "/features");
+        THING_PATH_TEMPLATES.put("feature", "/features/*");
+        THING_PATH_TEMPLATES.put("definition", "/definition");
+        THING_PATH_TEMPLATES.put("featureDefinition", "/features/*/definition");
+        THING_PATH_TEMPLATES.put("featureProperties", "/features/*/properties");
+        THING_PATH_TEMPLATES.put("featureProperty", "/features/*/properties/**");
+    }
+
+    private static final List<JsonPointer> PATHS = Arrays.asList(
+            JsonPointer.empty(),
+            JsonPointer.of("/acl"),
+            JsonPointer.of("/acl/ditto"),
+            JsonPointer.of("/policyId"),
+            JsonPointer.of("/attributes"),
+            JsonPointer.of("/attributes/location"),
+            JsonPointer.of("/attributes/location/latitude"),
+            JsonPointer.of("/features"),
+            JsonPointer.of("/features/lamp"),
+            JsonPointer.of("/definition"),
+            JsonPointer.of("/features/lamp/definition"),
+            JsonPointer.of("/features/lamp/properties"),
+            JsonPointer.of("/features/lamp/properties/on"),
+            JsonPointer.of("/features/lamp/properties/color/red"));
+
+    private final PayloadPathMatcher regexMatcher = DefaultPayloadPathMatcher.from(
+            THING_PATH_TEMPLATES.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                    entry -> toPattern(entry.getValue()))));
+
+    private final PayloadPathMatcher trieMatcher = toTrieMatcher();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void regexMatcher(final Blackhole blackhole) {
+        PATHS.forEach(path -> blackhole.consume(regexMatcher.match(path)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void trieMatcher(final Blackhole blackhole) {
+        PATHS.forEach(path -> blackhole.consume(trieMatcher.match(path)));
+    }
+
+    private static Pattern toPattern(final String template) {
+        if ("/".equals(template)) {
+            return Pattern.compile("^/$");
+        }
+        return Pattern.compile("^" + template.replace("**", ".*").replace("/*", "/[^/]*") + "$");
+    }
+
+    private static PayloadPathMatcher toTrieMatcher() {
+        final TriePayloadPathMatcher.Builder builder = TriePayloadPathMatcher.newBuilder();
+        THING_PATH_TEMPLATES.forEach(builder::add);
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.protocoladapter.UnknownPathException;
+import org.junit.Test;
+
+/**
+ * Unit test for the payload path matcher of {@link AbstractThingAdapter}.
+ */
+public final class AbstractThingAdapterTest {
+
+    @Test
+    public void matchInlinePolicy() {
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policy"))).isEqualTo("policy");
+    }
+
+    @Test
+    public void unknownPathBelowInlinePolicyFallsBackToPolicy() {
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policy/foo")))
+                .isEqualTo("policy");
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policy/foo/bar")))
+                .isEqualTo("policy");
+    }
+
+    @Test
+    public void knownPathsBelowInlinePolicyAreMatchedSpecifically() {
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policy/entries")))
+                .isEqualTo("policyEntries");
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policy/entries/DEFAULT")))
+                .isEqualTo("policyEntry");
+        assertThat(AbstractThingAdapter.THING_PATH_MATCHER.match(
+                JsonPointer.of("/_policy/entries/DEFAULT/subjects/test:subject")))
+                .isEqualTo("policyEntrySubject");
+    }
+
+    @Test
+    public void keyWhichOnlyStartsWithPolicyIsUnknown() {
+        assertThatExceptionOfType(UnknownPathException.class)
+                .isThrownBy(() -> AbstractThingAdapter.THING_PATH_MATCHER.match(JsonPointer.of("/_policyX")));
+    }
+
+}
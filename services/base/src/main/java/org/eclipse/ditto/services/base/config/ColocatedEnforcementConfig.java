@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.base.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings for enforcing twin thing commands by the things service which hosts the shard of
+ * the addressed thing instead of by the concierge service.
+ * The setting has to be identical for the gateway and the things service.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface ColocatedEnforcementConfig {
+
+    /**
+     * Expected path of this config relative to its parent.
+     */
+    String CONFIG_PATH = "colocated-enforcement";
+
+    /**
+     * Indicates whether twin thing commands are enforced colocated with the things shards.
+     *
+     * @return {@code true} if colocated enforcement is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns an instance of {@code ColocatedEnforcementConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static ColocatedEnforcementConfig of(final Config config) {
+        return DefaultColocatedEnforcementConfig.of(config);
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ColocatedEnforcementConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether twin thing commands are enforced colocated with the things shards.
+         */
+        ENABLED("enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.base.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ColocatedEnforcementConfig}.
+ */
+@Immutable
+final class DefaultColocatedEnforcementConfig implements ColocatedEnforcementConfig {
+
+    private final boolean enabled;
+
+    private DefaultColocatedEnforcementConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+    }
+
+    static DefaultColocatedEnforcementConfig of(final Config config) {
+        return new DefaultColocatedEnforcementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultColocatedEnforcementConfig that = (DefaultColocatedEnforcementConfig) o;
+        return enabled == that.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(enabled);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                "]";
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.base.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultColocatedEnforcementConfig}.
+ */
+public final class DefaultColocatedEnforcementConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultColocatedEnforcementConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultColocatedEnforcementConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final ColocatedEnforcementConfig underTest = ColocatedEnforcementConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ColocatedEnforcementConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ColocatedEnforcementConfig.ConfigValue.ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final ColocatedEnforcementConfig underTest =
+                ColocatedEnforcementConfig.of(ConfigFactory.load("colocated-enforcement-test"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ColocatedEnforcementConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+    }
+
+}
@@ -18,6 +18,8 @@ import java.util.Deque;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -30,13 +32,18 @@ import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.actors.cleanup.credits.CreditDecisionSource;
 import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision;
 import org.eclipse.ditto.services.concierge.actors.cleanup.persistenceids.PersistenceIdSource;
+import org.eclipse.ditto.services.concierge.common.DirectCleanupConfig;
 import org.eclipse.ditto.services.concierge.common.PersistenceCleanupConfig;
 import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.utils.akka.controlflow.Transistor;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.health.AbstractBackgroundStreamingActorWithConfigWithStatusReport;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
@@ -90,6 +97,10 @@ import scala.PartialFunction;
  *
  *
  * }</pre>
+ * <p>
+ * If direct cleanup is enabled, the persistence actors are not involved. Instead, batches of persistence IDs are
+ * cleaned up by deleting their obsolete events and snapshots directly in MongoDB, metered by the same credit decisions.
+ * </p>
  */
 public final class EventSnapshotCleanupCoordinator
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<PersistenceCleanupConfig> {
@@ -99,7 +110,7 @@ public final class EventSnapshotCleanupCoordinator
      */
     public static final String ACTOR_NAME = "eventSnapshotCleanupCoordinator";
 
-    private static final String ERROR_MESSAGE_HEADER = "error";
+    static final String ERROR_MESSAGE_HEADER = "error";
 
     private static final JsonFieldDefinition<JsonArray> JSON_CREDIT_DECISIONS =
             JsonFactory.newJsonArrayFieldDefinition("credit-decisions");
@@ -116,6 +127,8 @@ public final class EventSnapshotCleanupCoordinator
     private final Deque<Pair<Instant, CreditDecision>> creditDecisions;
     private final Deque<Pair<Instant, CleanupPersistenceResponse>> actions;
 
+    @Nullable private DittoMongoClient mongoClient;
+
     @SuppressWarnings("unused")
     private EventSnapshotCleanupCoordinator(final PersistenceCleanupConfig config, final ActorRef pubSubMediator,
             final ShardRegions shardRegions) {
@@ -141,6 +154,14 @@ public final class EventSnapshotCleanupCoordinator
         return Props.create(EventSnapshotCleanupCoordinator.class, config, pubSubMediator, shardRegions);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
+        super.postStop();
+    }
+
     @Override
     protected void preEnhanceStreamingBehavior(final ReceiveBuilder streamingReceiveBuilder) {
         streamingReceiveBuilder.match(CreditDecision.class,
@@ -191,6 +212,10 @@ public final class EventSnapshotCleanupCoordinator
 
     @Override
     protected Source<CleanupPersistenceResponse, NotUsed> getSource() {
+        final DirectCleanupConfig directCleanupConfig = config.getDirectCleanupConfig();
+        if (directCleanupConfig.isEnabled()) {
+            return getDirectCleanupSource(directCleanupConfig);
+        }
 
         final PartialFunction<EntityIdWithRevision, CompletionStage<CleanupPersistenceResponse>>
                 askShardRegionForCleanupByTagType =
@@ -220,6 +245,27 @@ public final class EventSnapshotCleanupCoordinator
                 .log(EventSnapshotCleanupCoordinator.class.getSimpleName(), log);
     }
 
+    private Source<CleanupPersistenceResponse, NotUsed> getDirectCleanupSource(
+            final DirectCleanupConfig directCleanupConfig) {
+
+        final MongoEventSnapshotCleanup cleanup = getDirectCleanup(directCleanupConfig);
+        return getEntityIdWithRevisionSource()
+                .groupedWithin(directCleanupConfig.getBatchSize(), config.getCreditDecisionConfig().getInterval())
+                .flatMapMerge(config.getParallelism(), batch -> cleanup.cleanup(batch, getStartHeaders()))
+                .via(reportToSelf()) // include self-reporting for acknowledged
+                .log(EventSnapshotCleanupCoordinator.class.getSimpleName(), log);
+    }
+
+    private MongoEventSnapshotCleanup getDirectCleanup(final DirectCleanupConfig directCleanupConfig) {
+        final Config systemConfig = getContext().getSystem().settings().config();
+        if (null == mongoClient) {
+            mongoClient = MongoClientWrapper.newInstance(
+                    DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(systemConfig)));
+        }
+        // recreate the cleanup on each stream start as the config may have been modified in the meantime
+        return MongoEventSnapshotCleanup.of(directCleanupConfig, systemConfig, mongoClient);
+    }
+
     private CompletionStage<CleanupPersistenceResponse> askShardRegionForCleanup(final ActorRef shardRegion,
             final String resourceType, final EntityIdWithRevision tag) {
 
@@ -290,9 +336,12 @@ public final class EventSnapshotCleanupCoordinator
     }
 
     private static CleanupPersistence getCleanupCommand(final EntityId id) {
-        final DittoHeaders headers = DittoHeaders.newBuilder()
+        return CleanupPersistence.of(id, getStartHeaders());
+    }
+
+    private static DittoHeaders getStartHeaders() {
+        return DittoHeaders.newBuilder()
                 .putHeader(START, Instant.now().toString())
                 .build();
-        return CleanupPersistence.of(id, headers);
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.actors.cleanup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.concierge.common.DirectCleanupConfig;
+import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
+
+import com.typesafe.config.Config;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Deletes events and snapshots of entities directly in their event journals and snapshot stores in MongoDB.
+ * In contrast to sending {@code CleanupPersistence} commands to the persistence actors, no entity is started or
+ * recovered for the cleanup, so that the working set of the entity services is not disturbed.
+ */
+final class MongoEventSnapshotCleanup {
+
+    private static final String THINGS_JOURNAL_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-journal";
+    private static final String THINGS_SNAPS_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
+    private static final String POLICIES_JOURNAL_PLUGIN_ID = "akka-contrib-mongodb-persistence-policies-journal";
+    private static final String POLICIES_SNAPS_PLUGIN_ID = "akka-contrib-mongodb-persistence-policies-snapshots";
+    private static final String CONNECTIONS_JOURNAL_PLUGIN_ID = "akka-contrib-mongodb-persistence-connection-journal";
+    private static final String CONNECTIONS_SNAPS_PLUGIN_ID = "akka-contrib-mongodb-persistence-connection-snapshots";
+
+    private final Map<Class<?>, Target> targets;
+
+    private MongoEventSnapshotCleanup(final Map<Class<?>, Target> targets) {
+        this.targets = targets;
+    }
+
+    /**
+     * Create a cleanup for the event journals and snapshot stores of things, policies and connections.
+     *
+     * The collection names are read from the akka-persistence plugins of the entity services in the system config.
+     *
+     * @param config the direct cleanup config containing the databases of the entity types.
+     * @param systemConfig the config of the actor system containing the journal and snapshot plugins of the entity
+     * services.
+     * @param mongoClient client of the MongoDB instance containing the databases.
+     * @return the cleanup.
+     */
+    static MongoEventSnapshotCleanup of(final DirectCleanupConfig config, final Config systemConfig,
+            final DittoMongoClient mongoClient) {
+
+        // connections keep 1 stale event in case their desired state is open; this is not known without recovery.
+        return new MongoEventSnapshotCleanup(Map.of(
+                ThingTag.class, new Target("thing:", 0L,
+                        MongoReadJournal.newInstance(config.getThingsDatabase(), systemConfig,
+                                THINGS_JOURNAL_PLUGIN_ID, THINGS_SNAPS_PLUGIN_ID, mongoClient)),
+                PolicyTag.class, new Target("policy:", 0L,
+                        MongoReadJournal.newInstance(config.getPoliciesDatabase(), systemConfig,
+                                POLICIES_JOURNAL_PLUGIN_ID, POLICIES_SNAPS_PLUGIN_ID, mongoClient)),
+                ConnectionTag.class, new Target("connection:", 1L,
+                        MongoReadJournal.newInstance(config.getConnectionsDatabase(), systemConfig,
+                                CONNECTIONS_JOURNAL_PLUGIN_ID, CONNECTIONS_SNAPS_PLUGIN_ID, mongoClient))
+        ));
+    }
+
+    /**
+     * Delete all events and snapshots of the given entities which are made obsolete by their latest snapshots.
+     *
+     * @param batch the entities.
+     * @param headers headers to set in the responses.
+     * @return source of one response per entity.
+     */
+    Source<CleanupPersistenceResponse, NotUsed> cleanup(final List<EntityIdWithRevision> batch,
+            final DittoHeaders headers) {
+
+        final Map<Class<?>, List<EntityId>> entityIdsByType = batch.stream()
+                .collect(Collectors.groupingBy(Object::getClass,
+                        Collectors.mapping(EntityIdWithRevision::getEntityId, Collectors.toList())));
+
+        return Source.from(entityIdsByType.entrySet())
+                .flatMapConcat(entry -> {
+                    final Target target = targets.get(entry.getKey());
+                    if (null == target) {
+                        return respond(entry.getValue(), headers, "Unexpected entity ID type: " + entry.getKey());
+                    } else {
+                        return cleanup(target, entry.getValue(), headers);
+                    }
+                });
+    }
+
+    private static Source<CleanupPersistenceResponse, NotUsed> cleanup(final Target target,
+            final List<EntityId> entityIds, final DittoHeaders headers) {
+
+        final List<String> pids = new ArrayList<>(entityIds.size());
+        for (final EntityId entityId : entityIds) {
+            pids.add(target.pidPrefix + entityId);
+        }
+        return target.readJournal.getLatestSnapshotSequenceNumbers(pids)
+                .grouped(Math.max(1, pids.size()))
+                .flatMapConcat(latestSnapshots ->
+                        target.readJournal.deleteEventsAndSnapshotsBefore(latestSnapshots, target.staleEventsKept))
+                .orElse(Source.single(List.of()))
+                .flatMapConcat(errors -> respond(entityIds, headers, errors.isEmpty() ? null : errors.toString()));
+    }
+
+    private static Source<CleanupPersistenceResponse, NotUsed> respond(final List<EntityId> entityIds,
+            final DittoHeaders headers, @Nullable final String errorMessage) {
+
+        if (null == errorMessage) {
+            return Source.from(entityIds).map(entityId -> CleanupPersistenceResponse.success(entityId, headers));
+        } else {
+            final DittoHeaders errorHeaders = headers.toBuilder()
+                    .putHeader(EventSnapshotCleanupCoordinator.ERROR_MESSAGE_HEADER, errorMessage)
+                    .build();
+            return Source.from(entityIds).map(entityId -> CleanupPersistenceResponse.failure(entityId, errorHeaders));
+        }
+    }
+
+    private static final class Target {
+
+        private final String pidPrefix;
+        private final long staleEventsKept;
+        private final MongoReadJournal readJournal;
+
+        private Target(final String pidPrefix, final long staleEventsKept, final MongoReadJournal readJournal) {
+            this.pidPrefix = pidPrefix;
+            this.staleEventsKept = staleEventsKept;
+            this.readJournal = readJournal;
+        }
+    }
+
+}
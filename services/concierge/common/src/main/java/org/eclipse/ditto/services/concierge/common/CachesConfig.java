@@ -46,6 +46,14 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Indicates whether cached policy enforcers are updated by applying policy events instead of being invalidated
+     * cluster-wide after each policy modification.
+     *
+     * @return {@code true} if cached policy enforcers should be updated from policy events.
+     */
+    boolean isUpdateEnforcersFromEvents();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +63,12 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * Whether to update cached policy enforcers from policy events.
+         */
+        UPDATE_ENFORCERS_FROM_EVENTS("update-enforcers-from-events", false);
 
         private final String path;
         private final Object defaultValue;
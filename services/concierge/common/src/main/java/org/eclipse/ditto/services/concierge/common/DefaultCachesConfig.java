@@ -35,11 +35,14 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final boolean updateEnforcersFromEvents;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        updateEnforcersFromEvents =
+                config.getBoolean(CachesConfigValue.UPDATE_ENFORCERS_FROM_EVENTS.getConfigPath());
     }
 
     /**
@@ -68,6 +71,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public boolean isUpdateEnforcersFromEvents() {
+        return updateEnforcersFromEvents;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +87,13 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                updateEnforcersFromEvents == that.updateEnforcersFromEvents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, updateEnforcersFromEvents);
     }
 
     @Override
@@ -93,6 +102,7 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", updateEnforcersFromEvents=" + updateEnforcersFromEvents +
                 "]";
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+@Immutable
+final class DefaultDirectCleanupConfig implements DirectCleanupConfig {
+
+    private static final String CONFIG_PATH = "direct";
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final String thingsDatabase;
+    private final String policiesDatabase;
+    private final String connectionsDatabase;
+
+    private DefaultDirectCleanupConfig(final Config conf) {
+        this.enabled = conf.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        this.batchSize = conf.getInt(ConfigValue.BATCH_SIZE.getConfigPath());
+        this.thingsDatabase = conf.getString(ConfigValue.THINGS_DATABASE.getConfigPath());
+        this.policiesDatabase = conf.getString(ConfigValue.POLICIES_DATABASE.getConfigPath());
+        this.connectionsDatabase = conf.getString(ConfigValue.CONNECTIONS_DATABASE.getConfigPath());
+    }
+
+    static DirectCleanupConfig of(final Config config) {
+        return new DefaultDirectCleanupConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public String getThingsDatabase() {
+        return thingsDatabase;
+    }
+
+    @Override
+    public String getPoliciesDatabase() {
+        return policiesDatabase;
+    }
+
+    @Override
+    public String getConnectionsDatabase() {
+        return connectionsDatabase;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof DefaultDirectCleanupConfig) {
+            final DefaultDirectCleanupConfig that = (DefaultDirectCleanupConfig) o;
+            return enabled == that.enabled &&
+                    batchSize == that.batchSize &&
+                    Objects.equals(thingsDatabase, that.thingsDatabase) &&
+                    Objects.equals(policiesDatabase, that.policiesDatabase) &&
+                    Objects.equals(connectionsDatabase, that.connectionsDatabase);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, batchSize, thingsDatabase, policiesDatabase, connectionsDatabase);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "[ enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", thingsDatabase=" + thingsDatabase +
+                ", policiesDatabase=" + policiesDatabase +
+                ", connectionsDatabase=" + connectionsDatabase +
+                "]";
+    }
+}
@@ -32,6 +32,7 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
     private final int keptEvents;
     private final CreditDecisionConfig creditDecisionConfig;
     private final PersistenceIdsConfig persistenceIdsConfig;
+    private final DirectCleanupConfig directCleanupConfig;
     private final Config config;
 
     private DefaultPersistenceCleanupConfig(final Config config) {
@@ -44,6 +45,7 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         this.keptEvents = config.getInt(ConfigValue.KEEP_EVENTS.getConfigPath());
         this.creditDecisionConfig = DefaultCreditDecisionConfig.of(config);
         this.persistenceIdsConfig = DefaultPersistenceIdsConfig.of(config);
+        this.directCleanupConfig = DefaultDirectCleanupConfig.of(config);
         this.config = config;
     }
 
@@ -86,6 +88,11 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
         return persistenceIdsConfig;
     }
 
+    @Override
+    public DirectCleanupConfig getDirectCleanupConfig() {
+        return directCleanupConfig;
+    }
+
     @Override
     public int getKeptCreditDecisions() {
         return keptCreditDecisions;
@@ -119,6 +126,7 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                     keptEvents == that.keptEvents &&
                     Objects.equals(creditDecisionConfig, that.creditDecisionConfig) &&
                     Objects.equals(persistenceIdsConfig, that.persistenceIdsConfig) &&
+                    Objects.equals(directCleanupConfig, that.directCleanupConfig) &&
                     Objects.equals(config, that.config);
         } else {
             return false;
@@ -128,7 +136,7 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
     @Override
     public int hashCode() {
         return Objects.hash(enabled, quietPeriod, cleanupTimeout, parallelism, keptCreditDecisions, keptActions,
-                keptEvents, creditDecisionConfig, persistenceIdsConfig, config);
+                keptEvents, creditDecisionConfig, persistenceIdsConfig, directCleanupConfig, config);
     }
 
     @Override
@@ -143,6 +151,7 @@ final class DefaultPersistenceCleanupConfig implements PersistenceCleanupConfig
                 ", keptEvents" + keptEvents +
                 ", creditDecisionConfig" + creditDecisionConfig +
                 ", persistenceIdsConfig" + persistenceIdsConfig +
+                ", directCleanupConfig" + directCleanupConfig +
                 "]";
     }
 }
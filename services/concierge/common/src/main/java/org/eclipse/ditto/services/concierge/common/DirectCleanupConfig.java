@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for persistence cleanup actions executed directly against the event journals and
+ * snapshot stores in MongoDB without involving the persistence actors of the entities.
+ *
+ * @since 1.2.0
+ */
+public interface DirectCleanupConfig {
+
+    /**
+     * Indicates whether events and snapshots are deleted directly in MongoDB instead of asking the persistence actors
+     * of the entities to delete them.
+     *
+     * @return whether direct cleanup is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of persistence IDs whose events and snapshots are deleted in one batch.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns the name of the database containing the event journal and snapshot store of things.
+     *
+     * @return the database name.
+     */
+    String getThingsDatabase();
+
+    /**
+     * Returns the name of the database containing the event journal and snapshot store of policies.
+     *
+     * @return the database name.
+     */
+    String getPoliciesDatabase();
+
+    /**
+     * Returns the name of the database containing the event journal and snapshot store of connections.
+     *
+     * @return the database name.
+     */
+    String getConnectionsDatabase();
+
+    /**
+     * Enumeration of known config keys and default values for {@code DirectCleanupConfig}
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether to delete events and snapshots directly in MongoDB.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Maximum number of persistence IDs to clean up in one batch.
+         */
+        BATCH_SIZE("batch-size", 100),
+
+        /**
+         * Database of the things journal and snapshot store.
+         */
+        THINGS_DATABASE("things-database", "things"),
+
+        /**
+         * Database of the policies journal and snapshot store.
+         */
+        POLICIES_DATABASE("policies-database", "policies"),
+
+        /**
+         * Database of the connections journal and snapshot store.
+         */
+        CONNECTIONS_DATABASE("connections-database", "connectivity");
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+    }
+}
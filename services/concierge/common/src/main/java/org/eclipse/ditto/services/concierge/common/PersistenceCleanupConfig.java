@@ -61,6 +61,14 @@ public interface PersistenceCleanupConfig extends BackgroundStreamingConfig {
      */
     PersistenceIdsConfig getPersistenceIdsConfig();
 
+    /**
+     * Returns configuration settings for cleanup actions executed directly against MongoDB.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    DirectCleanupConfig getDirectCleanupConfig();
+
     /**
      * Returns how many credit decisions to keep in the actor state.
      *
@@ -62,6 +62,9 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.isUpdateEnforcersFromEvents())
+                .as("isUpdateEnforcersFromEvents")
+                .isEqualTo(CachesConfig.CachesConfigValue.UPDATE_ENFORCERS_FROM_EVENTS.getDefaultValue());
     }
 
     @Test
@@ -72,6 +75,10 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.isUpdateEnforcersFromEvents())
+                .as(CachesConfig.CachesConfigValue.UPDATE_ENFORCERS_FROM_EVENTS.getConfigPath())
+                .isTrue();
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
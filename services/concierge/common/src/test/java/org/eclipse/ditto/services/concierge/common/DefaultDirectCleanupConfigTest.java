@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.concierge.common.DefaultDirectCleanupConfig}.
+ */
+public class DefaultDirectCleanupConfigTest {
+
+    private static final Config PERSISTENCE_CLEANUP_CONFIG = ConfigFactory.load("persistence-cleanup-test");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultDirectCleanupConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultDirectCleanupConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DirectCleanupConfig underTest = DefaultDirectCleanupConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(DirectCleanupConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(DirectCleanupConfig.ConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(DirectCleanupConfig.ConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(DirectCleanupConfig.ConfigValue.BATCH_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getThingsDatabase())
+                .as(DirectCleanupConfig.ConfigValue.THINGS_DATABASE.getConfigPath())
+                .isEqualTo(DirectCleanupConfig.ConfigValue.THINGS_DATABASE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DirectCleanupConfig underTest = createFromConfig();
+
+        softly.assertThat(underTest.isEnabled())
+                .as(DirectCleanupConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(DirectCleanupConfig.ConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(1300);
+
+        softly.assertThat(underTest.getThingsDatabase())
+                .as(DirectCleanupConfig.ConfigValue.THINGS_DATABASE.getConfigPath())
+                .isEqualTo("things-test");
+
+        softly.assertThat(underTest.getPoliciesDatabase())
+                .as(DirectCleanupConfig.ConfigValue.POLICIES_DATABASE.getConfigPath())
+                .isEqualTo("policies-test");
+
+        softly.assertThat(underTest.getConnectionsDatabase())
+                .as(DirectCleanupConfig.ConfigValue.CONNECTIONS_DATABASE.getConfigPath())
+                .isEqualTo("connections-test");
+    }
+
+    private DirectCleanupConfig createFromConfig() {
+        return DefaultPersistenceCleanupConfig.of(PERSISTENCE_CLEANUP_CONFIG).getDirectCleanupConfig();
+    }
+
+}
@@ -40,7 +40,8 @@ public final class DefaultPersistenceCleanupConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultPersistenceCleanupConfig.class, areImmutable(),
-                provided(CreditDecisionConfig.class, PersistenceIdsConfig.class, Config.class).areAlsoImmutable());
+                provided(CreditDecisionConfig.class, PersistenceIdsConfig.class, DirectCleanupConfig.class,
+                        Config.class).areAlsoImmutable());
     }
 
     @Test
@@ -30,9 +30,13 @@ import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.ThingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 
@@ -49,9 +53,17 @@ import akka.pattern.AskTimeoutException;
 public abstract class AbstractEnforcement<T extends Signal> {
 
     /**
-     * Context of the enforcement step: sender, self, signal and so forth.
+     * Path of the enforcer actor of the concierge service, equal to {@code ConciergeMessagingConstants
+     * .ENFORCER_ACTOR_PATH} which is not available in the things service.
      */
-    private final Contextual<T> context;
+    @SuppressWarnings("squid:S1075")
+    private static final String CONCIERGE_ENFORCER_ACTOR_PATH = "/user/conciergeRoot/enforcer";
+
+    /**
+     * Context of the enforcement step: sender, self, signal and so forth. Only the trace context of the signal is
+     * updated while the enforcement runs, see {@link #recordHop(String)}.
+     */
+    private Contextual<T> context;
 
     /**
      * Create an enforcement step from its context.
@@ -248,6 +260,20 @@ public abstract class AbstractEnforcement<T extends Signal> {
         return context.getPubSubMediator();
     }
 
+    /**
+     * Invalidate the cache entries of the given entity in all enforcer actors of the cluster: the ones of the
+     * concierge service as well as the ones colocated with the things shards.
+     *
+     * @param entityId the ID of the entity to invalidate cache entries for.
+     */
+    protected void invalidateCacheEntryClusterWide(final EntityIdWithResourceType entityId) {
+        final InvalidateCacheEntry invalidateCacheEntry = InvalidateCacheEntry.of(entityId);
+        pubSubMediator().tell(DistPubSubAccess.sendToAll(CONCIERGE_ENFORCER_ACTOR_PATH,
+                invalidateCacheEntry, true), self());
+        pubSubMediator().tell(DistPubSubAccess.sendToAll(ThingsMessagingConstants.ENFORCER_ACTOR_PATH,
+                invalidateCacheEntry, true), self());
+    }
+
     /**
      * @return actor reference of the enforcer actor this object belongs to.
      */
@@ -332,6 +358,17 @@ public abstract class AbstractEnforcement<T extends Signal> {
         return context.withMessage(message).withReceiver(null);
     }
 
+    /**
+     * Records that the {@link #signal()} passed the given span of its trace, so that the signal dispatched after the
+     * enforcement carries the updated trace context.
+     *
+     * @param span name of the span the signal passes.
+     */
+    @SuppressWarnings("unchecked")
+    protected void recordHop(final String span) {
+        context = context.withMessage((T) TraceContext.recordHop((Signal<?>) context.getMessage(), span));
+    }
+
     /**
      * @return the DittoHeaders of the sent {@link #signal()}
      */
@@ -340,7 +377,7 @@ public abstract class AbstractEnforcement<T extends Signal> {
     }
 
     /**
-     * @return the {@link org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor} reference
+     * @return the {@code ConciergeForwarderActor} reference
      */
     protected ActorRef conciergeForwarder() {
         return context.getConciergeForwarder();
@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cache.WarmUpCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -68,13 +69,14 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
      * Create an instance of this actor.
      *
      * @param pubSubMediator Akka pub-sub-mediator.
-     * @param conciergeForwarder the concierge forwarder.
+     * @param conciergeForwarder the concierge forwarder or {@code null} to let this actor enforce the signals it would
+     * forward to concierge itself.
      * @param thingIdCache the cache for Thing IDs to either ACL or Policy ID.
      * @param aclEnforcerCache the ACL cache.
      * @param policyEnforcerCache the Policy cache.
      */
     protected AbstractEnforcerActor(final ActorRef pubSubMediator,
-            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef conciergeForwarder,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
@@ -90,7 +92,8 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         this.policyEnforcerCache = policyEnforcerCache;
 
         contextual = Contextual.forActor(getSelf(), getContext().getSystem().deadLetters(),
-                pubSubMediator, conciergeForwarder, enforcementConfig.getAskTimeout(), logger,
+                pubSubMediator, null != conciergeForwarder ? conciergeForwarder : getSelf(),
+                enforcementConfig.getAskTimeout(), logger,
                 createResponseReceiversCache());
 
         // register for sending messages via pub/sub to this enforcer
@@ -104,9 +107,20 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
             logger.debug("Received <{}>.", invalidateCacheEntry);
             final EntityIdWithResourceType entityId = invalidateCacheEntry.getEntityId();
             invalidateCaches(entityId);
+        }).match(WarmUpCacheEntry.class, warmUpCacheEntry -> {
+            logger.debug("Received <{}>.", warmUpCacheEntry);
+            final EntityIdWithResourceType entityId = warmUpCacheEntry.getEntityId();
+            warmUpCaches(entityId);
         });
     }
 
+    private void warmUpCaches(final EntityIdWithResourceType entityId) {
+        if (policyEnforcerCache != null) {
+            // only the loading is of interest, the loaded enforcer is kept by the cache itself
+            policyEnforcerCache.get(entityId);
+        }
+    }
+
     private void invalidateCaches(final EntityIdWithResourceType entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
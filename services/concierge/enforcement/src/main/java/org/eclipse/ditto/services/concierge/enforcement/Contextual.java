@@ -228,7 +228,10 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
         return receiverWrapperFunction != null ? receiverWrapperFunction : Function.identity();
     }
 
-    Cache<String, ResponseReceiver> getResponseReceivers() {
+    /**
+     * @return the cache of receivers of responses to live signals.
+     */
+    public Cache<String, ResponseReceiver> getResponseReceivers() {
         return responseReceivers;
     }
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
+import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+
+/**
+ * The pre-enforcer which is applied by Ditto before the actual enforcement: it blocks signals of blocked namespaces,
+ * validates commands with optional entity, prepends the default namespace to {@code CreateThing} commands, sets the
+ * "ditto-originator" header and substitutes placeholders.
+ *
+ * @since 1.2.0
+ */
+public final class DefaultPreEnforcer implements PreEnforcer {
+
+    /**
+     * Default namespace for {@code CreateThing} commands without any namespace.
+     */
+    private static final String DEFAULT_NAMESPACE = "org.eclipse.ditto";
+
+    private final BlockNamespaceBehavior blockNamespaceBehavior;
+    private final PlaceholderSubstitution placeholderSubstitution;
+
+    private DefaultPreEnforcer(final BlockNamespaceBehavior blockNamespaceBehavior,
+            final PlaceholderSubstitution placeholderSubstitution) {
+
+        this.blockNamespaceBehavior = blockNamespaceBehavior;
+        this.placeholderSubstitution = placeholderSubstitution;
+    }
+
+    /**
+     * Returns a new instance of {@code DefaultPreEnforcer}.
+     *
+     * @param blockedNamespaces the cache of blocked namespaces.
+     * @param placeholderSubstitution the substitution of placeholders in the headers of signals.
+     * @return the pre-enforcer.
+     */
+    public static DefaultPreEnforcer of(final BlockedNamespaces blockedNamespaces,
+            final PlaceholderSubstitution placeholderSubstitution) {
+
+        return new DefaultPreEnforcer(BlockNamespaceBehavior.of(blockedNamespaces), placeholderSubstitution);
+    }
+
+    @Override
+    public CompletionStage<WithDittoHeaders> apply(final WithDittoHeaders signal) {
+        return blockNamespaceBehavior.block(signal)
+                .thenApply(CommandWithOptionalEntityValidator.getInstance())
+                .thenApply(DefaultPreEnforcer::prependDefaultNamespaceToCreateThing)
+                .thenApply(DefaultPreEnforcer::setOriginatorHeader)
+                .thenCompose(placeholderSubstitution);
+    }
+
+    /**
+     * Set the "ditto-originator" header to the primary authorization subject of a signal.
+     *
+     * @param originalSignal A signal with authorization context.
+     * @return A copy of the signal with the header "ditto-originator" set.
+     */
+    public static <T extends WithDittoHeaders<T>> WithDittoHeaders<T> setOriginatorHeader(final T originalSignal) {
+        final DittoHeaders dittoHeaders = originalSignal.getDittoHeaders();
+        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
+        return authorizationContext.getFirstAuthorizationSubject()
+                .map(AuthorizationSubject::getId)
+                .map(originatorSubjectId -> DittoHeaders.newBuilder(dittoHeaders)
+                        .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), originatorSubjectId)
+                        .build())
+                .map(originalSignal::setDittoHeaders)
+                .orElse(originalSignal);
+    }
+
+    private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders<?> signal) {
+        if (signal instanceof CreateThing) {
+            final CreateThing createThing = (CreateThing) signal;
+            final Thing thing = createThing.getThing();
+            final Optional<String> namespace = thing.getNamespace();
+            if (namespace.isEmpty()) {
+                final Thing thingInDefaultNamespace = thing.toBuilder()
+                        .setId(ThingId.of(DEFAULT_NAMESPACE, createThing.getThingEntityId().toString()))
+                        .build();
+                final JsonObject initialPolicy = createThing.getInitialPolicy().orElse(null);
+                return CreateThing.of(thingInDefaultNamespace, initialPolicy, createThing.getDittoHeaders());
+            }
+        }
+        return signal;
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.Optional;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.base.Signal;
 
 import akka.NotUsed;
@@ -103,8 +104,12 @@ public interface EnforcementProvider<T extends Signal> {
         });
     }
 
-    private EnforcementTask buildEnforcementTask(final Contextual<T> contextual, final PreEnforcer preEnforcer) {
-        final T message = contextual.getMessage();
+    private EnforcementTask buildEnforcementTask(final Contextual<T> receivedContextual,
+            final PreEnforcer preEnforcer) {
+
+        final T message =
+                TraceContext.recordHop(receivedContextual.getMessage(), TraceContext.SPAN_ENFORCEMENT_SCHEDULED);
+        final Contextual<T> contextual = receivedContextual.withMessage(message);
         final boolean changesAuthorization = changesAuthorization(message);
         final EntityId entityId = message.getEntityId();
 
@@ -27,6 +27,8 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapt
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -101,7 +103,7 @@ final class EnforcementScheduler extends AbstractActor {
         final DittoDiagnosticLoggingAdapter logger = enforcementResult.getLog();
         final Optional<? extends WithDittoHeaders> messageOpt = enforcementResult.getMessageOptional();
         if (messageOpt.isPresent()) {
-            final WithDittoHeaders<?> message = messageOpt.get();
+            final WithDittoHeaders<?> message = recordEnforcedHop(messageOpt.get());
             logger.setCorrelationId(message);
             final Optional<ActorRef> receiverOpt = enforcementResult.getReceiver();
             final Optional<Supplier<CompletionStage<Object>>> askFutureOpt = enforcementResult.getAskFuture();
@@ -151,6 +153,13 @@ final class EnforcementScheduler extends AbstractActor {
                 : previousFutures.appendEnforceFuture(taskFuture);
     }
 
+    private static WithDittoHeaders<?> recordEnforcedHop(final WithDittoHeaders<?> message) {
+        if (message instanceof Signal) {
+            return TraceContext.recordHop((Signal<?>) message, TraceContext.SPAN_ENFORCED);
+        }
+        return message;
+    }
+
     private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error) {
         getSelf().tell(FutureComplete.of(task.getEntityId(), error), ActorRef.noSender());
         return null;
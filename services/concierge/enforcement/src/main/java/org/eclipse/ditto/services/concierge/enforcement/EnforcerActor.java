@@ -53,7 +53,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
     @SuppressWarnings("unused")
     private EnforcerActor(final ActorRef pubSubMediator,
             final Set<EnforcementProvider<?>> enforcementProviders,
-            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef conciergeForwarder,
             @Nullable final PreEnforcer preEnforcer,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
@@ -70,7 +70,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param pubSubMediator Akka pub sub mediator.
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
-     * @param conciergeForwarder an actorRef to concierge forwarder.
+     * @param conciergeForwarder an actorRef to concierge forwarder or {@code null} to let the enforcer actor enforce
+     * the signals it would forward to concierge itself.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
      * @param thingIdCache the cache for Thing IDs to either ACL or Policy ID.
      * @param aclEnforcerCache the ACL cache.
@@ -79,7 +80,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      */
     public static Props props(final ActorRef pubSubMediator,
             final Set<EnforcementProvider<?>> enforcementProviders,
-            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef conciergeForwarder,
             @Nullable final PreEnforcer preEnforcer,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
@@ -95,7 +96,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param pubSubMediator Akka pub sub mediator.
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
-     * @param conciergeForwarder an actorRef to concierge forwarder.
+     * @param conciergeForwarder an actorRef to concierge forwarder or {@code null} to let the enforcer actor enforce
+     * the signals it would forward to concierge itself.
      * @param thingIdCache the cache for Thing IDs to either ACL or Policy ID.
      * @param aclEnforcerCache the ACL cache.
      * @param policyEnforcerCache the Policy cache.
@@ -103,7 +105,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      */
     public static Props props(final ActorRef pubSubMediator,
             final Set<EnforcementProvider<?>> enforcementProviders,
-            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef conciergeForwarder,
             @Nullable final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
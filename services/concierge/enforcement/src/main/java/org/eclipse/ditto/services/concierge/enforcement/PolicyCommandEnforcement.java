@@ -32,15 +32,13 @@ import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.ResourceKey;
-import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
-import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
-import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyCommandToAccessExceptionRegistry;
@@ -71,13 +69,16 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     private final ActorRef policiesShardRegion;
     private final EnforcerRetriever enforcerRetriever;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache;
+    private final boolean updateEnforcersFromEvents;
 
     private PolicyCommandEnforcement(final Contextual<PolicyCommand> data, final ActorRef policiesShardRegion,
-            final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache) {
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache,
+            final boolean updateEnforcersFromEvents) {
 
         super(data);
         this.policiesShardRegion = requireNonNull(policiesShardRegion);
         this.enforcerCache = requireNonNull(enforcerCache);
+        this.updateEnforcersFromEvents = updateEnforcersFromEvents;
         enforcerRetriever = new EnforcerRetriever(IdentityCache.INSTANCE, enforcerCache);
     }
 
@@ -169,7 +170,9 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     public CompletionStage<Contextual<WithDittoHeaders>> enforce() {
         final PolicyCommand command = signal();
         LogUtil.enhanceLogWithCorrelationIdOrRandom(command);
+        recordHop(TraceContext.SPAN_ENFORCER_LOADING);
         return enforcerRetriever.retrieve(entityId(), (idEntry, enforcerEntry) -> {
+            recordHop(TraceContext.SPAN_ENFORCER_LOADED);
             try {
                 return CompletableFuture.completedFuture(doEnforce(enforcerEntry));
             } catch (final RuntimeException e) {
@@ -237,24 +240,27 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     /**
      * Whenever a Command changed the authorization, the caches must be invalidated - otherwise a directly following
      * Command targeted for the same entity will probably fail as the enforcer was not yet updated.
+     * If cached enforcers are updated from policy events, only the local cache is invalidated; the caches of other
+     * instances are updated once the resulting event is published.
      *
      * @param policyId the ID of the Policy to invalidate caches for.
      */
     private void invalidateCaches(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         enforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                InvalidateCacheEntry.of(entityId),
-                true),
-                self());
+        if (!updateEnforcersFromEvents) {
+            invalidateCacheEntryClusterWide(entityId);
+        }
     }
 
     private CompletionStage<WithDittoHeaders> askPoliciesShardRegionAndBuildJsonView(
             final PolicyQueryCommand commandWithReadSubjects,
             final Enforcer enforcer) {
 
-        return Patterns.ask(policiesShardRegion, commandWithReadSubjects, getAskTimeout())
+        // the enforced query is not dispatched by the enforcement scheduler, thus its trace is continued here
+        final PolicyQueryCommand<?> tracedCommand =
+                TraceContext.recordHop(commandWithReadSubjects, TraceContext.SPAN_ENFORCED);
+        return Patterns.ask(policiesShardRegion, tracedCommand, getAskTimeout())
                 .handle((response, error) -> {
                     if (response instanceof PolicyQueryCommandResponse) {
                         return reportJsonViewForPolicyQuery((PolicyQueryCommandResponse<?>) response, enforcer);
@@ -296,6 +302,7 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     public static final class Provider implements EnforcementProvider<PolicyCommand> {
 
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache;
+        private final boolean updateEnforcersFromEvents;
         private ActorRef policiesShardRegion;
 
         /**
@@ -306,8 +313,23 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
          */
         public Provider(final ActorRef policiesShardRegion,
                 final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache) {
+            this(policiesShardRegion, enforcerCache, false);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param enforcerCache the enforcer cache.
+         * @param updateEnforcersFromEvents whether cached enforcers of other instances are updated from policy events
+         * and therefore need not be invalidated cluster-wide.
+         */
+        public Provider(final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache,
+                final boolean updateEnforcersFromEvents) {
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.enforcerCache = requireNonNull(enforcerCache);
+            this.updateEnforcersFromEvents = updateEnforcersFromEvents;
         }
 
         @Override
@@ -322,7 +344,8 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
 
         @Override
         public AbstractEnforcement<PolicyCommand> createEnforcement(final Contextual<PolicyCommand> context) {
-            return new PolicyCommandEnforcement(context, policiesShardRegion, enforcerCache);
+            return new PolicyCommandEnforcement(context, policiesShardRegion, enforcerCache,
+                    updateEnforcersFromEvents);
         }
 
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+
+/**
+ * Actor that keeps cached policy enforcers up to date by applying policy events to them, so that the policy does not
+ * have to be reloaded after each modification.
+ * <p>
+ * An event is only applied if it directly follows the revision of the cached enforcer. Events already contained in
+ * the cached enforcer are ignored. If there is a gap in revisions, or the event cannot be applied, the cache entry is
+ * invalidated so that the next signal reloads the whole policy.
+ * </p>
+ * <p>
+ * Events of one policy are applied one after another to the current cache entry. Events arriving while the entry is
+ * still being loaded are queued until the load completes.
+ * </p>
+ */
+public final class PolicyEnforcerCacheUpdater extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "policyEnforcerCacheUpdater";
+
+    private static final String UPDATES_METRIC_NAME = "ditto_authorization_enforcer_cache_policy_event_updates";
+    private static final String OUTCOME = "outcome";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final Counter patchedCounter;
+    private final Counter skippedCounter;
+    private final Counter invalidatedCounter;
+    private final Map<EntityIdWithResourceType, List<PolicyEvent<?>>> eventsAwaitingLoad;
+
+    @SuppressWarnings("unused")
+    private PolicyEnforcerCacheUpdater(final ActorRef pubSubMediator,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        this.policyEnforcerCache = policyEnforcerCache;
+        patchedCounter = DittoMetrics.counter(UPDATES_METRIC_NAME).tag(OUTCOME, "patched");
+        skippedCounter = DittoMetrics.counter(UPDATES_METRIC_NAME).tag(OUTCOME, "skipped");
+        invalidatedCounter = DittoMetrics.counter(UPDATES_METRIC_NAME).tag(OUTCOME, "invalidated");
+        eventsAwaitingLoad = new HashMap<>();
+
+        // policy events are published via group; each instance needs its own group to receive all events.
+        final String group = ACTOR_NAME + "-" + UUID.randomUUID();
+        pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, group, getSelf()), getSelf());
+    }
+
+    /**
+     * Create Props of an actor to update cached policy enforcers from policy events.
+     *
+     * @param pubSubMediator the pub-sub mediator to subscribe for policy events.
+     * @param policyEnforcerCache the cache of policy enforcers.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        return Props.create(PolicyEnforcerCacheUpdater.class, pubSubMediator, policyEnforcerCache);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(PolicyEvent.class, this::handlePolicyEvent)
+                .match(LoadCompleted.class, this::handleLoadCompleted)
+                .match(DistributedPubSubMediator.SubscribeAck.class,
+                        ack -> log.info("Subscribed for policy events: <{}>", ack))
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void handlePolicyEvent(final PolicyEvent<?> event) {
+        final EntityIdWithResourceType key =
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, event.getPolicyEntityId());
+        final List<PolicyEvent<?>> queuedEvents = eventsAwaitingLoad.get(key);
+        if (null != queuedEvents) {
+            queuedEvents.add(event);
+        } else {
+            final CompletableFuture<Optional<Entry<Enforcer>>> cachedEntry = policyEnforcerCache.getIfPresent(key);
+            if (cachedEntry.isDone()) {
+                updateEntry(key, event);
+            } else {
+                // updating the entry of the synchronous cache view would block until the load completes
+                final List<PolicyEvent<?>> events = new ArrayList<>();
+                events.add(event);
+                eventsAwaitingLoad.put(key, events);
+                Patterns.pipe(cachedEntry.handle((entry, error) -> new LoadCompleted(key)),
+                        getContext().dispatcher())
+                        .to(getSelf());
+            }
+        }
+    }
+
+    private void handleLoadCompleted(final LoadCompleted loadCompleted) {
+        final List<PolicyEvent<?>> events = eventsAwaitingLoad.remove(loadCompleted.key);
+        if (null != events) {
+            events.forEach(event -> updateEntry(loadCompleted.key, event));
+        }
+    }
+
+    private void updateEntry(final EntityIdWithResourceType key, final PolicyEvent<?> event) {
+        // compute atomically replaces the current entry, so that a concurrent reload is not overwritten
+        policyEnforcerCache.asMap().computeIfPresent(key, (k, entry) -> updatedEntry(k, entry, event));
+    }
+
+    @Nullable
+    private Entry<Enforcer> updatedEntry(final EntityIdWithResourceType key, final Entry<Enforcer> entry,
+            final PolicyEvent<?> event) {
+
+        final long eventRevision = event.getRevision();
+        if (entry.exists() && eventRevision <= entry.getRevision()) {
+            // the cached enforcer was loaded after the event was persisted
+            skippedCounter.increment();
+            return entry;
+        }
+        final Optional<Entry<Enforcer>> patchedEntry = patchEntry(entry, event);
+        if (patchedEntry.isPresent()) {
+            log.debug("Applied <{}> to cached enforcer of <{}>", event.getType(), key);
+            patchedCounter.increment();
+            return patchedEntry.get();
+        } else {
+            log.debug("Could not apply <{}> at revision <{}> to cache entry <{}>; invalidating",
+                    event.getType(), eventRevision, entry);
+            invalidatedCounter.increment();
+            return null;
+        }
+    }
+
+    private static Optional<Entry<Enforcer>> patchEntry(final Entry<Enforcer> entry, final PolicyEvent<?> event) {
+        final long eventRevision = event.getRevision();
+        if (entry.exists() && entry.getRevision() + 1 == eventRevision &&
+                entry.getValueOrThrow() instanceof PolicyEnforcer) {
+            final Policy cachedPolicy = ((PolicyEnforcer) entry.getValueOrThrow()).getPolicy();
+            return PolicyEventApplier.apply(cachedPolicy, event)
+                    .map(policy -> Entry.of(eventRevision, PolicyEnforcer.of(policy)));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Self-sent message signaling that the load of a cache entry completed.
+     */
+    private static final class LoadCompleted {
+
+        private final EntityIdWithResourceType key;
+
+        private LoadCompleted(final EntityIdWithResourceType key) {
+            this.key = key;
+        }
+
+    }
+
+}
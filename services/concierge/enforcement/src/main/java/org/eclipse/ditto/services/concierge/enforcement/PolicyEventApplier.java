@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resources;
+import org.eclipse.ditto.model.policies.Subjects;
+import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+
+/**
+ * Applies policy events to a cached policy in the same way the policies service applies them to its persisted state.
+ * Events which cannot be applied safely result in an empty optional, upon which the cached enforcer has to be
+ * reloaded.
+ */
+@Immutable
+final class PolicyEventApplier {
+
+    private PolicyEventApplier() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Apply a policy event to the policy preceding it.
+     *
+     * @param policy the policy at revision {@code event.getRevision() - 1}.
+     * @param event the event to apply.
+     * @return the policy at the revision of the event, or an empty optional if the event could not be applied.
+     */
+    static Optional<Policy> apply(final Policy policy, final PolicyEvent<?> event) {
+        final Optional<Policy> modifiedPolicy;
+        if (event instanceof PolicyModified) {
+            modifiedPolicy = Optional.of(replaceEntries(policy, ((PolicyModified) event).getPolicy()));
+        } else if (event instanceof PolicyEntriesModified) {
+            modifiedPolicy = Optional.of(replaceEntries(policy, ((PolicyEntriesModified) event).getPolicyEntries()));
+        } else if (event instanceof PolicyEntryCreated) {
+            modifiedPolicy = Optional.of(policy.setEntry(((PolicyEntryCreated) event).getPolicyEntry()));
+        } else if (event instanceof PolicyEntryModified) {
+            modifiedPolicy = Optional.of(policy.setEntry(((PolicyEntryModified) event).getPolicyEntry()));
+        } else if (event instanceof PolicyEntryDeleted) {
+            modifiedPolicy = Optional.of(policy.removeEntry(((PolicyEntryDeleted) event).getLabel()));
+        } else if (event instanceof SubjectsModified) {
+            final SubjectsModified subjectsModified = (SubjectsModified) event;
+            modifiedPolicy = setSubjects(policy, subjectsModified.getLabel(), subjectsModified.getSubjects());
+        } else if (event instanceof SubjectCreated) {
+            final SubjectCreated subjectCreated = (SubjectCreated) event;
+            modifiedPolicy = policy.getEntryFor(subjectCreated.getLabel())
+                    .map(entry -> policy.setSubjectFor(subjectCreated.getLabel(), subjectCreated.getSubject()));
+        } else if (event instanceof SubjectModified) {
+            final SubjectModified subjectModified = (SubjectModified) event;
+            modifiedPolicy = policy.getEntryFor(subjectModified.getLabel())
+                    .map(entry -> policy.setSubjectFor(subjectModified.getLabel(), subjectModified.getSubject()));
+        } else if (event instanceof SubjectDeleted) {
+            final SubjectDeleted subjectDeleted = (SubjectDeleted) event;
+            modifiedPolicy = policy.getEntryFor(subjectDeleted.getLabel())
+                    .map(entry -> policy.removeSubjectFor(subjectDeleted.getLabel(), subjectDeleted.getSubjectId()));
+        } else if (event instanceof ResourcesModified) {
+            final ResourcesModified resourcesModified = (ResourcesModified) event;
+            modifiedPolicy = setResources(policy, resourcesModified.getLabel(), resourcesModified.getResources());
+        } else if (event instanceof ResourceCreated) {
+            final ResourceCreated resourceCreated = (ResourceCreated) event;
+            modifiedPolicy = policy.getEntryFor(resourceCreated.getLabel())
+                    .map(entry -> policy.setResourceFor(resourceCreated.getLabel(), resourceCreated.getResource()));
+        } else if (event instanceof ResourceModified) {
+            final ResourceModified resourceModified = (ResourceModified) event;
+            modifiedPolicy = policy.getEntryFor(resourceModified.getLabel())
+                    .map(entry -> policy.setResourceFor(resourceModified.getLabel(), resourceModified.getResource()));
+        } else if (event instanceof ResourceDeleted) {
+            final ResourceDeleted resourceDeleted = (ResourceDeleted) event;
+            modifiedPolicy = policy.getEntryFor(resourceDeleted.getLabel())
+                    .map(entry -> policy.removeResourceFor(resourceDeleted.getLabel(),
+                            resourceDeleted.getResourceKey()));
+        } else {
+            // PolicyCreated and PolicyDeleted change the existence of the policy; reload them.
+            modifiedPolicy = Optional.empty();
+        }
+        return modifiedPolicy.map(p -> p.toBuilder()
+                .setRevision(event.getRevision())
+                .setModified(event.getTimestamp().orElse(null))
+                .build());
+    }
+
+    private static Policy replaceEntries(final Policy policy, final Iterable<PolicyEntry> newEntries) {
+        return policy.toBuilder()
+                .removeAll(policy.getEntriesSet())
+                .setAll(newEntries)
+                .build();
+    }
+
+    private static Optional<Policy> setSubjects(final Policy policy, final Label label, final Subjects subjects) {
+        return policy.getEntryFor(label)
+                .map(entry -> PoliciesModelFactory.newPolicyEntry(label, subjects, entry.getResources()))
+                .map(policy::setEntry);
+    }
+
+    private static Optional<Policy> setResources(final Policy policy, final Label label, final Resources resources) {
+        return policy.getEntryFor(label)
+                .map(entry -> PoliciesModelFactory.newPolicyEntry(label, entry.getSubjects(), resources))
+                .map(policy::setEntry);
+    }
+
+}
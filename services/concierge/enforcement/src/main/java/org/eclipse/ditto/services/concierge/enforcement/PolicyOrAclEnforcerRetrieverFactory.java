@@ -28,7 +28,7 @@ import org.eclipse.ditto.signals.commands.things.ThingCommand;
  * Creates an {@link EnforcerRetriever} which retrieves an enforcer by using an acl- or policy-enforcer-cache depending
  * on the {@code resourceType} of the requested {@code entityId}.
  */
-final class PolicyOrAclEnforcerRetrieverFactory {
+public final class PolicyOrAclEnforcerRetrieverFactory {
 
     private PolicyOrAclEnforcerRetrieverFactory() {
         throw new AssertionError();
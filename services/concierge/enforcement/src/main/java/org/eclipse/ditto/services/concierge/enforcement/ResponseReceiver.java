@@ -23,7 +23,7 @@ import akka.actor.ActorRef;
 /**
  * Keeps all information relevant for response handling of live signals.
  */
-final class ResponseReceiver {
+public final class ResponseReceiver {
 
     private final ActorRef actorRef;
     private final DittoHeaders internalHeaders;
@@ -40,14 +40,14 @@ final class ResponseReceiver {
      * @param commandHeaders headers of the live signal.
      * @return context to handle the response of the live signal.
      */
-    static ResponseReceiver of(final ActorRef sender, final DittoHeaders commandHeaders) {
+    public static ResponseReceiver of(final ActorRef sender, final DittoHeaders commandHeaders) {
         return new ResponseReceiver(sender, filterRelevantHeaders(commandHeaders));
     }
 
     /**
      * @return sender of the original live signal and receiver of the response.
      */
-    ActorRef ref() {
+    public ActorRef ref() {
         return actorRef;
     }
 
@@ -57,7 +57,7 @@ final class ResponseReceiver {
      * @param signal the original signal.
      * @return the enhanced signal.
      */
-    WithDittoHeaders enhance(final WithDittoHeaders signal) {
+    public WithDittoHeaders enhance(final WithDittoHeaders signal) {
         return internalHeaders.isEmpty()
                 ? signal
                 : signal.setDittoHeaders(signal.getDittoHeaders().toBuilder().putHeaders(internalHeaders).build());
@@ -69,7 +69,6 @@ import org.eclipse.ditto.model.things.ThingConstants;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.references.PolicyIdReferencePlaceholderResolver;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.references.ReferencePlaceholder;
-import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.models.policies.PoliciesAclMigrations;
 import org.eclipse.ditto.services.models.policies.PoliciesValidator;
@@ -77,10 +76,9 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
-import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
-import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -133,6 +131,11 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private static final JsonFieldSelector THING_QUERY_COMMAND_RESPONSE_WHITELIST =
             JsonFactory.newFieldSelector(Thing.JsonFields.ID);
 
+    /**
+     * Value of the channel header of live signals, see {@code TopicPath.Channel.LIVE} of the protocol adapter.
+     */
+    private static final String LIVE_CHANNEL = "live";
+
     private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
     private final ActorRef thingsShardRegion;
     private final ActorRef policiesShardRegion;
@@ -174,7 +177,9 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         final ThingCommand signal = signal();
         LogUtil.enhanceLogWithCorrelationIdOrRandom(signal);
 
+        recordHop(TraceContext.SPAN_ENFORCER_LOADING);
         return thingEnforcerRetriever.retrieve(entityId(), (enforcerKeyEntry, enforcerEntry) -> {
+            recordHop(TraceContext.SPAN_ENFORCER_LOADED);
             try {
                 return doEnforce(enforcerKeyEntry, enforcerEntry).exceptionally(this::handleExceptionally);
             } catch (final RuntimeException e) {
@@ -352,7 +357,10 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private CompletionStage<WithDittoHeaders> askThingsShardRegionAndBuildJsonView(
             final ThingQueryCommand commandWithReadSubjects, final Enforcer enforcer) {
 
-        return Patterns.ask(thingsShardRegion, commandWithReadSubjects, getAskTimeout())
+        // the enforced query is not dispatched by the enforcement scheduler, thus its trace is continued here
+        final ThingQueryCommand<?> tracedCommand =
+                TraceContext.recordHop(commandWithReadSubjects, TraceContext.SPAN_ENFORCED);
+        return Patterns.ask(thingsShardRegion, tracedCommand, getAskTimeout())
                 .handle((response, error) -> {
                     if (response instanceof ThingQueryCommandResponse) {
                         return reportJsonViewForThingQuery((ThingQueryCommandResponse) response, enforcer);
@@ -600,21 +608,13 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
         thingIdCache.invalidate(entityId);
         aclEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                InvalidateCacheEntry.of(entityId),
-                true),
-                self());
+        invalidateCacheEntryClusterWide(entityId);
     }
 
     private void invalidatePolicyCache(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         policyEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
-                InvalidateCacheEntry.of(entityId),
-                true),
-                self());
+        invalidateCacheEntryClusterWide(entityId);
     }
 
     /**
@@ -675,7 +675,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param thingCommand the command.
      * @return the error.
      */
-    static DittoRuntimeException errorForThingCommand(final ThingCommand thingCommand) {
+    public static DittoRuntimeException errorForThingCommand(final ThingCommand thingCommand) {
         final CommandToExceptionRegistry<ThingCommand, DittoRuntimeException> registry =
                 thingCommand instanceof ThingModifyCommand
                         ? ThingCommandToModifyExceptionRegistry.getInstance()
@@ -879,7 +879,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param command the command to authorize.
      * @return optionally the authorized command extended by read subjects.
      */
-    static <T extends ThingCommand> Optional<T> authorizeByPolicy(final Enforcer policyEnforcer,
+    public static <T extends ThingCommand> Optional<T> authorizeByPolicy(final Enforcer policyEnforcer,
             final ThingCommand<T> command) {
 
         final ResourceKey thingResourceKey = PoliciesResourceType.thingResource(command.getResourcePath());
@@ -906,7 +906,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param command the command to authorize.
      * @return optionally the authorized command extended by read subjects.
      */
-    static <T extends ThingCommand<T>> Optional<T> authorizeByAcl(final Enforcer aclEnforcer,
+    public static <T extends ThingCommand<T>> Optional<T> authorizeByAcl(final Enforcer aclEnforcer,
             final ThingCommand<T> command) {
 
         final ResourceKey thingResourceKey = PoliciesResourceType.thingResource(command.getResourcePath());
@@ -1258,7 +1258,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         public boolean isApplicable(final ThingCommand command) {
             // live commands are not applicable for thing command enforcement
             // because they should never be forwarded to things shard region
-            return !LiveSignalEnforcement.isLiveSignal(command);
+            return !command.getDittoHeaders().getChannel().filter(LIVE_CHANNEL::equals).isPresent();
         }
 
         @Override
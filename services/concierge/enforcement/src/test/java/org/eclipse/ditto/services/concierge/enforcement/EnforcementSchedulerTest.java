@@ -149,16 +149,21 @@ public final class EnforcementSchedulerTest {
             underTest.tell(retrieveThing2TaskSpy, getRef());
             underTest.tell(modifyPolicyId2TaskSpy, getRef());
 
-            inOrder.verify(retrieveThing1TaskSpy, timeout(500)).start();
-            // Ensures that modifyPolicyId1 is scheduled without waiting for retrieveThing1 being finished.
-            inOrder.verify(modifyPolicyId1TaskSpy, timeout(500)).start();
+            // Ensures that modifyPolicyId1 is scheduled without waiting for retrieveThing1 being finished, which takes
+            // 3 seconds. The order is verified only after both started as in-order verification does not wait.
+            verify(retrieveThing1TaskSpy, timeout(2000)).start();
+            verify(modifyPolicyId1TaskSpy, timeout(2000)).start();
+            inOrder.verify(retrieveThing1TaskSpy).start();
+            inOrder.verify(modifyPolicyId1TaskSpy).start();
             // Ensures that retrieveThing2 is blocked by modifyPolicyID1 which changes authorization and has a 3 second duration
             verify(retrieveThing2TaskSpy, after(500).never()).start();
             receiverProbe.expectMsg(FiniteDuration.create(5, TimeUnit.SECONDS), retrieveThing1);
             receiverProbe.expectMsg(modifyPolicyId1);
 
-            inOrder.verify(retrieveThing2TaskSpy, timeout(500)).start();
-            inOrder.verify(modifyPolicyId2TaskSpy, timeout(500)).start();
+            // Both are released by the completion of modifyPolicyId1, in no particular order; only the order in
+            // which their results are dispatched is guaranteed.
+            verify(retrieveThing2TaskSpy, timeout(500)).start();
+            verify(modifyPolicyId2TaskSpy, timeout(500)).start();
             receiverProbe.expectMsg(retrieveThing2);
             receiverProbe.expectMsg(modifyPolicyId2);
         }};
@@ -49,6 +49,7 @@ import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePoli
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.WarmUpCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -219,6 +220,21 @@ public final class PolicyCommandEnforcementTest {
         expectMsg(policiesShardRegionProbe, modifyPolicy);
     }
 
+    @Test
+    public void warmUpCacheEntryLoadsPolicyEnforcer() {
+        // GIVEN: the policy enforcer is warmed up
+        enforcer.tell(WarmUpCacheEntry.of(ENTITY_ID), ActorRef.noSender());
+        policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+        policiesShardRegionProbe.lastSender().tell(createDefaultPolicyResponse(), policiesShardRegionProbe.ref());
+
+        // WHEN: a policy command is sent
+        final ModifyPolicy modifyPolicy = ModifyPolicy.of(POLICY_ID, POLICY, DITTO_HEADERS);
+        enforcer.tell(modifyPolicy, testKit.getRef());
+
+        // THEN: the cached enforcer is used; expect the command and not SudoRetrievePolicy
+        expectMsg(policiesShardRegionProbe, modifyPolicy);
+    }
+
     @Test
     public void modifyPolicyWhenAuthSubjectDoesNotHaveWritePermissionFails() {
         final ModifyPolicy modifyPolicy = ModifyPolicy.of(POLICY_ID, POLICY, DITTO_HEADERS);
@@ -533,7 +549,7 @@ public final class PolicyCommandEnforcementTest {
         enforcementProviders.add(enforcementProvider);
 
         return system.actorOf(EnforcerActor.props(pubSubMediator, enforcementProviders, conciergeForwarder,
-                null, null, null),
+                null, null, enforcerCache),
                 ENTITY_ID.toString());
     }
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyEnforcerCacheUpdater}.
+ */
+public final class PolicyEnforcerCacheUpdaterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("ns", "policy");
+    private static final EntityIdWithResourceType CACHE_KEY =
+            EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, POLICY_ID);
+    private static final Label LABEL = Label.of("DEFAULT");
+    private static final Subject OWNER = Subject.newInstance(SubjectIssuer.GOOGLE, "owner");
+    private static final Subject READER = Subject.newInstance(SubjectIssuer.GOOGLE, "reader");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+    private static final Policy POLICY = Policy.newBuilder(POLICY_ID)
+            .forLabel(LABEL)
+            .setSubject(OWNER)
+            .setGrantedPermissions(THING_ROOT, Permission.READ)
+            .setRevision(1L)
+            .build();
+
+    private ActorSystem system;
+    private TestProbe pubSubMediatorProbe;
+    private Cache<EntityIdWithResourceType, Entry<Enforcer>> cache;
+    private ActorRef underTest;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        pubSubMediatorProbe = TestProbe.apply(system);
+        cache = CaffeineCache.of(Caffeine.newBuilder());
+        cache.put(CACHE_KEY, Entry.of(1L, PolicyEnforcer.of(POLICY)));
+        underTest = system.actorOf(PolicyEnforcerCacheUpdater.props(pubSubMediatorProbe.ref(), cache));
+        pubSubMediatorProbe.expectMsgClass(DistributedPubSubMediator.Subscribe.class);
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void appliesEventDirectlyFollowingCachedRevision() {
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, READER, 2L, DittoHeaders.empty()), ActorRef.noSender());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            final Entry<Enforcer> entry = cache.getBlocking(CACHE_KEY).orElseThrow();
+            assertThat(entry.getRevision()).isEqualTo(2L);
+            assertThat(entry.getValueOrThrow()
+                    .hasUnrestrictedPermissions(THING_ROOT, contextOf(READER), Permission.READ)).isTrue();
+        });
+    }
+
+    @Test
+    public void appliesConsecutiveEventsOneAfterAnother() {
+        final Subject otherReader = Subject.newInstance(SubjectIssuer.GOOGLE, "other-reader");
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, READER, 2L, DittoHeaders.empty()), ActorRef.noSender());
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, otherReader, 3L, DittoHeaders.empty()),
+                ActorRef.noSender());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            final Entry<Enforcer> entry = cache.getBlocking(CACHE_KEY).orElseThrow();
+            assertThat(entry.getRevision()).isEqualTo(3L);
+            assertThat(entry.getValueOrThrow()
+                    .hasUnrestrictedPermissions(THING_ROOT, contextOf(READER), Permission.READ)).isTrue();
+            assertThat(entry.getValueOrThrow()
+                    .hasUnrestrictedPermissions(THING_ROOT, contextOf(otherReader), Permission.READ)).isTrue();
+        });
+    }
+
+    @Test
+    public void ignoresEventAlreadyContainedInCachedRevision() {
+        final Subject otherReader = Subject.newInstance(SubjectIssuer.GOOGLE, "other-reader");
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, READER, 1L, DittoHeaders.empty()), ActorRef.noSender());
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, otherReader, 2L, DittoHeaders.empty()),
+                ActorRef.noSender());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            final Entry<Enforcer> entry = cache.getBlocking(CACHE_KEY).orElseThrow();
+            assertThat(entry.getRevision()).isEqualTo(2L);
+            assertThat(entry.getValueOrThrow()
+                    .hasUnrestrictedPermissions(THING_ROOT, contextOf(otherReader), Permission.READ)).isTrue();
+            assertThat(entry.getValueOrThrow()
+                    .hasUnrestrictedPermissions(THING_ROOT, contextOf(READER), Permission.READ)).isFalse();
+        });
+    }
+
+    @Test
+    public void invalidatesEntryOnRevisionGap() {
+        underTest.tell(SubjectCreated.of(POLICY_ID, LABEL, READER, 3L, DittoHeaders.empty()), ActorRef.noSender());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(cache.asMap()).doesNotContainKey(CACHE_KEY));
+    }
+
+    @Test
+    public void invalidatesEntryIfEventCannotBeApplied() {
+        underTest.tell(SubjectCreated.of(POLICY_ID, Label.of("unknown-label"), READER, 2L, DittoHeaders.empty()),
+                ActorRef.noSender());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(cache.asMap()).doesNotContainKey(CACHE_KEY));
+    }
+
+    private static AuthorizationContext contextOf(final Subject subject) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subject.getId()));
+    }
+
+}
@@ -35,8 +35,6 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.DefaultCachesConfig;
-import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
-import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
@@ -44,15 +42,10 @@ import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
-import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
-import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
-import org.eclipse.ditto.signals.base.Signal;
-import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeature;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
-import org.eclipse.ditto.signals.events.base.Event;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.typesafe.config.Config;
@@ -88,7 +81,7 @@ public final class TestSetup {
     public static ActorRef newEnforcerActor(final ActorSystem system, final ActorRef testActorRef,
             final ActorRef mockEntitiesActor) {
 
-        return newEnforcerActor(system, testActorRef, mockEntitiesActor, null);
+        return newEnforcerActor(system, testActorRef, mockEntitiesActor, mockEntitiesActor, null, null);
     }
 
     public static ActorRef newEnforcerActor(final ActorSystem system,
@@ -96,7 +89,16 @@ public final class TestSetup {
             final ActorRef mockEntitiesActor,
             @Nullable final PreEnforcer preEnforcer) {
 
-        return newEnforcerActor(system, testActorRef, mockEntitiesActor, mockEntitiesActor, preEnforcer);
+        return newEnforcerActor(system, testActorRef, mockEntitiesActor, mockEntitiesActor, preEnforcer, null);
+    }
+
+    public static ActorRef newEnforcerActor(final ActorSystem system,
+            final ActorRef testActorRef,
+            final ActorRef mockEntitiesActor,
+            final AdditionalEnforcementProviderFactory additionalEnforcementProviderFactory) {
+
+        return newEnforcerActor(system, testActorRef, mockEntitiesActor, mockEntitiesActor, null,
+                additionalEnforcementProviderFactory);
     }
 
     public static ActorRef newEnforcerActor(final ActorSystem system,
@@ -105,6 +107,16 @@ public final class TestSetup {
             final ActorRef policiesShardRegion,
             @Nullable final PreEnforcer preEnforcer) {
 
+        return newEnforcerActor(system, testActorRef, thingsShardRegion, policiesShardRegion, preEnforcer, null);
+    }
+
+    public static ActorRef newEnforcerActor(final ActorSystem system,
+            final ActorRef testActorRef,
+            final ActorRef thingsShardRegion,
+            final ActorRef policiesShardRegion,
+            @Nullable final PreEnforcer preEnforcer,
+            @Nullable final AdditionalEnforcementProviderFactory additionalEnforcementProviderFactory) {
+
         final ActorRef conciergeForwarder =
                 new TestProbe(system, createUniqueName()).ref();
         final Duration askTimeout = CACHES_CONFIG.getAskTimeout();
@@ -126,9 +138,10 @@ public final class TestSetup {
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegion,
                 policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegion, policyEnforcerCache));
-        enforcementProviders.add(
-                new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache, aclEnforcerCache,
-                        new DummyLiveSignalPub(testActorRef)));
+        if (null != additionalEnforcementProviderFactory) {
+            enforcementProviders.add(additionalEnforcementProviderFactory.create(testActorRef, thingIdCache,
+                    policyEnforcerCache, aclEnforcerCache));
+        }
 
         final Props props =
                 EnforcerActor.props(testActorRef, enforcementProviders, conciergeForwarder, preEnforcer, null, null,
@@ -178,58 +191,16 @@ public final class TestSetup {
                 testKit.fishForMessage(FiniteDuration.apply(3, TimeUnit.SECONDS), clazz.getName(), clazz::isInstance));
     }
 
-    private static final class DummyLiveSignalPub implements LiveSignalPub {
-
-        private final ActorRef pubSubMediator;
-
-        private DummyLiveSignalPub(final ActorRef pubSubMediator) {
-            this.pubSubMediator = pubSubMediator;
-        }
-
-        @Override
-        public DistributedPub<Command> command() {
-            return new DistributedPub<>() {
-                @Override
-                public ActorRef getPublisher() {
-                    return pubSubMediator;
-                }
-
-                @Override
-                public Object wrapForPublication(final Command message) {
-                    return DistPubSubAccess.publish(StreamingType.LIVE_COMMANDS.getDistributedPubSubTopic(), message);
-                }
-            };
-        }
-
-        @Override
-        public DistributedPub<Event> event() {
-            return new DistributedPub<>() {
-                @Override
-                public ActorRef getPublisher() {
-                    return pubSubMediator;
-                }
-
-                @Override
-                public Object wrapForPublication(final Event message) {
-                    return DistPubSubAccess.publish(StreamingType.LIVE_EVENTS.getDistributedPubSubTopic(), message);
-                }
-            };
-        }
+    /**
+     * Creates an additional {@link EnforcementProvider} for the enforcer actor of the test from its caches.
+     */
+    @FunctionalInterface
+    public interface AdditionalEnforcementProviderFactory {
 
-        @Override
-        public DistributedPub<Signal> message() {
-            return new DistributedPub<>() {
-                @Override
-                public ActorRef getPublisher() {
-                    return pubSubMediator;
-                }
-
-                @Override
-                public Object wrapForPublication(final Signal message) {
-                    return DistPubSubAccess.publish(StreamingType.MESSAGES.getDistributedPubSubTopic(), message);
-                }
-            };
-        }
+        EnforcementProvider<?> create(ActorRef testActorRef,
+                Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache);
 
     }
 
@@ -61,14 +61,16 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef targetActor;
+    private final boolean viaEnforcer;
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
     private final ActorMaterializer actorMaterializer;
 
     @SuppressWarnings("unused")
-    private ThingsAggregatorActor(final ActorRef targetActor) {
+    private ThingsAggregatorActor(final ActorRef targetActor, final boolean viaEnforcer) {
         this.targetActor = targetActor;
+        this.viaEnforcer = viaEnforcer;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
         final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
@@ -85,7 +87,20 @@ public final class ThingsAggregatorActor extends AbstractActor {
      * @return the Akka configuration Props object
      */
     public static Props props(final ActorRef targetActor) {
-        return Props.create(ThingsAggregatorActor.class, targetActor)
+        return Props.create(ThingsAggregatorActor.class, targetActor, true)
+                .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
+    }
+
+    /**
+     * Creates Akka configuration object Props for a ThingsAggregatorActor which only aggregates
+     * {@code SudoRetrieveThings} and asks the things shard region directly for each thing.
+     *
+     * @param thingsShardRegion the things shard region or its proxy.
+     * @return the Akka configuration Props object
+     * @since 1.2.0
+     */
+    public static Props propsForThingsShardRegion(final ActorRef thingsShardRegion) {
+        return Props.create(ThingsAggregatorActor.class, thingsShardRegion, false)
                 .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
 
@@ -93,7 +108,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 // # handle "RetrieveThings" command
-                .match(RetrieveThings.class, rt -> {
+                .match(RetrieveThings.class, rt -> viaEnforcer, rt -> {
                     LogUtil.enhanceLogWithCorrelationId(log, rt.getDittoHeaders().getCorrelationId());
                     log.info("Got '{}' message. Retrieving requested '{}' Things..",
                             RetrieveThings.class.getSimpleName(),
@@ -152,7 +167,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                 .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
                                 .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
                     }
-                    return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
+                    return viaEnforcer ? ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped) : toBeWrapped;
                 })
                 .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
                         Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
@@ -17,49 +17,42 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.base.auth.AuthorizationContext;
-import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
-import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
-import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
-import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcer;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
-import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.PolicyEnforcerCacheUpdater;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
-import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingsAggregatorActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
+import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.EnforcerWeigher;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespacesUpdater;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
-import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -73,13 +66,10 @@ import akka.actor.Props;
  */
 public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<ConciergeConfig> {
 
-    /**
-     * Default namespace for {@code CreateThing} commands without any namespace.
-     */
-    private static final String DEFAULT_NAMESPACE = "org.eclipse.ditto";
-
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String THING_ID_CACHE_AGGREGATOR = "thingIdCacheAggregator";
+    private static final String THING_ID_CACHE_AGGREGATOR_PROXY = "thingIdCacheAggregatorProxy";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context, final ConciergeConfig conciergeConfig,
@@ -93,37 +83,46 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final ActorRef thingsShardRegionProxy = shardRegions.things();
 
+        // bulk loads of the thing ID cache retrieve their things with one SudoRetrieveThings command
+        final ActorRef thingsAggregator = context.actorOf(
+                ThingsAggregatorActor.propsForThingsShardRegion(thingsShardRegionProxy), THING_ID_CACHE_AGGREGATOR);
+        final ActorRef thingsAggregatorProxy = context.actorOf(ThingsAggregatorProxyActor.props(thingsAggregator),
+                THING_ID_CACHE_AGGREGATOR_PROXY);
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingEnforcerIdCacheLoader =
-                new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy);
+                new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy, thingsAggregatorProxy);
         final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, cachesConfig.getIdCacheConfig(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy,
+                        cachesConfig.isUpdateEnforcersFromEvents());
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        EnforcerWeigher.getInstance());
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
                 new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
-                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        EnforcerWeigher.getInstance());
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final PreEnforcer preEnforcer = newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
+        final PreEnforcer preEnforcer = DefaultPreEnforcer.of(blockedNamespaces, PlaceholderSubstitution.newInstance());
 
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context);
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
                 policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
-        enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
+        enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache,
+                cachesConfig.isUpdateEnforcersFromEvents()));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
 
@@ -145,6 +144,11 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
         context.actorOf(cachedNamespaceInvalidatorProps, CachedNamespaceInvalidator.ACTOR_NAME);
 
+        if (cachesConfig.isUpdateEnforcersFromEvents()) {
+            context.actorOf(PolicyEnforcerCacheUpdater.props(pubSubMediator, policyEnforcerCache),
+                    PolicyEnforcerCacheUpdater.ACTOR_NAME);
+        }
+
         // start cluster singleton that writes to the distributed cache of blocked namespaces
         final Props blockedNamespacesUpdaterProps = BlockedNamespacesUpdater.props(blockedNamespaces, pubSubMediator);
         ClusterUtil.startSingleton(actorSystem, actorSystem, CLUSTER_ROLE,
@@ -166,43 +170,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
      * @return A copy of the signal with the header "ditto-originator" set.
      */
     public static <T extends WithDittoHeaders<T>> WithDittoHeaders<T> setOriginatorHeader(final T originalSignal) {
-        final DittoHeaders dittoHeaders = originalSignal.getDittoHeaders();
-        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
-        return authorizationContext.getFirstAuthorizationSubject()
-                .map(AuthorizationSubject::getId)
-                .map(originatorSubjectId -> DittoHeaders.newBuilder(dittoHeaders)
-                        .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), originatorSubjectId)
-                        .build())
-                .map(originalSignal::setDittoHeaders)
-                .orElse(originalSignal);
-    }
-
-    private static PreEnforcer newPreEnforcer(final BlockedNamespaces blockedNamespaces,
-            final PlaceholderSubstitution placeholderSubstitution) {
-
-        return withDittoHeaders ->
-                BlockNamespaceBehavior.of(blockedNamespaces)
-                        .block(withDittoHeaders)
-                        .thenApply(CommandWithOptionalEntityValidator.getInstance())
-                        .thenApply(DefaultEnforcerActorFactory::prependDefaultNamespaceToCreateThing)
-                        .thenApply(DefaultEnforcerActorFactory::setOriginatorHeader)
-                        .thenCompose(placeholderSubstitution);
-    }
-
-    private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders<?> signal) {
-        if (signal instanceof CreateThing) {
-            final CreateThing createThing = (CreateThing) signal;
-            final Thing thing = createThing.getThing();
-            final Optional<String> namespace = thing.getNamespace();
-            if (namespace.isEmpty()) {
-                final Thing thingInDefaultNamespace = thing.toBuilder()
-                        .setId(ThingId.of(DEFAULT_NAMESPACE, createThing.getThingEntityId().toString()))
-                        .build();
-                final JsonObject initialPolicy = createThing.getInitialPolicy().orElse(null);
-                return CreateThing.of(thingInDefaultNamespace, initialPolicy, createThing.getDittoHeaders());
-            }
-        }
-        return signal;
+        return DefaultPreEnforcer.setOriginatorHeader(originalSignal);
     }
 
 }
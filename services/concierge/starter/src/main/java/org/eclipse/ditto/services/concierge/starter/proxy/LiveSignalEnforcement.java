@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.enforcement;
+package org.eclipse.ditto.services.concierge.starter.proxy;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.ditto.services.models.policies.Permission.WRITE;
@@ -32,6 +32,13 @@ import org.eclipse.ditto.model.policies.PoliciesResourceType;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.UnknownCommandException;
+import org.eclipse.ditto.services.concierge.enforcement.AbstractEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.Contextual;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcerRetriever;
+import org.eclipse.ditto.services.concierge.enforcement.PolicyOrAclEnforcerRetrieverFactory;
+import org.eclipse.ditto.services.concierge.enforcement.ResponseReceiver;
+import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.policies.Permission;
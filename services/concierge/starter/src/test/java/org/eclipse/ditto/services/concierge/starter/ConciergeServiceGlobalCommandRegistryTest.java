@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.starter;
 
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActors;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
@@ -37,6 +38,7 @@ public final class ConciergeServiceGlobalCommandRegistryTest extends GlobalComma
 
     public ConciergeServiceGlobalCommandRegistryTest() {
         super(SudoStreamPids.class,
+                RebalanceClientActors.class,
                 SudoRetrieveThing.class,
                 SudoRetrievePolicy.class,
                 SudoCountThings.class,
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.starter;
 
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActorsResponse;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReportResponse;
@@ -39,6 +40,7 @@ public final class ConciergeServiceGlobalCommandResponseRegistryTest extends Glo
 
     public ConciergeServiceGlobalCommandResponseRegistryTest() {
         super(SudoRetrieveThingResponse.class,
+                RebalanceClientActorsResponse.class,
                 SudoRetrievePolicyResponse.class,
                 QueryThingsResponse.class,
                 RetrieveConnectionResponse.class,
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.enforcement;
+package org.eclipse.ditto.services.concierge.starter.proxy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
@@ -51,9 +51,16 @@ import org.eclipse.ditto.model.things.AclEntry;
 import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.concierge.enforcement.MockEntitiesActor;
+import org.eclipse.ditto.services.concierge.enforcement.TestSetup;
+import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.messages.MessageCommand;
 import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
 import org.eclipse.ditto.signals.commands.messages.SendFeatureMessage;
@@ -504,7 +511,10 @@ public final class LiveSignalEnforcementTest {
     }
 
     private ActorRef newEnforcerActor(final ActorRef testActorRef) {
-        return TestSetup.newEnforcerActor(system, testActorRef, mockEntitiesActor);
+        return TestSetup.newEnforcerActor(system, testActorRef, mockEntitiesActor,
+                (pubSubMediator, thingIdCache, policyEnforcerCache, aclEnforcerCache) ->
+                        new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                                new DummyLiveSignalPub(pubSubMediator)));
     }
 
     private static JsonObject newThingWithPolicyId(final CharSequence policyId) {
@@ -569,4 +579,59 @@ public final class LiveSignalEnforcementTest {
         return AttributeModified.of(THING_ID, JsonPointer.of("foo"), JsonValue.of("bar"), 1L, headers());
     }
 
+    private static final class DummyLiveSignalPub implements LiveSignalPub {
+
+        private final ActorRef pubSubMediator;
+
+        private DummyLiveSignalPub(final ActorRef pubSubMediator) {
+            this.pubSubMediator = pubSubMediator;
+        }
+
+        @Override
+        public DistributedPub<Command> command() {
+            return new DistributedPub<>() {
+                @Override
+                public ActorRef getPublisher() {
+                    return pubSubMediator;
+                }
+
+                @Override
+                public Object wrapForPublication(final Command message) {
+                    return DistPubSubAccess.publish(StreamingType.LIVE_COMMANDS.getDistributedPubSubTopic(), message);
+                }
+            };
+        }
+
+        @Override
+        public DistributedPub<Event> event() {
+            return new DistributedPub<>() {
+                @Override
+                public ActorRef getPublisher() {
+                    return pubSubMediator;
+                }
+
+                @Override
+                public Object wrapForPublication(final Event message) {
+                    return DistPubSubAccess.publish(StreamingType.LIVE_EVENTS.getDistributedPubSubTopic(), message);
+                }
+            };
+        }
+
+        @Override
+        public DistributedPub<Signal> message() {
+            return new DistributedPub<>() {
+                @Override
+                public ActorRef getPublisher() {
+                    return pubSubMediator;
+                }
+
+                @Override
+                public Object wrapForPublication(final Signal message) {
+                    return DistPubSubAccess.publish(StreamingType.MESSAGES.getDistributedPubSubTopic(), message);
+                }
+            };
+        }
+
+    }
+
 }
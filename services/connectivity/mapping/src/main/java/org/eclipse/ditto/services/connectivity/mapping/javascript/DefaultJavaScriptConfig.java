@@ -33,11 +33,13 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
     private final int maxScriptSizeBytes;
     private final Duration maxScriptExecutionTime;
     private final int maxScriptStackDepth;
+    private final int optimizationLevel;
 
     private DefaultJavaScriptConfig(final ScopedConfig config) {
         maxScriptSizeBytes = config.getInt(JavaScriptConfigValue.MAX_SCRIPT_SIZE_BYTES.getConfigPath());
         maxScriptExecutionTime = config.getDuration(JavaScriptConfigValue.MAX_SCRIPT_EXECUTION_TIME.getConfigPath());
         maxScriptStackDepth = config.getInt(JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath());
+        optimizationLevel = config.getInt(JavaScriptConfigValue.OPTIMIZATION_LEVEL.getConfigPath());
     }
 
     /**
@@ -67,6 +69,11 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
         return maxScriptStackDepth;
     }
 
+    @Override
+    public int getOptimizationLevel() {
+        return optimizationLevel;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -78,12 +85,13 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
         final DefaultJavaScriptConfig that = (DefaultJavaScriptConfig) o;
         return maxScriptSizeBytes == that.maxScriptSizeBytes &&
                 maxScriptStackDepth == that.maxScriptStackDepth &&
+                optimizationLevel == that.optimizationLevel &&
                 Objects.equals(maxScriptExecutionTime, that.maxScriptExecutionTime);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxScriptSizeBytes, maxScriptExecutionTime, maxScriptStackDepth);
+        return Objects.hash(maxScriptSizeBytes, maxScriptExecutionTime, maxScriptStackDepth, optimizationLevel);
     }
 
     @Override
@@ -92,6 +100,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
                 "maxScriptSizeBytes=" + maxScriptSizeBytes +
                 ", maxScriptExecutionTime=" + maxScriptExecutionTime +
                 ", maxScriptStackDepth=" + maxScriptStackDepth +
+                ", optimizationLevel=" + optimizationLevel +
                 "]";
     }
 
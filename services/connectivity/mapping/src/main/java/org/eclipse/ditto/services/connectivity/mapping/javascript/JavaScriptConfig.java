@@ -49,6 +49,16 @@ public interface JavaScriptConfig {
      */
     int getMaxScriptStackDepth();
 
+    /**
+     * Returns the Rhino optimization level the mapping scripts are compiled with.
+     * {@code -1} compiles the scripts for the interpreter, {@code 0} to {@code 9} compile them to JVM bytecode.
+     * The maximum script stack depth is only enforced for interpreted scripts.
+     *
+     * @return the optimization level.
+     * @since 1.2.0
+     */
+    int getOptimizationLevel();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -68,7 +78,12 @@ public interface JavaScriptConfig {
         /**
          * The maximum call stack depth in the mapping script.
          */
-        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10);
+        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10),
+
+        /**
+         * The Rhino optimization level the mapping scripts are compiled with.
+         */
+        OPTIMIZATION_LEVEL("optimizationLevel", -1);
 
         private final String path;
         private final Object defaultValue;
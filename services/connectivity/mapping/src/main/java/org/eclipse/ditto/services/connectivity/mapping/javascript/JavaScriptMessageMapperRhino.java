@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,13 +28,17 @@ import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguration;
 import org.eclipse.ditto.services.connectivity.mapping.PayloadMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
-import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.Script;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
+ * The scripts are compiled once; each thread mapping concurrently uses its own scope of a
+ * {@link JavaScriptScopePool}.
  */
 @PayloadMapper(
         alias = {"JavaScript",
@@ -52,6 +57,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    /**
+     * Name of the histogram recording the durations of the script executions in nanoseconds.
+     */
+    private static final String MAPPING_DURATION_METRIC_NAME = "connectivity_javascript_mapping";
+    private static final String MAPPER_TAG = "mapper";
+    private static final String DIRECTION_TAG = "direction";
+    private static final String INBOUND = "inbound";
+    private static final String OUTBOUND = "outbound";
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -86,14 +100,13 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         }
 
         contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
+                javaScriptConfig.getMaxScriptStackDepth(), javaScriptConfig.getOptimizationLevel());
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // compile the scripts once and execute them in a pool of scopes in order to get best performance:
             contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
-                return scope;
+                initMappings(JavaScriptScopePool.of(cx, compileScripts(cx)));
+                return null;
             });
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
@@ -117,59 +130,73 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope) {
+    private List<Script> compileScripts(final Context cx) {
+        final List<Script> scripts = new ArrayList<>();
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            scripts.add(compileJavascriptLibrary(cx,
+                    new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)), WEBJARS_LONG));
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            scripts.add(compileJavascriptLibrary(cx,
+                    new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)), WEBJARS_BYTEBUFFER));
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        scripts.add(compileJavascriptLibrary(cx,
+                new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)), DITTO_SCOPE_SCRIPT));
+        scripts.add(compileJavascriptLibrary(cx,
+                new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)), INCOMING_SCRIPT));
+        scripts.add(compileJavascriptLibrary(cx,
+                new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)), OUTGOING_SCRIPT));
 
-        final String userIncomingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
-                .orElse("");
-        if (userIncomingScript.isEmpty()) {
+        getUserIncomingScript().ifPresent(script -> scripts.add(cx.compileString(script,
+                JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null)));
+        getUserOutgoingScript().ifPresent(script -> scripts.add(cx.compileString(script,
+                JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null)));
+
+        return scripts;
+    }
+
+    private void initMappings(final JavaScriptScopePool scopePool) {
+        if (getUserIncomingScript().isPresent()) {
+            incomingMapping = new ScriptedIncomingMapping(contextFactory, scopePool, mappingDurations(INBOUND));
+        } else {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
-        } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
         }
 
-        final String userOutgoingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
-                .orElse("");
-        if (userOutgoingScript.isEmpty()) {
+        if (getUserOutgoingScript().isPresent()) {
+            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scopePool, mappingDurations(OUTBOUND));
+        } else {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
-        } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
         }
     }
 
+    private Histogram mappingDurations(final String direction) {
+        return DittoMetrics.histogram(MAPPING_DURATION_METRIC_NAME)
+                .tag(MAPPER_TAG, getId())
+                .tag(DIRECTION_TAG, direction);
+    }
+
+    private Optional<String> getUserIncomingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
+                .filter(script -> !script.isEmpty());
+    }
+
+    private Optional<String> getUserOutgoingScript() {
+        return getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
+                .filter(script -> !script.isEmpty());
+    }
+
     private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
         return Optional.ofNullable(configuration);
     }
 
-    static void loadJavascriptLibrary(final Context cx,
-            final Scriptable scope,
-            final Reader reader,
-            final String libraryName) {
-
+    static Script compileJavascriptLibrary(final Context cx, final Reader reader, final String libraryName) {
         try {
-            cx.evaluateReader(scope, reader, libraryName, 1, null);
+            return cx.compileReader(reader, libraryName, 1, null);
         } catch (final IOException e) {
             throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
         }
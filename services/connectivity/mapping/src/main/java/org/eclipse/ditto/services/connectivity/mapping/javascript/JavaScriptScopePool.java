@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Pool of JavaScript scopes which all contain the same compiled scripts. Each scope is used by one thread at a time
+ * which allows mapping messages in parallel without the scripts of concurrent mappings seeing each other's global
+ * variables.
+ * <p>
+ * The standard objects are initialized once, sealed and shared by all scopes as prototype. Scopes are created on
+ * demand, thus the pool grows up to the number of threads mapping concurrently with the same mapper.
+ * </p>
+ */
+@ThreadSafe
+final class JavaScriptScopePool {
+
+    private final ScriptableObject sharedScope;
+    private final List<Script> scripts;
+    private final Queue<Scriptable> idleScopes;
+
+    private JavaScriptScopePool(final ScriptableObject sharedScope, final List<Script> scripts) {
+        this.sharedScope = sharedScope;
+        this.scripts = scripts;
+        idleScopes = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a pool whose scopes contain the given scripts. One scope is created eagerly so that errors in the
+     * scripts are detected right away.
+     *
+     * @param cx the current context.
+     * @param scripts the compiled scripts to execute in each scope, in order.
+     * @return the pool.
+     * @throws org.mozilla.javascript.RhinoException if executing the scripts failed.
+     */
+    static JavaScriptScopePool of(final Context cx, final List<Script> scripts) {
+        // that one disables "print, exit, quit", etc. - sealing prevents scripts from altering the shared objects
+        final ScriptableObject sharedScope = cx.initSafeStandardObjects(null, true);
+        final JavaScriptScopePool pool = new JavaScriptScopePool(sharedScope, scripts);
+        pool.idleScopes.add(pool.newScope(cx));
+        return pool;
+    }
+
+    /**
+     * Applies the given function to an idle scope of this pool. The scope is returned to the pool afterwards.
+     *
+     * @param cx the current context.
+     * @param function the function to apply.
+     * @param <T> the type of the function's result.
+     * @return the result of the function.
+     */
+    <T> T withScope(final Context cx, final BiFunction<Context, Scriptable, T> function) {
+        Scriptable scope = idleScopes.poll();
+        if (null == scope) {
+            scope = newScope(cx);
+        }
+        try {
+            return function.apply(cx, scope);
+        } finally {
+            idleScopes.offer(scope);
+        }
+    }
+
+    /**
+     * @return the number of scopes currently not in use.
+     */
+    int getIdleScopeCount() {
+        return idleScopes.size();
+    }
+
+    private Scriptable newScope(final Context cx) {
+        final Scriptable scope = cx.newObject(sharedScope);
+        scope.setPrototype(sharedScope);
+        scope.setParentScope(null);
+        scripts.forEach(script -> script.exec(cx, scope));
+        return scope;
+    }
+
+}
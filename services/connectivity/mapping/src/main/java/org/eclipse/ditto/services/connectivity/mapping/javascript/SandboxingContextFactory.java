@@ -29,13 +29,9 @@ final class SandboxingContextFactory extends ContextFactory {
      */
     private static final int INSTRUCTION_OBSERVER_THRESHOLD = 10000;
 
-    /**
-     * Use pure interpreter mode, otherwise max script exec time observation won't work.
-     */
-    private static final int OPTIMIZATION_LEVEL = -1;
-
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final int optimizationLevel;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -43,20 +39,26 @@ final class SandboxingContextFactory extends ContextFactory {
      * @param maxScriptExecutionTime the maximum execution time of a mapping script to run.
      * Prevents endless loops and too complex scripts.
      * @param maxStackDepth the maximum call stack depth in the mapping script. Prevents recursions or other too complex
-     * computation.
+     * computation. Only enforced in interpreted mode.
+     * @param optimizationLevel the Rhino optimization level, {@code -1} for interpreted mode.
      */
-    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth,
+            final int optimizationLevel) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        this.optimizationLevel = optimizationLevel;
     }
 
     @Override
     protected Context makeContext() {
         final StartTimeAwareContext cx = new StartTimeAwareContext(this);
-        cx.setOptimizationLevel(OPTIMIZATION_LEVEL);
+        cx.setOptimizationLevel(optimizationLevel);
+        // compiled scripts observe the instruction count as well, as long as they were compiled with a threshold set
         cx.setInstructionObserverThreshold(INSTRUCTION_OBSERVER_THRESHOLD);
         cx.setLanguageVersion(Context.VERSION_ES6);
-        cx.setMaximumInterpreterStackDepth(maxStackDepth);
+        if (optimizationLevel < 0) {
+            cx.setMaximumInterpreterStackDepth(maxStackDepth);
+        }
         return cx;
     }
 
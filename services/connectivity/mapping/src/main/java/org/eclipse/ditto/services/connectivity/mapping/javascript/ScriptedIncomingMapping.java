@@ -16,8 +16,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import javax.annotation.Nullable;
-
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -26,6 +24,7 @@ import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
@@ -47,27 +46,29 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
 
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
-    @Nullable
-    private ContextFactory contextFactory;
-    @Nullable
-    private Scriptable scope;
+    private final ContextFactory contextFactory;
+    private final JavaScriptScopePool scopePool;
+    private final Histogram mappingDurations;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedIncomingMapping(final ContextFactory contextFactory, final JavaScriptScopePool scopePool,
+            final Histogram mappingDurations) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
+        this.mappingDurations = mappingDurations;
     }
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
+        final long startNanos = System.nanoTime();
         try {
-            return contextFactory.call(cx -> {
+            return contextFactory.call(cx -> scopePool.withScope(cx, (context, scope) -> {
                 final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
 
                 final org.mozilla.javascript.Function
                         mapToDittoProtocolMsgWrapper =
                         (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
                 final Object result =
-                        mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
+                        mapToDittoProtocolMsgWrapper.call(context, scope, scope, new Object[]{externalMessage});
 
                 if (result == null) {
                     // return empty list if result is null
@@ -79,13 +80,13 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                     for (Object idxObj : jsArray.getIds()) {
                         int index = (Integer) idxObj;
                         final Object element = jsArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
+                        list.add(getAdaptableFromObject(context, scope, element));
                     }
                     return list;
                 }
 
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
-            });
+                return Collections.singletonList(getAdaptableFromObject(context, scope, result));
+            }));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
                     DittoHeaders.of(message.getHeaders()));
@@ -95,6 +96,8 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                     .dittoHeaders(DittoHeaders.of(message.getHeaders()))
                     .cause(e)
                     .build();
+        } finally {
+            mappingDurations.record(System.nanoTime() - startNanos);
         }
     }
 
@@ -122,7 +125,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         return externalMessage;
     }
 
-    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
+    private static Adaptable getAdaptableFromObject(final Context cx, final Scriptable scope, final Object result) {
         final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
 
         return DittoJsonException.wrapJsonRuntimeException(() -> {
@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.annotation.Nullable;
 import javax.script.Bindings;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -36,6 +35,7 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
@@ -59,26 +59,30 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
 
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
-    @Nullable private final ContextFactory contextFactory;
-    @Nullable private final Scriptable scope;
+    private final ContextFactory contextFactory;
+    private final JavaScriptScopePool scopePool;
+    private final Histogram mappingDurations;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedOutgoingMapping(final ContextFactory contextFactory, final JavaScriptScopePool scopePool,
+            final Histogram mappingDurations) {
         this.contextFactory = contextFactory;
-        this.scope = scope;
+        this.scopePool = scopePool;
+        this.mappingDurations = mappingDurations;
     }
 
     @Override
     public List<ExternalMessage> apply(final Adaptable adaptable) {
+        final long startNanos = System.nanoTime();
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
+            return contextFactory.call(cx -> scopePool.withScope(cx, (context, scope) -> {
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        NativeJSON.parse(context, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
 
                 final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
                         (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
                 final Object result =
-                        mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
+                        mapFromDittoProtocolMsgWrapper.call(context, scope, scope, new Object[]{dittoProtocolMessage});
 
                 if (result == null) {
                     // return empty list if result is null
@@ -95,7 +99,7 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
                     return list;
                 }
                 return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
-            });
+            }));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, MessageMapper.findContentType(adaptable).orElse(""),
                     adaptable.getHeaders().orElseGet(DittoHeaders::empty));
@@ -105,6 +109,8 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
                     .dittoHeaders(adaptable.getHeaders().orElseGet(DittoHeaders::empty))
                     .cause(e)
                     .build();
+        } finally {
+            mappingDurations.record(System.nanoTime() - startNanos);
         }
     }
 
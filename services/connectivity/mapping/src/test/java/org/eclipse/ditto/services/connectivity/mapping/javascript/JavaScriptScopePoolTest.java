@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mozilla.javascript.EvaluatorException;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Unit test for {@link JavaScriptScopePool}.
+ */
+public final class JavaScriptScopePoolTest {
+
+    private static final String SCRIPT = "var counter = 0;\n" +
+            "function increment() {\n" +
+            "  counter = counter + 1;\n" +
+            "  return counter;\n" +
+            "}\n";
+
+    private final SandboxingContextFactory contextFactory =
+            new SandboxingContextFactory(Duration.ofMillis(500), 10, -1);
+
+    @Test
+    public void idleScopeIsReused() {
+        final JavaScriptScopePool underTest = newPool();
+
+        assertThat(increment(underTest)).isEqualTo(1);
+        assertThat(increment(underTest)).isEqualTo(2);
+        assertThat(underTest.getIdleScopeCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void concurrentlyUsedScopesDoNotShareGlobalVariables() {
+        final JavaScriptScopePool underTest = newPool();
+
+        final Object nestedResult = contextFactory.call(cx -> underTest.withScope(cx, (outerCx, outerScope) -> {
+            call(outerCx, outerScope);
+            // the outer scope is in use, thus a new scope with its own counter is created
+            return underTest.withScope(outerCx, JavaScriptScopePoolTest::call);
+        }));
+
+        assertThat(nestedResult).isEqualTo(1);
+        assertThat(underTest.getIdleScopeCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void standardObjectsAreSealed() {
+        final JavaScriptScopePool underTest = newPool();
+
+        assertThatExceptionOfType(EvaluatorException.class).isThrownBy(() ->
+                contextFactory.call(cx -> underTest.withScope(cx, (context, scope) ->
+                        context.evaluateString(scope, "Object.prototype.foo = 'bar';", "test", 1, null))));
+    }
+
+    private JavaScriptScopePool newPool() {
+        return contextFactory.call(cx ->
+                JavaScriptScopePool.of(cx, Collections.singletonList(cx.compileString(SCRIPT, "test", 1, null))));
+    }
+
+    private Object increment(final JavaScriptScopePool pool) {
+        return contextFactory.call(cx -> pool.withScope(cx, JavaScriptScopePoolTest::call));
+    }
+
+    private static Object call(final org.mozilla.javascript.Context cx, final Scriptable scope) {
+        final org.mozilla.javascript.Function increment =
+                (org.mozilla.javascript.Function) scope.get("increment", scope);
+        return ((Number) increment.call(cx, scope, scope, new Object[0])).intValue();
+    }
+
+}
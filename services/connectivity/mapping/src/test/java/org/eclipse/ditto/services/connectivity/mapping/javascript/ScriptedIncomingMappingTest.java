@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.InputStreamReader;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Consumer;
@@ -25,9 +26,11 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.junit.Test;
+import org.mozilla.javascript.Context;
 import org.mozilla.javascript.NativeObject;
-import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.typedarrays.NativeArrayBuffer;
 
 public class ScriptedIncomingMappingTest {
@@ -114,31 +117,28 @@ public class ScriptedIncomingMappingTest {
     }
 
     private void testJavascript(final String scriptToTest, final Consumer<List<Adaptable>> mappedAdaptables) {
-        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
-        contextFactory.call(cx -> {
-            final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope, new InputStreamReader(
-                            getClass().getResourceAsStream(JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT)),
-                    JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT);
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope,
-                    new InputStreamReader(getClass().getResourceAsStream(JavaScriptMessageMapperRhino.INCOMING_SCRIPT)),
-                    JavaScriptMessageMapperRhino.INCOMING_SCRIPT);
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope,
-                    new InputStreamReader(getClass().getResourceAsStream(JavaScriptMessageMapperRhino.OUTGOING_SCRIPT)),
-                    JavaScriptMessageMapperRhino.OUTGOING_SCRIPT);
-
-            final ScriptedIncomingMapping incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, scriptToTest,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
-
-            final ExternalMessage externalMessage = ExternalMessageFactory
-                    .newExternalMessageBuilder(new HashMap<>())
-                    .withText(PAYLOAD)
-                    .build();
-            final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
-            mappedAdaptables.accept(adaptables);
-
-            return scope;
-        });
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10, -1);
+        final JavaScriptScopePool scopePool = contextFactory.call(cx ->
+                JavaScriptScopePool.of(cx, Arrays.asList(
+                        compileLibrary(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT),
+                        compileLibrary(cx, JavaScriptMessageMapperRhino.INCOMING_SCRIPT),
+                        compileLibrary(cx, JavaScriptMessageMapperRhino.OUTGOING_SCRIPT),
+                        cx.compileString(scriptToTest, JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT,
+                                1, null))));
+
+        final ScriptedIncomingMapping incomingMapping = new ScriptedIncomingMapping(contextFactory, scopePool,
+                DittoMetrics.histogram("test_javascript_mapping"));
+
+        final ExternalMessage externalMessage = ExternalMessageFactory
+                .newExternalMessageBuilder(new HashMap<>())
+                .withText(PAYLOAD)
+                .build();
+        final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
+        mappedAdaptables.accept(adaptables);
+    }
+
+    private Script compileLibrary(final Context cx, final String libraryName) {
+        return JavaScriptMessageMapperRhino.compileJavascriptLibrary(cx,
+                new InputStreamReader(getClass().getResourceAsStream(libraryName)), libraryName);
     }
-}
\ No newline at end of file
+}
@@ -14,7 +14,9 @@ package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
@@ -26,6 +28,7 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ConfirmableExternalMessage;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -33,8 +36,10 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 
+import akka.Done;
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.pattern.Patterns;
 
 /**
  * Base class for consumer actors that holds common fields and handles the address status.
@@ -75,6 +80,24 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         doForwardToMappingActor(message);
     }
 
+    /**
+     * Sends the message to the mapping actor and awaits the confirmation that it was mapped.
+     * In contrast to {@link #forwardToMappingActor(ExternalMessage)} this method may be called from outside of the
+     * actor's thread, e.g. from within a stream consuming the source.
+     *
+     * @param message the message to map.
+     * @param timeout how long to wait for the confirmation.
+     * @return a future which completes when the message was mapped or fails if the message could not be accepted
+     * for mapping within the timeout.
+     * @since 1.2.0
+     */
+    protected CompletionStage<Done> forwardToMappingActorAndAwaitConfirmation(final ExternalMessage message,
+            final Duration timeout) {
+
+        return Patterns.ask(messageMappingProcessor, ConfirmableExternalMessage.of(addReplyTarget(message)), timeout)
+                .thenApply(confirmation -> Done.getInstance());
+    }
+
     private void doForwardToMappingActor(final Object message) {
         messageMappingProcessor.forward(message, getContext());
     }
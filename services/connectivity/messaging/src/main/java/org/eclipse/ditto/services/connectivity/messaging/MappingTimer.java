@@ -12,31 +12,43 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreRegisteredTimer;
 import org.eclipse.ditto.services.utils.tracing.TracingTags;
 
 /**
- * This class helps to create {@link DittoMetrics#expiringTimer}s measuring the different segments of a mapping
- * operation.
+ * This class helps to measure the different segments of the mapping operations of one connection and direction.
+ * It uses {@link DittoMetrics#preRegisteredTimer}s which are created once per segment, mapper and outcome, so that
+ * measuring a single mapping does not allocate timer objects.
  */
 final class MappingTimer {
 
     private static final String TIMER_NAME = "connectivity_message_mapping";
     private static final String INBOUND = "inbound";
     private static final String OUTBOUND = "outbound";
+    private static final String OVERALL_SEGMENT_NAME = "overall";
     private static final String PAYLOAD_SEGMENT_NAME = "payload";
     private static final String PROTOCOL_SEGMENT_NAME = "protocol";
+    private static final String SEGMENT_TAG_NAME = "segment";
     private static final String DIRECTION_TAG_NAME = "direction";
     private static final String MAPPER_TAG_NAME = "mapper";
 
-    private final StartedTimer timer;
+    private final SegmentTimer overall;
+    private final SegmentTimer protocol;
+    private final PreRegisteredTimer payloadTimer;
+    private final Map<String, SegmentTimer> payloadTimersByMapper;
 
-    private MappingTimer(final StartedTimer timer) {
-        this.timer = timer;
+    private MappingTimer(final PreRegisteredTimer timer) {
+        overall = new SegmentTimer(timer.tag(SEGMENT_TAG_NAME, OVERALL_SEGMENT_NAME));
+        protocol = new SegmentTimer(timer.tag(SEGMENT_TAG_NAME, PROTOCOL_SEGMENT_NAME));
+        payloadTimer = timer.tag(SEGMENT_TAG_NAME, PAYLOAD_SEGMENT_NAME);
+        payloadTimersByMapper = new ConcurrentHashMap<>();
     }
 
     /**
@@ -44,7 +56,7 @@ final class MappingTimer {
      * @return a new {@link MappingTimer} instance ready to measure inbound mappings.
      */
     static MappingTimer inbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, INBOUND));
+        return new MappingTimer(newTimer(connectionId.toString(), INBOUND));
     }
 
     /**
@@ -52,7 +64,7 @@ final class MappingTimer {
      * @return a new {@link MappingTimer} instance ready to measure outbound mappings.
      */
     static MappingTimer outbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, OUTBOUND));
+        return new MappingTimer(newTimer(connectionId.toString(), OUTBOUND));
     }
 
     /**
@@ -61,11 +73,21 @@ final class MappingTimer {
      * @param runnable the runnable whose execution time to measure
      */
     void overall(final Runnable runnable) {
-        timed(timer, runnable);
+        overall.timed(() -> {
+            runnable.run();
+            return null;
+        });
     }
 
+    /**
+     * Measures the execution of the given supplier as 'overall' segment.
+     *
+     * @param supplier the supplier which is invoked and measured
+     * @param <T> result type of the given supplier
+     * @return the result of the supplier
+     */
     <T> T overall(final Supplier<T> supplier) {
-        return timed(timer, supplier);
+        return overall.timed(supplier);
     }
 
     /**
@@ -77,47 +99,54 @@ final class MappingTimer {
      * @return the result of the supplier
      */
     <T> T payload(final String mapper, final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PAYLOAD_SEGMENT_NAME).tag(MAPPER_TAG_NAME, mapper), supplier);
+        return payloadTimersByMapper.computeIfAbsent(mapper,
+                mapperId -> new SegmentTimer(payloadTimer.tag(MAPPER_TAG_NAME, mapperId)))
+                .timed(supplier);
     }
 
     /**
-     * Measures the execution of the given supplier using a separate 'protocol.
+     * Measures the execution of the given supplier using a separate 'protocol' segment.
      *
      * @param supplier the supplier which is invoked and measured
      * @param <T> result type of the given supplier
      * @return the result of the supplier
      */
     <T> T protocol(final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PROTOCOL_SEGMENT_NAME), supplier);
+        return protocol.timed(supplier);
     }
 
-    private <T> T timed(final StartedTimer startedTimer, final Supplier<T> supplier) {
-        try {
-            final T result = supplier.get();
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, true).stop();
-            return result;
-        } catch (final Exception ex) {
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, false).stop();
-            throw ex;
-        }
+    private static PreRegisteredTimer newTimer(final String connectionId, final String direction) {
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(TracingTags.CONNECTION_ID, connectionId);
+        tags.put(DIRECTION_TAG_NAME, direction);
+        return DittoMetrics.preRegisteredTimer(TIMER_NAME, tags);
     }
 
-    private void timed(final StartedTimer startedTimer, final Runnable runnable) {
-        try {
-            runnable.run();
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, true).stop();
-        } catch (final Exception ex) {
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, false).stop();
-            throw ex;
+    /**
+     * Pair of timers of one segment recording successful and failed mappings separately.
+     */
+    private static final class SegmentTimer {
+
+        private final PreRegisteredTimer success;
+        private final PreRegisteredTimer failure;
+
+        private SegmentTimer(final PreRegisteredTimer timer) {
+            success = timer.tag(TracingTags.MAPPING_SUCCESS, true);
+            failure = timer.tag(TracingTags.MAPPING_SUCCESS, false);
+        }
+
+        private <T> T timed(final Supplier<T> supplier) {
+            final long startNanos = success.start();
+            try {
+                final T result = supplier.get();
+                success.recordSince(startNanos);
+                return result;
+            } catch (final Exception ex) {
+                failure.recordSince(startNanos);
+                throw ex;
+            }
         }
-    }
 
-    private static StartedTimer startNewTimer(final String connectionId) {
-        return DittoMetrics
-                .expiringTimer(TIMER_NAME)
-                .tag(TracingTags.CONNECTION_ID, connectionId)
-                .expirationHandling(expiredTimer -> expiredTimer.tag(TracingTags.MAPPING_SUCCESS, false))
-                .build();
     }
 
 }
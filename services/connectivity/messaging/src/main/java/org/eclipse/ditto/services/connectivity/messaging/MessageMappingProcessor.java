@@ -69,6 +69,8 @@ public final class MessageMappingProcessor {
     private final DittoDiagnosticLoggingAdapter logger;
     private final ProtocolAdapter protocolAdapter;
     private final DittoHeadersSizeChecker dittoHeadersSizeChecker;
+    private final MappingTimer inboundMappingTimer;
+    private final MappingTimer outboundMappingTimer;
 
     private MessageMappingProcessor(final ConnectionId connectionId,
             final MessageMapperRegistry registry,
@@ -81,6 +83,8 @@ public final class MessageMappingProcessor {
         this.logger = logger;
         this.protocolAdapter = protocolAdapter;
         this.dittoHeadersSizeChecker = dittoHeadersSizeChecker;
+        inboundMappingTimer = MappingTimer.inbound(connectionId);
+        outboundMappingTimer = MappingTimer.outbound(connectionId);
     }
 
     /**
@@ -143,9 +147,8 @@ public final class MessageMappingProcessor {
         logger.debug("Mappers resolved for message: {}", mappers);
         R result = resultHandler.emptyResult();
         for (final MessageMapper mapper : mappers) {
-            final MappingTimer mappingTimer = MappingTimer.inbound(connectionId);
-            final R mappingResult =
-                    mappingTimer.overall(() -> convertInboundMessage(mapper, message, mappingTimer, resultHandler));
+            final R mappingResult = inboundMappingTimer.overall(
+                    () -> convertInboundMessage(mapper, message, inboundMappingTimer, resultHandler));
             result = resultHandler.combineResults(result, mappingResult);
         }
         return result;
@@ -185,14 +188,15 @@ public final class MessageMappingProcessor {
                             e.getKey()))
                     .collect(Collectors.toList());
         }
-        return processMappableSignals(outboundSignal, mappableSignals, resultHandler);
+        return outboundMappingTimer.overall(
+                () -> processMappableSignals(outboundSignal, mappableSignals, resultHandler));
     }
 
     private <R> R processMappableSignals(final OutboundSignal outboundSignal,
             final List<OutboundSignal.Mappable> mappableSignals,
             final MappingResultHandler<OutboundSignal.Mapped, R> resultHandler) {
 
-        final MappingTimer timer = MappingTimer.outbound(connectionId);
+        final MappingTimer timer = outboundMappingTimer;
         final Adaptable adaptableWithoutExtra =
                 timer.protocol(() -> protocolAdapter.toAdaptable(outboundSignal.getSource()));
         final Adaptable adaptable = outboundSignal.getExtra()
@@ -72,6 +72,7 @@ import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ConfirmableExternalMessage;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -98,6 +99,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
+import akka.Done;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -105,6 +107,7 @@ import akka.actor.Status;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
@@ -143,7 +146,7 @@ public final class MessageMappingProcessorActor
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
-    private final SourceQueue<ExternalMessage> inboundSourceQueue;
+    private final SourceQueue<Pair<ExternalMessage, ActorRef>> inboundSourceQueue;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
 
     @SuppressWarnings("unused")
@@ -215,6 +218,7 @@ public final class MessageMappingProcessorActor
         receiveBuilder
                 // Incoming messages are handled in a separate stream parallelized by this actor's own dispatcher
                 .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(ConfirmableExternalMessage.class, this::handleConfirmableInboundMessage)
                 .match(Acknowledgement.class, acknowledgement ->
                         potentiallyForwardToAckregator(acknowledgement, () ->
                                 handleNotExpectedAcknowledgement(acknowledgement))
@@ -245,11 +249,12 @@ public final class MessageMappingProcessorActor
         logger.warning("Received Acknowledgement where non was expected, discarding it: {}", acknowledgement);
     }
 
-    private SourceQueue<ExternalMessage> materializeInboundStream(final int processorPoolSize) {
-        return Source.<ExternalMessage>queue(getBufferSize(), OverflowStrategy.dropNew())
+    private SourceQueue<Pair<ExternalMessage, ActorRef>> materializeInboundStream(final int processorPoolSize) {
+        return Source.<Pair<ExternalMessage, ActorRef>>queue(getBufferSize(), OverflowStrategy.dropNew())
                 // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                .mapAsync(processorPoolSize, externalMessage -> CompletableFuture.supplyAsync(
-                        () -> mapInboundMessage(externalMessage),
+                .mapAsync(processorPoolSize, messageAndConfirmationRecipient -> CompletableFuture.supplyAsync(
+                        () -> mapInboundMessageAndConfirm(messageAndConfirmationRecipient.first(),
+                                messageAndConfirmationRecipient.second()),
                         getContext().getDispatcher())
                 )
                 .flatMapConcat(signalSource -> signalSource)
@@ -471,7 +476,29 @@ public final class MessageMappingProcessorActor
 
     private void handleInboundMessage(final ExternalMessage externalMessage) {
         ConditionChecker.checkNotNull(externalMessage);
-        inboundSourceQueue.offer(externalMessage);
+        inboundSourceQueue.offer(Pair.create(externalMessage, ActorRef.noSender()));
+    }
+
+    private void handleConfirmableInboundMessage(final ConfirmableExternalMessage confirmableExternalMessage) {
+        final ActorRef sender = getSender();
+        inboundSourceQueue.offer(Pair.create(confirmableExternalMessage.getExternalMessage(), sender))
+                .thenAccept(result -> {
+                    if (!QueueOfferResult.enqueued().equals(result)) {
+                        sender.tell(new Status.Failure(new IllegalStateException(
+                                "Inbound message was not accepted for mapping: " + result)), ActorRef.noSender());
+                    }
+                });
+    }
+
+    private Source<Signal<?>, ?> mapInboundMessageAndConfirm(final ExternalMessage externalMessage,
+            @Nullable final ActorRef confirmationRecipient) {
+
+        final Source<Signal<?>, ?> mappedSignals = mapInboundMessage(externalMessage);
+        if (null != confirmationRecipient) {
+            // mapping is done eagerly, thus the message may be settled now
+            confirmationRecipient.tell(Done.getInstance(), ActorRef.noSender());
+        }
+        return mappedSignals;
     }
 
     private Source<Signal<?>, ?> mapInboundMessage(final ExternalMessage externalMessage) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the placement of client actors on the cluster members of the connectivity
+ * service.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface ClientPlacementConfig {
+
+    /**
+     * Indicates whether client actors are started on the connectivity instances with the least load instead of the
+     * instances with the fewest client actors of the same connection.
+     *
+     * @return whether load-aware placement is enabled.
+     */
+    boolean isLoadAware();
+
+    /**
+     * Returns how often each connectivity instance publishes its load to the other instances.
+     *
+     * @return the interval.
+     */
+    Duration getLoadReportInterval();
+
+    /**
+     * Returns how often each connectivity instance checks whether it is overloaded and migrates client actors to
+     * less loaded instances. Zero disables automatic rebalancing; it can still be triggered by a DevOps command.
+     *
+     * @return the interval.
+     */
+    Duration getRebalanceInterval();
+
+    /**
+     * Returns by which fraction the load of an instance has to exceed the average load of all instances for client
+     * actors to be migrated away from it.
+     *
+     * @return the threshold, e. g. {@code 0.5} for 50 %.
+     */
+    double getRebalanceThreshold();
+
+    /**
+     * Returns the maximum number of client actors an instance migrates in one rebalancing round.
+     *
+     * @return the maximum number of migrations.
+     */
+    int getMaxMigrationsPerRound();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ClientPlacementConfig}.
+     */
+    enum ClientPlacementConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether client actors are placed on the least loaded connectivity instances.
+         */
+        LOAD_AWARE("load-aware", false),
+
+        /**
+         * How often each instance publishes its load.
+         */
+        LOAD_REPORT_INTERVAL("load-report-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * How often each instance checks whether to migrate client actors; zero disables the check.
+         */
+        REBALANCE_INTERVAL("rebalance-interval", Duration.ZERO),
+
+        /**
+         * Fraction by which the load of an instance has to exceed the average to trigger migrations.
+         */
+        REBALANCE_THRESHOLD("rebalance-threshold", 0.5),
+
+        /**
+         * Maximum number of client actors migrated by one instance in one rebalancing round.
+         */
+        MAX_MIGRATIONS_PER_ROUND("max-migrations-per-round", 1);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ClientPlacementConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -87,6 +87,14 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     HttpPushConfig getHttpPushConfig();
 
+    /**
+     * Returns the config of the placement of client actors on the connectivity instances.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    ClientPlacementConfig getClientPlacementConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ConnectionConfig}.
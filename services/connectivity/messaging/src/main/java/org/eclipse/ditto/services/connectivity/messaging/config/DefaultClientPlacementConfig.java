@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ClientPlacementConfig}.
+ */
+@Immutable
+final class DefaultClientPlacementConfig implements ClientPlacementConfig {
+
+    private static final String CONFIG_PATH = "client-placement";
+
+    private final boolean loadAware;
+    private final Duration loadReportInterval;
+    private final Duration rebalanceInterval;
+    private final double rebalanceThreshold;
+    private final int maxMigrationsPerRound;
+
+    private DefaultClientPlacementConfig(final ScopedConfig config) {
+        loadAware = config.getBoolean(ClientPlacementConfigValue.LOAD_AWARE.getConfigPath());
+        loadReportInterval = config.getDuration(ClientPlacementConfigValue.LOAD_REPORT_INTERVAL.getConfigPath());
+        rebalanceInterval = config.getDuration(ClientPlacementConfigValue.REBALANCE_INTERVAL.getConfigPath());
+        rebalanceThreshold = config.getDouble(ClientPlacementConfigValue.REBALANCE_THRESHOLD.getConfigPath());
+        maxMigrationsPerRound = config.getInt(ClientPlacementConfigValue.MAX_MIGRATIONS_PER_ROUND.getConfigPath());
+    }
+
+    static DefaultClientPlacementConfig of(final Config config) {
+        return new DefaultClientPlacementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ClientPlacementConfigValue.values()));
+    }
+
+    @Override
+    public boolean isLoadAware() {
+        return loadAware;
+    }
+
+    @Override
+    public Duration getLoadReportInterval() {
+        return loadReportInterval;
+    }
+
+    @Override
+    public Duration getRebalanceInterval() {
+        return rebalanceInterval;
+    }
+
+    @Override
+    public double getRebalanceThreshold() {
+        return rebalanceThreshold;
+    }
+
+    @Override
+    public int getMaxMigrationsPerRound() {
+        return maxMigrationsPerRound;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultClientPlacementConfig that = (DefaultClientPlacementConfig) o;
+        return loadAware == that.loadAware &&
+                Double.compare(that.rebalanceThreshold, rebalanceThreshold) == 0 &&
+                maxMigrationsPerRound == that.maxMigrationsPerRound &&
+                Objects.equals(loadReportInterval, that.loadReportInterval) &&
+                Objects.equals(rebalanceInterval, that.rebalanceInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadAware, loadReportInterval, rebalanceInterval, rebalanceThreshold,
+                maxMigrationsPerRound);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "loadAware=" + loadAware +
+                ", loadReportInterval=" + loadReportInterval +
+                ", rebalanceInterval=" + rebalanceInterval +
+                ", rebalanceThreshold=" + rebalanceThreshold +
+                ", maxMigrationsPerRound=" + maxMigrationsPerRound +
+                "]";
+    }
+
+}
@@ -48,6 +48,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
     private final HttpPushConfig httpPushConfig;
+    private final ClientPlacementConfig clientPlacementConfig;
     private final ActivityCheckConfig activityCheckConfig;
 
     private DefaultConnectionConfig(final ConfigWithFallback config) {
@@ -62,6 +63,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
+        clientPlacementConfig = DefaultClientPlacementConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
     }
 
@@ -122,6 +124,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return httpPushConfig;
     }
 
+    @Override
+    public ClientPlacementConfig getClientPlacementConfig() {
+        return clientPlacementConfig;
+    }
+
     @Override
     public ActivityCheckConfig getActivityCheckConfig() {
         return activityCheckConfig;
@@ -145,13 +152,15 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
-                Objects.equals(httpPushConfig, that.httpPushConfig);
+                Objects.equals(httpPushConfig, that.httpPushConfig) &&
+                Objects.equals(clientPlacementConfig, that.clientPlacementConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig,
-                activityCheckConfig, acknowledgementConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig);
+                activityCheckConfig, acknowledgementConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig,
+                clientPlacementConfig);
     }
 
     @Override
@@ -166,6 +175,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
                 ", httpPushConfig=" + httpPushConfig +
+                ", clientPlacementConfig=" + clientPlacementConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 "]";
     }
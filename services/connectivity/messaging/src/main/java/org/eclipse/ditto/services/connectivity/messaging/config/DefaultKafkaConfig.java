@@ -12,14 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -28,11 +30,25 @@ import com.typesafe.config.Config;
 public final class DefaultKafkaConfig implements KafkaConfig {
 
     private static final String CONFIG_PATH = "kafka";
+    private static final String INTERNAL_CONSUMER_PATH = "consumer.internal";
+    private static final String COMMITTER_PATH = "committer";
 
     private final Config internalProducerConfig;
+    private final int producerQueueSize;
+    private final Config internalConsumerConfig;
+    private final Config committerConfig;
+    private final int consumerParallelism;
+    private final Duration consumerMappingTimeout;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        producerQueueSize = kafkaScopedConfig.getInt(KafkaConfigValue.PRODUCER_QUEUE_SIZE.getConfigPath());
+        internalConsumerConfig =
+                getWithLibraryDefaults(kafkaScopedConfig, INTERNAL_CONSUMER_PATH, "akka.kafka.consumer");
+        committerConfig = getWithLibraryDefaults(kafkaScopedConfig, COMMITTER_PATH, "akka.kafka.committer");
+        consumerParallelism = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_PARALLELISM.getConfigPath());
+        consumerMappingTimeout =
+                kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_MAPPING_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -43,7 +59,17 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
+    }
+
+    private static Config getWithLibraryDefaults(final ScopedConfig kafkaScopedConfig, final String path,
+            final String libraryPath) {
+
+        final Config libraryDefaults = ConfigFactory.defaultReference().getConfig(libraryPath);
+        if (kafkaScopedConfig.hasPath(path)) {
+            return kafkaScopedConfig.getConfig(path).withFallback(libraryDefaults);
+        }
+        return libraryDefaults;
     }
 
     @Override
@@ -51,6 +77,31 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public int getProducerQueueSize() {
+        return producerQueueSize;
+    }
+
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getCommitterConfig() {
+        return committerConfig;
+    }
+
+    @Override
+    public int getConsumerParallelism() {
+        return consumerParallelism;
+    }
+
+    @Override
+    public Duration getConsumerMappingTimeout() {
+        return consumerMappingTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +111,29 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return producerQueueSize == that.producerQueueSize &&
+                consumerParallelism == that.consumerParallelism &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(committerConfig, that.committerConfig) &&
+                Objects.equals(consumerMappingTimeout, that.consumerMappingTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, producerQueueSize, internalConsumerConfig, committerConfig,
+                consumerParallelism, consumerMappingTimeout);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", producerQueueSize=" + producerQueueSize +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", committerConfig=" + committerConfig +
+                ", consumerParallelism=" + consumerParallelism +
+                ", consumerMappingTimeout=" + consumerMappingTimeout +
                 "]";
     }
 
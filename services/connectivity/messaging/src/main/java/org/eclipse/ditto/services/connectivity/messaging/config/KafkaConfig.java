@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +34,93 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the maximum number of messages which are buffered for the producer. Further messages are dropped and
+     * reported as failures until the producer caught up.
+     *
+     * @return the size of the producer queue.
+     * @since 1.2.0
+     */
+    int getProducerQueueSize();
+
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka.
+     * Settings which are not configured fall back to the defaults of akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     * @since 1.2.0
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config of the committer which commits the offsets of consumed messages in batches.
+     * Settings which are not configured fall back to the defaults of akka-stream-kafka.
+     *
+     * @return the committer configuration needed by akka-stream-kafka client.
+     * @since 1.2.0
+     */
+    Config getCommitterConfig();
+
+    /**
+     * Returns how many partitions one consumer processes in parallel. Messages of the same partition are always
+     * processed in order.
+     *
+     * @return the consumer parallelism.
+     * @since 1.2.0
+     */
+    int getConsumerParallelism();
+
+    /**
+     * Returns how long a consumer waits for a consumed message to be mapped before the consumer is restarted and
+     * the message is consumed again.
+     *
+     * @return the mapping timeout.
+     * @since 1.2.0
+     */
+    Duration getConsumerMappingTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     *
+     * @since 1.2.0
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of messages which are buffered for the producer.
+         */
+        PRODUCER_QUEUE_SIZE("producer.queue-size", 1000),
+
+        /**
+         * How many partitions one consumer processes in parallel.
+         */
+        CONSUMER_PARALLELISM("consumer.parallelism", 8),
+
+        /**
+         * How long a consumer waits for a consumed message to be mapped.
+         */
+        CONSUMER_MAPPING_TIMEOUT("consumer.mapping-timeout", Duration.ofSeconds(30L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
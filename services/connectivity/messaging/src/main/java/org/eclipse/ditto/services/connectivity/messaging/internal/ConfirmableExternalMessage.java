@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Actor message wrapping an {@link ExternalMessage} whose sender expects {@link akka.Done} as soon as the message
+ * was mapped. Consumers use it to settle consumed messages only after they were mapped and to slow down consumption
+ * if mapping does not keep up.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class ConfirmableExternalMessage {
+
+    private final ExternalMessage externalMessage;
+
+    private ConfirmableExternalMessage(final ExternalMessage externalMessage) {
+        this.externalMessage = checkNotNull(externalMessage, "externalMessage");
+    }
+
+    /**
+     * Returns a new instance of {@code ConfirmableExternalMessage}.
+     *
+     * @param externalMessage the message to be mapped.
+     * @return the instance.
+     * @throws NullPointerException if {@code externalMessage} is {@code null}.
+     */
+    public static ConfirmableExternalMessage of(final ExternalMessage externalMessage) {
+        return new ConfirmableExternalMessage(externalMessage);
+    }
+
+    /**
+     * @return the message to be mapped.
+     */
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ConfirmableExternalMessage that = (ConfirmableExternalMessage) o;
+        return Objects.equals(externalMessage, that.externalMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(externalMessage);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "externalMessage=" + externalMessage +
+                "]";
+    }
+
+}
@@ -16,6 +16,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
 import akka.actor.Props;
 
@@ -53,8 +54,10 @@ public final class DefaultKafkaPublisherActorFactory implements KafkaPublisherAc
     }
 
     @Override
-    public Props props(final Connection connection, final KafkaConnectionFactory factory, final boolean dryRun) {
-        return KafkaPublisherActor.props(connection, factory, dryRun);
+    public Props props(final Connection connection, final KafkaConnectionFactory factory,
+            final KafkaConfig kafkaConfig, final boolean dryRun) {
+
+        return KafkaPublisherActor.props(connection, factory, kafkaConfig, dryRun);
     }
 
 }
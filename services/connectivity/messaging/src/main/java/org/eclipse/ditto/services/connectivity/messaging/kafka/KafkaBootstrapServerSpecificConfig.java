@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -80,9 +81,20 @@ final class KafkaBootstrapServerSpecificConfig implements KafkaSpecificConfig {
     }
 
     @Override
-    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+    public ProducerSettings<String, byte[]> apply(final ProducerSettings<String, byte[]> producerSettings,
             final Connection connection) {
 
+        return producerSettings.withBootstrapServers(getBootstrapServers(connection));
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        return consumerSettings.withBootstrapServers(getBootstrapServers(connection));
+    }
+
+    private String getBootstrapServers(final Connection connection) {
         final String mergedBootstrapServers;
         if (isValid(connection)) {
             final String bootstrapServerFromUri = getBootstrapServerFromUri(connection);
@@ -98,7 +110,7 @@ final class KafkaBootstrapServerSpecificConfig implements KafkaSpecificConfig {
                             " not have been stored with the invalid pattern.", connection.getId());
             mergedBootstrapServers = getBootstrapServerFromUri(connection);
         }
-        return producerSettings.withBootstrapServers(mergedBootstrapServers);
+        return mergedBootstrapServers;
     }
 
     private String getBootstrapServersFromSpecificConfig(final Connection connection) {
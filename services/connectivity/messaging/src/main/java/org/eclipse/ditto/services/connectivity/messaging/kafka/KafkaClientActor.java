@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +46,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -56,10 +60,11 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, conciergeForwarder, connectionActor);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
+        kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -141,24 +146,55 @@ public final class KafkaClientActor extends BaseClientActor {
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
+        // consumers are started by startConsumerActors once the publisher is ready
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
         log.info("Starting Kafka publisher actor.");
         // ensure no previous publisher stays in memory
         stopPublisherActor();
-        final Props publisherActorProps = publisherActorFactory.props(connection(), connectionFactory, dryRun);
+        final Props publisherActorProps = publisherActorFactory.props(connection(), connectionFactory, kafkaConfig,
+                dryRun);
         kafkaPublisherActor = startChildActorConflictFree(publisherActorFactory.getActorName(), publisherActorProps);
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
+        if (!isDryRun()) {
+            startKafkaConsumers();
+        }
+        return super.startConsumerActors(clientConnected);
+    }
+
+    private void startKafkaConsumers() {
+        log.info("Starting Kafka consumer actors.");
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        getSourcesOrEmptyList().forEach(source ->
+                source.getAddresses().forEach(sourceAddress -> {
+                    for (int i = 0; i < source.getConsumerCount(); i++) {
+                        final Props consumerActorProps = KafkaConsumerActor.props(connectionId(), sourceAddress,
+                                getMessageMappingProcessorActor(), source, connectionFactory, kafkaConfig);
+                        kafkaConsumerActors.add(startChildActorConflictFree(
+                                KafkaConsumerActor.ACTOR_NAME_PREFIX + sourceAddress + "-" + i,
+                                consumerActorProps));
+                    }
+                }));
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopConsumerActors();
         stopPublisherActor();
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         return CompletableFuture.completedFuture(DONE);
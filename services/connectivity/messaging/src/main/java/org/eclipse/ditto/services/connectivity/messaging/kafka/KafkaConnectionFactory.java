@@ -12,11 +12,21 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
+import akka.kafka.javadsl.Consumer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
  * Creates Kafka sinks.
@@ -36,6 +46,24 @@ interface KafkaConnectionFactory {
      * @param <T> type of the pass through object.
      * @return Akka stream flow that publishes Kafka messages to the broker.
      */
-    <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
+    <T> Flow<ProducerMessage.Envelope<String, byte[], T>, ProducerMessage.Results<String, byte[], T>, NotUsed> newFlow();
+
+    /**
+     * Create an Akka stream source of Kafka messages which emits one source per assigned partition.
+     *
+     * @param topics the topics to subscribe to.
+     * @return Akka stream source that consumes Kafka messages from the broker.
+     * @since 1.2.0
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>, Consumer.Control>
+    newPartitionedSource(Set<String> topics);
+
+    /**
+     * Create an Akka stream sink which commits offsets of consumed Kafka messages in batches.
+     *
+     * @return Akka stream sink that commits offsets to the broker.
+     * @since 1.2.0
+     */
+    Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink();
 
 }
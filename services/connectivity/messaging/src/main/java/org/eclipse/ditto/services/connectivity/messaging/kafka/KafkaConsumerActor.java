@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor which consumes messages from a Kafka topic and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * Each assigned partition is consumed by its own sub stream which processes one message at a time, so the order of
+ * messages within a partition is preserved. A message is only regarded as processed once the mapping actor confirmed
+ * that it was mapped, thus a slow mapping applies backpressure to the consumer. Offsets of processed messages are
+ * committed asynchronously in batches. If the stream fails, it is restarted after a delay and continues consuming
+ * from the last committed offsets.
+ * </p>
+ * <p>
+ * A message which can not be processed is reported as failure and skipped: its offset is not committed, but the
+ * offsets of the subsequent messages of the partition are. The consumer stream does not access the state of this
+ * actor, it pipes the outcome of each message back to the actor which logs and monitors it. Also, the mapping actor
+ * confirms a message once it was mapped, before its signals were dispatched. Thus messages whose offsets were
+ * committed may be lost if the service stops before their signals were dispatched, i.e. within this window the
+ * delivery is at most once.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class KafkaConsumerActor extends BaseConsumerActor {
+
+    /**
+     * The prefix of the name of consumer actors.
+     */
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    private static final String RESTART_CONSUMER = "restartConsumer";
+    private static final Duration RESTART_DELAY = Duration.ofSeconds(5L);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final KafkaConnectionFactory connectionFactory;
+    private final int consumerParallelism;
+    private final Duration mappingTimeout;
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final ActorMaterializer materializer;
+
+    @Nullable private Consumer.DrainingControl<Done> consumerControl;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef messageMappingProcessor, final Source source,
+            final KafkaConnectionFactory connectionFactory, final KafkaConfig kafkaConfig) {
+
+        super(connectionId, sourceAddress, messageMappingProcessor, source);
+        this.connectionFactory = connectionFactory;
+        consumerParallelism = kafkaConfig.getConsumerParallelism();
+        mappingTimeout = kafkaConfig.getConsumerMappingTimeout();
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(value -> EnforcementFactoryFactory.newEnforcementFilterFactory(value,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        materializer = ActorMaterializer.create(getContext().getSystem());
+        consumerControl = null;
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connectionId ID of the connection.
+     * @param sourceAddress the source address, i. e. the topic to consume.
+     * @param messageMappingProcessor the message mapping processor where received messages are forwarded to.
+     * @param source the configured connection source for the consumer actor.
+     * @param connectionFactory the factory which creates the Kafka consumer stream.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef messageMappingProcessor, final Source source,
+            final KafkaConnectionFactory connectionFactory, final KafkaConfig kafkaConfig) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, sourceAddress, messageMappingProcessor, source,
+                connectionFactory, kafkaConfig);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        startConsumerStream();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (consumerControl != null) {
+            // commit the offsets of all processed messages before the materializer is shut down
+            consumerControl.drainAndShutdown(getContext().getDispatcher())
+                    .whenComplete((done, error) -> materializer.shutdown());
+            consumerControl = null;
+        } else {
+            materializer.shutdown();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(DittoRuntimeException.class, this::forwardToMappingActor)
+                .match(MessageConsumed.class, consumed -> inboundMonitor.success(consumed.externalMessage))
+                .match(MessageSkipped.class, this::handleMessageSkipped)
+                .match(ConsumerStreamCompleted.class, this::handleConsumerStreamCompleted)
+                .match(Status.Failure.class, this::handleConsumerStreamFailed)
+                .matchEquals(RESTART_CONSUMER, restart -> restartConsumerStream())
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void startConsumerStream() {
+        log.info("Starting to consume topic <{}>.", sourceAddress);
+        final Sink<ConsumerMessage.Committable, CompletionStage<Done>> committerSink =
+                connectionFactory.newCommitterSink();
+        final ActorRef self = getSelf();
+        final Consumer.DrainingControl<Done> control = Consumer.createDrainingControl(
+                connectionFactory.newPartitionedSource(Collections.singleton(sourceAddress))
+                        .mapAsyncUnordered(consumerParallelism, partitionSource -> partitionSource.second()
+                                .mapAsync(1, message -> processMessage(message, self))
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                                .runWith(committerSink, materializer))
+                        .toMat(Sink.ignore(), Keep.both())
+                        .run(materializer));
+        consumerControl = control;
+
+        final ConsumerStreamCompleted completed = new ConsumerStreamCompleted(control);
+        Patterns.pipe(control.streamCompletion().thenApply(done -> completed), getContext().getDispatcher())
+                .to(getSelf());
+    }
+
+    private void handleConsumerStreamCompleted(final ConsumerStreamCompleted completed) {
+        if (completed.control == consumerControl) {
+            log.info("Consumer stream of topic <{}> completed.", sourceAddress);
+            consumerControl = null;
+        }
+    }
+
+    private void handleConsumerStreamFailed(final Status.Failure failure) {
+        final Throwable cause = failure.cause();
+        log.warning("Consumer stream of topic <{}> failed, restarting it in <{}>: {}", sourceAddress, RESTART_DELAY,
+                cause.getMessage());
+        inboundMonitor.getLogger().failure("Consuming topic <{0}> failed: {1}", sourceAddress, cause.getMessage());
+        handleAddressStatus(ConnectivityModelFactory.newStatusUpdate(InstanceIdentifierSupplier.getInstance().get(),
+                ConnectivityStatus.FAILED, sourceAddress, "Consumer failed: " + cause.getMessage(), Instant.now()));
+        consumerControl = null;
+        getTimers().startSingleTimer(RESTART_CONSUMER, RESTART_CONSUMER, RESTART_DELAY);
+    }
+
+    private void restartConsumerStream() {
+        if (consumerControl == null) {
+            resetResourceStatus();
+            startConsumerStream();
+        }
+    }
+
+    private void handleMessageSkipped(final MessageSkipped skipped) {
+        final Throwable cause = skipped.cause;
+        log.warning("Skipping message at offset <{}> of partition <{}> of topic <{}> which could not be processed: {}",
+                skipped.offset, skipped.partition, skipped.topic, cause.getMessage());
+        if (cause instanceof DittoRuntimeException && skipped.headers != null) {
+            // send response if headers were extracted successfully
+            forwardToMappingActor(((DittoRuntimeException) cause).setDittoHeaders(DittoHeaders.of(skipped.headers)));
+        }
+        inboundMonitor.failure(skipped.headers != null ? skipped.headers : Collections.emptyMap(),
+                "Skipped message at offset <{0}> of partition <{1}> of topic <{2}>: {3}",
+                String.valueOf(skipped.offset), String.valueOf(skipped.partition), skipped.topic, cause.getMessage());
+    }
+
+    /**
+     * Processes a consumed message. Called from within the consumer stream, thus it must not access the actor's
+     * state but reports the outcome to the actor.
+     *
+     * @param message the consumed message.
+     * @param self the reference of this actor to report the outcome to.
+     * @return a future which completes once the message was processed, either with the offset of the message to
+     * commit or with an empty Optional if the message could not be processed.
+     */
+    private CompletionStage<Optional<ConsumerMessage.Committable>> processMessage(
+            final ConsumerMessage.CommittableMessage<String, String> message, final ActorRef self) {
+
+        final ConsumerRecord<String, String> record = message.record();
+        final ConsumerMessage.Committable offset = message.committableOffset();
+        Map<String, String> headers = null;
+        try {
+            headers = extractHeadersFromRecord(record);
+            final ExternalMessageBuilder externalMessageBuilder =
+                    ExternalMessageFactory.newExternalMessageBuilder(headers);
+            externalMessageBuilder.withText(record.value());
+            externalMessageBuilder.withAuthorizationContext(source.getAuthorizationContext());
+            if (headerEnforcementFilterFactory != null) {
+                externalMessageBuilder.withEnforcement(headerEnforcementFilterFactory.getFilter(headers));
+            }
+            externalMessageBuilder.withHeaderMapping(source.getHeaderMapping().orElse(null));
+            externalMessageBuilder.withSourceAddress(sourceAddress);
+            externalMessageBuilder.withPayloadMapping(source.getPayloadMapping());
+            final ExternalMessage externalMessage = externalMessageBuilder.build();
+            self.tell(new MessageConsumed(externalMessage), ActorRef.noSender());
+            final Map<String, String> extractedHeaders = headers;
+            return forwardToMappingActorAndAwaitConfirmation(externalMessage, mappingTimeout)
+                    .thenApply(confirmed -> Optional.of(offset))
+                    .exceptionally(error -> {
+                        self.tell(new MessageSkipped(record, extractedHeaders, error), ActorRef.noSender());
+                        return Optional.empty();
+                    });
+        } catch (final Exception e) {
+            self.tell(new MessageSkipped(record, headers, e), ActorRef.noSender());
+        }
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    private static Map<String, String> extractHeadersFromRecord(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (header.value() != null) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Signals that a consumed message was forwarded to the mapping actor.
+     */
+    private static final class MessageConsumed {
+
+        private final ExternalMessage externalMessage;
+
+        private MessageConsumed(final ExternalMessage externalMessage) {
+            this.externalMessage = externalMessage;
+        }
+
+    }
+
+    /**
+     * Signals that a consumed message could not be processed and is skipped.
+     */
+    private static final class MessageSkipped {
+
+        private final String topic;
+        private final int partition;
+        private final long offset;
+        @Nullable private final Map<String, String> headers;
+        private final Throwable cause;
+
+        private MessageSkipped(final ConsumerRecord<String, String> record,
+                @Nullable final Map<String, String> headers, final Throwable cause) {
+            topic = record.topic();
+            partition = record.partition();
+            offset = record.offset();
+            this.headers = headers;
+            this.cause = cause;
+        }
+
+    }
+
+    /**
+     * Signals that a consumer stream completed without failure.
+     */
+    private static final class ConsumerStreamCompleted {
+
+        private final Consumer.DrainingControl<Done> control;
+
+        private ConsumerStreamCompleted(final Consumer.DrainingControl<Done> control) {
+            this.control = control;
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+import akka.kafka.ConsumerSettings;
+import akka.kafka.ProducerSettings;
+
+/**
+ * Applies the batching and compression settings of producers which may be tuned in the specific config of a
+ * connection:
+ * <ul>
+ *     <li>{@code lingerMs}: how long the producer waits for further messages to fill a batch,</li>
+ *     <li>{@code batchSize}: the maximum size of a batch in bytes,</li>
+ *     <li>{@code compressionType}: the compression of batches, one of {@code none}, {@code gzip}, {@code snappy},
+ *     {@code lz4} or {@code zstd}.</li>
+ * </ul>
+ * Settings which are not contained in the specific config keep the values of the service configuration.
+ *
+ * @since 1.2.0
+ */
+final class KafkaProducerTuningSpecificConfig implements KafkaSpecificConfig {
+
+    private static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    private static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+    private static final String SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY = "compressionType";
+
+    private static final Map<String, String> SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES;
+
+    static {
+        final Map<String, String> keysToProperties = new LinkedHashMap<>();
+        keysToProperties.put(SPECIFIC_CONFIG_LINGER_MS_KEY, ProducerConfig.LINGER_MS_CONFIG);
+        keysToProperties.put(SPECIFIC_CONFIG_BATCH_SIZE_KEY, ProducerConfig.BATCH_SIZE_CONFIG);
+        keysToProperties.put(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, ProducerConfig.COMPRESSION_TYPE_CONFIG);
+        SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES = Collections.unmodifiableMap(keysToProperties);
+    }
+
+    @Nullable private static KafkaProducerTuningSpecificConfig instance;
+
+    private KafkaProducerTuningSpecificConfig() {
+
+    }
+
+    public static KafkaProducerTuningSpecificConfig getInstance() {
+        KafkaProducerTuningSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerTuningSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES.keySet().stream().anyMatch(specificConfig::containsKey);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        for (final String key : SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES.keySet()) {
+            final String value = connection.getSpecificConfig().get(key);
+            if (null != value && !isValid(key, value)) {
+                final String message = MessageFormat.format(
+                        "The connection configuration contains an invalid value for <{0}>: <{1}>.", key, value);
+                throw ConnectionConfigurationInvalidException.newBuilder(message)
+                        .description(getDescription(key))
+                        .dittoHeaders(dittoHeaders)
+                        .build();
+            }
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        return SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES.keySet().stream().allMatch(key -> {
+            final String value = connection.getSpecificConfig().get(key);
+            return null == value || isValid(key, value);
+        });
+    }
+
+    @Override
+    public ProducerSettings<String, byte[]> apply(final ProducerSettings<String, byte[]> producerSettings,
+            final Connection connection) {
+
+        ProducerSettings<String, byte[]> result = producerSettings;
+        if (isValid(connection)) {
+            for (final Map.Entry<String, String> entry : SPECIFIC_CONFIG_KEYS_TO_PRODUCER_PROPERTIES.entrySet()) {
+                final String value = connection.getSpecificConfig().get(entry.getKey());
+                if (null != value) {
+                    result = result.withProperty(entry.getValue(), value.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        // only producers are tuned by this config
+        return consumerSettings;
+    }
+
+    private static boolean isValid(final String key, final String value) {
+        if (SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY.equals(key)) {
+            return isValidCompressionType(value.trim());
+        }
+        return isNonNegativeInteger(value.trim());
+    }
+
+    private static boolean isValidCompressionType(final String compressionType) {
+        try {
+            CompressionType.forName(compressionType);
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isNonNegativeInteger(final String value) {
+        try {
+            return Integer.parseInt(value) >= 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String getDescription(final String key) {
+        if (SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY.equals(key)) {
+            return "Allowed compression types are: <none>, <gzip>, <snappy>, <lz4> and <zstd>.";
+        }
+        return "The value has to be a non-negative integer.";
+    }
+
+}
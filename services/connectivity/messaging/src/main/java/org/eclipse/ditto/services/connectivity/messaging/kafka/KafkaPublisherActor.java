@@ -27,9 +27,11 @@ import org.apache.kafka.common.errors.AuthorizationException;
 import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -46,10 +48,11 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.kafka.ProducerMessage;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
-import akka.util.ByteString;
+import akka.stream.javadsl.SourceQueueWithComplete;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
@@ -59,21 +62,25 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final int queueSize;
 
     private boolean shuttingDown = false;
-    private ActorRef sourceActor;
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> sourceQueue;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
-            final boolean dryRun) {
+            final KafkaConfig kafkaConfig, final boolean dryRun) {
 
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        queueSize = kafkaConfig.getProducerQueueSize();
 
         startInternalKafkaProducer();
         reportInitialConnectionState();
@@ -84,15 +91,17 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
      *
      * @param connection the connection this publisher belongs to.
      * @param factory the factory to create Kafka connections with.
+     * @param kafkaConfig the Kafka configuration settings.
      * @param dryRun whether this publisher is only created for a test or not.
      * @return the Akka configuration Props object.
      */
-    static Props props(final Connection connection, final KafkaConnectionFactory factory, final boolean dryRun) {
+    static Props props(final Connection connection, final KafkaConnectionFactory factory,
+            final KafkaConfig kafkaConfig, final boolean dryRun) {
 
-        return Props.create(KafkaPublisherActor.class, connection, factory, dryRun);
+        return Props.create(KafkaPublisherActor.class, connection, factory, kafkaConfig, dryRun);
     }
 
-    private static Sink<ProducerMessage.Results<String, String, PassThrough>, CompletionStage<Done>> publishSuccessSink() {
+    private static Sink<ProducerMessage.Results<String, byte[], PassThrough>, CompletionStage<Done>> publishSuccessSink() {
 
         // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
         // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
@@ -131,23 +140,32 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
     private void publishMessage(final KafkaPublishTarget publishTarget, final ExternalMessage message,
             final PassThrough passThrough) {
 
-        final ProducerMessage.Envelope<String, String, PassThrough> kafkaMessage =
+        final ProducerMessage.Envelope<String, byte[], PassThrough> kafkaMessage =
                 mapExternalMessageToKafkaMessage(publishTarget, message, passThrough);
-        sourceActor.tell(kafkaMessage, getSelf());
+        sourceQueue.offer(kafkaMessage).whenComplete((result, error) -> {
+            if (null != error) {
+                passThrough.connectionMonitor.exception(message, "Message could not be published: {0}",
+                        error.getMessage());
+            } else if (!QueueOfferResult.enqueued().equals(result)) {
+                // the queue of the producer is full, thus the message is dropped instead of buffered without bound
+                passThrough.connectionMonitor.failure(message, "Message was dropped by the Kafka producer: {0}",
+                        result);
+            }
+        });
     }
 
     private boolean isDryRun() {
         return dryRun;
     }
 
-    private static ProducerMessage.Envelope<String, String, PassThrough> mapExternalMessageToKafkaMessage(
+    private static ProducerMessage.Envelope<String, byte[], PassThrough> mapExternalMessageToKafkaMessage(
             final KafkaPublishTarget publishTarget, final ExternalMessage externalMessage,
             final PassThrough passThrough) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final byte[] payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
-        final ProducerRecord<String, String> record =
+        final ProducerRecord<String, byte[]> record =
                 new ProducerRecord<>(publishTarget.getTopic(),
                         publishTarget.getPartition().orElse(null),
                         publishTarget.getKey().orElse(null),
@@ -163,17 +181,18 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 .collect(Collectors.toList());
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static byte[] mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> text.getBytes(StandardCharsets.UTF_8))
+                    .orElse(EMPTY_PAYLOAD);
         } else if (externalMessage.isBytesMessage()) {
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(ByteBufferUtils::toByteArray)
+                    .orElse(EMPTY_PAYLOAD);
 
         }
-        return "";
+        return EMPTY_PAYLOAD;
     }
 
     private Done handleCompletionOrFailure(final Done done, @Nullable final Throwable throwable) {
@@ -225,20 +244,22 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private void startInternalKafkaProducer() {
         logWithConnectionId().info("Starting internal Kafka producer.");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
     private void restartInternalKafkaProducer() {
         logWithConnectionId().info("Restarting internal Kafka producer");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
-    private ActorRef createInternalKafkaProducer(final KafkaConnectionFactory factory,
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> createInternalKafkaProducer(
+            final KafkaConnectionFactory factory,
             final BiFunction<Done, Throwable, Done> completionOrFailureHandler) {
 
-        final Pair<ActorRef, CompletionStage<Done>> materializedFlowedValues =
-                Source.<ProducerMessage.Envelope<String, String, PassThrough>>actorRef(100,
-                        OverflowStrategy.dropHead())
+        final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>>,
+                CompletionStage<Done>> materializedFlowedValues =
+                Source.<ProducerMessage.Envelope<String, byte[], PassThrough>>queue(queueSize,
+                        OverflowStrategy.dropNew())
                         .via(factory.newFlow())
                         .toMat(KafkaPublisherActor.publishSuccessSink(), Keep.both())
                         .run(ActorMaterializer.create(getContext()));
@@ -248,8 +269,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private void stopInternalKafkaProducer() {
         logWithConnectionId().info("Stopping internal Kafka producer.");
-        if (null != sourceActor) {
-            sourceActor.tell(new Status.Success("stopped"), ActorRef.noSender());
+        if (null != sourceQueue) {
+            sourceQueue.complete();
         }
     }
 
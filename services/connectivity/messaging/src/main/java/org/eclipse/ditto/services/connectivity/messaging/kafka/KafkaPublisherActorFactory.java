@@ -18,6 +18,7 @@ import java.util.List;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
 import akka.actor.Props;
 
@@ -38,9 +39,10 @@ public interface KafkaPublisherActorFactory extends Serializable {
      *
      * @param connection the connection.
      * @param factory the connection factory to use.
+     * @param kafkaConfig the Kafka configuration settings.
      * @param dryRun if the publisher actor should be started in dry-run mode.
      * @return the {@code Props} to create the publisher actor.
      */
-    Props props(Connection connection, KafkaConnectionFactory factory, boolean dryRun);
+    Props props(Connection connection, KafkaConnectionFactory factory, KafkaConfig kafkaConfig, boolean dryRun);
 
 }
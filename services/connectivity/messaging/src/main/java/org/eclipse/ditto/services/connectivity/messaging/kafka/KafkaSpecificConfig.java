@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -59,6 +60,19 @@ interface KafkaSpecificConfig {
      * @param connection the connection which contains the specific config.
      * @return the {@code producerSettings} enhanced with new configuration provided by the Kafka config.
      */
-    ProducerSettings<String, String> apply(ProducerSettings<String, String> producerSettings, Connection connection);
+    ProducerSettings<String, byte[]> apply(ProducerSettings<String, byte[]> producerSettings, Connection connection);
+
+    /**
+     * Apply this Kafka config to the given {@code consumerSettings}.
+     *
+     * This method will only add configuration to the {@code consumerSettings} if the config {@code isApplicable}
+     * and {@code isValid}.
+     *
+     * @param consumerSettings the consumer settings to which the Kafka config is appended.
+     * @param connection the connection which contains the specific config.
+     * @return the {@code consumerSettings} enhanced with new configuration provided by the Kafka config.
+     * @since 1.2.0
+     */
+    ConsumerSettings<String, String> apply(ConsumerSettings<String, String> consumerSettings, Connection connection);
 
 }
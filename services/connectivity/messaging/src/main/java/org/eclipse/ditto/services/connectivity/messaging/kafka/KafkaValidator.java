@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -53,7 +54,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS = Collections.unmodifiableList(
             Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerTuningSpecificConfig.getInstance()));
 
     /**
      * Returns an instance of the Kafka validator.
@@ -82,10 +84,15 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        source.getAddresses().forEach(address -> validateSourceAddress(address, dittoHeaders));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder(),
+                            PlaceholderFactory.newPolicyPlaceholder(),
+                            PlaceholderFactory.newEntityPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
@@ -99,6 +106,11 @@ public final class KafkaValidator extends AbstractProtocolValidator {
         validateAddress(addressWithoutPlaceholders, dittoHeaders, placeholderReplacement);
     }
 
+    private static void validateSourceAddress(final String address, final DittoHeaders dittoHeaders) {
+        // source addresses are plain topics which are subscribed to, thus placeholders are not supported
+        validateTopic(address, dittoHeaders, UUID.randomUUID().toString());
+    }
+
     private static void validateAddress(final String address, final DittoHeaders dittoHeaders,
             final String placeholderReplacement) {
 
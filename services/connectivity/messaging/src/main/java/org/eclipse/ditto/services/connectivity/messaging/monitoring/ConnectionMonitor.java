@@ -153,6 +153,18 @@ public interface ConnectionMonitor {
         failure(InfoProviderFactory.forHeaders(headers), dittoRuntimeException);
     }
 
+    /**
+     * Record a failure event.
+     * @param headers that were processed during the failure.
+     * @param message a custom message that is used for logging the event.
+     * @param messageArguments additional message arguments that are part of {@code message}.
+     * {@link java.text.MessageFormat#format(String, Object...)} is used for applying message arguments to {@code message}.
+     */
+    default void failure(final Map<String, String> headers, final String message, final Object... messageArguments) {
+        getLogger().failure(InfoProviderFactory.forHeaders(headers), message, messageArguments);
+        getCounter().recordFailure();
+    }
+
     /**
      * Record a failure event.
      * @param externalMessage that was processed during the failure.
@@ -339,6 +339,28 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
         return ConnectivityModelFactory.newTargetMetrics(aggregateMetrics(connectionId, MetricDirection.OUTBOUND));
     }
 
+    /**
+     * Sums up the messages consumed from sources and dispatched to targets within the last minute for each connection
+     * with messages in this registry. As the counters are incremented where the client actors run, the result is the
+     * load which the client actors on this instance put on it.
+     *
+     * @return the number of messages of the last minute of each connection with messages.
+     * @since 1.2.0
+     */
+    public Map<ConnectionId, Long> aggregateMessagesOfLastMinute() {
+        final Map<ConnectionId, Long> result = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            final MetricType metricType = counter.getMetricType();
+            if (MetricType.CONSUMED == metricType || MetricType.DISPATCHED == metricType) {
+                final long count = counter.getCountOfLastMinute();
+                if (count > 0) {
+                    result.merge(key.connectionId, count, Long::sum);
+                }
+            }
+        });
+        return result;
+    }
+
     /**
      * Merges the passed in {@link RetrieveConnectionMetricsResponse}s into each other returning a new {@link
      * RetrieveConnectionMetricsResponse} containing the merged information.
@@ -85,6 +85,15 @@ public final class DefaultConnectionMetricsCounter implements ConnectionMetricsC
         return address;
     }
 
+    /**
+     * @return the number of successful and failed operations within the last minute.
+     */
+    long getCountOfLastMinute() {
+        final Duration oneMinute = MeasurementWindow.ONE_MINUTE.getWindow();
+        return counter.getCounts(true).getOrDefault(oneMinute, 0L) +
+                counter.getCounts(false).getOrDefault(oneMinute, 0L);
+    }
+
     /**
      * Produces a {@link Measurement} for reporting.
      *
@@ -18,9 +18,12 @@ import static org.eclipse.ditto.services.models.connectivity.ConnectivityMessagi
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +31,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -70,6 +74,8 @@ import org.eclipse.ditto.services.connectivity.messaging.persistence.stages.Stag
 import org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.commands.ConnectionCreatedStrategies;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.commands.ConnectionDeletedStrategies;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.events.ConnectionEventStrategies;
+import org.eclipse.ditto.services.connectivity.messaging.placement.ClientActorPlacement;
+import org.eclipse.ditto.services.connectivity.messaging.placement.ConnectivityNodeLoads;
 import org.eclipse.ditto.services.connectivity.messaging.rabbitmq.RabbitMQValidator;
 import org.eclipse.ditto.services.connectivity.messaging.validation.CompoundConnectivityCommandInterceptor;
 import org.eclipse.ditto.services.connectivity.messaging.validation.ConnectionValidator;
@@ -80,6 +86,7 @@ import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.services.models.connectivity.placement.MigrateClientActor;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
@@ -114,13 +121,23 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.actor.Deploy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
 import akka.cluster.routing.ClusterRouterPool;
 import akka.cluster.routing.ClusterRouterPoolSettings;
 import akka.pattern.Patterns;
 import akka.persistence.RecoveryCompleted;
+import akka.remote.RemoteScope;
 import akka.routing.Broadcast;
+import akka.routing.ConsistentHashingGroup;
 import akka.routing.ConsistentHashingPool;
 import akka.routing.ConsistentHashingRouter;
 import akka.routing.Pool;
@@ -162,6 +179,12 @@ public final class ConnectionPersistenceActor
 
     @Nullable private ActorRef clientActorRouter;
 
+    // client actors deployed by this actor if their placement is load-aware
+    private final List<ActorRef> clientActors = new ArrayList<>();
+
+    // stopping client actors which are redeployed on the mapped instance once terminated
+    private final Map<ActorRef, Address> migratingClientActors = new HashMap<>();
+
     private final Duration clientActorAskTimeout;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
 
@@ -463,6 +486,10 @@ public final class ConnectionPersistenceActor
             handleAcknowledgement((Acknowledgement) message);
         } else if (message instanceof ThingSearchCommand) {
             forwardThingSearchCommandToClientActors((ThingSearchCommand<?>) message);
+        } else if (message instanceof MigrateClientActor) {
+            migrateClientActor((MigrateClientActor) message);
+        } else if (message instanceof Terminated) {
+            clientActorTerminated((Terminated) message);
         } else if (message instanceof Signal) {
             handleSignal((Signal<?>) message);
         } else if (message == CheckLoggingActive.INSTANCE) {
@@ -898,15 +925,19 @@ public final class ConnectionPersistenceActor
         if (entity != null && clientActorRouter == null && clientCount > 0) {
             log.info("Starting ClientActor for connection <{}> with <{}> clients.", entityId, clientCount);
             final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder, getSelf());
-            final ClusterRouterPoolSettings clusterRouterPoolSettings =
-                    new ClusterRouterPoolSettings(clientCount, clientActorsPerNode, true,
-                            Collections.singleton(CLUSTER_ROLE));
-            final Pool pool = new ConsistentHashingPool(clientCount);
-            final Props clusterRouterPoolProps =
-                    new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
-
-            // start client actor without name so it does not conflict with its previous incarnation
-            clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            if (config.getClientPlacementConfig().isLoadAware()) {
+                startClientActorsOnLeastLoadedInstances(props, clientCount);
+            } else {
+                final ClusterRouterPoolSettings clusterRouterPoolSettings =
+                        new ClusterRouterPoolSettings(clientCount, clientActorsPerNode, true,
+                                Collections.singleton(CLUSTER_ROLE));
+                final Pool pool = new ConsistentHashingPool(clientCount);
+                final Props clusterRouterPoolProps =
+                        new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
+
+                // start client actor without name so it does not conflict with its previous incarnation
+                clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            }
         } else if (clientActorRouter != null) {
             log.debug("ClientActor already started.");
         } else {
@@ -914,6 +945,125 @@ public final class ConnectionPersistenceActor
         }
     }
 
+    private void startClientActorsOnLeastLoadedInstances(final Props props, final int clientCount) {
+        final Collection<Address> instances = getConnectivityInstances();
+        final List<Address> selectedInstances = instances.isEmpty()
+                ? Collections.singletonList(Cluster.get(getContext().getSystem()).selfAddress())
+                : ClientActorPlacement.selectInstances(clientCount, clientActorsPerNode, instances,
+                ConnectivityNodeLoads.of(getContext().getSystem()).getLoads());
+        log.debug("Placing client actors on instances <{}>.", selectedInstances);
+        selectedInstances.forEach(address -> clientActors.add(deployClientActor(props, address)));
+        clientActorRouter = startClientActorGroup();
+    }
+
+    private ActorRef deployClientActor(final Props props, final Address address) {
+        // start client actor without name so it does not conflict with its previous incarnation
+        final ActorRef clientActor = getContext().actorOf(props.withDeploy(new Deploy(new RemoteScope(address))));
+        // also notified with addressTerminated if the member hosting the client actor is removed from the cluster
+        getContext().watch(clientActor);
+        return clientActor;
+    }
+
+    private ActorRef startClientActorGroup() {
+        final List<String> paths = clientActors.stream()
+                .map(clientActor -> clientActor.path().toSerializationFormat())
+                .collect(Collectors.toList());
+        return getContext().actorOf(new ConsistentHashingGroup(paths).props());
+    }
+
+    private void restartClientActorGroup() {
+        if (clientActorRouter != null) {
+            clientActorRouter.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        }
+        clientActorRouter = startClientActorGroup();
+    }
+
+    private void migrateClientActor(final MigrateClientActor command) {
+        enhanceLogUtil(command);
+        if (clientActorRouter == null || entity == null || clientActors.isEmpty() || !isDesiredStateOpen()) {
+            log.info("Ignoring <{}> as no load-aware client actors are running.", command);
+            return;
+        }
+        final Address from = AddressFromURIString.parse(command.getFrom());
+        final Address to = AddressFromURIString.parse(command.getTo());
+        final Optional<ActorRef> clientActorToMigrate = clientActors.stream()
+                .filter(clientActor -> getInstance(clientActor).equals(from))
+                .findAny();
+        final long clientActorsOnTarget = clientActors.stream()
+                .filter(clientActor -> getInstance(clientActor).equals(to))
+                .count() + migratingClientActors.values().stream().filter(to::equals).count();
+        if (!clientActorToMigrate.isPresent() || clientActorsOnTarget >= clientActorsPerNode ||
+                !getConnectivityInstances().contains(to)) {
+            log.info("Ignoring <{}> as it does not match the current placement of client actors.", command);
+            return;
+        }
+
+        // stop the old client actor before starting the new one so that they never connect at the same time;
+        // the new client actor is deployed once the old one is terminated
+        final ActorRef oldClientActor = clientActorToMigrate.get();
+        clientActors.remove(oldClientActor);
+        migratingClientActors.put(oldClientActor, to);
+        restartClientActorGroup();
+        log.info("Migrating client actor from <{}> to <{}>.", from, to);
+
+        Patterns.ask(oldClientActor, CloseConnection.of(entityId, command.getDittoHeaders()), clientActorAskTimeout)
+                .whenComplete((response, error) -> oldClientActor.tell(PoisonPill.getInstance(),
+                        ActorRef.noSender()));
+    }
+
+    private void clientActorTerminated(final Terminated terminated) {
+        final ActorRef clientActor = terminated.getActor();
+        final Address migrationTarget = migratingClientActors.remove(clientActor);
+        if (migrationTarget == null && !clientActors.remove(clientActor)) {
+            log.debug("Ignoring termination of <{}> which is no running client actor.", clientActor);
+            return;
+        }
+        if (clientActorRouter == null || entity == null || !isDesiredStateOpen()) {
+            return;
+        }
+        if (migrationTarget != null && getConnectivityInstances().contains(migrationTarget)) {
+            final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder, getSelf());
+            clientActors.add(deployClientActor(props, migrationTarget));
+            log.info("Migrated client actor <{}> to <{}>.", clientActor, migrationTarget);
+            restartClientActorGroup();
+            return;
+        }
+        log.warning("Client actor <{}> terminated, address terminated: <{}>.", clientActor,
+                terminated.getAddressTerminated());
+
+        // the member of a terminated address may still be listed until it is removed from the cluster
+        final Address terminatedInstance = getInstance(clientActor);
+        final List<Address> candidates = getConnectivityInstances().stream()
+                .filter(address -> !terminated.getAddressTerminated() || !address.equals(terminatedInstance))
+                .collect(Collectors.toList());
+        final List<Address> runningClients = clientActors.stream()
+                .map(this::getInstance)
+                .collect(Collectors.toList());
+        final List<Address> selectedInstances = ClientActorPlacement.selectInstances(1, clientActorsPerNode,
+                candidates, ConnectivityNodeLoads.of(getContext().getSystem()).getLoads(), runningClients);
+        if (selectedInstances.isEmpty()) {
+            log.warning("No connectivity instance can host the client actor replacing <{}>.", clientActor);
+        } else {
+            final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder, getSelf());
+            clientActors.add(deployClientActor(props, selectedInstances.get(0)));
+            log.info("Redeployed terminated client actor on <{}>.", selectedInstances.get(0));
+        }
+        restartClientActorGroup();
+    }
+
+    private Address getInstance(final ActorRef clientActor) {
+        final Address address = clientActor.path().address();
+        return address.hasGlobalScope() ? address : Cluster.get(getContext().getSystem()).selfAddress();
+    }
+
+    private Collection<Address> getConnectivityInstances() {
+        return StreamSupport.stream(Cluster.get(getContext().getSystem()).state().getMembers().spliterator(), false)
+                .filter(member -> member.status() == MemberStatus.up())
+                .filter(member -> member.hasRole(CLUSTER_ROLE))
+                .map(Member::address)
+                .collect(Collectors.toList());
+    }
+
     private int getClientCount() {
         return entity == null ? 0 : entity.getClientCount();
     }
@@ -924,6 +1074,16 @@ public final class ConnectionPersistenceActor
             log.debug("Stopping the client actor.");
             stopChildActor(clientActorRouter);
             clientActorRouter = null;
+            clientActors.forEach(clientActor -> {
+                getContext().unwatch(clientActor);
+                stopChildActor(clientActor);
+            });
+            clientActors.clear();
+            migratingClientActors.keySet().forEach(clientActor -> {
+                getContext().unwatch(clientActor);
+                stopChildActor(clientActor);
+            });
+            migratingClientActors.clear();
         }
     }
 
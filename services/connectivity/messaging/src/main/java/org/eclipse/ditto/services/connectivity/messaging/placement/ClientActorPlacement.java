@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+
+import akka.actor.Address;
+
+/**
+ * Decides on which connectivity instances client actors are started and which client actors an overloaded instance
+ * migrates. The load of an instance is the number of messages per minute which its client actors consumed or
+ * dispatched; instances without reported load count as idle.
+ */
+@Immutable
+public final class ClientActorPlacement {
+
+    private ClientActorPlacement() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Selects the instances to start the client actors of one connection on. The client actors are spread over as
+     * many instances as possible; among instances hosting the same number of them, the least loaded instance is
+     * chosen. Fewer addresses than requested are returned if the instances cannot host all client actors.
+     *
+     * @param clientCount the number of client actors to start.
+     * @param maxClientsPerInstance how many client actors of the connection one instance may host.
+     * @param candidates the addresses of the available connectivity instances.
+     * @param loads the known loads of the instances.
+     * @return one address per client actor to start.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static List<Address> selectInstances(final int clientCount, final int maxClientsPerInstance,
+            final Collection<Address> candidates, final Map<Address, Long> loads) {
+
+        return selectInstances(clientCount, maxClientsPerInstance, candidates, loads, Collections.emptyList());
+    }
+
+    /**
+     * Selects the instances to start further client actors of one connection on, taking into account where its other
+     * client actors already run.
+     *
+     * @param clientCount the number of client actors to start.
+     * @param maxClientsPerInstance how many client actors of the connection one instance may host.
+     * @param candidates the addresses of the available connectivity instances.
+     * @param loads the known loads of the instances.
+     * @param runningClients the addresses of the instances the running client actors of the connection are placed on,
+     * one per client actor.
+     * @return one address per client actor to start.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static List<Address> selectInstances(final int clientCount, final int maxClientsPerInstance,
+            final Collection<Address> candidates, final Map<Address, Long> loads,
+            final Collection<Address> runningClients) {
+
+        checkNotNull(candidates, "candidates");
+        checkNotNull(loads, "loads");
+        checkNotNull(runningClients, "runningClients");
+        final Map<Address, Integer> assigned = new HashMap<>();
+        runningClients.forEach(address -> assigned.merge(address, 1, Integer::sum));
+        final Comparator<Address> byAssignedThenLoad =
+                Comparator.<Address>comparingInt(address -> assigned.getOrDefault(address, 0))
+                        .thenComparingLong(address -> loads.getOrDefault(address, 0L))
+                        .thenComparing(Address::toString);
+        final List<Address> result = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; ++i) {
+            final Optional<Address> selected = candidates.stream()
+                    .filter(address -> assigned.getOrDefault(address, 0) < maxClientsPerInstance)
+                    .min(byAssignedThenLoad);
+            if (selected.isEmpty()) {
+                break;
+            }
+            assigned.merge(selected.get(), 1, Integer::sum);
+            result.add(selected.get());
+        }
+        return result;
+    }
+
+    /**
+     * Plans which client actors an instance migrates to other instances. Migrations are planned only if the load of
+     * the instance exceeds the average load of all instances by more than the threshold. The busiest connections whose
+     * load fits into the excess over the average are moved to the least loaded instances, so that no migration makes
+     * the target busier than the source was.
+     *
+     * @param self the address of the planning instance.
+     * @param instances the addresses of all connectivity instances including {@code self}.
+     * @param loads the known loads of the instances.
+     * @param connectionLoads the load of each connection whose client actor runs on {@code self}.
+     * @param threshold fraction by which the load of {@code self} has to exceed the average.
+     * @param maxMigrations the maximum number of migrations to plan.
+     * @return the planned migrations.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static List<Migration> planMigrations(final Address self, final Collection<Address> instances,
+            final Map<Address, Long> loads, final Map<ConnectionId, Long> connectionLoads, final double threshold,
+            final int maxMigrations) {
+
+        checkNotNull(self, "self");
+        checkNotNull(instances, "instances");
+        checkNotNull(loads, "loads");
+        checkNotNull(connectionLoads, "connectionLoads");
+        if (instances.size() < 2 || !instances.contains(self)) {
+            return Collections.emptyList();
+        }
+        final Map<Address, Long> projectedLoads = new HashMap<>();
+        instances.forEach(address -> projectedLoads.put(address, loads.getOrDefault(address, 0L)));
+        final double average =
+                projectedLoads.values().stream().mapToLong(Long::longValue).sum() / (double) instances.size();
+        final long selfLoad = projectedLoads.get(self);
+        if (selfLoad <= average * (1.0 + threshold)) {
+            return Collections.emptyList();
+        }
+        long excess = selfLoad - Math.round(average);
+
+        final List<Map.Entry<ConnectionId, Long>> busiestFirst = new ArrayList<>(connectionLoads.entrySet());
+        busiestFirst.sort(Map.Entry.<ConnectionId, Long>comparingByValue().reversed());
+        final List<Migration> result = new ArrayList<>();
+        for (final Map.Entry<ConnectionId, Long> connectionLoad : busiestFirst) {
+            if (result.size() >= maxMigrations || excess <= 0) {
+                break;
+            }
+            final long load = connectionLoad.getValue();
+            final Address target = projectedLoads.entrySet()
+                    .stream()
+                    .filter(entry -> !self.equals(entry.getKey()))
+                    .min(Map.Entry.<Address, Long>comparingByValue()
+                            .thenComparing(entry -> entry.getKey().toString()))
+                    .map(Map.Entry::getKey)
+                    .orElseThrow();
+            final long sourceLoadAfter = projectedLoads.get(self) - load;
+            final long targetLoadAfter = projectedLoads.get(target) + load;
+            if (load <= excess && targetLoadAfter <= projectedLoads.get(self) && sourceLoadAfter >= 0) {
+                result.add(new Migration(connectionLoad.getKey(), self, target, load));
+                projectedLoads.put(self, sourceLoadAfter);
+                projectedLoads.put(target, targetLoadAfter);
+                excess -= load;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The plan to move the client actor of a connection from one instance to another.
+     */
+    @Immutable
+    public static final class Migration {
+
+        private final ConnectionId connectionId;
+        private final Address from;
+        private final Address to;
+        private final long load;
+
+        private Migration(final ConnectionId connectionId, final Address from, final Address to, final long load) {
+            this.connectionId = connectionId;
+            this.from = from;
+            this.to = to;
+            this.load = load;
+        }
+
+        /**
+         * @return the ID of the connection whose client actor is moved.
+         */
+        public ConnectionId getConnectionId() {
+            return connectionId;
+        }
+
+        /**
+         * @return the address of the instance the client actor runs on.
+         */
+        public Address getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the address of the instance the client actor is moved to.
+         */
+        public Address getTo() {
+            return to;
+        }
+
+        /**
+         * @return the messages per minute of the connection on the source instance.
+         */
+        public long getLoad() {
+            return load;
+        }
+
+        /**
+         * @return the JSON representation of this migration.
+         */
+        public JsonObject toJson() {
+            return JsonObject.newBuilder()
+                    .set("connectionId", connectionId.toString())
+                    .set("from", from.toString())
+                    .set("to", to.toString())
+                    .set("load", load)
+                    .build();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Migration that = (Migration) o;
+            return load == that.load &&
+                    Objects.equals(connectionId, that.connectionId) &&
+                    Objects.equals(from, that.from) &&
+                    Objects.equals(to, that.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connectionId, from, to, load);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "connectionId=" + connectionId +
+                    ", from=" + from +
+                    ", to=" + to +
+                    ", load=" + load +
+                    "]";
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringCounterConfig;
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectivityCounterRegistry;
+import org.eclipse.ditto.services.models.connectivity.ConnectivityMessagingConstants;
+import org.eclipse.ditto.services.models.connectivity.placement.MigrateClientActor;
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActors;
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActorsResponse;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Address;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import akka.event.DiagnosticLoggingAdapter;
+
+/**
+ * Actor running on each connectivity instance which publishes the load of the instance to the other instances and
+ * migrates client actors away from the instance if it is overloaded, either periodically or on receiving
+ * {@link RebalanceClientActors}.
+ */
+public final class ClientActorRebalancer extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "clientActorRebalancer";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef connectionShardRegion;
+    private final ClientPlacementConfig config;
+    private final ConnectivityNodeLoads nodeLoads;
+    private final Supplier<Map<ConnectionId, Long>> connectionLoadsSupplier;
+    private final Cluster cluster;
+
+    @SuppressWarnings("unused")
+    private ClientActorRebalancer(final ActorRef connectionShardRegion, final ClientPlacementConfig config,
+            final ConnectivityNodeLoads nodeLoads, final Supplier<Map<ConnectionId, Long>> connectionLoadsSupplier) {
+
+        this.connectionShardRegion = connectionShardRegion;
+        this.config = config;
+        this.nodeLoads = nodeLoads;
+        this.connectionLoadsSupplier = connectionLoadsSupplier;
+        cluster = Cluster.get(getContext().getSystem());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param connectionShardRegion the shard region of connections.
+     * @param config the config of the client placement.
+     * @param counterConfig the config of the connection metrics counters.
+     * @param nodeLoads the distributed data of the loads of the connectivity instances.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef connectionShardRegion, final ClientPlacementConfig config,
+            final MonitoringCounterConfig counterConfig, final ConnectivityNodeLoads nodeLoads) {
+
+        final ConnectivityCounterRegistry counterRegistry = ConnectivityCounterRegistry.fromConfig(counterConfig);
+        return props(connectionShardRegion, config, nodeLoads, counterRegistry::aggregateMessagesOfLastMinute);
+    }
+
+    static Props props(final ActorRef connectionShardRegion, final ClientPlacementConfig config,
+            final ConnectivityNodeLoads nodeLoads, final Supplier<Map<ConnectionId, Long>> connectionLoadsSupplier) {
+
+        return Props.create(ClientActorRebalancer.class, connectionShardRegion, config, nodeLoads,
+                connectionLoadsSupplier);
+    }
+
+    @Override
+    public void preStart() {
+        timers().startPeriodicTimer(Control.REPORT_LOAD, Control.REPORT_LOAD, config.getLoadReportInterval());
+        final Duration rebalanceInterval = config.getRebalanceInterval();
+        if (!rebalanceInterval.isZero() && !rebalanceInterval.isNegative()) {
+            timers().startPeriodicTimer(Control.REBALANCE, Control.REBALANCE, rebalanceInterval);
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .matchEquals(Control.REPORT_LOAD, trigger -> reportLoad())
+                .matchEquals(Control.REBALANCE, trigger -> rebalance(false, DittoHeaders.empty()))
+                .match(RebalanceClientActors.class, this::rebalanceClientActors)
+                .matchAny(m -> log.warning("Unknown message: <{}>", m))
+                .build();
+    }
+
+    private void reportLoad() {
+        final long load = sum(connectionLoadsSupplier.get());
+        nodeLoads.put(cluster.selfAddress(), load, getInstances())
+                .exceptionally(error -> {
+                    log.warning("Failed to publish load <{}> of this instance: {}", load, error);
+                    return null;
+                });
+    }
+
+    private void rebalanceClientActors(final RebalanceClientActors command) {
+        LogUtil.enhanceLogWithCorrelationId(log, command);
+        final boolean dryRun = command.isDryRun();
+        final Map<Address, Long> loads = getCurrentLoads();
+        final List<ClientActorPlacement.Migration> migrations = rebalance(dryRun, command.getDittoHeaders());
+        final JsonObject loadsJson = loads.entrySet()
+                .stream()
+                .map(entry -> JsonFactory.newField(JsonFactory.newKey(entry.getKey().toString()),
+                        JsonFactory.newValue(entry.getValue())))
+                .collect(JsonCollectors.fieldsToObject());
+        final JsonArray migrationsJson = migrations.stream()
+                .map(ClientActorPlacement.Migration::toJson)
+                .collect(JsonCollectors.valuesToArray());
+        getSender().tell(RebalanceClientActorsResponse.of(cluster.selfAddress().toString(), dryRun, loadsJson,
+                migrationsJson, command.getDittoHeaders()), getSelf());
+    }
+
+    private List<ClientActorPlacement.Migration> rebalance(final boolean dryRun, final DittoHeaders dittoHeaders) {
+        final Map<ConnectionId, Long> connectionLoads = connectionLoadsSupplier.get();
+        final List<ClientActorPlacement.Migration> migrations =
+                ClientActorPlacement.planMigrations(cluster.selfAddress(), getInstances(), getCurrentLoads(),
+                        connectionLoads, config.getRebalanceThreshold(), config.getMaxMigrationsPerRound());
+        if (!dryRun) {
+            migrations.forEach(migration -> {
+                log.info("Migrating client actor: <{}>", migration);
+                connectionShardRegion.tell(MigrateClientActor.of(migration.getConnectionId(),
+                        migration.getFrom().toString(), migration.getTo().toString(), dittoHeaders),
+                        ActorRef.noSender());
+            });
+        }
+        return migrations;
+    }
+
+    private Map<Address, Long> getCurrentLoads() {
+        final Map<Address, Long> loads = new HashMap<>();
+        getInstances().forEach(address -> loads.put(address, 0L));
+        loads.putAll(nodeLoads.getLoads());
+        // the own load is always up to date
+        loads.put(cluster.selfAddress(), sum(connectionLoadsSupplier.get()));
+        return loads;
+    }
+
+    private List<Address> getInstances() {
+        return StreamSupport.stream(cluster.state().getMembers().spliterator(), false)
+                .filter(member -> member.status() == MemberStatus.up())
+                .filter(member -> member.hasRole(ConnectivityMessagingConstants.CLUSTER_ROLE))
+                .map(Member::address)
+                .collect(Collectors.toList());
+    }
+
+    private static long sum(final Map<ConnectionId, Long> connectionLoads) {
+        return connectionLoads.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private enum Control {
+        REPORT_LOAD,
+        REBALANCE
+    }
+
+}
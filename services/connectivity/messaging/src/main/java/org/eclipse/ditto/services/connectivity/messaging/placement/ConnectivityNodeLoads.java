@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.services.models.connectivity.ConnectivityMessagingConstants;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+
+/**
+ * Distributed data of the load of each connectivity instance, measured in messages per minute which the client actors
+ * running on the instance consumed or dispatched. Each instance writes its own entry; all instances read the in-memory
+ * copy of their local replica.
+ */
+public final class ConnectivityNodeLoads extends DistributedData<LWWMap<String, Long>> {
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "connectivityNodeLoadsReplicator";
+
+    private static final Key<LWWMap<String, Long>> KEY = LWWMapKey.create("ConnectivityNodeLoads");
+
+    private final SelfUniqueAddress selfUniqueAddress;
+
+    private ConnectivityNodeLoads(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatcher());
+        selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        subscribeAndCache(system);
+    }
+
+    /**
+     * Get an instance of this distributed data with the default configuration. The provided Akka system must be a
+     * cluster member with the role {@code connectivity}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return the instance of the distributed data.
+     */
+    public static ConnectivityNodeLoads of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Create an instance of this distributed data with special configuration.
+     *
+     * @param config the overriding configuration.
+     * @param system the actor system where the replicator actor will be created.
+     * @return a new instance of the distributed data.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     */
+    public static ConnectivityNodeLoads create(final DistributedDataConfig config, final ActorSystem system) {
+        return new ConnectivityNodeLoads(config, system);
+    }
+
+    /**
+     * Returns the latest known loads of the connectivity instances from the in-memory copy of the local replica.
+     *
+     * @return the messages per minute of each instance which reported its load.
+     */
+    public Map<Address, Long> getLoads() {
+        final Map<Address, Long> result = new HashMap<>();
+        getCached().ifPresent(lwwMap -> lwwMap.getEntries()
+                .forEach((address, load) -> result.put(AddressFromURIString.parse(address), load)));
+        return result;
+    }
+
+    /**
+     * Write the load of a connectivity instance to the local replica and remove the entries of instances which are
+     * no longer members of the cluster.
+     *
+     * @param address address of the instance.
+     * @param load the messages per minute of the instance.
+     * @param members addresses of the current connectivity instances.
+     * @return future that completes after the local replica was updated.
+     */
+    public CompletionStage<Void> put(final Address address, final long load, final Collection<Address> members) {
+        return update(Replicator.writeLocal(), lwwMap -> {
+            LWWMap<String, Long> result = lwwMap.put(selfUniqueAddress, address.toString(), load);
+            for (final String key : lwwMap.getEntries().keySet()) {
+                if (!members.contains(AddressFromURIString.parse(key))) {
+                    result = result.remove(selfUniqueAddress, key);
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    protected Key<LWWMap<String, Long>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, Long> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, Long>, ConnectivityNodeLoads> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public ConnectivityNodeLoads createExtension(final ExtendedActorSystem system) {
+            return new ConnectivityNodeLoads(DistributedData.createConfig(system, ACTOR_NAME,
+                    ConnectivityMessagingConstants.CLUSTER_ROLE), system);
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+
+import com.rabbitmq.client.ConfirmListener;
+
+/**
+ * Keeps track of the messages published on a RabbitMQ channel in confirm mode until the broker confirms or rejects
+ * them. Confirms may cover a single delivery tag or, if flagged as {@code multiple}, all delivery tags up to and
+ * including the given one.
+ * <p>
+ * Messages are tracked by the channel actor and confirmed by the connection thread of the RabbitMQ client, thus this
+ * class is thread-safe.
+ * </p>
+ */
+@ThreadSafe
+final class RabbitMQConfirmTracker implements ConfirmListener {
+
+    private final ConcurrentNavigableMap<Long, PendingConfirm> outstanding;
+    private final Counter confirmedCounter;
+    private final Counter nackedCounter;
+
+    RabbitMQConfirmTracker(final Counter confirmedCounter, final Counter nackedCounter) {
+        outstanding = new ConcurrentSkipListMap<>();
+        this.confirmedCounter = confirmedCounter;
+        this.nackedCounter = nackedCounter;
+    }
+
+    /**
+     * Tracks a message which is about to be published with the given sequence number.
+     *
+     * @param sequenceNumber the publish sequence number of the channel.
+     * @param message the message to publish.
+     * @param publishedMonitor the monitor to report the outcome of the publication to.
+     */
+    void track(final long sequenceNumber, final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+        outstanding.put(sequenceNumber, new PendingConfirm(message, publishedMonitor));
+    }
+
+    /**
+     * Stops tracking the message with the given sequence number, e. g. because publishing it failed.
+     *
+     * @param sequenceNumber the publish sequence number of the message.
+     */
+    void untrack(final long sequenceNumber) {
+        outstanding.remove(sequenceNumber);
+    }
+
+    /**
+     * Reports all outstanding messages as failed because they will never be confirmed, e. g. because their channel
+     * was closed.
+     *
+     * @param reason the reason why the messages will not be confirmed.
+     */
+    void failOutstanding(final String reason) {
+        drain(outstanding).forEach(pending -> {
+            nackedCounter.increment();
+            pending.publishedMonitor.failure(pending.message,
+                    "Message was not confirmed by the broker: {0}", reason);
+        });
+    }
+
+    /**
+     * @return the number of messages which are not yet confirmed.
+     */
+    int getOutstandingCount() {
+        return outstanding.size();
+    }
+
+    @Override
+    public void handleAck(final long deliveryTag, final boolean multiple) {
+        drain(confirmed(deliveryTag, multiple)).forEach(pending -> {
+            confirmedCounter.increment();
+            pending.publishedMonitor.success(pending.message);
+        });
+    }
+
+    @Override
+    public void handleNack(final long deliveryTag, final boolean multiple) {
+        drain(confirmed(deliveryTag, multiple)).forEach(pending -> {
+            nackedCounter.increment();
+            pending.publishedMonitor.failure(pending.message, "Message was rejected by the broker.");
+        });
+    }
+
+    private NavigableMap<Long, PendingConfirm> confirmed(final long deliveryTag, final boolean multiple) {
+        return multiple
+                ? outstanding.headMap(deliveryTag, true)
+                : outstanding.subMap(deliveryTag, true, deliveryTag, true);
+    }
+
+    private static List<PendingConfirm> drain(final NavigableMap<Long, PendingConfirm> view) {
+        final List<PendingConfirm> drained = new ArrayList<>();
+        Map.Entry<Long, PendingConfirm> entry;
+        while ((entry = view.pollFirstEntry()) != null) {
+            drained.add(entry.getValue());
+        }
+        return drained;
+    }
+
+    private static final class PendingConfirm {
+
+        private final ExternalMessage message;
+        private final ConnectionMonitor publishedMonitor;
+
+        private PendingConfirm(final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+            this.message = message;
+            this.publishedMonitor = publishedMonitor;
+        }
+
+    }
+
+}
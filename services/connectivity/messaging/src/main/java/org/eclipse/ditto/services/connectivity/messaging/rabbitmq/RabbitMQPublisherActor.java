@@ -13,14 +13,18 @@
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.connectivity.Connection;
@@ -32,10 +36,13 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 import com.newmotion.akka.rabbitmq.ChannelCreated;
 import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -54,6 +61,11 @@ import akka.japi.pf.ReceiveBuilder;
  * <li>{@code address="target/routingKey"}: signals are published to exchange {@code target} with routing key {@code
  * routingKey}</li>
  * </ul>
+ * <p>
+ * Channels are put into confirm mode. Messages are only reported as published once the broker confirmed them.
+ * Messages published in quick succession are handed to the channel in batches to save round trips to the channel
+ * actor.
+ * </p>
  */
 public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTarget> {
 
@@ -62,13 +74,34 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
      */
     static final String ACTOR_NAME = "rmqPublisherActor";
 
+    /**
+     * The maximum number of messages published with one message to the channel actor.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    private static final String MESSAGES_METRIC_NAME = "rabbitmq_publisher_messages";
+    private static final Object FLUSH_PUBLISHES = new Object();
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final Counter publishedCounter;
+    private final Counter confirmedCounter;
+    private final Counter nackedCounter;
+    private final List<PendingPublish> pendingPublishes;
+
+    // the confirm tracker of each channel, accessed by the channel actor when publishing
+    private final Map<Channel, RabbitMQConfirmTracker> confirmTrackers;
 
     @Nullable private ActorRef channelActor;
+    @Nullable private RabbitMQConfirmTracker confirmTracker;
 
     @SuppressWarnings("unused")
     private RabbitMQPublisherActor(final Connection connection) {
         super(connection);
+        publishedCounter = messagesCounter("published");
+        confirmedCounter = messagesCounter("confirmed");
+        nackedCounter = messagesCounter("nacked");
+        pendingPublishes = new ArrayList<>();
+        confirmTrackers = Collections.synchronizedMap(new WeakHashMap<>());
     }
 
     /**
@@ -87,12 +120,19 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
         receiveBuilder
                 .match(ChannelCreated.class, channelCreated -> {
                     this.channelActor = channelCreated.channel();
+                    if (confirmTracker != null) {
+                        confirmTracker.failOutstanding("The channel was re-created.");
+                    }
+                    final RabbitMQConfirmTracker newConfirmTracker =
+                            new RabbitMQConfirmTracker(confirmedCounter, nackedCounter);
+                    confirmTracker = newConfirmTracker;
 
                     final Set<String> exchanges = targets.stream()
                             .map(t -> toPublishTarget(t.getAddress()))
                             .map(RabbitMQTarget::getExchange)
                             .collect(Collectors.toSet());
                     final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
+                        enableConfirms(channel, newConfirmTracker);
                         exchanges.forEach(exchange -> {
                             log.debug("Checking for existence of exchange <{}>", exchange);
                             try {
@@ -118,7 +158,16 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                         return null;
                     }, false);
                     channelCreated.channel().tell(channelMessage, getSelf());
-                });
+                })
+                .matchEquals(FLUSH_PUBLISHES, flush -> flushPendingPublishes());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (confirmTracker != null) {
+            confirmTracker.failOutstanding("The publisher was stopped.");
+        }
+        super.postStop();
     }
 
     @Override
@@ -171,25 +220,106 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                     .orElseThrow(() -> new IllegalArgumentException("Failed to convert text to bytes."));
         } else {
             body = message.getBytePayload()
-                    .map(ByteBuffer::array)
+                    .map(ByteBufferUtils::toByteArray)
                     .orElse(new byte[]{});
         }
 
+        pendingPublishes.add(new PendingPublish(publishTarget, basicProperties, body, message, publishedMonitor));
+        if (pendingPublishes.size() >= MAX_BATCH_SIZE) {
+            flushPendingPublishes();
+        } else if (pendingPublishes.size() == 1) {
+            // flush once the messages which are already in the mailbox were added to the batch
+            getSelf().tell(FLUSH_PUBLISHES, getSelf());
+        }
+    }
+
+    private void flushPendingPublishes() {
+        if (channelActor == null) {
+            pendingPublishes.forEach(pendingPublish -> pendingPublish.publishedMonitor.failure(pendingPublish.message,
+                    "Message was dropped as no channel is available."));
+            pendingPublishes.clear();
+            return;
+        }
+        if (pendingPublishes.isEmpty()) {
+            return;
+        }
+        final List<PendingPublish> batch = new ArrayList<>(pendingPublishes);
+        pendingPublishes.clear();
+
         final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
-            try {
-                log.debug("Publishing to exchange <{}> and routing key <{}>: {}", publishTarget.getExchange(),
-                        publishTarget.getRoutingKey(), basicProperties);
-                channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(), basicProperties,
-                        body);
-                publishedMonitor.success(message);
-            } catch (final Exception e) {
-                log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
-                publishedMonitor.exception(message, e);
-            }
+            // the channel may have been re-created since the batch was flushed, thus look up the tracker of the
+            // channel the batch is actually published on
+            final RabbitMQConfirmTracker tracker = confirmTrackers.get(channel);
+            batch.forEach(pendingPublish -> publish(channel, tracker, pendingPublish));
             return null;
         }, false);
 
         channelActor.tell(channelMessage, getSelf());
     }
 
+    private void publish(final Channel channel, @Nullable final RabbitMQConfirmTracker tracker,
+            final PendingPublish pendingPublish) {
+
+        final RabbitMQTarget publishTarget = pendingPublish.publishTarget;
+        final ExternalMessage message = pendingPublish.message;
+        // the sequence number is 0 if the channel is not in confirm mode
+        final long sequenceNumber = channel.getNextPublishSeqNo();
+        final boolean awaitConfirm = tracker != null && sequenceNumber > 0;
+        try {
+            log.debug("Publishing to exchange <{}> and routing key <{}>: {}", publishTarget.getExchange(),
+                    publishTarget.getRoutingKey(), pendingPublish.basicProperties);
+            if (awaitConfirm) {
+                tracker.track(sequenceNumber, message, pendingPublish.publishedMonitor);
+            }
+            channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(),
+                    pendingPublish.basicProperties, pendingPublish.body);
+            publishedCounter.increment();
+            if (!awaitConfirm) {
+                pendingPublish.publishedMonitor.success(message);
+            }
+        } catch (final Exception e) {
+            log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
+            if (awaitConfirm) {
+                tracker.untrack(sequenceNumber);
+            }
+            pendingPublish.publishedMonitor.exception(message, e);
+        }
+    }
+
+    private void enableConfirms(final Channel channel, final RabbitMQConfirmTracker tracker) {
+        try {
+            channel.confirmSelect();
+            channel.addConfirmListener(tracker);
+            confirmTrackers.put(channel, tracker);
+        } catch (final IOException e) {
+            log.warning("Failed to enable publisher confirms, messages are published unconfirmed: {}",
+                    e.getMessage());
+        }
+    }
+
+    private Counter messagesCounter(final String state) {
+        return DittoMetrics.counter(MESSAGES_METRIC_NAME)
+                .tag("id", connectionId.toString())
+                .tag("state", state);
+    }
+
+    private static final class PendingPublish {
+
+        private final RabbitMQTarget publishTarget;
+        private final AMQP.BasicProperties basicProperties;
+        private final byte[] body;
+        private final ExternalMessage message;
+        private final ConnectionMonitor publishedMonitor;
+
+        private PendingPublish(final RabbitMQTarget publishTarget, final AMQP.BasicProperties basicProperties,
+                final byte[] body, final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+            this.publishTarget = publishTarget;
+            this.basicProperties = basicProperties;
+            this.body = body;
+            this.message = message;
+            this.publishedMonitor = publishedMonitor;
+        }
+
+    }
+
 }
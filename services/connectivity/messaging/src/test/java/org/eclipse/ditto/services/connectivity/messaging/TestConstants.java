@@ -220,6 +220,13 @@ public final class TestConstants {
                         .toArray(CompletableFuture[]::new));
             }
 
+            @Override
+            public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+                    final Collection<String> topics, final Collection<String> twinEventTopics,
+                    final ActorRef subscriber) {
+                return subscribe(types, topics, subscriber);
+            }
+
             @Override
             public void removeSubscriber(final ActorRef subscriber) {
                 doDelegate(d -> d.removeSubscriber(subscriber));
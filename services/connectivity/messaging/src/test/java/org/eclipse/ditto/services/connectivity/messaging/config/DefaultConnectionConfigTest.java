@@ -116,6 +116,50 @@ public final class DefaultConnectionConfigTest {
                 .satisfies(httpPushConfig -> softly.assertThat(httpPushConfig.getMaxQueueSize())
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
+
+        softly.assertThat(underTest.getClientPlacementConfig())
+                .as("clientPlacementConfig")
+                .satisfies(clientPlacementConfig -> {
+                    softly.assertThat(clientPlacementConfig.isLoadAware())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.LOAD_AWARE.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(clientPlacementConfig.getLoadReportInterval())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.LOAD_REPORT_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(5L));
+                    softly.assertThat(clientPlacementConfig.getRebalanceInterval())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.REBALANCE_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(1L));
+                    softly.assertThat(clientPlacementConfig.getRebalanceThreshold())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.REBALANCE_THRESHOLD.getConfigPath())
+                            .isEqualTo(0.25);
+                    softly.assertThat(clientPlacementConfig.getMaxMigrationsPerRound())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.MAX_MIGRATIONS_PER_ROUND
+                                    .getConfigPath())
+                            .isEqualTo(2);
+                });
+
+        softly.assertThat(underTest.getKafkaConfig())
+                .as("kafkaConfig")
+                .satisfies(kafkaConfig -> {
+                    softly.assertThat(kafkaConfig.getProducerQueueSize())
+                            .as(KafkaConfig.KafkaConfigValue.PRODUCER_QUEUE_SIZE.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(kafkaConfig.getConsumerParallelism())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_PARALLELISM.getConfigPath())
+                            .isEqualTo(4);
+                    softly.assertThat(kafkaConfig.getConsumerMappingTimeout())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_MAPPING_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(5L));
+                    softly.assertThat(kafkaConfig.getInternalConsumerConfig().getDuration("poll-interval"))
+                            .as("consumer.internal.poll-interval")
+                            .isEqualTo(Duration.ofMillis(20L));
+                    softly.assertThat(kafkaConfig.getInternalConsumerConfig().getDuration("close-timeout"))
+                            .as("consumer.internal.close-timeout falls back to library default")
+                            .isEqualTo(Duration.ofSeconds(20L));
+                    softly.assertThat(kafkaConfig.getCommitterConfig().getInt("max-batch"))
+                            .as("committer.max-batch")
+                            .isEqualTo(10);
+                });
     }
 
 }
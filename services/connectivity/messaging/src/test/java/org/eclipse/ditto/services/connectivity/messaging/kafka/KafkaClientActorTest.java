@@ -35,6 +35,7 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractBaseClientActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CloseConnection;
 import org.eclipse.ditto.signals.commands.connectivity.modify.OpenConnection;
@@ -232,7 +233,9 @@ public final class KafkaClientActorTest extends AbstractBaseClientActorTest {
                     }
 
                     @Override
-                    public Props props(final Connection c, final KafkaConnectionFactory factory, final boolean dryRun) {
+                    public Props props(final Connection c, final KafkaConnectionFactory factory,
+                            final KafkaConfig kafkaConfig, final boolean dryRun) {
+
                         return MockKafkaPublisherActor.props(ref, status);
                     }
                 });
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ConfirmableExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaConsumerActor}.
+ * The Kafka consumer stream and the committer are replaced by stubs, so no broker is required.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "events";
+    private static final FiniteDuration SHORT_TIMEOUT = FiniteDuration.apply(300, TimeUnit.MILLISECONDS);
+
+    private static ActorSystem actorSystem;
+
+    private List<ConsumerMessage.Committable> committed;
+    private List<ConsumerMessage.CommittableMessage<String, String>> messages;
+    private KafkaConnectionFactory connectionFactory;
+    private TestProbe mappingActor;
+    private ActorRef underTest;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        committed = new CopyOnWriteArrayList<>();
+        messages = Arrays.asList(committableMessage(0L, "first"), committableMessage(1L, "second"),
+                committableMessage(2L, "third"));
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        when(connectionFactory.newPartitionedSource(Mockito.anySet()))
+                .thenReturn(akka.stream.javadsl.Source.single(
+                        Pair.create(new TopicPartition(TOPIC, 0), akka.stream.javadsl.Source.from(messages)))
+                        .mapMaterializedValue(notUsed -> Consumer.createNoopControl()));
+        when(connectionFactory.newCommitterSink()).thenReturn(Sink.foreach(committed::add));
+        mappingActor = TestProbe.apply(actorSystem);
+    }
+
+    @After
+    public void stopConsumer() {
+        if (underTest != null) {
+            actorSystem.stop(underTest);
+        }
+    }
+
+    @Test
+    public void messagesOfPartitionAreMappedOneAfterAnotherAndCommittedInOrder() {
+        underTest = actorSystem.actorOf(getConsumerActorProps());
+
+        for (final String expectedPayload : Arrays.asList("first", "second", "third")) {
+            final ExternalMessage externalMessage =
+                    mappingActor.expectMsgClass(ConfirmableExternalMessage.class).getExternalMessage();
+            assertThat(externalMessage.getTextPayload()).contains(expectedPayload);
+            assertThat(externalMessage.getHeaders())
+                    .containsEntry("device_id", TestConstants.Things.THING_ID.toString());
+            assertThat(externalMessage.getSourceAddress()).contains(TOPIC);
+
+            // the next message is not consumed before the current one is confirmed
+            mappingActor.expectNoMessage(SHORT_TIMEOUT);
+            mappingActor.reply(Done.getInstance());
+        }
+
+        Awaitility.await().until(() -> committed.size() == messages.size());
+        assertThat(committed).containsExactly(messages.get(0).committableOffset(),
+                messages.get(1).committableOffset(), messages.get(2).committableOffset());
+    }
+
+    @Test
+    public void offsetIsNotCommittedBeforeMessageWasMapped() {
+        underTest = actorSystem.actorOf(getConsumerActorProps());
+
+        mappingActor.expectMsgClass(ConfirmableExternalMessage.class);
+        mappingActor.expectNoMessage(SHORT_TIMEOUT);
+
+        assertThat(committed).isEmpty();
+
+        mappingActor.reply(Done.getInstance());
+        mappingActor.expectMsgClass(ConfirmableExternalMessage.class);
+        Awaitility.await().until(() -> committed.size() == 1);
+        assertThat(committed).containsExactly(messages.get(0).committableOffset());
+    }
+
+    @Test
+    public void offsetOfFailedMessageIsNotCommittedAndConsumptionContinues() {
+        underTest = actorSystem.actorOf(getConsumerActorProps());
+
+        mappingActor.expectMsgClass(ConfirmableExternalMessage.class);
+        mappingActor.reply(new Status.Failure(new IllegalStateException("mapping failed")));
+        mappingActor.expectMsgClass(ConfirmableExternalMessage.class);
+        mappingActor.reply(Done.getInstance());
+        mappingActor.expectMsgClass(ConfirmableExternalMessage.class);
+        mappingActor.reply(Done.getInstance());
+
+        Awaitility.await().until(() -> committed.size() == 2);
+        assertThat(committed).containsExactly(messages.get(1).committableOffset(),
+                messages.get(2).committableOffset());
+    }
+
+    private Props getConsumerActorProps() {
+        final Source source = ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .build();
+        return KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.ref(), source, connectionFactory,
+                TestConstants.CONNECTION_CONFIG.getKafkaConfig());
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, String> committableMessage(final long offset,
+            final String payload) {
+
+        final ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, offset, null, payload);
+        record.headers().add("device_id", TestConstants.Things.THING_ID.toString().getBytes(StandardCharsets.UTF_8));
+        return new ConsumerMessage.CommittableMessage<>(record, mock(ConsumerMessage.CommittableOffset.class));
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
+
+import akka.kafka.ProducerSettings;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaProducerTuningSpecificConfig}.
+ */
+public final class KafkaProducerTuningSpecificConfigTest {
+
+    private static final ProducerSettings<String, byte[]> DEFAULT_PRODUCER_SETTINGS =
+            ProducerSettings.create(TestConstants.CONNECTION_CONFIG.getKafkaConfig().getInternalProducerConfig(),
+                    new StringSerializer(), new ByteArraySerializer());
+
+    private final KafkaProducerTuningSpecificConfig underTest = KafkaProducerTuningSpecificConfig.getInstance();
+
+    @Test
+    public void isNotApplicableWithoutTuningSettings() {
+        assertThat(underTest.isApplicable(getConnection(new HashMap<>()))).isFalse();
+    }
+
+    @Test
+    public void appliesTuningSettingsToProducer() {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put("lingerMs", "20");
+        specificConfig.put("batchSize", "65536");
+        specificConfig.put("compressionType", "lz4");
+        final Connection connection = getConnection(specificConfig);
+
+        assertThat(underTest.isApplicable(connection)).isTrue();
+        underTest.validateOrThrow(connection, DittoHeaders.empty());
+
+        final scala.collection.immutable.Map<String, String> properties =
+                underTest.apply(DEFAULT_PRODUCER_SETTINGS, connection).properties();
+        final String lingerMs = properties.get(ProducerConfig.LINGER_MS_CONFIG).getOrElse(null);
+        final String batchSize = properties.get(ProducerConfig.BATCH_SIZE_CONFIG).getOrElse(null);
+        final String compressionType = properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG).getOrElse(null);
+
+        assertThat(lingerMs).isEqualTo("20");
+        assertThat(batchSize).isEqualTo("65536");
+        assertThat(compressionType).isEqualTo("lz4");
+    }
+
+    @Test
+    public void rejectsInvalidTuningSettings() {
+        shouldNotValidate("lingerMs", "-1");
+        shouldNotValidate("batchSize", "large");
+        shouldNotValidate("compressionType", "brotli");
+    }
+
+    @Test
+    public void doesNotApplyInvalidTuningSettings() {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put("lingerMs", "soon");
+        final Connection connection = getConnection(specificConfig);
+
+        assertThat(underTest.apply(DEFAULT_PRODUCER_SETTINGS, connection).properties())
+                .isEqualTo(DEFAULT_PRODUCER_SETTINGS.properties());
+    }
+
+    private void shouldNotValidate(final String key, final String value) {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put(key, value);
+        final Connection connection = getConnection(specificConfig);
+
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, DittoHeaders.empty()));
+    }
+
+    private static Connection getConnection(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("events")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .topics(Topic.TWIN_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
@@ -44,7 +44,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
 
     private static final String OUTBOUND_ADDRESS = "anyTopic/keyA";
 
-    private final List<ProducerMessage.Message<String, String, Object>> received = new LinkedList<>();
+    private final List<ProducerMessage.Message<String, byte[], Object>> received = new LinkedList<>();
     private KafkaConnectionFactory connectionFactory;
 
     @Override
@@ -53,34 +53,35 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         when(connectionFactory.newFlow())
                 .thenReturn(
                         Flow.fromFunction(envelope -> {
-                            final ProducerMessage.Message<String, String, Object> message =
-                                    (ProducerMessage.Message<String, String, Object>) envelope;
+                            final ProducerMessage.Message<String, byte[], Object> message =
+                                    (ProducerMessage.Message<String, byte[], Object>) envelope;
                             received.add(message);
                             return createResult(message);
                         }));
     }
 
     @SuppressWarnings("unchecked")
-    private static ProducerMessage.Results<String, String, Object> createResult(
-            final ProducerMessage.Message<String, String, Object> message) {
-        final ProducerMessage.Results<String, String, Object> resultMock = Mockito.mock(ProducerMessage.Results.class);
+    private static ProducerMessage.Results<String, byte[], Object> createResult(
+            final ProducerMessage.Message<String, byte[], Object> message) {
+        final ProducerMessage.Results<String, byte[], Object> resultMock = Mockito.mock(ProducerMessage.Results.class);
         when(resultMock.passThrough()).thenReturn(message.passThrough());
         return resultMock;
     }
 
     @Override
     protected Props getPublisherActorProps() {
-        return KafkaPublisherActor.props(TestConstants.createConnection(), connectionFactory, false);
+        return KafkaPublisherActor.props(TestConstants.createConnection(), connectionFactory,
+                TestConstants.CONNECTION_CONFIG.getKafkaConfig(), false);
     }
 
     @Override
     protected void verifyPublishedMessage() {
         Awaitility.await().until(() -> !received.isEmpty());
         assertThat(received).hasSize(1);
-        final ProducerMessage.Message<String, String, Object> message = received.get(0);
+        final ProducerMessage.Message<String, byte[], Object> message = received.get(0);
         assertThat(message.record().topic()).isEqualTo("anyTopic");
         assertThat(message.record().key()).isEqualTo("keyA");
-        assertThat(message.record().value()).isEqualTo("payload");
+        assertThat(new String(message.record().value(), StandardCharsets.UTF_8)).isEqualTo("payload");
         final List<Header> headers = Arrays.asList(message.record().headers().toArray());
         shouldContainHeader(headers, "thing_id", TestConstants.Things.THING_ID.toString());
         shouldContainHeader(headers, "suffixed_thing_id", TestConstants.Things.THING_ID + ".some.suffix");
@@ -93,7 +94,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     protected void verifyPublishedMessageToReplyTarget() {
         Awaitility.await().until(() -> !received.isEmpty());
         assertThat(received).hasSize(1);
-        final ProducerMessage.Message<String, String, Object> message = received.get(0);
+        final ProducerMessage.Message<String, byte[], Object> message = received.get(0);
         assertThat(message.record().topic()).isEqualTo("replyTarget");
         assertThat(message.record().key()).isEqualTo("thing:id");
         final List<Header> headers = Arrays.asList(message.record().headers().toArray());
@@ -77,11 +77,17 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events");
 
-        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        verifySourceIsInvalid("");
+        verifySourceIsInvalid("events/");
+        verifySourceIsInvalid("ditto/{{thing:id}}");
     }
 
     @Test
@@ -123,6 +129,13 @@ public final class KafkaValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithBootstrapServers("http://foo:123"));
     }
 
+    private void verifySourceIsInvalid(final String sourceAddress) {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, sourceAddress);
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return ConnectivityModelFactory.newConnectionBuilder(CONNECTION_ID, ConnectionType.KAFKA,
                 ConnectivityStatus.OPEN, "tcp://localhost:1883")
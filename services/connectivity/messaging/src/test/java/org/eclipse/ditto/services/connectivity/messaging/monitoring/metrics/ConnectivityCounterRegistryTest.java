@@ -116,6 +116,16 @@ public class ConnectivityCounterRegistryTest {
 
     }
 
+    @Test
+    public void testAggregateMessagesOfLastMinute() {
+
+        final Map<ConnectionId, Long> messagesOfLastMinute = COUNTER_REGISTRY.aggregateMessagesOfLastMinute();
+
+        // successes and failures of consumed inbound and dispatched outbound messages
+        final long expected = 2L * (CONSUMED.ordinal() + 1) + 2L * (DISPATCHED.ordinal() + 1);
+        assertThat(messagesOfLastMinute).containsEntry(CONNECTION_ID, expected);
+    }
+
     private Measurement getMeasurement(final MetricType metricType, final boolean b) {
         return ConnectivityModelFactory.newMeasurement(metricType, b, getCounters(metricType.ordinal() + 1),
                 FIXED_INSTANT);
@@ -62,6 +62,7 @@ import org.eclipse.ditto.services.connectivity.messaging.WithMockServers;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.placement.MigrateClientActor;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
@@ -119,6 +120,8 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceActor}.
  */
@@ -1174,6 +1177,93 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         }};
     }
 
+    @Test
+    public void startClientActorOnLeastLoadedInstance() throws Exception {
+        startLoadAwareActorSystemAndJoinCluster();
+        new TestKit(actorSystem) {{
+            final TestKit probe = new TestKit(actorSystem);
+            final ActorRef underTest = createLoadAwareConnectionPersistenceActor(probe, 1);
+
+            // WHEN: the connection is created
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(CreateConnectionResponse.class);
+
+            // THEN: the client actor is deployed as watched child of the connection persistence actor
+            final ActorRef clientActor = probe.expectMsgClass(ActorRef.class);
+            assertThat(clientActor.path().parent()).isEqualTo(underTest.path());
+
+            // THEN: signals are routed to the client actor
+            underTest.tell(thingModified, getRef());
+            assertThat(probe.expectMsgClass(OutboundSignal.class).getSource()).isEqualTo(thingModified);
+        }};
+    }
+
+    @Test
+    public void redeployTerminatedClientActor() throws Exception {
+        startLoadAwareActorSystemAndJoinCluster();
+        new TestKit(actorSystem) {{
+            final TestKit probe = new TestKit(actorSystem);
+            final ActorRef underTest = createLoadAwareConnectionPersistenceActor(probe, 1);
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(CreateConnectionResponse.class);
+            final ActorRef clientActor = probe.expectMsgClass(ActorRef.class);
+
+            // WHEN: the client actor terminates while the connection is open
+            actorSystem.stop(clientActor);
+
+            // THEN: a new client actor is deployed and signals are routed to it
+            final ActorRef redeployedClientActor = probe.expectMsgClass(ActorRef.class);
+            assertThat(redeployedClientActor).isNotEqualTo(clientActor);
+            underTest.tell(thingModified, getRef());
+            assertThat(probe.expectMsgClass(OutboundSignal.class).getSource()).isEqualTo(thingModified);
+        }};
+    }
+
+    @Test
+    public void migrateClientActor() throws Exception {
+        startLoadAwareActorSystemAndJoinCluster();
+        new TestKit(actorSystem) {{
+            final TestKit probe = new TestKit(actorSystem);
+            final ActorRef underTest = createLoadAwareConnectionPersistenceActor(probe, 2);
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(CreateConnectionResponse.class);
+            final ActorRef clientActor = probe.expectMsgClass(ActorRef.class);
+            probe.watch(clientActor);
+
+            // WHEN: the client actor is migrated to an instance with free capacity
+            final String instance = Cluster.get(actorSystem).selfAddress().toString();
+            underTest.tell(MigrateClientActor.of(connectionId, instance, instance, DittoHeaders.empty()), getRef());
+
+            // THEN: the old client actor is closed and stopped before the new client actor is started
+            probe.expectMsgClass(CloseConnection.class);
+            probe.expectTerminated(clientActor);
+            final ActorRef migratedClientActor = probe.expectMsgClass(ActorRef.class);
+            assertThat(migratedClientActor).isNotEqualTo(clientActor);
+            probe.expectNoMessage();
+            underTest.tell(thingModified, getRef());
+            assertThat(probe.expectMsgClass(OutboundSignal.class).getSource()).isEqualTo(thingModified);
+        }};
+    }
+
+    @Test
+    public void ignoreMigrationToFullInstance() throws Exception {
+        startLoadAwareActorSystemAndJoinCluster();
+        new TestKit(actorSystem) {{
+            final TestKit probe = new TestKit(actorSystem);
+            final ActorRef underTest = createLoadAwareConnectionPersistenceActor(probe, 1);
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(CreateConnectionResponse.class);
+            probe.expectMsgClass(ActorRef.class);
+
+            // WHEN: the client actor is migrated to an instance that hosts the maximum number of client actors
+            final String instance = Cluster.get(actorSystem).selfAddress().toString();
+            underTest.tell(MigrateClientActor.of(connectionId, instance, instance, DittoHeaders.empty()), getRef());
+
+            // THEN: no client actor is started or closed
+            probe.expectNoMessage();
+        }};
+    }
+
     private void testForwardThingEvent(final boolean isForwarded, final Signal<?> signal) {
         testForwardThingEvent(createConnection, isForwarded, signal, TestConstants.Targets.TWIN_TARGET);
     }
@@ -1220,6 +1310,29 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         latch.await();
     }
 
+    private void startLoadAwareActorSystemAndJoinCluster() throws Exception {
+        shutdown(actorSystem);
+        actorSystem = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.parseString("ditto.connectivity.connection.client-placement.load-aware = true")
+                        .withFallback(TestConstants.CONFIG));
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Cluster cluster = Cluster.get(actorSystem);
+        cluster.registerOnMemberUp(latch::countDown);
+        cluster.join(cluster.selfAddress());
+        latch.await();
+    }
+
+    private ActorRef createLoadAwareConnectionPersistenceActor(final TestKit probe, final int clientActorsPerNode) {
+        final DittoProtocolSub dittoProtocolSub = Mockito.mock(DittoProtocolSub.class);
+        when(dittoProtocolSub.subscribe(any(), any(), any())).thenReturn(CompletableFuture.completedStage(null));
+        final ActorRef forwarder = actorSystem.actorOf(TestConstants.ConciergeForwarderActorMock.props());
+        final ClientActorPropsFactory propsFactory = (connection, concierge, connectionActor) ->
+                StartReportingTestActor.props(probe);
+        return actorSystem.actorOf(Props.create(ConnectionPersistenceActor.class, () ->
+                new ConnectionPersistenceActor(connectionId, dittoProtocolSub, forwarder, propsFactory, null,
+                        clientActorsPerNode)), connectionId.toString());
+    }
+
     static final class TestActor extends AbstractActor {
 
         private final TestKit probe;
@@ -1247,6 +1360,45 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         }
     }
 
+    /**
+     * Client actor which reports its start to the probe and forwards all commands except opening and closing.
+     */
+    static final class StartReportingTestActor extends AbstractActor {
+
+        private final TestKit probe;
+
+        private StartReportingTestActor(final TestKit probe) {
+            this.probe = probe;
+        }
+
+        static Props props(final TestKit probe) {
+            return Props.create(StartReportingTestActor.class, new Creator<>() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public StartReportingTestActor create() {
+                    return new StartReportingTestActor(probe);
+                }
+            });
+        }
+
+        @Override
+        public void preStart() {
+            probe.getRef().tell(getSelf(), getSelf());
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(OpenConnection.class, oc -> sender().tell(new Status.Success("connected"), self()))
+                    .match(CloseConnection.class, cc -> {
+                        probe.getRef().forward(cc, context());
+                        sender().tell(new Status.Success("disconnected"), self());
+                    })
+                    .matchAny(m -> probe.getRef().forward(m, context())).build();
+        }
+    }
+
     private void expectSubscribe(final Collection<StreamingType> streamingTypes, final Set<String> subjects) {
         verify(dittoProtocolSubMock, timeout(500))
                 .subscribe(argThat(argument -> streamingTypes.equals(new HashSet<>(argument))),
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.junit.Test;
+
+import akka.actor.Address;
+
+/**
+ * Unit test for {@link ClientActorPlacement}.
+ */
+public final class ClientActorPlacementTest {
+
+    private static final Address INSTANCE_1 = new Address("akka", "ditto-cluster", "10.0.0.1", 2551);
+    private static final Address INSTANCE_2 = new Address("akka", "ditto-cluster", "10.0.0.2", 2551);
+    private static final Address INSTANCE_3 = new Address("akka", "ditto-cluster", "10.0.0.3", 2551);
+    private static final List<Address> INSTANCES = Arrays.asList(INSTANCE_1, INSTANCE_2, INSTANCE_3);
+
+    private static final ConnectionId BUSY_CONNECTION = ConnectionId.of("busy");
+    private static final ConnectionId QUIET_CONNECTION = ConnectionId.of("quiet");
+
+    @Test
+    public void selectLeastLoadedInstances() {
+        final Map<Address, Long> loads = loads(300L, 100L, 200L);
+
+        assertThat(ClientActorPlacement.selectInstances(1, 1, INSTANCES, loads)).containsExactly(INSTANCE_2);
+        assertThat(ClientActorPlacement.selectInstances(2, 1, INSTANCES, loads))
+                .containsExactly(INSTANCE_2, INSTANCE_3);
+    }
+
+    @Test
+    public void selectInstancesSpreadsClientsBeforeStackingThem() {
+        final Map<Address, Long> loads = loads(0L, 500L, 500L);
+
+        assertThat(ClientActorPlacement.selectInstances(4, 2, INSTANCES, loads))
+                .containsExactly(INSTANCE_1, INSTANCE_2, INSTANCE_3, INSTANCE_1);
+    }
+
+    @Test
+    public void selectInstancesRespectsMaximumPerInstance() {
+        assertThat(ClientActorPlacement.selectInstances(5, 1, INSTANCES, Collections.emptyMap())).hasSize(3);
+    }
+
+    @Test
+    public void selectInstancesConsidersRunningClients() {
+        final Map<Address, Long> loads = loads(0L, 100L, 200L);
+
+        assertThat(ClientActorPlacement.selectInstances(1, 1, INSTANCES, loads, Collections.singletonList(INSTANCE_1)))
+                .containsExactly(INSTANCE_2);
+        assertThat(ClientActorPlacement.selectInstances(2, 1, INSTANCES, loads, Arrays.asList(INSTANCE_1, INSTANCE_2)))
+                .containsExactly(INSTANCE_3);
+    }
+
+    @Test
+    public void noMigrationsIfBalanced() {
+        final Map<ConnectionId, Long> connectionLoads = Collections.singletonMap(BUSY_CONNECTION, 120L);
+
+        assertThat(ClientActorPlacement.planMigrations(INSTANCE_1, INSTANCES, loads(120L, 100L, 90L),
+                connectionLoads, 0.5, 1)).isEmpty();
+    }
+
+    @Test
+    public void migrateToLeastLoadedInstance() {
+        final Map<ConnectionId, Long> connectionLoads = new HashMap<>();
+        connectionLoads.put(BUSY_CONNECTION, 500L);
+        connectionLoads.put(QUIET_CONNECTION, 100L);
+
+        final List<ClientActorPlacement.Migration> migrations =
+                ClientActorPlacement.planMigrations(INSTANCE_1, INSTANCES, loads(600L, 0L, 300L), connectionLoads,
+                        0.5, 2);
+
+        // the busy connection exceeds the excess over the average (300) and would only shift the hot spot
+        assertThat(migrations).hasSize(1);
+        final ClientActorPlacement.Migration migration = migrations.get(0);
+        assertThat((CharSequence) migration.getConnectionId()).isEqualTo(QUIET_CONNECTION);
+        assertThat(migration.getFrom()).isEqualTo(INSTANCE_1);
+        assertThat(migration.getTo()).isEqualTo(INSTANCE_2);
+        assertThat(migration.getLoad()).isEqualTo(100L);
+    }
+
+    @Test
+    public void migrationsAreLimited() {
+        final Map<ConnectionId, Long> connectionLoads = new HashMap<>();
+        connectionLoads.put(BUSY_CONNECTION, 200L);
+        connectionLoads.put(QUIET_CONNECTION, 100L);
+
+        assertThat(ClientActorPlacement.planMigrations(INSTANCE_1, INSTANCES, loads(900L, 0L, 0L), connectionLoads,
+                0.5, 1)).hasSize(1);
+    }
+
+    @Test
+    public void noMigrationsWithoutOtherInstances() {
+        assertThat(ClientActorPlacement.planMigrations(INSTANCE_1, Collections.singletonList(INSTANCE_1),
+                loads(900L, 0L, 0L), Collections.singletonMap(BUSY_CONNECTION, 900L), 0.0, 1)).isEmpty();
+    }
+
+    private static Map<Address, Long> loads(final long load1, final long load2, final long load3) {
+        final Map<Address, Long> loads = new HashMap<>();
+        loads.put(INSTANCE_1, load1);
+        loads.put(INSTANCE_2, load2);
+        loads.put(INSTANCE_3, load3);
+        return loads;
+    }
+
+}
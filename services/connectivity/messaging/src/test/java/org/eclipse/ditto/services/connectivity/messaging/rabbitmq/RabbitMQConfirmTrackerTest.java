@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link RabbitMQConfirmTracker}.
+ */
+public final class RabbitMQConfirmTrackerTest {
+
+    private ConnectionMonitor monitor;
+    private Counter confirmedCounter;
+    private Counter nackedCounter;
+    private RabbitMQConfirmTracker underTest;
+
+    @Before
+    public void setUp() {
+        monitor = mock(ConnectionMonitor.class);
+        confirmedCounter = mock(Counter.class);
+        nackedCounter = mock(Counter.class);
+        underTest = new RabbitMQConfirmTracker(confirmedCounter, nackedCounter);
+    }
+
+    @Test
+    public void singleAckConfirmsOnlyGivenDeliveryTag() {
+        final ExternalMessage first = mock(ExternalMessage.class);
+        final ExternalMessage second = mock(ExternalMessage.class);
+        underTest.track(1L, first, monitor);
+        underTest.track(2L, second, monitor);
+
+        underTest.handleAck(2L, false);
+
+        verify(monitor).success(second);
+        verify(monitor, never()).success(first);
+        verify(confirmedCounter).increment();
+        assertThat(underTest.getOutstandingCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void multipleAckConfirmsAllDeliveryTagsUpToGivenOne() {
+        final ExternalMessage first = mock(ExternalMessage.class);
+        final ExternalMessage second = mock(ExternalMessage.class);
+        final ExternalMessage third = mock(ExternalMessage.class);
+        underTest.track(1L, first, monitor);
+        underTest.track(2L, second, monitor);
+        underTest.track(3L, third, monitor);
+
+        underTest.handleAck(2L, true);
+
+        verify(monitor).success(first);
+        verify(monitor).success(second);
+        verify(monitor, never()).success(third);
+        verify(confirmedCounter, times(2)).increment();
+        assertThat(underTest.getOutstandingCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void multipleNackFailsAllDeliveryTagsUpToGivenOne() {
+        final ExternalMessage first = mock(ExternalMessage.class);
+        final ExternalMessage second = mock(ExternalMessage.class);
+        underTest.track(1L, first, monitor);
+        underTest.track(2L, second, monitor);
+
+        underTest.handleNack(2L, true);
+
+        verify(monitor).failure(eq(first), anyString());
+        verify(monitor).failure(eq(second), anyString());
+        verify(monitor, never()).success(any(ExternalMessage.class));
+        verify(nackedCounter, times(2)).increment();
+        assertThat(underTest.getOutstandingCount()).isZero();
+    }
+
+    @Test
+    public void failOutstandingFailsAllUnconfirmedMessages() {
+        final ExternalMessage first = mock(ExternalMessage.class);
+        final ExternalMessage second = mock(ExternalMessage.class);
+        underTest.track(1L, first, monitor);
+        underTest.track(2L, second, monitor);
+        underTest.handleAck(1L, false);
+
+        underTest.failOutstanding("closed");
+
+        verify(monitor).success(first);
+        verify(monitor).failure(eq(second), anyString(), any());
+        verify(nackedCounter).increment();
+        assertThat(underTest.getOutstandingCount()).isZero();
+    }
+
+}
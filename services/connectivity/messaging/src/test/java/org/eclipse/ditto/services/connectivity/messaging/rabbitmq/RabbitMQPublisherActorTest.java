@@ -13,14 +13,25 @@
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import com.newmotion.akka.rabbitmq.ChannelCreated;
@@ -37,6 +48,91 @@ public class RabbitMQPublisherActorTest extends AbstractPublisherActorTest {
 
     private TestProbe probe;
 
+    @Test
+    public void messagesPublishedTogetherAreBatchedAndConfirmedIndividually() throws Exception {
+        new TestKit(actorSystem) {{
+            probe = TestProbe.apply(actorSystem);
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+            final Channel channel = mock(Channel.class);
+            when(channel.getNextPublishSeqNo()).thenReturn(1L, 2L, 3L);
+            probe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+            final RabbitMQConfirmTracker tracker = captureConfirmTracker(channel);
+
+            // WHEN: one signal is published to three targets
+            publisherActor.tell(getOutboundSignalToTargets("outbound1", "outbound2", "outbound3"), getRef());
+
+            // THEN: the messages are handed to the channel with one channel message
+            probe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+            probe.expectNoMessage();
+            final InOrder inOrder = Mockito.inOrder(channel);
+            for (final String routingKey : new String[]{"outbound1", "outbound2", "outbound3"}) {
+                inOrder.verify(channel).basicPublish(eq("exchange"), eq(routingKey), any(AMQP.BasicProperties.class),
+                        any(byte[].class));
+            }
+
+            // THEN: each message awaits the confirm of its own sequence number
+            assertThat(tracker.getOutstandingCount()).isEqualTo(3);
+            tracker.handleAck(2L, false);
+            assertThat(tracker.getOutstandingCount()).isEqualTo(2);
+            tracker.handleNack(1L, false);
+            assertThat(tracker.getOutstandingCount()).isEqualTo(1);
+            tracker.handleAck(3L, true);
+            assertThat(tracker.getOutstandingCount()).isZero();
+        }};
+    }
+
+    @Test
+    public void batchIsTrackedByTheTrackerOfTheChannelItIsPublishedOn() throws Exception {
+        new TestKit(actorSystem) {{
+            probe = TestProbe.apply(actorSystem);
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+            final Channel oldChannel = mock(Channel.class);
+            when(oldChannel.getNextPublishSeqNo()).thenReturn(1L);
+            probe.expectMsgClass(ChannelMessage.class).onChannel().apply(oldChannel);
+            final RabbitMQConfirmTracker oldTracker = captureConfirmTracker(oldChannel);
+
+            // GIVEN: a batch is flushed before the channel is re-created
+            publisherActor.tell(getOutboundSignalToTargets("outbound"), getRef());
+            final ChannelMessage batch = probe.expectMsgClass(ChannelMessage.class);
+            publisherCreated(this, publisherActor);
+            final Channel newChannel = mock(Channel.class);
+            when(newChannel.getNextPublishSeqNo()).thenReturn(1L);
+            probe.expectMsgClass(ChannelMessage.class).onChannel().apply(newChannel);
+            final RabbitMQConfirmTracker newTracker = captureConfirmTracker(newChannel);
+
+            // WHEN: the batch is published on the new channel
+            batch.onChannel().apply(newChannel);
+
+            // THEN: its confirm is awaited by the tracker of the new channel
+            assertThat(oldTracker.getOutstandingCount()).isZero();
+            assertThat(newTracker.getOutstandingCount()).isEqualTo(1);
+            newTracker.handleAck(1L, false);
+            assertThat(newTracker.getOutstandingCount()).isZero();
+        }};
+    }
+
+    private static RabbitMQConfirmTracker captureConfirmTracker(final Channel channel) {
+        final ArgumentCaptor<RabbitMQConfirmTracker> trackerCaptor =
+                ArgumentCaptor.forClass(RabbitMQConfirmTracker.class);
+        Mockito.verify(channel).addConfirmListener(trackerCaptor.capture());
+        return trackerCaptor.getValue();
+    }
+
+    private OutboundSignal.Mapped getOutboundSignalToTargets(final String... routingKeys) {
+        final List<Target> targets = Stream.of(routingKeys)
+                .map(routingKey -> ConnectivityModelFactory.newTargetBuilder(createTestTarget())
+                        .address("exchange/" + routingKey)
+                        .originalAddress("exchange/" + routingKey)
+                        .build())
+                .collect(Collectors.toList());
+        final OutboundSignal.Mapped mapped = getMockOutboundSignal();
+        return OutboundSignalFactory.newMappedOutboundSignal(
+                OutboundSignalFactory.newOutboundSignal(mapped.getSource(), targets), mapped.getAdaptable(),
+                mapped.getExternalMessage());
+    }
+
     @Override
     protected void setupMocks(final TestProbe probe) {
         this.probe = probe;
@@ -57,8 +153,11 @@ public class RabbitMQPublisherActorTest extends AbstractPublisherActorTest {
     protected void verifyPublishedMessage() throws Exception {
         final Channel channel = mock(Channel.class);
 
-        // omit first channel message
-        probe.expectMsgClass(ChannelMessage.class);
+        // first channel message enables publisher confirms
+        probe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+        Mockito.verify(channel).confirmSelect();
+        Mockito.verify(channel).addConfirmListener(any(RabbitMQConfirmTracker.class));
+
         final ChannelMessage channelMessage = probe.expectMsgClass(ChannelMessage.class);
 
         channelMessage.onChannel().apply(channel);
@@ -28,10 +28,13 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.connectivity.messaging.ClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.DefaultClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.ReconnectActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceOperationsActor;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionSupervisorActor;
+import org.eclipse.ditto.services.connectivity.messaging.placement.ClientActorRebalancer;
+import org.eclipse.ditto.services.connectivity.messaging.placement.ConnectivityNodeLoads;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
@@ -110,11 +113,20 @@ public final class ConnectivityRootActor extends DittoRootActor {
                         ConnectionPersistenceStreamingActorCreator.props(0));
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
+        final ActorRef connectionShardRegion =
+                getConnectionShardRegion(actorSystem, connectionSupervisorProps, clusterConfig);
         startClusterSingletonActor(
-                ReconnectActor.props(getConnectionShardRegion(actorSystem, connectionSupervisorProps, clusterConfig),
-                        MongoReadJournal.newInstance(actorSystem)),
+                ReconnectActor.props(connectionShardRegion, MongoReadJournal.newInstance(actorSystem)),
                 ReconnectActor.ACTOR_NAME);
 
+        final ClientPlacementConfig clientPlacementConfig =
+                connectivityConfig.getConnectionConfig().getClientPlacementConfig();
+        if (clientPlacementConfig.isLoadAware()) {
+            startChildActor(ClientActorRebalancer.ACTOR_NAME,
+                    ClientActorRebalancer.props(connectionShardRegion, clientPlacementConfig,
+                            connectivityConfig.getMonitoringConfig().counter(), ConnectivityNodeLoads.of(actorSystem)));
+        }
+
         startChildActor(ConnectionPersistenceOperationsActor.ACTOR_NAME,
                 ConnectionPersistenceOperationsActor.props(pubSubMediator, connectivityConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), connectivityConfig.getPersistenceOperationsConfig()));
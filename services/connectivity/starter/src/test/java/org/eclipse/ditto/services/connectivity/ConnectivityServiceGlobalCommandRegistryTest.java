@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity;
 
 import org.eclipse.ditto.services.connectivity.messaging.persistence.stages.StagedCommand;
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActors;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
@@ -38,6 +39,7 @@ public class ConnectivityServiceGlobalCommandRegistryTest extends GlobalCommandR
 
     public ConnectivityServiceGlobalCommandRegistryTest() {
         super(
+                RebalanceClientActors.class,
                 SudoStreamPids.class,
                 SudoRetrieveThing.class,
                 SudoRetrievePolicy.class,
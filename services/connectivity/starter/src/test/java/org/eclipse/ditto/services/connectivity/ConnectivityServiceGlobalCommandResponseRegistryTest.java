@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity;
 
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActorsResponse;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReportResponse;
@@ -39,6 +40,7 @@ public final class ConnectivityServiceGlobalCommandResponseRegistryTest extends
 
     public ConnectivityServiceGlobalCommandResponseRegistryTest() {
         super(SudoRetrieveThingResponse.class,
+                RebalanceClientActorsResponse.class,
                 SudoRetrievePolicyResponse.class,
                 SudoRetrieveNamespaceReportResponse.class,
                 QueryThingsResponse.class,
@@ -142,6 +142,13 @@ public final class ConnectionPersistenceOperationsActorIT extends MongoEventSour
                 return CompletableFuture.completedFuture(null);
             }
 
+            @Override
+            public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+                    final Collection<String> topics, final Collection<String> twinEventTopics,
+                    final ActorRef subscriber) {
+                return CompletableFuture.completedFuture(null);
+            }
+
             @Override
             public void removeSubscriber(final ActorRef subscriber) {
 
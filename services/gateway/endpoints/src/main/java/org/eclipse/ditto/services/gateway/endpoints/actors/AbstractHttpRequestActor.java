@@ -12,7 +12,12 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.actors;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,8 +30,10 @@ import java.util.function.UnaryOperator;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -79,6 +86,7 @@ import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
 import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
 import scala.util.Either;
 
 /**
@@ -550,8 +558,22 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             final DittoHeaders dittoHeaders) {
 
         final ContentType contentType = getContentType(dittoHeaders);
-        final String entityString = CONTENT_TYPE_TEXT.equals(contentType) ? entity.asString() : entity.toString();
-        return response.withEntity(contentType, ByteString.fromString(entityString));
+        final ByteString entityBytes = CONTENT_TYPE_TEXT.equals(contentType)
+                ? ByteString.fromString(entity.asString())
+                : toJsonByteString(entity);
+        return response.withEntity(contentType, entityBytes);
+    }
+
+    private static ByteString toJsonByteString(final JsonValue entity) {
+        // stream the entity into the bytes of the response instead of building its string representation first
+        final ByteStringBuilder byteStringBuilder = ByteString.createBuilder();
+        final Writer writer = new OutputStreamWriter(byteStringBuilder.asOutputStream(), StandardCharsets.UTF_8);
+        try (final JsonWriter jsonWriter = JsonFactory.newWriter(writer)) {
+            jsonWriter.writeValue(entity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteStringBuilder.result();
     }
 
     private static HttpResponse createHttpResponseWithHeadersAndBody(final HttpStatusCode statusCode,
@@ -54,6 +54,7 @@ import org.eclipse.ditto.services.gateway.endpoints.utils.DittoRejectionHandlerF
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.commands.base.CommandNotSupportedException;
 
 import akka.http.javadsl.model.HttpHeader;
@@ -104,6 +105,7 @@ public final class RootRoute extends AllDirectives {
     private final CustomHeadersHandler customHeadersHandler;
     private final RejectionHandler rejectionHandler;
     private final RootRouteHeadersStepBuilder rootRouteHeadersStepBuilder;
+    private final double tracingSamplingRate;
 
     private RootRoute(final Builder builder) {
         httpConfig = builder.httpConfig;
@@ -132,6 +134,7 @@ public final class RootRoute extends AllDirectives {
                 QueryParametersToHeadersMap.getInstance(httpConfig),
                 customHeadersHandler,
                 builder.dittoHeadersSizeChecker);
+        tracingSamplingRate = builder.tracingSamplingRate;
     }
 
     public static RootRouteBuilder getBuilder(final HttpConfig httpConfig) {
@@ -258,7 +261,10 @@ public final class RootRoute extends AllDirectives {
                 .schemaVersion(schemaVersion)
                 .correlationId(correlationId)
                 .build();
-        return apiAuthenticationDirective.authenticate(dittoHeaders, inner);
+        // the trace starts before authentication so that it covers the whole time the request spends in the cluster
+        final DittoHeaders tracedDittoHeaders =
+                TraceContext.start(dittoHeaders, TraceContext.SPAN_INGRESS, tracingSamplingRate);
+        return apiAuthenticationDirective.authenticate(tracedDittoHeaders, inner);
     }
 
     private Route buildApiSubRoutes(final RequestContext ctx, final DittoHeaders dittoHeaders) {
@@ -399,6 +405,7 @@ public final class RootRoute extends AllDirectives {
         private RejectionHandler rejectionHandler;
 
         private DittoHeadersSizeChecker dittoHeadersSizeChecker;
+        private double tracingSamplingRate;
 
         private Builder(final HttpConfig httpConfig) {
             this.httpConfig = httpConfig;
@@ -525,6 +532,12 @@ public final class RootRoute extends AllDirectives {
             return this;
         }
 
+        @Override
+        public RootRouteBuilder tracingSamplingRate(final double samplingRate) {
+            tracingSamplingRate = samplingRate;
+            return this;
+        }
+
         @Override
         public Route build() {
             return newRouteInstance(this);
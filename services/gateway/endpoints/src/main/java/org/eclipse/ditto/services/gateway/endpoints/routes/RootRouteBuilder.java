@@ -199,6 +199,16 @@ public interface RootRouteBuilder {
      */
     RootRouteBuilder dittoHeadersSizeChecker(DittoHeadersSizeChecker checker);
 
+    /**
+     * Sets the probability with which a trace is started for a request entering the API, before it is
+     * authenticated. If not set, no traces are started.
+     *
+     * @param samplingRate the probability between 0.0 and 1.0.
+     * @return the Builder to allow method chaining.
+     * @since 1.2.0
+     */
+    RootRouteBuilder tracingSamplingRate(double samplingRate);
+
     /**
      * Builds the root route.
      *
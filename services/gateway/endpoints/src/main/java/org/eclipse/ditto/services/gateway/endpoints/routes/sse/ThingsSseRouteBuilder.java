@@ -101,6 +101,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private static final Counter THINGS_SSE_COUNTER = getCounterFor(PATH_THINGS);
     private static final Counter SEARCH_SSE_COUNTER = getCounterFor(PATH_SEARCH);
+    private static final Counter THINGS_SSE_FILTERED_COUNTER = DittoMetrics.counter("streaming_messages")
+            .tag("type", "sse")
+            .tag("direction", "filtered-at-gateway")
+            .tag("path", PATH_THINGS);
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
@@ -269,6 +273,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                         StartStreaming.getBuilder(StreamingType.EVENTS, connectionCorrelationId,
                                                 dittoHeaders.getAuthorizationContext())
                                                 .withNamespaces(namespaces)
+                                                .withThingIds(targetThingIds)
                                                 .withFilter(filterString)
                                                 .withExtraFields(extraFields)
                                                 .build();
@@ -351,7 +356,9 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         if (jsonifiable.getJsonifiable() instanceof ThingEvent) {
             final ThingEvent<?> event = (ThingEvent<?>) jsonifiable.getJsonifiable();
             final boolean isLiveEvent = StreamingType.isLiveSignal(event);
-            if (!isLiveEvent && namespaceMatches(event, namespaces) && targetThingIdMatches(event, targetThingIds)) {
+            if (!isLiveEvent && !(namespaceMatches(event, namespaces) && targetThingIdMatches(event, targetThingIds))) {
+                THINGS_SSE_FILTERED_COUNTER.increment();
+            } else if (!isLiveEvent) {
                 return jsonifiable.getSession()
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
                                 .thenApply(extra ->
@@ -81,6 +81,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLogger;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayWebsocketSessionClosedException;
@@ -160,6 +161,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private WebSocketSupervisor webSocketSupervisor;
     @Nullable private GatewaySignalEnrichmentProvider signalEnrichmentProvider;
     private HeaderTranslator headerTranslator;
+    private double tracingSamplingRate;
 
     private WebSocketRoute(final ActorRef streamingActor, final StreamingConfig streamingConfig) {
 
@@ -173,6 +175,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         webSocketSupervisor = new NoOpWebSocketSupervisor();
         signalEnrichmentProvider = null;
         headerTranslator = HeaderTranslator.empty();
+        tracingSamplingRate = 0.0;
     }
 
     /**
@@ -224,6 +227,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return this;
     }
 
+    @Override
+    public WebSocketRouteBuilder withTracingSamplingRate(final double samplingRate) {
+        tracingSamplingRate = samplingRate;
+        return this;
+    }
+
     /**
      * Builds the {@code /ws} route.
      *
@@ -402,7 +411,9 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 try {
                     final Signal<?> signal = buildSignal(cmdString, version, connectionCorrelationId,
                             connectionAuthContext, additionalHeaders, adapter, headerTranslator);
-                    return Right.apply(Right.apply(signal));
+                    // the WebSocket was authenticated on connect; each signal received via it starts its own trace
+                    return Right.apply(Right.apply(
+                            TraceContext.start(signal, TraceContext.SPAN_INGRESS, tracingSamplingRate)));
                 } catch (final DittoRuntimeException dre) {
                     // This is a client error usually; log at level DEBUG without stack trace.
                     LOGGER.withCorrelationId(dre)
@@ -85,6 +85,16 @@ public interface WebSocketRouteBuilder {
      */
     WebSocketRouteBuilder withHeaderTranslator(HeaderTranslator headerTranslator);
 
+    /**
+     * Sets the probability with which a trace is started for a signal received via WebSocket.
+     * If not set, no traces are started.
+     *
+     * @param samplingRate the probability between 0.0 and 1.0.
+     * @return this builder instance to allow method chaining.
+     * @since 1.2.0
+     */
+    WebSocketRouteBuilder withTracingSamplingRate(double samplingRate);
+
     /**
      * Creates the Akka HTTP route for websocket.
      *
@@ -12,12 +12,24 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.services.gateway.util.ThingRevisionCache;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.headers.conditional.IfNoneMatchPreconditionHeader;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
@@ -30,18 +42,25 @@ import akka.japi.pf.ReceiveBuilder;
  */
 public abstract class AbstractThingProxyActor extends AbstractProxyActor {
 
+    private static final JsonPointer POLICY_FIELD = JsonPointer.of("_policy");
+    private static final Counter LOCAL_NOT_MODIFIED_COUNTER = DittoMetrics.counter("conditional_requests")
+            .tag("result", "not_modified_locally");
+
     private final ActorRef devOpsCommandsActor;
     private final ActorRef conciergeForwarder;
     private final ActorRef aggregatorProxyActor;
+    private final ThingRevisionCache thingRevisionCache;
 
     protected AbstractThingProxyActor(final ActorRef pubSubMediator,
             final ActorRef devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final ThingRevisionCache thingRevisionCache) {
 
         super(pubSubMediator);
 
         this.devOpsCommandsActor = devOpsCommandsActor;
         this.conciergeForwarder = conciergeForwarder;
+        this.thingRevisionCache = thingRevisionCache;
 
         aggregatorProxyActor = getContext().actorOf(ThingsAggregatorProxyActor.props(conciergeForwarder),
                 ThingsAggregatorProxyActor.ACTOR_NAME);
@@ -61,6 +80,10 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                 .match(RetrieveThings.class, rt -> aggregatorProxyActor.forward(rt, getContext()))
                 .match(SudoRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
 
+                /* answer RetrieveThing with "If-None-Match" locally if the latest revision is known */
+                .match(RetrieveThing.class, this::handleRetrieveThing)
+                .match(ThingModifyCommand.class, this::handleThingModifyCommand)
+
                 .match(QueryThings.class, qt -> {
                     final ActorRef responseActor = getContext().actorOf(
                             QueryThingsPerRequestActor.props(qt, aggregatorProxyActor, getSender(),
@@ -89,4 +112,48 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
         conciergeForwarder.forward(signal, getContext());
     }
 
+    private void handleRetrieveThing(final RetrieveThing retrieveThing) {
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        if (thingRevisionCache.isEnabled() && !isLiveSignal(retrieveThing) && dittoHeaders.getIfMatch().isEmpty() &&
+                !selectsPolicy(retrieveThing)) {
+            final Optional<IfNoneMatchPreconditionHeader> ifNoneMatch =
+                    IfNoneMatchPreconditionHeader.fromDittoHeaders(dittoHeaders);
+            final Optional<EntityTag> notModifiedEntityTag = ifNoneMatch.flatMap(header ->
+                    thingRevisionCache.getEntityTag(retrieveThing.getThingEntityId(),
+                            dittoHeaders.getAuthorizationContext())
+                            .filter(entityTag -> !header.meetsConditionFor(entityTag)));
+            if (notModifiedEntityTag.isPresent()) {
+                final EntityTag entityTag = notModifiedEntityTag.get();
+                LOCAL_NOT_MODIFIED_COUNTER.increment();
+                getSender().tell(ThingPreconditionNotModifiedException
+                        .newBuilder(ifNoneMatch.get().getValue(), entityTag.toString())
+                        .dittoHeaders(dittoHeaders.toBuilder().eTag(entityTag).build())
+                        .build(), getSelf());
+                return;
+            }
+        }
+        forwardToConciergeService(retrieveThing);
+    }
+
+    /**
+     * The revision known for the thing is outdated once the command is applied, thus it is forgotten before the
+     * command is forwarded. The event of the modification updates it again if it reaches this instance.
+     */
+    private void handleThingModifyCommand(final ThingModifyCommand<?> thingModifyCommand) {
+        if (!isLiveSignal(thingModifyCommand)) {
+            thingRevisionCache.invalidate(thingModifyCommand.getThingEntityId());
+        }
+        forwardToConciergeService(thingModifyCommand);
+    }
+
+    /**
+     * The revision of a thing does not change if its policy is modified, thus retrievals of the policy are always
+     * left to the things service.
+     */
+    private static boolean selectsPolicy(final RetrieveThing retrieveThing) {
+        return retrieveThing.getSelectedFields()
+                .filter(selectedFields -> selectedFields.getPointers().contains(POLICY_FIELD))
+                .isPresent();
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import org.eclipse.ditto.services.gateway.util.ThingRevisionCache;
 import org.eclipse.ditto.signals.commands.base.Command;
 
 import akka.actor.ActorRef;
@@ -25,9 +26,10 @@ public final class ProxyActor extends AbstractThingProxyActor {
     @SuppressWarnings("unused")
     private ProxyActor(final ActorRef pubSubMediator,
             final ActorRef devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final ThingRevisionCache thingRevisionCache) {
 
-        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder, thingRevisionCache);
     }
 
     /**
@@ -35,13 +37,16 @@ public final class ProxyActor extends AbstractThingProxyActor {
      *
      * @param pubSubMediator the Pub/Sub mediator to use for subscribing for events.
      * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param thingRevisionCache the cache of thing revisions to answer conditional retrievals of things from.
      * @return the Akka configuration Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final ThingRevisionCache thingRevisionCache) {
 
-        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                thingRevisionCache);
     }
 
 }
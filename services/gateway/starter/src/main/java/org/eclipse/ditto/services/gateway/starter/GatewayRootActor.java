@@ -13,12 +13,14 @@
 package org.eclipse.ditto.services.gateway.starter;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import org.eclipse.ditto.model.base.headers.DittoHeadersSizeChecker;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
+import org.eclipse.ditto.services.base.config.ColocatedEnforcementConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.gateway.endpoints.directives.auth.DittoGatewayAuthenticationDirectiveFactory;
 import org.eclipse.ditto.services.gateway.endpoints.directives.auth.GatewayAuthenticationDirectiveFactory;
@@ -43,21 +45,26 @@ import org.eclipse.ditto.services.gateway.proxy.actors.ProxyActor;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtAuthenticationFactory;
 import org.eclipse.ditto.services.gateway.security.utils.DefaultHttpClientFacade;
 import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
+import org.eclipse.ditto.services.gateway.util.ThingRevisionCache;
 import org.eclipse.ditto.services.gateway.util.config.GatewayConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.AuthenticationConfig;
+import org.eclipse.ditto.services.gateway.util.config.security.CachesConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.GatewaySignalEnrichmentConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
@@ -74,6 +81,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.Props;
 import akka.cluster.Cluster;
+import akka.cluster.sharding.ClusterSharding;
 import akka.dispatch.MessageDispatcher;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.event.Logging;
@@ -121,10 +129,15 @@ final class GatewayRootActor extends DittoRootActor {
                         numberOfShards);
 
         final ActorRef conciergeForwarder = startChildActor(ConciergeForwarderActor.ACTOR_NAME,
-                ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter));
+                getConciergeForwarderProps(actorSystem, pubSubMediator, conciergeEnforcerRouter, numberOfShards));
+
+        final CachesConfig cachesConfig = gatewayConfig.getCachesConfig();
+        final ThingRevisionCache thingRevisionCache = cachesConfig.isRevisionsCacheEnabled()
+                ? ThingRevisionCache.of(cachesConfig.getRevisionsConfig(), getContext().getDispatcher())
+                : ThingRevisionCache.disabled();
 
         final ActorRef proxyActor = startChildActor(AbstractProxyActor.ACTOR_NAME,
-                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder));
+                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder, thingRevisionCache));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -136,7 +149,7 @@ final class GatewayRootActor extends DittoRootActor {
 
         final JwtAuthenticationFactory jwtAuthenticationFactory =
                 JwtAuthenticationFactory.newInstance(authenticationConfig.getOAuthConfig(),
-                        gatewayConfig.getCachesConfig().getPublicKeysConfig(), httpClient);
+                        cachesConfig.getPublicKeysConfig(), httpClient);
 
         final ProtocolAdapterProvider protocolAdapterProvider =
                 ProtocolAdapterProvider.load(gatewayConfig.getProtocolConfig(), actorSystem);
@@ -144,7 +157,8 @@ final class GatewayRootActor extends DittoRootActor {
 
         final ActorRef streamingActor = startChildActor(StreamingActor.ACTOR_NAME,
                 StreamingActor.props(dittoProtocolSub, proxyActor, jwtAuthenticationFactory,
-                        gatewayConfig.getStreamingConfig(), headerTranslator, pubSubMediator, conciergeForwarder));
+                        gatewayConfig.getStreamingConfig(), headerTranslator, pubSubMediator, conciergeForwarder,
+                        thingRevisionCache));
 
         final HealthCheckConfig healthCheckConfig = gatewayConfig.getHealthCheckConfig();
         final ActorRef healthCheckActor = createHealthCheckActor(healthCheckConfig);
@@ -205,6 +219,23 @@ final class GatewayRootActor extends DittoRootActor {
                 }).build().orElse(super.createReceive());
     }
 
+    private Props getConciergeForwarderProps(final ActorSystem actorSystem, final ActorRef pubSubMediator,
+            final ActorRef conciergeEnforcerRouter, final int numberOfShards) {
+
+        final ColocatedEnforcementConfig colocatedEnforcementConfig =
+                ColocatedEnforcementConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
+        if (colocatedEnforcementConfig.isEnabled()) {
+            log.info("Sending twin thing commands to the things shard region for colocated enforcement.");
+            final ActorRef thingsShardRegionProxy = ClusterSharding.get(actorSystem)
+                    .startProxy(ThingsMessagingConstants.SHARD_REGION,
+                            Optional.of(ThingsMessagingConstants.CLUSTER_ROLE),
+                            ShardRegionExtractor.of(numberOfShards, actorSystem));
+            return ConciergeForwarderActor.propsWithColocatedEnforcement(pubSubMediator, conciergeEnforcerRouter,
+                    thingsShardRegionProxy);
+        }
+        return ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter);
+    }
+
     private static Route createRoute(final ActorSystem actorSystem,
             final GatewayConfig gatewayConfig,
             final ActorRef proxyActor,
@@ -243,6 +274,7 @@ final class GatewayRootActor extends DittoRootActor {
 
         final StreamingConfig streamingConfig = gatewayConfig.getStreamingConfig();
         final CommandConfig commandConfig = gatewayConfig.getCommandConfig();
+        final double tracingSamplingRate = gatewayConfig.getMetricsConfig().getTracingSamplingRate();
 
         return RootRoute.getBuilder(httpConfig)
                 .statsRoute(new StatsRoute(proxyActor, actorSystem, httpConfig, commandConfig, devOpsConfig,
@@ -262,13 +294,15 @@ final class GatewayRootActor extends DittoRootActor {
                         new ThingSearchRoute(proxyActor, actorSystem, httpConfig, commandConfig, headerTranslator))
                 .websocketRoute(WebSocketRoute.getInstance(streamingActor, streamingConfig)
                         .withSignalEnrichmentProvider(signalEnrichmentProvider)
-                        .withHeaderTranslator(headerTranslator))
+                        .withHeaderTranslator(headerTranslator)
+                        .withTracingSamplingRate(tracingSamplingRate))
                 .supportedSchemaVersions(httpConfig.getSupportedSchemaVersions())
                 .protocolAdapterProvider(protocolAdapterProvider)
                 .headerTranslator(headerTranslator)
                 .httpAuthenticationDirective(authenticationDirectiveFactory.buildHttpAuthentication())
                 .wsAuthenticationDirective(authenticationDirectiveFactory.buildWsAuthentication())
                 .dittoHeadersSizeChecker(dittoHeadersSizeChecker)
+                .tracingSamplingRate(tracingSamplingRate)
                 .build();
     }
 
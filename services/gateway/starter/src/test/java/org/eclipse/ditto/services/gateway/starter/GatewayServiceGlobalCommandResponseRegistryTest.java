@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.starter;
 
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
+import org.eclipse.ditto.services.models.connectivity.placement.RebalanceClientActorsResponse;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReportResponse;
@@ -40,6 +41,7 @@ public final class GatewayServiceGlobalCommandResponseRegistryTest extends Globa
 
     public GatewayServiceGlobalCommandResponseRegistryTest() {
         super(
+                RebalanceClientActorsResponse.class,
                 SudoRetrieveThingResponse.class,
                 SudoRetrievePolicyResponse.class,
                 QueryThingsResponse.class,
@@ -25,6 +25,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 
 /**
@@ -36,6 +37,7 @@ public final class StartStreaming implements StreamControlMessage {
     private final String connectionCorrelationId;
     private final AuthorizationContext authorizationContext;
     private final List<String> namespaces;
+    private final List<ThingId> thingIds;
     @Nullable private final String filter;
     @Nullable private final JsonFieldSelector extraFields;
 
@@ -45,6 +47,8 @@ public final class StartStreaming implements StreamControlMessage {
         authorizationContext = builder.authorizationContext;
         @Nullable final Collection<String> namespacesFromBuilder = builder.namespaces;
         namespaces = null != namespacesFromBuilder ? List.copyOf(namespacesFromBuilder) : Collections.emptyList();
+        @Nullable final Collection<ThingId> thingIdsFromBuilder = builder.thingIds;
+        thingIds = null != thingIdsFromBuilder ? List.copyOf(thingIdsFromBuilder) : Collections.emptyList();
         filter = Objects.toString(builder.filter, null);
         extraFields = builder.extraFields;
     }
@@ -87,6 +91,16 @@ public final class StartStreaming implements StreamControlMessage {
         return namespaces;
     }
 
+    /**
+     * Returns the IDs of the things for which signals should be emitted to the stream.
+     *
+     * @return the thing IDs or an empty List if signals of all things should be emitted.
+     * @since 1.2.0
+     */
+    public List<ThingId> getThingIds() {
+        return thingIds;
+    }
+
     /**
      * @return the optional RQL filter to apply for events before publishing to the stream
      */
@@ -116,14 +130,15 @@ public final class StartStreaming implements StreamControlMessage {
                 Objects.equals(connectionCorrelationId, that.connectionCorrelationId) &&
                 Objects.equals(authorizationContext, that.authorizationContext) &&
                 Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(thingIds, that.thingIds) &&
                 Objects.equals(filter, that.filter) &&
                 Objects.equals(extraFields, that.extraFields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, filter,
-                extraFields);
+        return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, thingIds,
+                filter, extraFields);
     }
 
     @Override
@@ -133,6 +148,7 @@ public final class StartStreaming implements StreamControlMessage {
                 ", connectionCorrelationId=" + connectionCorrelationId +
                 ", authorizationContext=" + authorizationContext +
                 ", namespaces=" + namespaces +
+                ", thingIds=" + thingIds +
                 ", eventFilter=" + filter +
                 ", extraFields=" + extraFields +
                 "]";
@@ -149,6 +165,7 @@ public final class StartStreaming implements StreamControlMessage {
         private final AuthorizationContext authorizationContext;
 
         @Nullable private Collection<String> namespaces;
+        @Nullable private Collection<ThingId> thingIds;
         @Nullable private CharSequence filter;
         @Nullable private JsonFieldSelector extraFields;
 
@@ -160,6 +177,7 @@ public final class StartStreaming implements StreamControlMessage {
                     .toString();
             this.authorizationContext = checkNotNull(authorizationContext, "authorizationContext");
             namespaces = null;
+            thingIds = null;
             filter = null;
             extraFields = null;
         }
@@ -176,6 +194,18 @@ public final class StartStreaming implements StreamControlMessage {
             return this;
         }
 
+        /**
+         * Sets the IDs of the things whose signals should be emitted to the stream.
+         *
+         * @param thingIds the thing IDs &ndash; if empty or {@code null}, all things are considered.
+         * @return this builder instance to allow method chaining.
+         * @since 1.2.0
+         */
+        public StartStreamingBuilder withThingIds(@Nullable final Collection<ThingId> thingIds) {
+            this.thingIds = thingIds;
+            return this;
+        }
+
         /**
          * Sets the filter to be applied to events.
          *
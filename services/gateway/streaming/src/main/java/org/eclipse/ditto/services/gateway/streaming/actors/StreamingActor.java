@@ -22,6 +22,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.gateway.security.authentication.AuthenticationResult;
 import org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtAuthenticationFactory;
@@ -33,9 +34,11 @@ import org.eclipse.ditto.services.gateway.streaming.Jwt;
 import org.eclipse.ditto.services.gateway.streaming.RefreshSession;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
+import org.eclipse.ditto.services.gateway.util.ThingRevisionCache;
 import org.eclipse.ditto.services.gateway.util.config.streaming.DefaultStreamingConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.services.models.thingsearch.query.filter.RqlParseCache;
 import org.eclipse.ditto.services.utils.akka.actors.ModifyConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -71,6 +74,8 @@ public final class StreamingActor extends AbstractActorWithTimers
      */
     public static final String ACTOR_NAME = "streaming";
 
+    private static final String FILTER_CACHE_NAME = "streaming";
+
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
     private final Gauge streamingSessionsCounter;
@@ -79,6 +84,8 @@ public final class StreamingActor extends AbstractActorWithTimers
     private final Props subscriptionManagerProps;
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final HeaderTranslator headerTranslator;
+    private final RqlParseCache rqlParseCache;
+    private final ThingRevisionCache thingRevisionCache;
 
     private StreamingConfig streamingConfig;
 
@@ -98,13 +105,17 @@ public final class StreamingActor extends AbstractActorWithTimers
             final StreamingConfig streamingConfig,
             final HeaderTranslator headerTranslator,
             final ActorRef pubSubMediator,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final ThingRevisionCache thingRevisionCache) {
 
         this.dittoProtocolSub = dittoProtocolSub;
         this.commandRouter = commandRouter;
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
+        this.thingRevisionCache = thingRevisionCache;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        rqlParseCache = RqlParseCache.of(QueryFilterCriteriaFactory.modelBased(),
+                streamingConfig.getFilterCacheConfig(), FILTER_CACHE_NAME, getContext().getDispatcher());
         jwtValidator = jwtAuthenticationFactory.getJwtValidator();
         jwtAuthenticationResultProvider = jwtAuthenticationFactory.newJwtAuthenticationResultProvider();
         subscriptionManagerProps =
@@ -120,6 +131,7 @@ public final class StreamingActor extends AbstractActorWithTimers
      * @param commandRouter the command router used to send signals into the cluster.
      * @param streamingConfig the streaming config.
      * @param headerTranslator translates headers from external sources or to external sources.
+     * @param thingRevisionCache the cache to update with the revisions of received twin events.
      * @return the Akka configuration Props object.
      */
     public static Props props(final DittoProtocolSub dittoProtocolSub,
@@ -128,10 +140,11 @@ public final class StreamingActor extends AbstractActorWithTimers
             final StreamingConfig streamingConfig,
             final HeaderTranslator headerTranslator,
             final ActorRef pubSubMediator,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final ThingRevisionCache thingRevisionCache) {
 
         return Props.create(StreamingActor.class, dittoProtocolSub, commandRouter, jwtAuthenticationFactory,
-                streamingConfig, headerTranslator, pubSubMediator, conciergeForwarder);
+                streamingConfig, headerTranslator, pubSubMediator, conciergeForwarder, thingRevisionCache);
     }
 
     @Override
@@ -150,7 +163,8 @@ public final class StreamingActor extends AbstractActorWithTimers
                     getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub, eventAndResponsePublisher,
                                     streamingConfig.getAcknowledgementConfig(), headerTranslator,
-                                    subscriptionManagerProps),
+                                    subscriptionManagerProps, streamingConfig.isNarrowEventSubscriptions(),
+                                    rqlParseCache, thingRevisionCache),
                             connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
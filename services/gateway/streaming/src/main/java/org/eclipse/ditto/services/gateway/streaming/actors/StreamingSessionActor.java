@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,11 +33,6 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.streaming.CloseStreamExceptionally;
@@ -45,13 +41,18 @@ import org.eclipse.ditto.services.gateway.streaming.InvalidJwt;
 import org.eclipse.ditto.services.gateway.streaming.RefreshSession;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
+import org.eclipse.ditto.services.gateway.util.ThingRevisionCache;
 import org.eclipse.ditto.services.models.acks.AcknowledgementAggregatorActor;
 import org.eclipse.ditto.services.models.acks.AcknowledgementForwarderActor;
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.eclipse.ditto.services.models.things.ThingEventTopics;
+import org.eclipse.ditto.services.models.thingsearch.query.filter.RqlParseCache;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.search.SubscriptionManager;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
@@ -94,9 +95,14 @@ final class StreamingSessionActor extends AbstractActor {
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
     private final DittoDiagnosticLoggingAdapter logger;
+    private final boolean narrowEventSubscriptions;
+    private final RqlParseCache rqlParseCache;
+    private final ThingRevisionCache thingRevisionCache;
+    private final Counter filteredCounter;
 
     @Nullable private Cancellable sessionTerminationCancellable;
     private AuthorizationContext authorizationContext;
+    private Collection<String> twinEventTopics;
 
     @SuppressWarnings("unused")
     private StreamingSessionActor(final Connect connect,
@@ -104,7 +110,10 @@ final class StreamingSessionActor extends AbstractActor {
             final ActorRef eventAndResponsePublisher,
             final AcknowledgementConfig acknowledgementConfig,
             final HeaderTranslator headerTranslator,
-            final Props subscriptionManagerProps) {
+            final Props subscriptionManagerProps,
+            final boolean narrowEventSubscriptions,
+            final RqlParseCache rqlParseCache,
+            final ThingRevisionCache thingRevisionCache) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -116,6 +125,13 @@ final class StreamingSessionActor extends AbstractActor {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        this.narrowEventSubscriptions = narrowEventSubscriptions;
+        this.rqlParseCache = rqlParseCache;
+        this.thingRevisionCache = thingRevisionCache;
+        filteredCounter = DittoMetrics.counter("streaming_messages")
+                .tag("type", type)
+                .tag("direction", "filtered-at-gateway");
+        twinEventTopics = List.of();
         logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         logger.setCorrelationId(connectionCorrelationId);
         connect.getSessionExpirationTime().ifPresent(expiration ->
@@ -136,6 +152,10 @@ final class StreamingSessionActor extends AbstractActor {
      * @param acknowledgementConfig the config to apply for Acknowledgements.
      * @param headerTranslator translates headers from external sources or to external sources.
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
+     * @param narrowEventSubscriptions whether to subscribe for twin events only of the requested namespaces and
+     * thing IDs.
+     * @param rqlParseCache the cache of parsed filters shared by all streaming sessions.
+     * @param thingRevisionCache the cache to update with the revisions of received twin events.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -143,10 +163,14 @@ final class StreamingSessionActor extends AbstractActor {
             final ActorRef eventAndResponsePublisher,
             final AcknowledgementConfig acknowledgementConfig,
             final HeaderTranslator headerTranslator,
-            final Props subscriptionManagerProps) {
+            final Props subscriptionManagerProps,
+            final boolean narrowEventSubscriptions,
+            final RqlParseCache rqlParseCache,
+            final ThingRevisionCache thingRevisionCache) {
 
         return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub, eventAndResponsePublisher,
-                acknowledgementConfig, headerTranslator, subscriptionManagerProps);
+                acknowledgementConfig, headerTranslator, subscriptionManagerProps, narrowEventSubscriptions,
+                rqlParseCache, thingRevisionCache);
     }
 
     @Override
@@ -218,7 +242,11 @@ final class StreamingSessionActor extends AbstractActor {
                     final AcknowledgeSubscription subscribeAck =
                             new AcknowledgeSubscription(startStreaming.getStreamingType());
                     final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
-                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationContext.getAuthorizationSubjectIds(),
+                    final List<String> authorizationSubjectIds = authorizationContext.getAuthorizationSubjectIds();
+                    if (startStreaming.getStreamingType() == StreamingType.EVENTS) {
+                        updateTwinEventTopics(startStreaming, authorizationSubjectIds);
+                    }
+                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationSubjectIds, twinEventTopics,
                             getSelf()).thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
                 })
                 .match(StopStreaming.class, stopStreaming -> {
@@ -236,9 +264,9 @@ final class StreamingSessionActor extends AbstractActor {
                                 authorizationContext.getAuthorizationSubjectIds(), getSelf())
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                     } else {
-                        dittoProtocolSub.removeTwinSubscriber(getSelf(),
-                                authorizationContext.getAuthorizationSubjectIds())
+                        dittoProtocolSub.removeTwinSubscriber(getSelf(), twinEventTopics)
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
+                        twinEventTopics = List.of();
                     }
                 })
                 .match(RefreshSession.class, refreshSession -> {
@@ -307,6 +335,9 @@ final class StreamingSessionActor extends AbstractActor {
     private void handleSignal(final Signal<?> signal) {
         logger.setCorrelationId(signal);
         final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        if (signal instanceof ThingEvent && StreamingType.EVENTS == determineStreamingType(signal)) {
+            thingRevisionCache.update((ThingEvent<?>) signal);
+        }
         if (signal instanceof CreateSubscription || signal instanceof RequestFromSubscription ||
                 signal instanceof CancelSubscription) {
             subscriptionManager.tell(signal, getSelf());
@@ -324,7 +355,9 @@ final class StreamingSessionActor extends AbstractActor {
         } else {
             // check if this session is "allowed" to receive the Signal
             @Nullable final StreamingSession session = streamingSessions.get(determineStreamingType(signal));
-            if (null != session && isSessionAllowedToReceiveSignal(signal, session)) {
+            if (null != session && !isSessionAllowedToReceiveSignal(signal, session)) {
+                filteredCounter.increment();
+            } else if (null != session) {
                 logger.debug("Got Signal <{}> in <{}> session, telling EventAndResponsePublisher about it: {}",
                         signal.getType(), type, signal);
 
@@ -348,6 +381,23 @@ final class StreamingSessionActor extends AbstractActor {
         return isAuthorizedToRead && matchesNamespace;
     }
 
+    private void updateTwinEventTopics(final StartStreaming startStreaming,
+            final Collection<String> authorizationSubjectIds) {
+
+        final Collection<String> newTwinEventTopics = narrowEventSubscriptions
+                ? ThingEventTopics.narrow(authorizationSubjectIds, startStreaming.getNamespaces(),
+                startStreaming.getThingIds())
+                : authorizationSubjectIds;
+        if (!twinEventTopics.isEmpty() && !twinEventTopics.equals(newTwinEventTopics)) {
+            final Set<String> obsoleteTopics = new HashSet<>(twinEventTopics);
+            obsoleteTopics.removeAll(newTwinEventTopics);
+            if (!obsoleteTopics.isEmpty()) {
+                dittoProtocolSub.removeTwinSubscriber(getSelf(), obsoleteTopics);
+            }
+        }
+        twinEventTopics = newTwinEventTopics;
+    }
+
     private Cancellable startSessionTimeout(final Instant sessionExpirationTime) {
         final long timeout = sessionExpirationTime.minusMillis(Instant.now().toEpochMilli()).toEpochMilli();
 
@@ -423,14 +473,8 @@ final class StreamingSessionActor extends AbstractActor {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return rqlParseCache.filterCriteria(filter, dittoHeaders);
     }
 
     private void acknowledgeSubscription(final StreamingType streamingType, final ActorRef self) {
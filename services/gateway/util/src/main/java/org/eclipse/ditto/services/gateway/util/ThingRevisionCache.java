@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Cache of the latest thing revisions known from the twin events which are received by the streaming sessions of
+ * this Gateway instance.
+ * <p>
+ * Together with the revision, the subjects which were granted or revoked to read the latest event are cached. The
+ * entity tag of a thing is only revealed to callers who were allowed to read that event.
+ * </p>
+ * <p>
+ * Modify commands of a thing which pass this instance invalidate its entry. Events of a thing modified via other
+ * instances which do not reach this instance are not reflected until the entry expires. Until then, a
+ * conditional retrieval answered from this cache may be a false "304 Not Modified" although a newer revision exists.
+ * The expiry after write thus bounds the duration of such false responses and should be kept short.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class ThingRevisionCache {
+
+    private static final String CACHE_NAME = "gateway_thing_revisions";
+
+    @Nullable private final Cache<ThingId, KnownRevision> cache;
+
+    private ThingRevisionCache(@Nullable final Cache<ThingId, KnownRevision> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns a new ThingRevisionCache.
+     *
+     * @param cacheConfig the configuration settings of the cache.
+     * @param executor the executor of the cache.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingRevisionCache of(final CacheConfig cacheConfig, final Executor executor) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(executor, "executor");
+        return new ThingRevisionCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor));
+    }
+
+    /**
+     * Returns a ThingRevisionCache which does not know any revision.
+     *
+     * @return the instance.
+     */
+    public static ThingRevisionCache disabled() {
+        return new ThingRevisionCache(null);
+    }
+
+    /**
+     * Indicates whether revisions are cached.
+     *
+     * @return {@code true} if revisions are cached, {@code false} else.
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+
+    /**
+     * Remembers the revision of the given twin event unless a newer revision of its thing is known already.
+     * The thing is forgotten if it was deleted.
+     *
+     * @param thingEvent the twin event.
+     */
+    public void update(final ThingEvent<?> thingEvent) {
+        if (null != cache) {
+            final ThingId thingId = thingEvent.getThingEntityId();
+            if (thingEvent instanceof ThingDeleted) {
+                cache.invalidate(thingId);
+            } else {
+                final KnownRevision knownRevision =
+                        new KnownRevision(thingEvent.getRevision(), thingEvent.getDittoHeaders());
+                cache.asMap().merge(thingId, knownRevision, KnownRevision::newer);
+            }
+        }
+    }
+
+    /**
+     * Forgets the revision of a thing, e. g. because it is about to be modified and the event of the modification
+     * may not reach this instance.
+     *
+     * @param thingId the ID of the thing.
+     */
+    public void invalidate(final ThingId thingId) {
+        if (null != cache) {
+            cache.invalidate(thingId);
+        }
+    }
+
+    /**
+     * Returns the entity tag of the latest known revision of a thing if the given authorization context was allowed
+     * to read the event of that revision.
+     *
+     * @param thingId the ID of the thing.
+     * @param authorizationContext the authorization context of the caller.
+     * @return the entity tag or an empty Optional if the revision is unknown or may not be revealed to the caller.
+     */
+    public Optional<EntityTag> getEntityTag(final ThingId thingId, final AuthorizationContext authorizationContext) {
+        if (null == cache) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.asMap().get(thingId))
+                .filter(knownRevision -> authorizationContext.isAuthorized(knownRevision.readGrantedSubjects,
+                        knownRevision.readRevokedSubjects))
+                .flatMap(knownRevision -> EntityTag.fromEntity(ThingsModelFactory.newThingBuilder()
+                        .setId(thingId)
+                        .setRevision(knownRevision.revision)
+                        .build()));
+    }
+
+    @Immutable
+    private static final class KnownRevision {
+
+        private final long revision;
+        private final Set<AuthorizationSubject> readGrantedSubjects;
+        private final Set<AuthorizationSubject> readRevokedSubjects;
+
+        private KnownRevision(final long revision, final DittoHeaders dittoHeaders) {
+            this.revision = revision;
+            readGrantedSubjects = dittoHeaders.getReadGrantedSubjects();
+            readRevokedSubjects = dittoHeaders.getReadRevokedSubjects();
+        }
+
+        private static KnownRevision newer(final KnownRevision oldRevision, final KnownRevision newRevision) {
+            return newRevision.revision >= oldRevision.revision ? newRevision : oldRevision;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.gateway.util.config.security;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 /**
  * Provides configuration settings for the caches of the Gateway service.
@@ -29,4 +30,54 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Indicates whether conditional retrievals of things are answered by the Gateway itself if the latest revision
+     * of the thing is known from twin events.
+     *
+     * @return {@code true} if the revisions cache is enabled, {@code false} else.
+     * @since 1.2.0
+     */
+    boolean isRevisionsCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the cache of the latest known thing revisions.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    CacheConfig getRevisionsConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CachesConfig}.
+     */
+    enum CachesConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether to answer conditional retrievals of things from the cache of the latest known thing revisions.
+         *
+         * @since 1.2.0
+         */
+        REVISIONS_ENABLED("revisions.enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        CachesConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
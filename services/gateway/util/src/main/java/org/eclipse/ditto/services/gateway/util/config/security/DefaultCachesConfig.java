@@ -18,7 +18,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
 
@@ -31,9 +32,13 @@ public final class DefaultCachesConfig implements CachesConfig {
     private static final String CONFIG_PATH = "cache";
 
     private final CacheConfig publicKeysConfig;
+    private final boolean revisionsCacheEnabled;
+    private final CacheConfig revisionsConfig;
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
-        publicKeysConfig = thePublicKeysConfig;
+    private DefaultCachesConfig(final ScopedConfig cacheScopedConfig) {
+        publicKeysConfig = DefaultCacheConfig.of(cacheScopedConfig, "publickeys");
+        revisionsCacheEnabled = cacheScopedConfig.getBoolean(CachesConfigValue.REVISIONS_ENABLED.getConfigPath());
+        revisionsConfig = DefaultCacheConfig.of(cacheScopedConfig, "revisions");
     }
 
     /**
@@ -44,8 +49,7 @@ public final class DefaultCachesConfig implements CachesConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultCachesConfig of(final Config config) {
-        final DefaultScopedConfig cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        return new DefaultCachesConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, CachesConfigValue.values()));
     }
 
     @Override
@@ -53,6 +57,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public boolean isRevisionsCacheEnabled() {
+        return revisionsCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getRevisionsConfig() {
+        return revisionsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -62,18 +76,22 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return revisionsCacheEnabled == that.revisionsCacheEnabled &&
+                Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(revisionsConfig, that.revisionsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, revisionsCacheEnabled, revisionsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", revisionsCacheEnabled=" + revisionsCacheEnabled +
+                ", revisionsConfig=" + revisionsConfig +
                 "]";
     }
 
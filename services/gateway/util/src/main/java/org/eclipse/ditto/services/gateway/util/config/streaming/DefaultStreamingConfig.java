@@ -19,6 +19,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.models.acks.config.DefaultAcknowledgementConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
@@ -34,9 +36,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final int parallelism;
     private final AcknowledgementConfig acknowledgementConfig;
     private final Duration searchIdleTimeout;
+    private final boolean narrowEventSubscriptions;
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
     private final GatewaySignalEnrichmentConfig signalEnrichmentConfig;
+    private final CacheConfig filterCacheConfig;
 
     private DefaultStreamingConfig(final ScopedConfig scopedConfig) {
         sessionCounterScrapeInterval =
@@ -44,9 +48,12 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         parallelism = scopedConfig.getInt(StreamingConfigValue.PARALLELISM.getConfigPath());
         acknowledgementConfig = DefaultAcknowledgementConfig.of(scopedConfig);
         searchIdleTimeout = scopedConfig.getDuration(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath());
+        narrowEventSubscriptions =
+                scopedConfig.getBoolean(StreamingConfigValue.NARROW_EVENT_SUBSCRIPTIONS.getConfigPath());
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
         signalEnrichmentConfig = DefaultGatewaySignalEnrichmentConfig.of(scopedConfig);
+        filterCacheConfig = DefaultCacheConfig.of(scopedConfig, FILTER_CACHE_CONFIG_PATH);
     }
 
     /**
@@ -96,6 +103,16 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return searchIdleTimeout;
     }
 
+    @Override
+    public boolean isNarrowEventSubscriptions() {
+        return narrowEventSubscriptions;
+    }
+
+    @Override
+    public CacheConfig getFilterCacheConfig() {
+        return filterCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -106,18 +123,20 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return parallelism == that.parallelism &&
+                narrowEventSubscriptions == that.narrowEventSubscriptions &&
                 Objects.equals(searchIdleTimeout, that.searchIdleTimeout) &&
                 Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
                 Objects.equals(signalEnrichmentConfig, that.signalEnrichmentConfig) &&
                 Objects.equals(acknowledgementConfig, that.acknowledgementConfig) &&
                 Objects.equals(websocketConfig, that.websocketConfig) &&
-                Objects.equals(sseConfig, that.sseConfig);
+                Objects.equals(sseConfig, that.sseConfig) &&
+                Objects.equals(filterCacheConfig, that.filterCacheConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, signalEnrichmentConfig, acknowledgementConfig,
-                websocketConfig, sseConfig, searchIdleTimeout);
+                websocketConfig, sseConfig, searchIdleTimeout, narrowEventSubscriptions, filterCacheConfig);
     }
 
     @Override
@@ -126,10 +145,12 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 "sessionCounterScrapeInterval=" + sessionCounterScrapeInterval +
                 ", parallelism=" + parallelism +
                 ", searchIdleTimeout=" + searchIdleTimeout +
+                ", narrowEventSubscriptions=" + narrowEventSubscriptions +
                 ", signalEnrichmentConfig=" + signalEnrichmentConfig +
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
                 ", sseConfig=" + sseConfig +
+                ", filterCacheConfig=" + filterCacheConfig +
                 "]";
     }
 }
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 import com.typesafe.config.Config;
@@ -32,6 +33,13 @@ public interface StreamingConfig {
      */
     String CONFIG_PATH = "streaming";
 
+    /**
+     * Config path of the filter cache relative to the streaming config.
+     *
+     * @since 1.2.0
+     */
+    String FILTER_CACHE_CONFIG_PATH = "filter-cache";
+
     /**
      * Returns the session counter update interval.
      *
@@ -83,6 +91,24 @@ public interface StreamingConfig {
      */
     Duration getSearchIdleTimeout();
 
+    /**
+     * Indicates whether twin event subscriptions of streaming sessions should be narrowed to the namespaces and
+     * thing IDs requested by the session so that non-matching events are filtered at their source.
+     * This requires all things service instances to publish the narrowed topics.
+     *
+     * @return whether twin event subscriptions are narrowed.
+     * @since 1.2.0
+     */
+    boolean isNarrowEventSubscriptions();
+
+    /**
+     * Returns the config of the cache of parsed RQL filters of streaming sessions.
+     *
+     * @return the filter cache config.
+     * @since 1.2.0
+     */
+    CacheConfig getFilterCacheConfig();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -94,7 +120,9 @@ public interface StreamingConfig {
                 getSessionCounterScrapeInterval().toMillis() + "ms");
         map.put(StreamingConfigValue.PARALLELISM.getConfigPath(), getParallelism());
         map.put(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath(), getSearchIdleTimeout());
+        map.put(StreamingConfigValue.NARROW_EVENT_SUBSCRIPTIONS.getConfigPath(), isNarrowEventSubscriptions());
         return ConfigFactory.parseMap(map)
+                .withFallback(getFilterCacheConfig().render().atKey(FILTER_CACHE_CONFIG_PATH))
                 .withFallback(getWebsocketConfig().render())
                 .withFallback(getSignalEnrichmentConfig().render())
                 .atKey(CONFIG_PATH);
@@ -119,7 +147,14 @@ public interface StreamingConfig {
         /**
          * How long to wait before closing an idle search stream.
          */
-        SEARCH_IDLE_TIMEOUT("search-idle-timeout", Duration.ofSeconds(45));
+        SEARCH_IDLE_TIMEOUT("search-idle-timeout", Duration.ofSeconds(45)),
+
+        /**
+         * Whether to narrow twin event subscriptions to the requested namespaces and thing IDs.
+         *
+         * @since 1.2.0
+         */
+        NARROW_EVENT_SUBSCRIPTIONS("narrow-event-subscriptions", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingRevisionCache}.
+ */
+public final class ThingRevisionCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+    private static final AuthorizationSubject READER = AuthorizationSubject.newInstance("test:reader");
+    private static final AuthorizationContext READER_CONTEXT =
+            AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, READER);
+    private static final AuthorizationContext OTHER_CONTEXT =
+            AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("test:other"));
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private ThingRevisionCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = ThingRevisionCache.of(DefaultCacheConfig.of(ConfigFactory.parseString(
+                "revisions { maximum-size = 100, expire-after-write = 1m }"), "revisions"), DIRECT_EXECUTOR);
+    }
+
+    @Test
+    public void entityTagOfLatestRevisionIsRevealedToReaders() {
+        underTest.update(attributeModified(3L));
+
+        assertThat(underTest.getEntityTag(THING_ID, READER_CONTEXT)).isEqualTo(Optional.of(revisionTag(3L)));
+        assertThat(underTest.getEntityTag(THING_ID, OTHER_CONTEXT)).isEmpty();
+    }
+
+    @Test
+    public void olderRevisionDoesNotReplaceNewerRevision() {
+        underTest.update(attributeModified(5L));
+        underTest.update(attributeModified(4L));
+
+        assertThat(underTest.getEntityTag(THING_ID, READER_CONTEXT)).isEqualTo(Optional.of(revisionTag(5L)));
+    }
+
+    @Test
+    public void deletedThingIsForgotten() {
+        underTest.update(attributeModified(5L));
+        underTest.update(ThingDeleted.of(THING_ID, 6L, headersReadableBy(READER)));
+
+        assertThat(underTest.getEntityTag(THING_ID, READER_CONTEXT)).isEmpty();
+    }
+
+    @Test
+    public void invalidatedThingIsForgotten() {
+        underTest.update(attributeModified(5L));
+        underTest.invalidate(THING_ID);
+
+        assertThat(underTest.getEntityTag(THING_ID, READER_CONTEXT)).isEmpty();
+    }
+
+    @Test
+    public void disabledCacheKnowsNoRevision() {
+        final ThingRevisionCache disabled = ThingRevisionCache.disabled();
+        disabled.update(attributeModified(3L));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.getEntityTag(THING_ID, READER_CONTEXT)).isEmpty();
+    }
+
+    private static AttributeModified attributeModified(final long revision) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("foo"), JsonValue.of(revision), revision,
+                headersReadableBy(READER));
+    }
+
+    private static DittoHeaders headersReadableBy(final AuthorizationSubject subject) {
+        final DittoHeadersBuilder<?, ?> headersBuilder = DittoHeaders.newBuilder();
+        return headersBuilder.readGrantedSubjects(List.of(subject)).build();
+    }
+
+    private static EntityTag revisionTag(final long revision) {
+        return EntityTag.fromString("\"rev:" + revision + "\"");
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.util.config.security;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.gateway.util.config.security.DefaultCachesConfig}.
+ */
+public final class DefaultCachesConfigTest {
+
+    private static Config cachesTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        cachesTestConfig = ConfigFactory.load("caches-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCachesConfig.class, areImmutable(),
+                provided(CacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCachesConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final CachesConfig underTest = DefaultCachesConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isRevisionsCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.REVISIONS_ENABLED.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.REVISIONS_ENABLED.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final CachesConfig underTest = DefaultCachesConfig.of(cachesTestConfig);
+
+        softly.assertThat(underTest.getPublicKeysConfig().getMaximumSize())
+                .as("publickeys.maximum-size")
+                .isEqualTo(64L);
+        softly.assertThat(underTest.getPublicKeysConfig().getExpireAfterWrite())
+                .as("publickeys.expire-after-write")
+                .isEqualTo(Duration.ofMinutes(30L));
+        softly.assertThat(underTest.isRevisionsCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.REVISIONS_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getRevisionsConfig().getMaximumSize())
+                .as("revisions.maximum-size")
+                .isEqualTo(5000L);
+        softly.assertThat(underTest.getRevisionsConfig().getExpireAfterWrite())
+                .as("revisions.expire-after-write")
+                .isEqualTo(Duration.ofSeconds(10L));
+    }
+
+}
@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -46,8 +47,8 @@ public final class DefaultStreamingConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultStreamingConfig.class, areImmutable(),
-                provided(Config.class, WebsocketConfig.class, SseConfig.class, GatewaySignalEnrichmentConfig.class)
-                        .areAlsoImmutable());
+                provided(Config.class, WebsocketConfig.class, SseConfig.class, GatewaySignalEnrichmentConfig.class,
+                        CacheConfig.class).areAlsoImmutable());
     }
 
     @Test
@@ -70,6 +71,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSearchIdleTimeout())
                 .as(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.isNarrowEventSubscriptions())
+                .as(StreamingConfig.StreamingConfigValue.NARROW_EVENT_SUBSCRIPTIONS.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.NARROW_EVENT_SUBSCRIPTIONS.getDefaultValue());
     }
 
     @Test
@@ -85,6 +89,15 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSearchIdleTimeout())
                 .as(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(7L));
+        softly.assertThat(underTest.isNarrowEventSubscriptions())
+                .as(StreamingConfig.StreamingConfigValue.NARROW_EVENT_SUBSCRIPTIONS.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getFilterCacheConfig().getMaximumSize())
+                .as("filter-cache.maximum-size")
+                .isEqualTo(123L);
+        softly.assertThat(underTest.getFilterCacheConfig().getExpireAfterAccess())
+                .as("filter-cache.expire-after-access")
+                .isEqualTo(Duration.ofMinutes(3L));
         softly.assertThat(underTest.getSignalEnrichmentConfig().isCachingEnabled())
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath())
                 .isFalse();
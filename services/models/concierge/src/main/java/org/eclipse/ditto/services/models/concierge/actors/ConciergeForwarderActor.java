@@ -16,11 +16,19 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.config.DefaultMetricsConfig;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -33,6 +41,8 @@ import akka.japi.pf.ReceiveBuilder;
  * Actor which acts as a client to the concierge service. It forwards messages either to the concierge's appropriate
  * enforcer (in case of a command referring to a single entity) or to the concierge's dispatcher actor (in
  * case of commands not referring to a single entity such as search commands).
+ * If colocated enforcement is enabled, twin thing commands are sent directly to the things shard region instead and
+ * are enforced by the things service which hosts the addressed thing.
  */
 public class ConciergeForwarderActor extends AbstractActor {
 
@@ -46,13 +56,19 @@ public class ConciergeForwarderActor extends AbstractActor {
     private final ActorRef pubSubMediator;
     private final ActorRef conciergeEnforcer;
     private final Function<Signal<?>, Signal<?>> signalTransformer;
+    @Nullable private final ActorRef thingsShardRegion;
+    private final double tracingSamplingRate;
 
     @SuppressWarnings("unused")
     private ConciergeForwarderActor(final ActorRef pubSubMediator, final ActorRef conciergeEnforcer,
-            final Function<Signal<?>, Signal<?>> signalTransformer) {
+            final Function<Signal<?>, Signal<?>> signalTransformer, @Nullable final ActorRef thingsShardRegion) {
         this.pubSubMediator = pubSubMediator;
         this.conciergeEnforcer = conciergeEnforcer;
         this.signalTransformer = signalTransformer;
+        this.thingsShardRegion = thingsShardRegion;
+        tracingSamplingRate = DefaultMetricsConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getTracingSamplingRate();
     }
 
     /**
@@ -78,7 +94,25 @@ public class ConciergeForwarderActor extends AbstractActor {
     public static Props props(final ActorRef pubSubMediator, final ActorRef conciergeEnforcer,
             final Function<Signal<?>, Signal<?>> signalTransformer) {
 
-        return Props.create(ConciergeForwarderActor.class, pubSubMediator, conciergeEnforcer, signalTransformer);
+        return Props.create(ConciergeForwarderActor.class, pubSubMediator, conciergeEnforcer, signalTransformer, null);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor which sends twin thing commands directly to the things
+     * shard region in order to have them enforced by the things service which hosts the addressed thing.
+     *
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param conciergeEnforcer the ActorRef of the concierge EnforcerActor.
+     * @param thingsShardRegion the things shard region (proxy) to send twin thing commands to.
+     * @return the Akka configuration Props object.
+     * @since 1.2.0
+     */
+    public static Props propsWithColocatedEnforcement(final ActorRef pubSubMediator,
+            final ActorRef conciergeEnforcer,
+            final ActorRef thingsShardRegion) {
+
+        return Props.create(ConciergeForwarderActor.class, pubSubMediator, conciergeEnforcer, Function.identity(),
+                thingsShardRegion);
     }
 
     @Override
@@ -102,7 +136,7 @@ public class ConciergeForwarderActor extends AbstractActor {
      */
     private void forward(final Signal<?> signal, final ActorContext ctx) {
 
-        final Signal<?> transformedSignal = signalTransformer.apply(signal);
+        final Signal<?> transformedSignal = traceIngress(signalTransformer.apply(signal));
 
         LogUtil.enhanceLogWithCorrelationId(log, signal);
         final EntityId signalId = transformedSignal.getEntityId();
@@ -114,6 +148,10 @@ public class ConciergeForwarderActor extends AbstractActor {
             final DistributedPubSubMediator.Send msg = wrapForPubSub(transformedSignal);
             log.debug("Forwarding message to concierge-dispatcherActor via pub/sub: <{}>.", msg);
             pubSubMediator.forward(msg, ctx);
+        } else if (null != thingsShardRegion && isTwinThingCommand(transformedSignal)) {
+            log.info("Forwarding signal with ID <{}> and type <{}> to things shard region for colocated enforcement",
+                    signalId, signalType);
+            thingsShardRegion.forward(markForColocatedEnforcement(transformedSignal), ctx);
         } else {
             log.info("Forwarding signal with ID <{}> and type <{}> to concierge enforcer", signalId, signalType);
             final Object msg = ConciergeWrapper.wrapForEnforcerRouter(transformedSignal);
@@ -122,6 +160,28 @@ public class ConciergeForwarderActor extends AbstractActor {
         }
     }
 
+    /**
+     * Starts the trace of a signal entering the cluster unless the gateway already started it at its HTTP or
+     * WebSocket ingress, in which case the time until the signal is forwarded is recorded.
+     */
+    private Signal<?> traceIngress(final Signal<?> signal) {
+        if (TraceContext.of(signal.getDittoHeaders()).isPresent()) {
+            return TraceContext.recordHop(signal, TraceContext.SPAN_FORWARDED);
+        }
+        return TraceContext.start(signal, TraceContext.SPAN_INGRESS, tracingSamplingRate);
+    }
+
+    private static boolean isTwinThingCommand(final Signal<?> signal) {
+        return signal instanceof ThingCommand && !StreamingType.isLiveSignal(signal);
+    }
+
+    private static Signal<?> markForColocatedEnforcement(final Signal<?> signal) {
+        return signal.setDittoHeaders(signal.getDittoHeaders()
+                .toBuilder()
+                .putHeader(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(), String.valueOf(true))
+                .build());
+    }
+
     private static DistributedPubSubMediator.Send wrapForPubSub(final Signal<?> signal) {
         return DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, signal);
     }
@@ -36,6 +36,21 @@ public interface DittoProtocolSub {
     CompletionStage<Void> subscribe(Collection<StreamingType> types,
             Collection<String> topics, ActorRef subscriber);
 
+    /**
+     * Subscribe for each streaming type the same collection of topics except for twin events, which are subscribed
+     * with their own topics, e. g. read-subject topics narrowed by
+     * {@link org.eclipse.ditto.services.models.things.ThingEventTopics}.
+     *
+     * @param types the streaming types.
+     * @param topics the topics of all streaming types except twin events.
+     * @param twinEventTopics the topics of twin events.
+     * @param subscriber who is subscribing.
+     * @return future that completes or fails according to the acknowledgement.
+     * @since 1.2.0
+     */
+    CompletionStage<Void> subscribe(Collection<StreamingType> types, Collection<String> topics,
+            Collection<String> twinEventTopics, ActorRef subscriber);
+
     /**
      * Remove a subscriber.
      *
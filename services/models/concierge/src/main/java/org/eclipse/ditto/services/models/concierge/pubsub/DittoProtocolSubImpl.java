@@ -55,13 +55,21 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
     public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
             final Collection<String> topics,
             final ActorRef subscriber) {
+        return subscribe(types, topics, topics, subscriber);
+    }
+
+    @Override
+    public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+            final Collection<String> topics,
+            final Collection<String> twinEventTopics,
+            final ActorRef subscriber) {
         final CompletionStage<?> nop = CompletableFuture.completedFuture(null);
         return partitionByStreamingTypes(types,
                 liveTypes -> !liveTypes.isEmpty()
                         ? liveSignalSub.subscribeWithFilterAndAck(topics, subscriber, toFilter(liveTypes))
                         : nop,
                 hasTwinEvents -> hasTwinEvents
-                        ? twinEventSub.subscribeWithAck(topics, subscriber)
+                        ? twinEventSub.subscribeWithAck(twinEventTopics, subscriber)
                         : nop
         );
     }
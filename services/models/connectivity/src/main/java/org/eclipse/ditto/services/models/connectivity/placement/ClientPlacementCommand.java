@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.Command;
+
+/**
+ * Aggregates all internal commands concerning the placement of client actors on the cluster members of the
+ * connectivity service.
+ *
+ * @param <T> the type of the implementing class.
+ * @since 1.2.0
+ */
+public interface ClientPlacementCommand<T extends ClientPlacementCommand<T>> extends Command<T> {
+
+    /**
+     * Type prefix of client placement commands.
+     */
+    String TYPE_PREFIX = "connectivity.placement." + TYPE_QUALIFIER + ":";
+
+    /**
+     * Client placement resource type.
+     */
+    String RESOURCE_TYPE = "connectivity-placement";
+
+    @Override
+    default JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    default String getResourceType() {
+        return RESOURCE_TYPE;
+    }
+
+    @Override
+    default String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    T setDittoHeaders(DittoHeaders dittoHeaders);
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command to the persistence actor of a connection to move one of its client actors from one connectivity instance
+ * to another one. The client actor on the source instance is closed and stopped before a new client actor is started
+ * on the target instance. There is no response to this command.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = MigrateClientActor.TYPE_PREFIX, name = MigrateClientActor.NAME)
+public final class MigrateClientActor extends AbstractCommand<MigrateClientActor>
+        implements ClientPlacementCommand<MigrateClientActor> {
+
+    /**
+     * Name of this command.
+     */
+    public static final String NAME = "migrateClientActor";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<String> JSON_CONNECTION_ID =
+            JsonFactory.newStringFieldDefinition("connectionId", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_FROM =
+            JsonFactory.newStringFieldDefinition("from", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_TO =
+            JsonFactory.newStringFieldDefinition("to", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final ConnectionId connectionId;
+    private final String from;
+    private final String to;
+
+    private MigrateClientActor(final ConnectionId connectionId, final String from, final String to,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.connectionId = checkNotNull(connectionId, "connectionId");
+        this.from = checkNotNull(from, "from");
+        this.to = checkNotNull(to, "to");
+    }
+
+    /**
+     * Returns a new {@code MigrateClientActor} command.
+     *
+     * @param connectionId the ID of the connection whose client actor is to be moved.
+     * @param from the address of the connectivity instance the client actor currently runs on.
+     * @param to the address of the connectivity instance the client actor is to be started on.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static MigrateClientActor of(final ConnectionId connectionId, final String from, final String to,
+            final DittoHeaders dittoHeaders) {
+
+        return new MigrateClientActor(connectionId, from, to, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code MigrateClientActor} command from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static MigrateClientActor fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<MigrateClientActor>(TYPE, jsonObject).deserialize(
+                () -> of(ConnectionId.of(jsonObject.getValueOrThrow(JSON_CONNECTION_ID)),
+                        jsonObject.getValueOrThrow(JSON_FROM),
+                        jsonObject.getValueOrThrow(JSON_TO),
+                        dittoHeaders));
+    }
+
+    @Override
+    public ConnectionId getEntityId() {
+        return connectionId;
+    }
+
+    /**
+     * Returns the address of the connectivity instance the client actor currently runs on.
+     *
+     * @return the address.
+     */
+    public String getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the address of the connectivity instance the client actor is to be started on.
+     *
+     * @return the address.
+     */
+    public String getTo() {
+        return to;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public MigrateClientActor setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new MigrateClientActor(connectionId, from, to, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_CONNECTION_ID, String.valueOf(connectionId), predicate)
+                .set(JSON_FROM, from, predicate)
+                .set(JSON_TO, to, predicate);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof MigrateClientActor;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final MigrateClientActor that = (MigrateClientActor) o;
+        return Objects.equals(connectionId, that.connectionId) &&
+                Objects.equals(from, that.from) &&
+                Objects.equals(to, that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), connectionId, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", connectionId=" + connectionId +
+                ", from=" + from +
+                ", to=" + to +
+                "]";
+    }
+
+}
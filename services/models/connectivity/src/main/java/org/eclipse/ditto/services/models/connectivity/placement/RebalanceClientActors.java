@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command to rebalance the client actors running on a connectivity instance. The instance which receives the command
+ * compares its load with the load of the other connectivity instances and migrates client actors of its busiest
+ * connections to less loaded instances. With {@code dryRun} set, the planned migrations are only reported.
+ * <p>
+ * This command is meant to be sent as piggyback command of a DevOps command to each connectivity instance.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = RebalanceClientActors.TYPE_PREFIX, name = RebalanceClientActors.NAME)
+public final class RebalanceClientActors extends AbstractCommand<RebalanceClientActors>
+        implements ClientPlacementCommand<RebalanceClientActors>, WithIdButActuallyNot {
+
+    /**
+     * Name of this command.
+     */
+    public static final String NAME = "rebalanceClientActors";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<Boolean> JSON_DRY_RUN =
+            JsonFactory.newBooleanFieldDefinition("dryRun", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final boolean dryRun;
+
+    private RebalanceClientActors(final boolean dryRun, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Returns a new {@code RebalanceClientActors} command.
+     *
+     * @param dryRun whether the planned migrations should only be reported instead of being executed.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     */
+    public static RebalanceClientActors of(final boolean dryRun, final DittoHeaders dittoHeaders) {
+        return new RebalanceClientActors(dryRun, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RebalanceClientActors} command from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RebalanceClientActors fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<RebalanceClientActors>(TYPE, jsonObject).deserialize(
+                () -> of(jsonObject.getValue(JSON_DRY_RUN).orElse(false), dittoHeaders));
+    }
+
+    /**
+     * Indicates whether the planned migrations should only be reported instead of being executed.
+     *
+     * @return {@code true} if this is a dry run.
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    @Override
+    public Category getCategory() {
+        return dryRun ? Category.QUERY : Category.MODIFY;
+    }
+
+    @Override
+    public RebalanceClientActors setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RebalanceClientActors(dryRun, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_DRY_RUN, dryRun, predicate);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RebalanceClientActors;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final RebalanceClientActors that = (RebalanceClientActors) o;
+        return dryRun == that.dryRun;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), dryRun);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", dryRun=" + dryRun +
+                "]";
+    }
+
+}
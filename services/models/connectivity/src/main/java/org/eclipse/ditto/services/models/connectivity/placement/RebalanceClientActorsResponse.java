@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to {@link RebalanceClientActors} containing the loads of the connectivity instances as known to the
+ * responding instance and the migrations of client actors it planned.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+@JsonParsableCommandResponse(type = RebalanceClientActorsResponse.TYPE)
+public final class RebalanceClientActorsResponse extends AbstractCommandResponse<RebalanceClientActorsResponse>
+        implements WithIdButActuallyNot {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE =
+            "connectivity.placement." + TYPE_QUALIFIER + ":" + RebalanceClientActors.NAME;
+
+    static final JsonFieldDefinition<String> JSON_INSTANCE =
+            JsonFactory.newStringFieldDefinition("instance", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<Boolean> JSON_DRY_RUN = RebalanceClientActors.JSON_DRY_RUN;
+
+    static final JsonFieldDefinition<JsonObject> JSON_NODE_LOADS =
+            JsonFactory.newJsonObjectFieldDefinition("nodeLoads", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_MIGRATIONS =
+            JsonFactory.newJsonArrayFieldDefinition("migrations", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final String instance;
+    private final boolean dryRun;
+    private final JsonObject nodeLoads;
+    private final JsonArray migrations;
+
+    private RebalanceClientActorsResponse(final String instance, final boolean dryRun, final JsonObject nodeLoads,
+            final JsonArray migrations, final DittoHeaders dittoHeaders) {
+
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.instance = checkNotNull(instance, "instance");
+        this.dryRun = dryRun;
+        this.nodeLoads = checkNotNull(nodeLoads, "nodeLoads");
+        this.migrations = checkNotNull(migrations, "migrations");
+    }
+
+    /**
+     * Returns a new {@code RebalanceClientActorsResponse}.
+     *
+     * @param instance the address of the responding connectivity instance.
+     * @param dryRun whether the migrations were only planned.
+     * @param nodeLoads the messages per minute of each known connectivity instance keyed by its address.
+     * @param migrations the planned migrations.
+     * @param dittoHeaders the headers of the response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RebalanceClientActorsResponse of(final String instance, final boolean dryRun,
+            final JsonObject nodeLoads, final JsonArray migrations, final DittoHeaders dittoHeaders) {
+
+        return new RebalanceClientActorsResponse(instance, dryRun, nodeLoads, migrations, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RebalanceClientActorsResponse} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} misses a required field.
+     */
+    public static RebalanceClientActorsResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandResponseJsonDeserializer<RebalanceClientActorsResponse>(TYPE, jsonObject).deserialize(
+                statusCode -> of(jsonObject.getValueOrThrow(JSON_INSTANCE),
+                        jsonObject.getValue(JSON_DRY_RUN).orElse(false),
+                        jsonObject.getValueOrThrow(JSON_NODE_LOADS),
+                        jsonObject.getValueOrThrow(JSON_MIGRATIONS),
+                        dittoHeaders));
+    }
+
+    /**
+     * Returns the address of the responding connectivity instance.
+     *
+     * @return the address.
+     */
+    public String getInstance() {
+        return instance;
+    }
+
+    /**
+     * Indicates whether the migrations were only planned.
+     *
+     * @return {@code true} if the command was a dry run.
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * Returns the messages per minute of each known connectivity instance keyed by its address.
+     *
+     * @return the loads.
+     */
+    public JsonObject getNodeLoads() {
+        return nodeLoads;
+    }
+
+    /**
+     * Returns the planned migrations of client actors.
+     *
+     * @return the migrations.
+     */
+    public JsonArray getMigrations() {
+        return migrations;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_INSTANCE, instance, predicate)
+                .set(JSON_DRY_RUN, dryRun, predicate)
+                .set(JSON_NODE_LOADS, nodeLoads, predicate)
+                .set(JSON_MIGRATIONS, migrations, predicate);
+    }
+
+    @Override
+    public RebalanceClientActorsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RebalanceClientActorsResponse(instance, dryRun, nodeLoads, migrations, dittoHeaders);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return ClientPlacementCommand.RESOURCE_TYPE;
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RebalanceClientActorsResponse;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final RebalanceClientActorsResponse that = (RebalanceClientActorsResponse) o;
+        return dryRun == that.dryRun &&
+                Objects.equals(instance, that.instance) &&
+                Objects.equals(nodeLoads, that.nodeLoads) &&
+                Objects.equals(migrations, that.migrations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), instance, dryRun, nodeLoads, migrations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                super.toString() +
+                ", instance=" + instance +
+                ", dryRun=" + dryRun +
+                ", nodeLoads=" + nodeLoads +
+                ", migrations=" + migrations +
+                "]";
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RebalanceClientActorsResponse}.
+ */
+public final class RebalanceClientActorsResponseTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("rebalance").build();
+
+    private static final JsonObject NODE_LOADS = JsonObject.newBuilder()
+            .set("akka://ditto-cluster@10.0.0.1:2551", 120L)
+            .set("akka://ditto-cluster@10.0.0.2:2551", 20L)
+            .build();
+
+    private static final JsonArray MIGRATIONS = JsonArray.of(JsonObject.newBuilder()
+            .set("connectionId", "connection")
+            .set("from", "akka://ditto-cluster@10.0.0.1:2551")
+            .set("to", "akka://ditto-cluster@10.0.0.2:2551")
+            .set("load", 50L)
+            .build());
+
+    @Test
+    public void parseFromGlobalCommandResponseRegistry() {
+        final RebalanceClientActorsResponse response =
+                RebalanceClientActorsResponse.of("akka://ditto-cluster@10.0.0.1:2551", true, NODE_LOADS, MIGRATIONS,
+                        DITTO_HEADERS);
+
+        final CommandResponse<?> parsed =
+                GlobalCommandResponseRegistry.getInstance().parse(response.toJson(), DITTO_HEADERS);
+
+        assertThat(parsed).isEqualTo(response);
+        assertThat(((RebalanceClientActorsResponse) parsed).getMigrations()).isEqualTo(MIGRATIONS);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.connectivity.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RebalanceClientActors}.
+ */
+public final class RebalanceClientActorsTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("rebalance").build();
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final JsonObject json = RebalanceClientActors.of(true, DITTO_HEADERS).toJson();
+
+        assertThat(json.getValue(Command.JsonFields.TYPE)).contains(RebalanceClientActors.TYPE);
+        assertThat(json.getValue(RebalanceClientActors.JSON_DRY_RUN)).contains(true);
+    }
+
+    @Test
+    public void parseFromGlobalCommandRegistry() {
+        final RebalanceClientActors command = RebalanceClientActors.of(false, DITTO_HEADERS);
+
+        final Command<?> parsed = GlobalCommandRegistry.getInstance().parse(command.toJson(), DITTO_HEADERS);
+
+        assertThat(parsed).isEqualTo(command);
+        assertThat(parsed.getCategory()).isEqualTo(Command.Category.MODIFY);
+    }
+
+    @Test
+    public void dryRunIsAQuery() {
+        assertThat(RebalanceClientActors.of(true, DITTO_HEADERS).getCategory()).isEqualTo(Command.Category.QUERY);
+    }
+
+}
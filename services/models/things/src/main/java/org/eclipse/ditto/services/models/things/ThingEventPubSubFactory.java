@@ -36,6 +36,12 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
         super(context, ThingEvent.class, topicExtractor, PROVIDER);
     }
 
+    private ThingEventPubSubFactory(final ActorContext context, final PubSubTopicExtractor<ThingEvent> topicExtractor,
+            final PubSubTopicExtractor<ThingEvent> probeTopicExtractor) {
+
+        super(context, ThingEvent.class, topicExtractor, probeTopicExtractor, PROVIDER);
+    }
+
     /**
      * Create a pubsub factory for thing events from an actor system and its shard region extractor.
      *
@@ -46,11 +52,35 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     public static ThingEventPubSubFactory of(final ActorContext context,
             final ShardRegionExtractor shardRegionExtractor) {
 
+        return of(context, shardRegionExtractor, false);
+    }
+
+    /**
+     * Create a pubsub factory for thing events from an actor system and its shard region extractor which optionally
+     * publishes thing events at the read-subject topics narrowed by {@link ThingEventTopics} in addition.
+     *
+     * @param context context of the actor under which publisher and subscriber actors are created.
+     * @param shardRegionExtractor the shard region extractor.
+     * @param publishNarrowedTopics whether to publish at the narrowed topics and to count the cluster members with
+     * narrowed subscriptions to which an event is not routed.
+     * @return the thing event pub-sub factory.
+     * @since 1.2.0
+     */
+    public static ThingEventPubSubFactory of(final ActorContext context,
+            final ShardRegionExtractor shardRegionExtractor,
+            final boolean publishNarrowedTopics) {
+
+        if (publishNarrowedTopics) {
+            return new ThingEventPubSubFactory(context,
+                    toTopicExtractor(shardRegionExtractor).with(ThingEventTopics.narrowedTopicExtractor()),
+                    ThingEventTopics.narrowingMarkerExtractor());
+        }
         return new ThingEventPubSubFactory(context, toTopicExtractor(shardRegionExtractor));
     }
 
     /**
-     * Create a pubsub factory for thing events ignoring shard ID topics.
+     * Create a pubsub factory for thing events ignoring shard ID topics. Read-subject topics narrowed by
+     * {@link ThingEventTopics} are included.
      *
      * @param context context of the actor under which publisher and subscriber actors are created.
      * @return the thing event pub-sub factory.
@@ -74,7 +104,8 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     }
 
     private static PubSubTopicExtractor<ThingEvent> readSubjectOnlyExtractor() {
-        return ReadSubjectExtractor.<ThingEvent>of().with(ConstantTopics.of(ThingEvent.TYPE_PREFIX));
+        return ReadSubjectExtractor.<ThingEvent>of().with(
+                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX), ThingEventTopics.narrowedTopicExtractor()));
     }
 
     private static PubSubTopicExtractor<ThingEvent> shardIdOnlyExtractor(final ShardRegionExtractor extractor) {
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Pub-sub topics of thing events which narrow read-subject topics to a namespace or a thing ID.
+ * <p>
+ * Thing events are published for each read subject additionally with the topics
+ * {@code <subject>|namespace:<namespace>} and {@code <subject>|thing:<thingId>}. A subscriber which is only interested
+ * in some namespaces or things subscribes to these narrowed topics instead of the plain read-subject topics, so that
+ * publishers do not route any other event of the subject to the subscriber's cluster member.
+ * </p>
+ * <p>
+ * Narrowed subscriptions contain the marker topic {@code <subject>|narrowed} of each read subject as well. Thing events
+ * are never published at marker topics; publishers only look up their subscribers to count the cluster members to
+ * which an event was not routed because of narrowed subscriptions.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class ThingEventTopics {
+
+    private static final String NAMESPACE_INFIX = "|namespace:";
+    private static final String THING_ID_INFIX = "|thing:";
+    private static final String NARROWING_MARKER_SUFFIX = "|narrowed";
+
+    private ThingEventTopics() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Narrows the given read-subject topics to the given thing IDs or, if no thing IDs are given, to the given
+     * namespaces. Narrowed topics contain the narrowing marker topic of each read subject. If both thing IDs and
+     * namespaces are empty, the read-subject topics are returned unchanged.
+     *
+     * @param readSubjectTopics the read-subject topics to narrow.
+     * @param namespaces the namespaces to narrow to.
+     * @param thingIds the thing IDs to narrow to. They take precedence over the namespaces.
+     * @return the narrowed topics.
+     */
+    public static Collection<String> narrow(final Collection<String> readSubjectTopics,
+            final Collection<String> namespaces,
+            final Collection<ThingId> thingIds) {
+
+        final Set<String> result = new HashSet<>();
+        if (!thingIds.isEmpty()) {
+            for (final String readSubjectTopic : readSubjectTopics) {
+                result.add(toNarrowingMarkerTopic(readSubjectTopic));
+                for (final ThingId thingId : thingIds) {
+                    if (namespaces.isEmpty() || namespaces.contains(thingId.getNamespace())) {
+                        result.add(toThingIdTopic(readSubjectTopic, thingId));
+                    }
+                }
+            }
+        } else if (!namespaces.isEmpty()) {
+            for (final String readSubjectTopic : readSubjectTopics) {
+                result.add(toNarrowingMarkerTopic(readSubjectTopic));
+                for (final String namespace : namespaces) {
+                    result.add(toNamespaceTopic(readSubjectTopic, namespace));
+                }
+            }
+        } else {
+            result.addAll(readSubjectTopics);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an extractor of the narrowed topics of thing events, i. e. the combinations of each read-granted
+     * subject with the namespace and with the thing ID of the event.
+     *
+     * @return the extractor.
+     */
+    public static PubSubTopicExtractor<ThingEvent> narrowedTopicExtractor() {
+        return event -> {
+            final ThingId thingId = event.getThingEntityId();
+            final Set<AuthorizationSubject> readGrantedSubjects = event.getDittoHeaders().getReadGrantedSubjects();
+            final Set<String> result = new HashSet<>(readGrantedSubjects.size() * 2);
+            for (final AuthorizationSubject readGrantedSubject : readGrantedSubjects) {
+                final String readSubjectTopic = readGrantedSubject.getId();
+                result.add(toNamespaceTopic(readSubjectTopic, thingId.getNamespace()));
+                result.add(toThingIdTopic(readSubjectTopic, thingId));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Returns an extractor of the narrowing marker topics of thing events, i. e. the marker topic of each read-granted
+     * subject of the event. The cluster members subscribed to these topics have narrowed subscriptions for the subject.
+     *
+     * @return the extractor.
+     */
+    public static PubSubTopicExtractor<ThingEvent> narrowingMarkerExtractor() {
+        return event -> {
+            final Set<AuthorizationSubject> readGrantedSubjects = event.getDittoHeaders().getReadGrantedSubjects();
+            final Set<String> result = new HashSet<>(readGrantedSubjects.size());
+            for (final AuthorizationSubject readGrantedSubject : readGrantedSubjects) {
+                result.add(toNarrowingMarkerTopic(readGrantedSubject.getId()));
+            }
+            return result;
+        };
+    }
+
+    private static String toNamespaceTopic(final String readSubjectTopic, final String namespace) {
+        return readSubjectTopic + NAMESPACE_INFIX + namespace;
+    }
+
+    private static String toThingIdTopic(final String readSubjectTopic, final ThingId thingId) {
+        return readSubjectTopic + THING_ID_INFIX + thingId;
+    }
+
+    private static String toNarrowingMarkerTopic(final String readSubjectTopic) {
+        return readSubjectTopic + NARROWING_MARKER_SUFFIX;
+    }
+
+}
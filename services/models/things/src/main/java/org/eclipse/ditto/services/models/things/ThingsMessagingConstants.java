@@ -38,6 +38,13 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_SNAPSHOT_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/snapshotStreamingActor";
 
+    /**
+     * Path of the enforcer actor which is colocated with the things shards if colocated enforcement is enabled.
+     *
+     * @since 1.2.0
+     */
+    public static final String ENFORCER_ACTOR_PATH = ROOT_ACTOR_PATH + "/enforcer";
+
     /**
      * Name of the shard region for Thing entities.
      */
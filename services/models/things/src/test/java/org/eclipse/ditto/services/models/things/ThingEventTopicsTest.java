@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingEventTopics}.
+ */
+public final class ThingEventTopicsTest {
+
+    private static final List<String> SUBJECTS = Arrays.asList("issuer:alice", "issuer:bob");
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+    private static final ThingId OTHER_THING_ID = ThingId.of("com.example", "thing");
+
+    @Test
+    public void narrowWithoutNamespacesAndThingIdsReturnsReadSubjectTopics() {
+        assertThat(ThingEventTopics.narrow(SUBJECTS, Collections.emptyList(), Collections.emptyList()))
+                .containsExactlyInAnyOrderElementsOf(SUBJECTS);
+    }
+
+    @Test
+    public void narrowToNamespaces() {
+        assertThat(ThingEventTopics.narrow(SUBJECTS, Collections.singletonList("org.eclipse.ditto"),
+                Collections.emptyList()))
+                .containsExactlyInAnyOrder("issuer:alice|namespace:org.eclipse.ditto",
+                        "issuer:bob|namespace:org.eclipse.ditto", "issuer:alice|narrowed", "issuer:bob|narrowed");
+    }
+
+    @Test
+    public void thingIdsTakePrecedenceAndAreFilteredByNamespaces() {
+        assertThat(ThingEventTopics.narrow(SUBJECTS, Collections.singletonList("org.eclipse.ditto"),
+                Arrays.asList(THING_ID, OTHER_THING_ID)))
+                .containsExactlyInAnyOrder("issuer:alice|thing:org.eclipse.ditto:thing",
+                        "issuer:bob|thing:org.eclipse.ditto:thing", "issuer:alice|narrowed", "issuer:bob|narrowed");
+    }
+
+    @Test
+    public void extractedTopicsContainNarrowedTopics() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .readGrantedSubjects(Collections.singletonList(AuthorizationModelFactory.newAuthSubject("issuer:alice")))
+                .build();
+        final ThingDeleted event = ThingDeleted.of(THING_ID, 1L, dittoHeaders);
+
+        assertThat(ThingEventTopics.narrowedTopicExtractor().getTopics(event))
+                .containsExactlyInAnyOrder("issuer:alice|namespace:org.eclipse.ditto",
+                        "issuer:alice|thing:org.eclipse.ditto:thing")
+                .containsAll(ThingEventTopics.narrow(Collections.singletonList("issuer:alice"),
+                        Collections.emptyList(), Collections.singletonList(THING_ID))
+                        .stream()
+                        .filter(topic -> !topic.endsWith("|narrowed"))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void narrowingMarkersAreSubscribedButNeverPublished() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .readGrantedSubjects(Collections.singletonList(AuthorizationModelFactory.newAuthSubject("issuer:alice")))
+                .build();
+        final ThingDeleted event = ThingDeleted.of(THING_ID, 1L, dittoHeaders);
+
+        assertThat(ThingEventTopics.narrowingMarkerExtractor().getTopics(event))
+                .containsExactly("issuer:alice|narrowed")
+                .isSubsetOf(ThingEventTopics.narrow(Collections.singletonList("issuer:alice"),
+                        Collections.singletonList("org.eclipse.ditto"), Collections.emptyList()))
+                .doesNotContainAnyElementsOf(ThingEventTopics.narrowedTopicExtractor().getTopics(event));
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.query.filter;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.thingsearch.Option;
+import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+/**
+ * Bounded cache of parsed RQL filters and options. Clients tend to send the same few filter and option strings over
+ * and over again; parsing them is far more expensive than looking up the immutable parse result.
+ * <p>
+ * Only successfully parsed strings are cached, thus invalid strings are reported with the headers of each command.
+ * The hits and misses are reported as cache metrics with the cache names {@code <name>_filter} and
+ * {@code <name>_options}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class RqlParseCache {
+
+    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final Cache<String, Criteria> criteriaCache;
+    private final Cache<String, List<Option>> optionsCache;
+
+    private RqlParseCache(final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
+            final CacheConfig cacheConfig,
+            final String cacheName,
+            final Executor executor) {
+
+        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
+        criteriaCache = CacheFactory.createCache(cacheConfig, cacheName + "_filter", executor);
+        optionsCache = CacheFactory.createCache(cacheConfig, cacheName + "_options", executor);
+    }
+
+    /**
+     * Returns a new instance of {@code RqlParseCache}.
+     *
+     * @param queryFilterCriteriaFactory creates the criteria of filters which are not cached yet.
+     * @param cacheConfig the config of the caches.
+     * @param cacheName the prefix of the names of the caches in the reported metrics.
+     * @param executor the executor of cache maintenance.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RqlParseCache of(final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
+            final CacheConfig cacheConfig,
+            final String cacheName,
+            final Executor executor) {
+
+        return new RqlParseCache(checkNotNull(queryFilterCriteriaFactory, "queryFilterCriteriaFactory"),
+                checkNotNull(cacheConfig, "cacheConfig"), checkNotNull(cacheName, "cacheName"),
+                checkNotNull(executor, "executor"));
+    }
+
+    /**
+     * Returns the criterion of the given filter string like
+     * {@link QueryFilterCriteriaFactory#filterCriteria(String, DittoHeaders)}.
+     *
+     * @param filter the filter string or {@code null}.
+     * @param headers the headers of the command for eventual error information.
+     * @return the criterion of the filter or a criterion matching everything if {@code filter} is {@code null}.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion.
+     */
+    public Criteria filterCriteria(@Nullable final String filter, final DittoHeaders headers) {
+        if (null == filter) {
+            return queryFilterCriteriaFactory.filterCriteria(null, headers);
+        }
+        return getOrCompute(criteriaCache, filter, f -> queryFilterCriteriaFactory.filterCriteria(f, headers));
+    }
+
+    /**
+     * Returns the criterion of the given filter string restricted to the given namespaces like
+     * {@link QueryFilterCriteriaFactory#filterCriteriaRestrictedByNamespaces(String, DittoHeaders, Set)}.
+     *
+     * @param filter the filter string or {@code null}.
+     * @param headers the headers of the command for eventual error information.
+     * @param namespaces the namespaces.
+     * @return the criterion.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion.
+     */
+    public Criteria filterCriteriaRestrictedByNamespaces(@Nullable final String filter, final DittoHeaders headers,
+            final Set<String> namespaces) {
+
+        return queryFilterCriteriaFactory.restrictByNamespaces(filterCriteria(filter, headers), namespaces);
+    }
+
+    /**
+     * Parses the given option string like {@link RqlOptionParser#parseOptions(String)}.
+     *
+     * @param options the option string.
+     * @return the unmodifiable list of parsed options.
+     * @throws org.eclipse.ditto.model.rql.ParserException if the string is no valid option string.
+     * @throws NullPointerException if {@code options} is {@code null}.
+     */
+    public List<Option> parseOptions(final String options) {
+        return getOrCompute(optionsCache, checkNotNull(options, "options"),
+                o -> Collections.unmodifiableList(RqlOptionParser.parseOptions(o)));
+    }
+
+    /**
+     * Returns the criteria factory which creates the criteria of filters which are not cached yet.
+     *
+     * @return the criteria factory.
+     */
+    public QueryFilterCriteriaFactory getQueryFilterCriteriaFactory() {
+        return queryFilterCriteriaFactory;
+    }
+
+    private static <T> T getOrCompute(final Cache<String, T> cache, final String key,
+            final Function<String, T> computation) {
+
+        // getIfPresent records the hit or miss; exceptions of the computation are passed on and nothing is cached
+        final Optional<T> cached = cache.getIfPresent(key).join();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final T computed = computation.apply(key);
+        cache.put(key, computed);
+        return computed;
+    }
+
+}
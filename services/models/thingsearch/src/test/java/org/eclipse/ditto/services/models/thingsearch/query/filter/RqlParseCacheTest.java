@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.thingsearch.Option;
+import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link RqlParseCache}.
+ */
+public final class RqlParseCacheTest {
+
+    private static final String FILTER = "and(eq(attributes/location,\"kitchen\"),exists(features/temperature))";
+    private static final String INVALID_FILTER = "eq(attributes/location";
+    private static final String OPTIONS = "size(25),sort(+thingId)";
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ThingsFieldExpressionFactoryImpl());
+
+    private RqlParseCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = RqlParseCache.of(QUERY_FILTER_CRITERIA_FACTORY,
+                DefaultCacheConfig.of(ConfigFactory.empty(), "cache"), "test", Runnable::run);
+    }
+
+    @Test
+    public void recurringFilterIsParsedOnce() {
+        final Criteria first = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria second = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+
+        assertThat(first).isEqualTo(QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(FILTER,
+                DittoHeaders.empty()));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void filterRestrictedByNamespacesEqualsUncachedCriteria() {
+        final Set<String> namespaces = Collections.singleton("org.eclipse.ditto");
+
+        final Criteria criteria = underTest.filterCriteriaRestrictedByNamespaces(FILTER, DittoHeaders.empty(),
+                namespaces);
+
+        assertThat(criteria).isEqualTo(QUERY_FILTER_CRITERIA_FACTORY
+                .filterCriteriaRestrictedByNamespaces(FILTER, DittoHeaders.empty(), namespaces));
+    }
+
+    @Test
+    public void invalidFilterIsReportedWithHeadersOfEachCall() {
+        final DittoHeaders firstHeaders = DittoHeaders.newBuilder().correlationId("first").build();
+        final DittoHeaders secondHeaders = DittoHeaders.newBuilder().correlationId("second").build();
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.filterCriteria(INVALID_FILTER, firstHeaders))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).isEqualTo(firstHeaders));
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.filterCriteria(INVALID_FILTER, secondHeaders))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).isEqualTo(secondHeaders));
+    }
+
+    @Test
+    public void recurringOptionsAreParsedOnce() {
+        final List<Option> first = underTest.parseOptions(OPTIONS);
+        final List<Option> second = underTest.parseOptions(OPTIONS);
+
+        assertThat(first).isEqualTo(RqlOptionParser.parseOptions(OPTIONS));
+        assertThat(second).isSameAs(first);
+    }
+
+}
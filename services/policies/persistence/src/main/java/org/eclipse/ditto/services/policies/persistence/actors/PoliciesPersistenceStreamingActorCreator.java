@@ -18,6 +18,7 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 
 import akka.actor.Props;
@@ -42,12 +43,14 @@ public final class PoliciesPersistenceStreamingActorCreator {
      * Creates Akka configuration object Props for this PersistenceQueriesActor.
      *
      * @param streamingCacheSize the size of the streaming cache.
+     * @param readJournal the read journal to stream from.
      * @return the Akka configuration Props object.
      */
-    public static Props props(final int streamingCacheSize) {
+    public static Props props(final int streamingCacheSize, final MongoReadJournal readJournal) {
         return DefaultPersistenceStreamingActor.props(PolicyTag.class,
                 PoliciesPersistenceStreamingActorCreator::createElement,
-                PoliciesPersistenceStreamingActorCreator::createPidWithSeqNr);
+                PoliciesPersistenceStreamingActorCreator::createPidWithSeqNr,
+                readJournal);
     }
 
     private static PolicyTag createElement(final PidWithSeqNr pidWithSeqNr) {
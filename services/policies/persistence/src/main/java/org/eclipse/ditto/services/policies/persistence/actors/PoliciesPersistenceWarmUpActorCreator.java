@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyRevision;
+import org.eclipse.ditto.services.utils.persistence.mongo.PersistenceWarmUpActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+
+/**
+ * Creates an actor which starts the most recently modified policies once their shards are allocated to this service
+ * instance, so that the first commands after a restart do not have to wait for the recovery of their policies.
+ *
+ * @since 1.2.0
+ */
+public final class PoliciesPersistenceWarmUpActorCreator {
+
+    /**
+     * The name of the created Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = PersistenceWarmUpActor.ACTOR_NAME;
+
+    private static final String CORRELATION_ID_PREFIX = "warm-up-triggered:";
+    private static final Pattern PERSISTENCE_ID_PATTERN = Pattern.compile(PolicyPersistenceActor.PERSISTENCE_ID_PREFIX);
+
+    private PoliciesPersistenceWarmUpActorCreator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates Akka configuration object Props for the warm-up actor of policies.
+     *
+     * @param warmUpConfig the config of the warm-up.
+     * @param policiesShardRegion the policies shard region of this service instance.
+     * @param messageExtractor the message extractor of the policies shard region.
+     * @param readJournal the read journal of the policies snapshot store.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final ActorRef policiesShardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final MongoReadJournal readJournal) {
+
+        return PersistenceWarmUpActor.props(warmUpConfig, policiesShardRegion, messageExtractor,
+                PoliciesPersistenceWarmUpActorCreator::toSudoRetrievePolicyRevision,
+                snapshot -> CompletableFuture.completedFuture(null), readJournal);
+    }
+
+    private static Object toSudoRetrievePolicyRevision(final String persistenceId) {
+        final PolicyId policyId = PolicyId.of(PERSISTENCE_ID_PATTERN.matcher(persistenceId).replaceFirst(""));
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(CORRELATION_ID_PREFIX + policyId)
+                .build();
+        return SudoRetrievePolicyRevision.of(policyId, dittoHeaders);
+    }
+
+}
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
+import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceWarmUpActorCreator;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -44,6 +45,8 @@ import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
 import akka.Done;
@@ -89,17 +92,27 @@ public final class PoliciesRootActor extends DittoRootActor {
 
         final Props policySupervisorProps = PolicySupervisorActor.props(pubSubMediator, snapshotAdapter);
 
+        final MongoReadJournal readJournal = MongoReadJournal.newInstance(actorSystem);
         final TagsConfig tagsConfig = policiesConfig.getTagsConfig();
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
-                PoliciesPersistenceStreamingActorCreator.props(tagsConfig.getStreamingCacheSize()));
+                PoliciesPersistenceStreamingActorCreator.props(tagsConfig.getStreamingCacheSize(), readJournal));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
         final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
-                        ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
+                        shardRegionExtractor);
+
+        final WarmUpConfig warmUpConfig = policiesConfig.getPolicyConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            startChildActor(PoliciesPersistenceWarmUpActorCreator.ACTOR_NAME,
+                    PoliciesPersistenceWarmUpActorCreator.props(warmUpConfig, policiesShardRegion,
+                            shardRegionExtractor, readJournal));
+        }
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
@@ -42,6 +42,7 @@ public final class DittoThingsConfig implements ThingsConfig {
 
     private final DittoServiceConfig serviceSpecificConfig;
     private final boolean logIncomingMessages;
+    private final boolean publishNarrowedEventTopics;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final HealthCheckConfig healthCheckConfig;
@@ -51,6 +52,8 @@ public final class DittoThingsConfig implements ThingsConfig {
     private DittoThingsConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
         logIncomingMessages = serviceSpecificConfig.getBoolean(ThingsConfigValue.LOG_INCOMING_MESSAGES.getConfigPath());
+        publishNarrowedEventTopics =
+                serviceSpecificConfig.getBoolean(ThingsConfigValue.PUBLISH_NARROWED_EVENT_TOPICS.getConfigPath());
         persistenceOperationsConfig = DefaultPersistenceOperationsConfig.of(dittoScopedConfig);
         mongoDbConfig = DefaultMongoDbConfig.of(dittoScopedConfig);
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
@@ -115,6 +118,11 @@ public final class DittoThingsConfig implements ThingsConfig {
         return logIncomingMessages;
     }
 
+    @Override
+    public boolean isPublishNarrowedEventTopics() {
+        return publishNarrowedEventTopics;
+    }
+
     @Override
     public ThingConfig getThingConfig() {
         return thingConfig;
@@ -130,6 +138,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         }
         final DittoThingsConfig that = (DittoThingsConfig) o;
         return logIncomingMessages == that.logIncomingMessages &&
+                publishNarrowedEventTopics == that.publishNarrowedEventTopics &&
                 Objects.equals(serviceSpecificConfig, that.serviceSpecificConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
@@ -140,8 +149,8 @@ public final class DittoThingsConfig implements ThingsConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig, mongoDbConfig,
-                healthCheckConfig, tagsConfig, thingConfig);
+        return Objects.hash(serviceSpecificConfig, logIncomingMessages, publishNarrowedEventTopics,
+                persistenceOperationsConfig, mongoDbConfig, healthCheckConfig, tagsConfig, thingConfig);
     }
 
     @Override
@@ -149,6 +158,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         return getClass().getSimpleName() + " [" +
                 "serviceSpecificConfig=" + serviceSpecificConfig +
                 ", logIncomingMessages=" + logIncomingMessages +
+                ", publishNarrowedEventTopics=" + publishNarrowedEventTopics +
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
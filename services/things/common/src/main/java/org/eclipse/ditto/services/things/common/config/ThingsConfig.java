@@ -36,6 +36,15 @@ public interface ThingsConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     boolean isLogIncomingMessages();
 
+    /**
+     * Indicates whether thing events should additionally be published with the read-subject topics narrowed to their
+     * namespace and thing ID.
+     *
+     * @return {@code true} if the narrowed topics should be published, {@code false} else.
+     * @since 1.2.0
+     */
+    boolean isPublishNarrowedEventTopics();
+
     /**
      * Returns the configuration settings for thing entities.
      *
@@ -52,7 +61,15 @@ public interface ThingsConfig extends ServiceSpecificConfig, WithHealthCheckConf
          * Determines whether minimal information for all incoming messages should be logged.
          * This enables message tracing throughout the system.
          */
-        LOG_INCOMING_MESSAGES("log-incoming-messages", true);
+        LOG_INCOMING_MESSAGES("log-incoming-messages", true),
+
+        /**
+         * Determines whether thing events should additionally be published with the read-subject topics narrowed to
+         * their namespace and thing ID.
+         *
+         * @since 1.2.0
+         */
+        PUBLISH_NARROWED_EVENT_TOPICS("publish-narrowed-event-topics", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistentactors.EntityCompactor;
+
+/**
+ * Holds inactive things as their JSON representation in the schema version they implement.
+ */
+final class ThingCompactor implements EntityCompactor<Thing> {
+
+    static final ThingCompactor INSTANCE = new ThingCompactor();
+
+    @Override
+    public JsonObject toJson(final Thing entity) {
+        return entity.toJson(entity.getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+    }
+
+    @Override
+    public Thing fromJson(final JsonObject jsonObject) {
+        return ThingsModelFactory.newThing(jsonObject);
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import java.util.Optional;
+
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
@@ -29,6 +31,7 @@ import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
+import org.eclipse.ditto.services.utils.persistentactors.EntityCompactor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -182,6 +185,11 @@ public final class ThingPersistenceActor
         return entity.getImplementedSchemaVersion();
     }
 
+    @Override
+    protected Optional<EntityCompactor<Thing>> getEntityCompactor() {
+        return Optional.of(ThingCompactor.INSTANCE);
+    }
+
     private static Thing enhanceThingWithLifecycle(final Thing thing) {
         final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
         if (!thing.getLifecycle().isPresent()) {
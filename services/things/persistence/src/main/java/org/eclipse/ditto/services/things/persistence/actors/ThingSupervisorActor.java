@@ -20,19 +20,30 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
+import org.eclipse.ditto.services.base.config.ColocatedEnforcementConfig;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
+import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
 import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -41,25 +52,45 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * Commands which are marked for colocated enforcement are never passed to the child without enforcement. If colocated
+ * enforcement is enabled, they are passed to the enforcer actor of this service instance first which sends them back
+ * to this actor after successful enforcement. Otherwise they are re-routed to the enforcer actor of the concierge
+ * service, e. g. if the gateway and the things service disagree about colocated enforcement during a rolling update.
+ * </p>
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
+    /**
+     * Path of the enforcer actor of the concierge service, equal to {@code ConciergeMessagingConstants
+     * .ENFORCER_ACTOR_PATH} which is not available in the things service.
+     */
+    @SuppressWarnings("squid:S1075")
+    static final String CONCIERGE_ENFORCER_ACTOR_PATH = "/user/conciergeRoot/enforcer";
+
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    @Nullable private final ActorSelection colocatedEnforcer;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            final ColocatedEnforcementConfig colocatedEnforcementConfig) {
 
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        if (colocatedEnforcementConfig.isEnabled()) {
+            colocatedEnforcer = getContext().actorSelection(ThingsMessagingConstants.ENFORCER_ACTOR_PATH);
+        } else {
+            colocatedEnforcer = null;
+        }
     }
 
     /**
-     * Props for creating a {@code ThingSupervisorActor}.
+     * Props for creating a {@code ThingSupervisorActor} without colocated enforcement.
      * <p>
      * Exceptions in the child are handled with a supervision strategy that stops the child
      * for {@link ActorKilledException}'s and escalates all others.
@@ -75,7 +106,32 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
+        return props(pubSubMediator, distributedPub, propsFactory,
+                ColocatedEnforcementConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Props for creating a {@code ThingSupervisorActor}.
+     * <p>
+     * Exceptions in the child are handled with a supervision strategy that stops the child
+     * for {@link ActorKilledException}'s and escalates all others.
+     * </p>
+     *
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param colocatedEnforcementConfig the config of the enforcement colocated with the things shards.
+     * @return the {@link Props} to create this actor.
+     * @since 1.2.0
+     */
+    public static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final ColocatedEnforcementConfig colocatedEnforcementConfig) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory,
+                colocatedEnforcementConfig);
     }
 
     @Override
@@ -105,6 +161,42 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         }
     }
 
+    @Override
+    protected Receive activeBehaviourBeforeForwarding() {
+        return ReceiveBuilder.create()
+                .match(WithDittoHeaders.class, ThingSupervisorActor::isMarkedForColocatedEnforcement,
+                        this::enforceBeforeForwarding)
+                .build();
+    }
+
+    private void enforceBeforeForwarding(final WithDittoHeaders<?> message) {
+        if (null != colocatedEnforcer) {
+            colocatedEnforcer.forward(recordColocatedHop(message), getContext());
+        } else {
+            log.warning("Colocated enforcement is disabled; re-routing <{}> to the concierge enforcer",
+                    message.getClass().getSimpleName());
+            // the marker is removed so that the command enforced by concierge is forwarded to the child
+            final WithDittoHeaders<?> unmarkedMessage = message.setDittoHeaders(message.getDittoHeaders()
+                    .toBuilder()
+                    .removeHeader(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey())
+                    .build());
+            pubSubMediator.forward(DistPubSubAccess.send(CONCIERGE_ENFORCER_ACTOR_PATH, unmarkedMessage),
+                    getContext());
+        }
+    }
+
+    private static WithDittoHeaders<?> recordColocatedHop(final WithDittoHeaders<?> message) {
+        if (message instanceof Signal) {
+            return TraceContext.recordHop((Signal<?>) message, TraceContext.SPAN_COLOCATED);
+        }
+        return message;
+    }
+
+    private static boolean isMarkedForColocatedEnforcement(final WithDittoHeaders<?> message) {
+        return Boolean.parseBoolean(
+                message.getDittoHeaders().get(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey()));
+    }
+
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
@@ -21,6 +21,7 @@ import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.SnapshotStreamingActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 
 import akka.actor.ActorRef;
@@ -55,13 +56,16 @@ public final class ThingsPersistenceStreamingActorCreator {
      *
      * @param streamingCacheSize the size of the streaming cache.
      * @param actorCreator function to create a named actor with.
+     * @param readJournal the read journal to stream from.
      * @return a reference of the created actor.
      */
     public static ActorRef startEventStreamingActor(final int streamingCacheSize,
-            final BiFunction<String, Props, ActorRef> actorCreator) {
+            final BiFunction<String, Props, ActorRef> actorCreator,
+            final MongoReadJournal readJournal) {
         final Props props = DefaultPersistenceStreamingActor.props(ThingTag.class,
                 ThingsPersistenceStreamingActorCreator::createElement,
-                ThingsPersistenceStreamingActorCreator::createPidWithSeqNr);
+                ThingsPersistenceStreamingActorCreator::createPidWithSeqNr,
+                readJournal);
         return actorCreator.apply(EVENT_STREAMING_ACTOR_NAME, props);
     }
 
@@ -69,11 +73,13 @@ public final class ThingsPersistenceStreamingActorCreator {
      * Create an actor that streams from the snapshot store.
      *
      * @param actorCreator function to create a named actor with.
+     * @param readJournal the read journal to stream from.
      * @return a reference of the created actor.
      */
-    public static ActorRef startSnapshotStreamingActor(final BiFunction<String, Props, ActorRef> actorCreator) {
+    public static ActorRef startSnapshotStreamingActor(final BiFunction<String, Props, ActorRef> actorCreator,
+            final MongoReadJournal readJournal) {
         final Props props = SnapshotStreamingActor.props(ThingsPersistenceStreamingActorCreator::pid2EntityId,
-                ThingsPersistenceStreamingActorCreator::entityId2Pid);
+                ThingsPersistenceStreamingActorCreator::entityId2Pid, readJournal);
         return actorCreator.apply(SNAPSHOT_STREAMING_ACTOR_NAME, props);
     }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.utils.persistence.mongo.PersistenceWarmUpActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+
+/**
+ * Creates an actor which starts the most recently modified things once their shards are allocated to this service
+ * instance, so that the first commands after a restart do not have to wait for the recovery of their things.
+ *
+ * @since 1.2.0
+ */
+public final class ThingsPersistenceWarmUpActorCreator {
+
+    /**
+     * The name of the created Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = PersistenceWarmUpActor.ACTOR_NAME;
+
+    private static final String POLICY_ID = "policyId";
+    private static final String CORRELATION_ID_PREFIX = "warm-up-triggered:";
+    private static final JsonFieldSelector THING_ID_SELECTOR = JsonFieldSelector.newInstance("thingId");
+    private static final Pattern PERSISTENCE_ID_PATTERN = Pattern.compile(ThingPersistenceActor.PERSISTENCE_ID_PREFIX);
+
+    private ThingsPersistenceWarmUpActorCreator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates Akka configuration object Props for the warm-up actor of things.
+     *
+     * @param warmUpConfig the config of the warm-up.
+     * @param thingsShardRegion the things shard region of this service instance.
+     * @param messageExtractor the message extractor of the things shard region.
+     * @param policyWarmUp warms up the policy of each started thing, e.g. by loading its enforcer into a cache.
+     * @param readJournal the read journal of the things snapshot store.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final ActorRef thingsShardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Function<PolicyId, CompletionStage<?>> policyWarmUp,
+            final MongoReadJournal readJournal) {
+
+        return PersistenceWarmUpActor.props(warmUpConfig, thingsShardRegion, messageExtractor,
+                ThingsPersistenceWarmUpActorCreator::toSudoRetrieveThing,
+                snapshot -> warmUpPolicy(snapshot, policyWarmUp),
+                readJournal,
+                POLICY_ID);
+    }
+
+    private static Object toSudoRetrieveThing(final String persistenceId) {
+        final ThingId thingId = ThingId.of(PERSISTENCE_ID_PATTERN.matcher(persistenceId).replaceFirst(""));
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(CORRELATION_ID_PREFIX + thingId)
+                .build();
+
+        // only the thing ID is retrieved as the reply merely signals the recovery of the thing
+        return SudoRetrieveThing.of(thingId, THING_ID_SELECTOR, dittoHeaders);
+    }
+
+    private static CompletionStage<?> warmUpPolicy(final Document snapshot,
+            final Function<PolicyId, CompletionStage<?>> policyWarmUp) {
+
+        final String policyId = snapshot.getString(POLICY_ID);
+        if (null == policyId) {
+            // things of API version 1 have an ACL instead of a policy
+            return CompletableFuture.completedFuture(null);
+        }
+        return policyWarmUp.apply(PolicyId.of(policyId));
+    }
+
+}
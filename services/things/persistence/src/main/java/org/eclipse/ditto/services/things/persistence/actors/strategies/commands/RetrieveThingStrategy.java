@@ -16,7 +16,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
@@ -34,14 +34,17 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 /**
  * This strategy handles the {@link RetrieveThing} command.
  */
-@Immutable
+@ThreadSafe
 final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveThing> {
 
+    private final ThingJsonCache thingJsonCache;
+
     /**
      * Constructs a new {@code RetrieveThingStrategy} object.
      */
     RetrieveThingStrategy() {
         super(RetrieveThing.class);
+        thingJsonCache = ThingJsonCache.newInstance();
     }
 
     @Override
@@ -62,7 +65,7 @@ final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveT
                 appendETagHeaderIfProvided(command, getRetrieveThingResponse(thing, command), thing));
     }
 
-    private static WithDittoHeaders getRetrieveThingResponse(@Nullable final Thing thing,
+    private WithDittoHeaders getRetrieveThingResponse(@Nullable final Thing thing,
             final ThingQueryCommand<RetrieveThing> command) {
         if (thing != null) {
             return RetrieveThingResponse.of(command.getThingEntityId(), getThingJson(thing, command),
@@ -72,10 +75,11 @@ final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveT
         }
     }
 
-    private static JsonObject getThingJson(final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
+    private JsonObject getThingJson(final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
         return command.getSelectedFields()
-                .map(selectedFields -> thing.toJson(command.getImplementedSchemaVersion(), selectedFields))
-                .orElseGet(() -> thing.toJson(command.getImplementedSchemaVersion()));
+                .map(selectedFields -> thingJsonCache.toJson(thing, command.getImplementedSchemaVersion(),
+                        selectedFields))
+                .orElseGet(() -> thingJsonCache.toJson(thing, command.getImplementedSchemaVersion()));
     }
 
     private static ThingNotAccessibleException notAccessible(final ThingQueryCommand<?> command) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches the JSON representations of things which are retrieved more often than they are modified.
+ * <p>
+ * Entries are keyed by the identity of the immutable {@link Thing} which is held by the persistence actor.
+ * Each applied event replaces that instance, so the cached JSON of the previous revision is not returned again and
+ * is garbage collected together with the previous thing. The cached JSON objects keep their serialized
+ * representation, thus responses built from them do not have to be serialized again for the cluster.
+ * </p>
+ * <p>
+ * As one cache is shared by all persistence actors, it is bounded in size and drops things which were not retrieved
+ * for a while, even if the persistence actor still holds them.
+ * </p>
+ */
+@ThreadSafe
+final class ThingJsonCache {
+
+    private static final String METRIC_NAME = "thing_json_cache";
+    private static final String RESULT_TAG = "result";
+
+    private static final int VIEWS_PER_SCHEMA_VERSION = 2;
+    private static final int NOT_HIDDEN_VIEW = 0;
+    private static final int REGULAR_OR_SPECIAL_VIEW = 1;
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(5L);
+
+    private final Cache<Thing, AtomicReferenceArray<JsonObject>> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    private ThingJsonCache() {
+        cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+        hits = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "hit");
+        misses = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "miss");
+    }
+
+    /**
+     * Returns a new instance of {@code ThingJsonCache}.
+     *
+     * @return the instance.
+     */
+    static ThingJsonCache newInstance() {
+        return new ThingJsonCache();
+    }
+
+    /**
+     * Returns the JSON representation of the given thing like {@link Thing#toJson(JsonSchemaVersion)} does.
+     *
+     * @param thing the thing.
+     * @param schemaVersion the schema version of the JSON representation.
+     * @return the JSON representation.
+     */
+    JsonObject toJson(final Thing thing, final JsonSchemaVersion schemaVersion) {
+        return getOrCompute(thing, schemaVersion, NOT_HIDDEN_VIEW, FieldType.notHidden());
+    }
+
+    /**
+     * Returns the JSON representation of the given thing like
+     * {@link Thing#toJson(JsonSchemaVersion, JsonFieldSelector)} does. The selected fields are taken from the cached
+     * JSON representation of the whole thing.
+     *
+     * @param thing the thing.
+     * @param schemaVersion the schema version of the JSON representation.
+     * @param selectedFields the fields to select.
+     * @return the JSON representation.
+     */
+    JsonObject toJson(final Thing thing, final JsonSchemaVersion schemaVersion,
+            final JsonFieldSelector selectedFields) {
+
+        return getOrCompute(thing, schemaVersion, REGULAR_OR_SPECIAL_VIEW, FieldType.regularOrSpecial())
+                .get(selectedFields);
+    }
+
+    private JsonObject getOrCompute(final Thing thing, final JsonSchemaVersion schemaVersion, final int view,
+            final Predicate<JsonField> predicate) {
+
+        final AtomicReferenceArray<JsonObject> views = cache.get(thing, t ->
+                new AtomicReferenceArray<>(JsonSchemaVersion.values().length * VIEWS_PER_SCHEMA_VERSION));
+        final int index = schemaVersion.ordinal() * VIEWS_PER_SCHEMA_VERSION + view;
+        final JsonObject cachedJson = views.get(index);
+        if (null != cachedJson) {
+            hits.increment();
+            return cachedJson;
+        }
+        misses.increment();
+        final JsonObject json = thing.toJson(schemaVersion, predicate);
+        views.set(index, json);
+        return json;
+    }
+
+}
@@ -47,6 +47,7 @@ import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.model.base.entity.Revision;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -70,6 +71,8 @@ import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.model.things.ThingTooLargeException;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
@@ -205,6 +208,40 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void commandMarkedForColocatedEnforcementIsReroutedToConciergeIfColocatedEnforcementIsDisabled() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                final DittoHeaders markedHeaders = dittoHeadersV2.toBuilder()
+                        .putHeader(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(), String.valueOf(true))
+                        .build();
+                final CreateThing createThing = CreateThing.of(thing, null, markedHeaders);
+                underTest.tell(createThing, getRef());
+
+                // the child subscribes for shutdown commands via the same mediator
+                DistributedPubSubMediator.Send send = null;
+                while (null == send) {
+                    final Object message = pubSubTestProbe.receiveOne(Duration.create(3, TimeUnit.SECONDS));
+                    Assertions.assertThat(message).isNotNull();
+                    if (message instanceof DistributedPubSubMediator.Send) {
+                        send = (DistributedPubSubMediator.Send) message;
+                    }
+                }
+                Assertions.assertThat(send.path()).isEqualTo(ThingSupervisorActor.CONCIERGE_ENFORCER_ACTOR_PATH);
+                Assertions.assertThat(send.msg()).isEqualTo(CreateThing.of(thing, null, dittoHeadersV2));
+                Assertions.assertThat(pubSubTestProbe.lastSender()).isEqualTo(getRef());
+
+                // the thing was not created without enforcement
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(ThingNotAccessibleException.class);
+            }
+        };
+    }
+
     @Test
     public void tryToModifyFeaturePropertyAndReceiveCorrectErrorCode() {
         final ThingId thingId = ThingId.of("org.eclipse.ditto", "myThing");
@@ -529,6 +566,39 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void retrieveAndModifyThingAfterCompaction() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.activity-check.compaction-interval = 100ms"));
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer attributeKey = JsonPointer.of("foo");
+        final JsonValue attributeValue = JsonValue.of("bar");
+        final Gauge compactedThings = DittoMetrics.gauge("compacted_entities").tag("entity_type", "thing");
+        final long compactedThingsBefore = compactedThings.get();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                        .until(() -> compactedThings.get() == compactedThingsBefore + 1);
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgEquals(retrieveThingResponse(thing, thing.toJson(), dittoHeadersV2));
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                        .until(() -> compactedThings.get() == compactedThingsBefore + 1);
+
+                underTest.tell(ModifyAttribute.of(thingId, attributeKey, attributeValue, dittoHeadersV2), getRef());
+                expectMsgEquals(modifyAttributeResponse(thingId, attributeKey, attributeValue, dittoHeadersV2, true));
+            }
+        };
+    }
+
     @Test
     public void retrieveThingsWithoutThingIdOfActor() {
         final Thing thing = createThingV2WithRandomId();
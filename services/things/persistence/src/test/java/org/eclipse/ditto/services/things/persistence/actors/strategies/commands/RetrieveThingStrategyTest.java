@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.commands
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.things.TestConstants.Thing.THING_V2;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -44,7 +45,8 @@ public final class RetrieveThingStrategyTest extends AbstractCommandStrategyTest
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(RetrieveThingStrategy.class, areImmutable());
+        assertInstancesOf(RetrieveThingStrategy.class, areImmutable(),
+                assumingFields("thingJsonCache").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.things.TestConstants.Thing.THING_V2;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingJsonCache}.
+ */
+public final class ThingJsonCacheTest {
+
+    private ThingJsonCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = ThingJsonCache.newInstance();
+    }
+
+    @Test
+    public void toJsonEqualsThingJsonAndIsReused() {
+        final JsonObject json = underTest.toJson(THING_V2, JsonSchemaVersion.V_2);
+
+        assertThat(json).isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2));
+        assertThat(underTest.toJson(THING_V2, JsonSchemaVersion.V_2)).isSameAs(json);
+    }
+
+    @Test
+    public void toJsonWithSelectedFieldsEqualsThingJson() {
+        final JsonFieldSelector selectedFields = JsonFactory.newFieldSelector("_revision,attributes,policyId");
+
+        assertThat(underTest.toJson(THING_V2, JsonSchemaVersion.V_2, selectedFields))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2, selectedFields));
+        assertThat(underTest.toJson(THING_V2, JsonSchemaVersion.V_1, selectedFields))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_1, selectedFields));
+    }
+
+    @Test
+    public void modifiedThingIsNotServedFromCache() {
+        final JsonObject json = underTest.toJson(THING_V2, JsonSchemaVersion.V_2);
+        final Thing modifiedThing = THING_V2.setAttribute(JsonFactory.newPointer("foo"), JsonFactory.newValue("bar"));
+
+        final JsonObject modifiedJson = underTest.toJson(modifiedThing, JsonSchemaVersion.V_2);
+
+        assertThat(modifiedJson).isNotEqualTo(json).isEqualTo(modifiedThing.toJson(JsonSchemaVersion.V_2));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
+import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
+import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.PolicyEnforcerCacheUpdater;
+import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.EnforcerWeigher;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+import akka.actor.ActorContext;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ClusterSharding;
+
+/**
+ * Starts the enforcer actor which enforces twin thing commands in the things service colocated with the shard of the
+ * addressed thing. It uses the same enforcement and caches as the enforcer actor of the concierge service but loads
+ * thing enforcement information from the local things shard region.
+ */
+@Immutable
+final class ColocatedEnforcerActorFactory {
+
+    private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_colocated_authorization_enforcer_cache_";
+    private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_colocated_authorization_id_cache_";
+
+    private ColocatedEnforcerActorFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Starts the colocated enforcer actor as child of the given context.
+     *
+     * @param context the context of the things root actor.
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param thingsShardRegion the things shard region of this service instance.
+     * @param shardRegionExtractor the extractor of the cluster shard regions.
+     * @return the policy enforcer cache of the started enforcer actor.
+     */
+    static Cache<EntityIdWithResourceType, Entry<Enforcer>> startEnforcerActor(final ActorContext context,
+            final ActorRef pubSubMediator,
+            final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor) {
+
+        final ActorSystem actorSystem = context.system();
+        final CachesConfig cachesConfig =
+                DittoConciergeConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()))
+                        .getCachesConfig();
+        final Duration askTimeout = cachesConfig.getAskTimeout();
+
+        final ActorRef policiesShardRegionProxy = ClusterSharding.get(actorSystem)
+                .startProxy(PoliciesMessagingConstants.SHARD_REGION,
+                        Optional.of(PoliciesMessagingConstants.CLUSTER_ROLE), shardRegionExtractor);
+
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CacheFactory.createCache(new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegion),
+                        cachesConfig.getIdCacheConfig(),
+                        ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
+                        actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
+
+        // enforcers retain their policy only if they are updated from policy events
+        final PolicyEnforcerCacheLoader policyEnforcerCacheLoader =
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy,
+                        cachesConfig.isUpdateEnforcersFromEvents());
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CacheFactory.createCache(policyEnforcerCacheLoader,
+                        cachesConfig.getEnforcerCacheConfig(),
+                        ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        EnforcerWeigher.getInstance());
+
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
+                CacheFactory.createCache(new AclEnforcerCacheLoader(askTimeout, thingsShardRegion),
+                        cachesConfig.getEnforcerCacheConfig(),
+                        ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        EnforcerWeigher.getInstance());
+
+        final PreEnforcer defaultPreEnforcer =
+                DefaultPreEnforcer.of(BlockedNamespaces.of(actorSystem), PlaceholderSubstitution.newInstance());
+        final PreEnforcer preEnforcer = signal -> defaultPreEnforcer.apply(signal)
+                .thenApply(ColocatedEnforcerActorFactory::removeColocatedEnforcementMarker);
+
+        // policies to copy and policy references are retrieved by the enforcer actor itself instead of by concierge
+        final Set<EnforcementProvider<?>> enforcementProviders = Set.of(
+                new ThingCommandEnforcement.Provider(thingsShardRegion, policiesShardRegionProxy, thingIdCache,
+                        policyEnforcerCache, aclEnforcerCache, preEnforcer),
+                new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache,
+                        cachesConfig.isUpdateEnforcersFromEvents()));
+
+        if (cachesConfig.isUpdateEnforcersFromEvents()) {
+            context.actorOf(PolicyEnforcerCacheUpdater.props(pubSubMediator, policyEnforcerCache),
+                    PolicyEnforcerCacheUpdater.ACTOR_NAME);
+        }
+
+        context.actorOf(EnforcerActor.props(pubSubMediator, enforcementProviders, null, preEnforcer,
+                thingIdCache, aclEnforcerCache, policyEnforcerCache), EnforcerActor.ACTOR_NAME);
+        return policyEnforcerCache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WithDittoHeaders removeColocatedEnforcementMarker(final WithDittoHeaders signal) {
+        return signal.setDittoHeaders(signal.getDittoHeaders()
+                .toBuilder()
+                .removeHeader(DittoHeaderDefinition.ENFORCE_COLOCATED.getKey())
+                .build());
+    }
+
+}
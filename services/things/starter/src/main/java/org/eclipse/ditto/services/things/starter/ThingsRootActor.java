@@ -17,9 +17,14 @@ import static akka.http.javadsl.server.Directives.logResult;
 import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.CLUSTER_ROLE;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
+import org.eclipse.ditto.services.base.config.ColocatedEnforcementConfig;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
@@ -28,12 +33,18 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActo
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStreamingActorCreator;
+import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceWarmUpActorCreator;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.WarmUpCacheEntry;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
@@ -43,8 +54,11 @@ import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.Done;
@@ -74,6 +88,13 @@ public final class ThingsRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "thingsRoot";
 
+    /**
+     * Path of the enforcer actor of the concierge service, equal to {@code ConciergeMessagingConstants
+     * .ENFORCER_ACTOR_PATH} which is not available in the things service.
+     */
+    @SuppressWarnings("squid:S1075")
+    private static final String CONCIERGE_ENFORCER_ACTOR_PATH = "/user/conciergeRoot/enforcer";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -89,15 +110,39 @@ public final class ThingsRootActor extends DittoRootActor {
         final ClusterConfig clusterConfig = thingsConfig.getClusterConfig();
         final ShardRegionExtractor shardRegionExtractor =
                 ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
-        final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
+        final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor,
+                thingsConfig.isPublishNarrowedEventTopics());
         final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
 
+        final ColocatedEnforcementConfig colocatedEnforcementConfig =
+                ColocatedEnforcementConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory,
+                                colocatedEnforcementConfig),
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
+        Function<EntityIdWithResourceType, CompletionStage<?>> colocatedWarmUp =
+                entityId -> CompletableFuture.completedFuture(null);
+        if (colocatedEnforcementConfig.isEnabled()) {
+            log.info("Starting colocated enforcer actor.");
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                    ColocatedEnforcerActorFactory.startEnforcerActor(getContext(), pubSubMediator, thingsShardRegion,
+                            shardRegionExtractor);
+            colocatedWarmUp = policyEnforcerCache::get;
+        }
+        final Function<PolicyId, CompletionStage<?>> policyWarmUp =
+                getPolicyWarmUp(pubSubMediator, colocatedWarmUp);
+
+        final MongoReadJournal readJournal = MongoReadJournal.newInstance(actorSystem);
+        final WarmUpConfig warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            startChildActor(ThingsPersistenceWarmUpActorCreator.ACTOR_NAME,
+                    ThingsPersistenceWarmUpActorCreator.props(warmUpConfig, thingsShardRegion, shardRegionExtractor,
+                            policyWarmUp, readJournal));
+        }
+
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), thingsConfig.getPersistenceOperationsConfig()));
@@ -128,9 +173,9 @@ public final class ThingsRootActor extends DittoRootActor {
         final TagsConfig tagsConfig = thingsConfig.getTagsConfig();
         final ActorRef eventStreamingActor =
                 ThingsPersistenceStreamingActorCreator.startEventStreamingActor(tagsConfig.getStreamingCacheSize(),
-                        this::startChildActor);
+                        this::startChildActor, readJournal);
         final ActorRef snapshotStreamingActor =
-                ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(this::startChildActor);
+                ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(this::startChildActor, readJournal);
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(eventStreamingActor), getSelf());
@@ -206,12 +251,29 @@ public final class ThingsRootActor extends DittoRootActor {
                 serverBinding.localAddress().getPort());
     }
 
+    /**
+     * Warms up the policy enforcer caches of all concierge instances and the colocated one of this instance, so that
+     * neither of them has to load the policy of a warmed-up Thing when its first signal arrives.
+     */
+    private static Function<PolicyId, CompletionStage<?>> getPolicyWarmUp(final ActorRef pubSubMediator,
+            final Function<EntityIdWithResourceType, CompletionStage<?>> colocatedWarmUp) {
+
+        return policyId -> {
+            final EntityIdWithResourceType entityId =
+                    EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
+            pubSubMediator.tell(DistPubSubAccess.sendToAll(CONCIERGE_ENFORCER_ACTOR_PATH,
+                    WarmUpCacheEntry.of(entityId)), ActorRef.noSender());
+            return colocatedWarmUp.apply(entityId);
+        };
+    }
+
     private static Props getThingSupervisorActorProps(
             final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory propsFactory) {
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final ColocatedEnforcementConfig colocatedEnforcementConfig) {
 
-        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory, colocatedEnforcementConfig);
     }
 
 }
@@ -12,13 +12,23 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.ditto.services.base.DittoService;
+import org.eclipse.ditto.services.base.config.ColocatedEnforcementConfig;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.stream.ActorMaterializer;
@@ -40,6 +50,9 @@ public final class ThingsService extends DittoService<ThingsConfig> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThingsService.class);
 
+    private static final String CLUSTER_ROLES_PATH = "akka.cluster.roles";
+    private static final String COLOCATED_ENFORCEMENT_RESOURCE = "things-colocated-enforcement";
+
     private ThingsService() {
         super(LOGGER, SERVICE_NAME, ThingsRootActor.ACTOR_NAME);
     }
@@ -54,6 +67,31 @@ public final class ThingsService extends DittoService<ThingsConfig> {
         thingsService.start().getWhenTerminated().toCompletableFuture().join();
     }
 
+    @Override
+    protected Config determineRawConfig() {
+        return withColocatedEnforcementSettings(super.determineRawConfig());
+    }
+
+    /**
+     * Adds the cluster role and dispatchers needed by the colocated enforcer if colocated enforcement is enabled, so
+     * that instances without colocated enforcement do not take part in the replication of blocked namespaces.
+     *
+     * @param rawConfig the config of this service.
+     * @return the config with colocated enforcement settings if enabled, else {@code rawConfig}.
+     */
+    static Config withColocatedEnforcementSettings(final Config rawConfig) {
+        if (!rawConfig.hasPath(DITTO_CONFIG_PATH) ||
+                !ColocatedEnforcementConfig.of(DefaultScopedConfig.dittoScoped(rawConfig)).isEnabled()) {
+            return rawConfig;
+        }
+        final List<String> roles = new ArrayList<>(rawConfig.getStringList(CLUSTER_ROLES_PATH));
+        if (!roles.contains(BlockedNamespaces.CLUSTER_ROLE)) {
+            roles.add(BlockedNamespaces.CLUSTER_ROLE);
+        }
+        return rawConfig.withValue(CLUSTER_ROLES_PATH, ConfigValueFactory.fromIterable(roles))
+                .withFallback(ConfigFactory.parseResourcesAnySyntax(COLOCATED_ENFORCEMENT_RESOURCE).resolve());
+    }
+
     @Override
     protected ThingsConfig getServiceSpecificConfig(final ScopedConfig dittoConfig) {
         return DittoThingsConfig.of(dittoConfig);
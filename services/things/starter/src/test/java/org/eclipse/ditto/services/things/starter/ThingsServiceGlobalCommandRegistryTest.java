@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
@@ -42,7 +43,8 @@ public final class ThingsServiceGlobalCommandRegistryTest extends GlobalCommandR
                 DeleteSubject.class,
                 CleanupPersistence.class,
                 RetrieveHealth.class,
-                PurgeEntities.class
+                PurgeEntities.class,
+                SudoRetrievePolicy.class
         );
     }
 
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.test.GlobalCommandResponseRegistryTestCases;
@@ -45,7 +46,8 @@ public final class ThingsServiceGlobalCommandResponseRegistryTest extends Global
                 CleanupPersistenceResponse.class,
                 RetrieveConfigResponse.class,
                 RetrieveHealthResponse.class,
-                PurgeEntitiesResponse.class
+                PurgeEntitiesResponse.class,
+                SudoRetrievePolicyResponse.class
         );
     }
 
@@ -17,6 +17,7 @@ import org.eclipse.ditto.model.base.entity.id.NamespacedEntityIdInvalidException
 import org.eclipse.ditto.model.base.exceptions.DittoHeaderInvalidException;
 import org.eclipse.ditto.model.messages.AuthorizationSubjectBlockedException;
 import org.eclipse.ditto.model.namespaces.NamespaceBlockedException;
+import org.eclipse.ditto.model.placeholders.PlaceholderFunctionSignatureInvalidException;
 import org.eclipse.ditto.model.policies.PolicyEntryInvalidException;
 import org.eclipse.ditto.model.policies.PolicyIdInvalidException;
 import org.eclipse.ditto.model.things.AclEntryInvalidException;
@@ -46,7 +47,8 @@ public final class ThingsServiceGlobalErrorRegistryTest extends GlobalErrorRegis
                 ThingIdInvalidException.class,
                 PolicyIdInvalidException.class,
                 AcknowledgementLabelInvalidException.class,
-                AcknowledgementCorrelationIdMissingException.class);
+                AcknowledgementCorrelationIdMissingException.class,
+                PlaceholderFunctionSignatureInvalidException.class);
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingsService}.
+ */
+public final class ThingsServiceTest {
+
+    private static final Config THINGS_CONFIG = ConfigFactory.parseResourcesAnySyntax("things").resolve();
+
+    @Test
+    public void colocatedEnforcementSettingsAreNotAddedIfDisabled() {
+        final Config config = ThingsService.withColocatedEnforcementSettings(THINGS_CONFIG);
+
+        assertThat(config.getStringList("akka.cluster.roles")).doesNotContain(BlockedNamespaces.CLUSTER_ROLE);
+        assertThat(config.hasPath("policy-enforcer-cache-dispatcher")).isFalse();
+    }
+
+    @Test
+    public void colocatedEnforcementSettingsAreAddedIfEnabled() {
+        final Config enabled = ConfigFactory.parseString("ditto.colocated-enforcement.enabled = true")
+                .withFallback(THINGS_CONFIG);
+
+        final Config config = ThingsService.withColocatedEnforcementSettings(enabled);
+
+        assertThat(config.getStringList("akka.cluster.roles"))
+                .contains("things", "thing-event-aware", BlockedNamespaces.CLUSTER_ROLE);
+        assertThat(config.hasPath("blocked-namespaces-dispatcher")).isTrue();
+        assertThat(config.hasPath("thing-id-cache-dispatcher")).isTrue();
+        assertThat(config.hasPath("policy-enforcer-cache-dispatcher")).isTrue();
+        assertThat(config.hasPath("acl-enforcer-cache-dispatcher")).isTrue();
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingConstants;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.things.ThingsMappingStrategies;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.RootActorPath;
+import akka.pattern.Patterns;
+
+/**
+ * JMH Benchmark comparing the latency of a {@code RetrieveThing} round trip through the two enforcement topologies:
+ * <ul>
+ * <li>concierge topology: gateway -&gt; concierge -&gt; things -&gt; concierge -&gt; gateway,</li>
+ * <li>colocated topology: gateway -&gt; things (enforcing) -&gt; gateway.</li>
+ * </ul>
+ * Gateway, concierge and things are separate actor systems which exchange the messages via Artery TCP over the
+ * loopback interface, serialized with the CBOR cluster serializer. Each hop therefore includes serialization, the
+ * transport and the dispatching of the receiving actor; only the network latency between hosts is missing.
+ * The sample time mode reports the p50 and p99 latencies of both topologies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnforcementTopologyBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10L);
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "benchmark");
+    private static final PolicyId POLICY_ID = PolicyId.of(THING_ID);
+    private static final AuthorizationSubject SUBJECT = AuthorizationModelFactory.newAuthSubject("google:subject");
+
+    private static final Config NODE_CONFIG = ConfigFactory.parseString(
+            "akka {\n" +
+            "  loglevel = WARNING\n" +
+            "  actor {\n" +
+            "    provider = remote\n" +
+            "    serializers.cbor = \"org.eclipse.ditto.services.utils.cluster.CborJsonifiableSerializer\"\n" +
+            "    serialization-bindings {\n" +
+            "      \"org.eclipse.ditto.model.base.json.Jsonifiable\" = cbor\n" +
+            "      \"org.eclipse.ditto.model.base.exceptions.DittoRuntimeException\" = cbor\n" +
+            "    }\n" +
+            "  }\n" +
+            "  remote.artery {\n" +
+            "    enabled = on\n" +
+            "    transport = tcp\n" +
+            "    canonical.hostname = \"127.0.0.1\"\n" +
+            "    canonical.port = 0\n" +
+            "  }\n" +
+            "}\n" +
+            "ditto.mapping-strategy.implementation = \"" + ThingsMappingStrategies.class.getName() + "\"\n");
+
+    private final Enforcer enforcer;
+    private final RetrieveThing retrieveThing;
+    private final RetrieveThingResponse retrieveThingResponse;
+
+    private ActorSystem gatewaySystem;
+    private ActorSystem conciergeSystem;
+    private ActorSystem thingsSystem;
+    private ActorRef conciergeEnforcer;
+    private ActorRef colocatedEnforcer;
+
+    public EnforcementTopologyBenchmark() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("DEFAULT")
+                .setSubject(SubjectIssuer.GOOGLE, "subject")
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        Permission.READ, Permission.WRITE)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), Permission.READ)
+                .build();
+        enforcer = PolicyEnforcers.defaultEvaluator(policy);
+
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(POLICY_ID)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonFactory.newValue("ACME"))
+                .setAttribute(JsonPointer.of("secret"), JsonFactory.newValue("hidden"))
+                .setFeatureProperty("temperature", JsonPointer.of("value"), JsonFactory.newValue(23.5))
+                .setFeatureProperty("humidity", JsonPointer.of("value"), JsonFactory.newValue(42))
+                .build();
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("benchmark")
+                .authorizationContext(AuthorizationContext.newInstance(SUBJECT))
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .build();
+        retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+        retrieveThingResponse = RetrieveThingResponse.of(THING_ID, thing.toJson(), dittoHeaders);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gatewaySystem = ActorSystem.create("gateway", NODE_CONFIG);
+        conciergeSystem = ActorSystem.create("concierge", NODE_CONFIG);
+        thingsSystem = ActorSystem.create("things", NODE_CONFIG);
+
+        thingsSystem.actorOf(Props.create(ThingsActor.class, this, false), "things");
+        thingsSystem.actorOf(Props.create(ThingsActor.class, this, true), "colocatedEnforcer");
+        final ActorRef thingsFromConcierge = resolve(conciergeSystem, thingsSystem, "things");
+        conciergeSystem.actorOf(Props.create(ConciergeEnforcerActor.class, this, thingsFromConcierge), "enforcer");
+
+        conciergeEnforcer = resolve(gatewaySystem, conciergeSystem, "enforcer");
+        colocatedEnforcer = resolve(gatewaySystem, thingsSystem, "colocatedEnforcer");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gatewaySystem.terminate();
+        conciergeSystem.terminate();
+        thingsSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object conciergeTopology() {
+        return Patterns.ask(conciergeEnforcer, retrieveThing, ASK_TIMEOUT).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object colocatedTopology() {
+        return Patterns.ask(colocatedEnforcer, retrieveThing, ASK_TIMEOUT).toCompletableFuture().join();
+    }
+
+    private static ActorRef resolve(final ActorSystem from, final ActorSystem to, final String actorName) {
+        final Address address = ((ExtendedActorSystem) to).provider().getDefaultAddress();
+        return from.actorSelection(new RootActorPath(address, "/").child("user").child(actorName))
+                .resolveOne(ASK_TIMEOUT)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private void enforceCommand(final Command<?> command) {
+        final ResourceKey resourceKey = ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, command.getResourcePath());
+        if (!enforcer.hasPartialPermissions(resourceKey, command.getDittoHeaders().getAuthorizationContext(),
+                Permission.READ)) {
+            throw new IllegalStateException("Command was not authorized: " + command);
+        }
+    }
+
+    private RetrieveThingResponse respond(final Command<?> command) {
+        return retrieveThingResponse.setDittoHeaders(command.getDittoHeaders());
+    }
+
+    private RetrieveThingResponse filterResponse(final RetrieveThingResponse response) {
+        final ResourceKey resourceKey = ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, response.getResourcePath());
+        final JsonObject view = enforcer.buildJsonView(resourceKey, response.getEntity().asObject(),
+                response.getDittoHeaders().getAuthorizationContext(), Permissions.newInstance(Permission.READ));
+        return response.setEntity(view);
+    }
+
+    /**
+     * Answers retrieve thing commands like the thing persistence actor; enforces them first if colocated.
+     */
+    private static final class ThingsActor extends AbstractActor {
+
+        private final EnforcementTopologyBenchmark benchmark;
+        private final boolean enforce;
+
+        @SuppressWarnings("unused")
+        private ThingsActor(final EnforcementTopologyBenchmark benchmark, final boolean enforce) {
+            this.benchmark = benchmark;
+            this.enforce = enforce;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(RetrieveThing.class, command -> {
+                        final RetrieveThingResponse response;
+                        if (enforce) {
+                            benchmark.enforceCommand(command);
+                            response = benchmark.filterResponse(benchmark.respond(command));
+                        } else {
+                            response = benchmark.respond(command);
+                        }
+                        getSender().tell(response, getSelf());
+                    })
+                    .build();
+        }
+
+    }
+
+    /**
+     * Enforces retrieve thing commands like the concierge enforcer actor and asks the things actor for the thing.
+     */
+    private static final class ConciergeEnforcerActor extends AbstractActor {
+
+        private final EnforcementTopologyBenchmark benchmark;
+        private final ActorRef thingsActor;
+
+        @SuppressWarnings("unused")
+        private ConciergeEnforcerActor(final EnforcementTopologyBenchmark benchmark, final ActorRef thingsActor) {
+            this.benchmark = benchmark;
+            this.thingsActor = thingsActor;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(RetrieveThing.class, command -> {
+                        benchmark.enforceCommand(command);
+                        Patterns.pipe(Patterns.ask(thingsActor, command, ASK_TIMEOUT)
+                                        .thenApply(response -> benchmark.filterResponse(
+                                                (RetrieveThingResponse) response)),
+                                getContext().dispatcher())
+                                .to(getSender());
+                    })
+                    .build();
+        }
+
+    }
+
+}
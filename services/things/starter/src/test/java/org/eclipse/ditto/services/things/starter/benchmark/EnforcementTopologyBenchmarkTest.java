@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Test;
+
+/**
+ * Simple Test executing the scenarios of {@link EnforcementTopologyBenchmark}.
+ */
+public final class EnforcementTopologyBenchmarkTest {
+
+    @Test
+    public void bothTopologiesProduceSameFilteredResponse() {
+        final EnforcementTopologyBenchmark underTest = new EnforcementTopologyBenchmark();
+        underTest.setUp();
+        final Object conciergeResponse;
+        final Object colocatedResponse;
+        try {
+            conciergeResponse = underTest.conciergeTopology();
+            colocatedResponse = underTest.colocatedTopology();
+        } finally {
+            underTest.tearDown();
+        }
+
+        assertThat(colocatedResponse).isEqualTo(conciergeResponse);
+        assertThat(((RetrieveThingResponse) colocatedResponse).getEntity().asObject()
+                .getValue(JsonPointer.of("attributes/secret"))).isEmpty();
+        assertThat(((RetrieveThingResponse) colocatedResponse).getEntity().asObject()
+                .getValue(JsonPointer.of("attributes/manufacturer"))).isNotEmpty();
+    }
+
+}
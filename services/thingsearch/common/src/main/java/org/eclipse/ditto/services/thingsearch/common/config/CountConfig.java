@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for counting the things of the search index.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Indicates whether the results of counts are cached.
+     *
+     * @return {@code true} if counts are cached, {@code false} else.
+     */
+    boolean isCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the cache of count results.
+     *
+     * @return the config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Indicates whether counts without filter which disregard visibility are answered with approximate per-namespace
+     * counts instead of counting the search index.
+     *
+     * @return {@code true} if such counts are approximated, {@code false} else.
+     */
+    boolean isApproximate();
+
+    /**
+     * Returns the maximum age of the per-namespace counts which approximate counts are based on.
+     *
+     * @return the refresh interval.
+     */
+    Duration getApproximateRefreshInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the results of counts are cached.
+         */
+        CACHE_ENABLED("cache-enabled", false),
+
+        /**
+         * Determines whether counts without filter which disregard visibility are approximated.
+         */
+        APPROXIMATE("approximate", false),
+
+        /**
+         * The maximum age of the per-namespace counts which approximate counts are based on.
+         */
+        APPROXIMATE_REFRESH_INTERVAL("approximate-refresh-interval", Duration.ofMinutes(1L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountConfig}.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultCountConfig implements CountConfig {
+
+    /**
+     * Path where the count config values are expected.
+     */
+    static final String CONFIG_PATH = "count";
+
+    /**
+     * Path of the cache config values within the count config.
+     */
+    static final String CACHE_CONFIG_PATH = "cache";
+
+    private final boolean cacheEnabled;
+    private final CacheConfig cacheConfig;
+    private final boolean approximate;
+    private final Duration approximateRefreshInterval;
+
+    private DefaultCountConfig(final ConfigWithFallback countScopedConfig) {
+        cacheEnabled = countScopedConfig.getBoolean(CountConfigValue.CACHE_ENABLED.getConfigPath());
+        cacheConfig = DefaultCacheConfig.of(countScopedConfig, CACHE_CONFIG_PATH);
+        approximate = countScopedConfig.getBoolean(CountConfigValue.APPROXIMATE.getConfigPath());
+        approximateRefreshInterval =
+                countScopedConfig.getDuration(CountConfigValue.APPROXIMATE_REFRESH_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultCountConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountConfig of(final Config config) {
+        return new DefaultCountConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, CountConfigValue.values()));
+    }
+
+    @Override
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
+
+    @Override
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public Duration getApproximateRefreshInterval() {
+        return approximateRefreshInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountConfig that = (DefaultCountConfig) o;
+        return cacheEnabled == that.cacheEnabled &&
+                approximate == that.approximate &&
+                Objects.equals(cacheConfig, that.cacheConfig) &&
+                Objects.equals(approximateRefreshInterval, that.approximateRefreshInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheEnabled, cacheConfig, approximate, approximateRefreshInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "cacheEnabled=" + cacheEnabled +
+                ", cacheConfig=" + cacheConfig +
+                ", approximate=" + approximate +
+                ", approximateRefreshInterval=" + approximateRefreshInterval +
+                "]";
+    }
+
+}
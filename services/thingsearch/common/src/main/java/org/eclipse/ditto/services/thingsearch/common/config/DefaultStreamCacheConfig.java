@@ -72,6 +72,16 @@ public final class DefaultStreamCacheConfig implements StreamCacheConfig {
         return genericCacheConfig.getMaximumSize();
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return genericCacheConfig.getMaximumWeight();
+    }
+
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return genericCacheConfig.getRefreshAfterWrite();
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return genericCacheConfig.getExpireAfterWrite();
@@ -87,6 +97,16 @@ public final class DefaultStreamCacheConfig implements StreamCacheConfig {
         return genericCacheConfig.getExpireAfterCreate();
     }
 
+    @Override
+    public Duration getCoalescingWindow() {
+        return genericCacheConfig.getCoalescingWindow();
+    }
+
+    @Override
+    public int getCoalescingMaxBatchSize() {
+        return genericCacheConfig.getCoalescingMaxBatchSize();
+    }
+
     @Override
     public Config render() {
             return ConfigFactory.empty()
@@ -21,6 +21,8 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.base.config.DittoServiceConfig;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
@@ -41,6 +43,7 @@ import org.eclipse.ditto.services.utils.persistence.operations.PersistenceOperat
 public final class DittoSearchConfig implements SearchConfig {
 
     private static final String CONFIG_PATH = "things-search";
+    private static final String QUERY_CACHE_CONFIG_PATH = "query-cache";
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
@@ -52,6 +55,8 @@ public final class DittoSearchConfig implements SearchConfig {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final StreamConfig streamConfig;
+    private final CacheConfig queryCacheConfig;
+    private final CountConfig countConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -67,6 +72,8 @@ public final class DittoSearchConfig implements SearchConfig {
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
         streamConfig = DefaultStreamConfig.of(configWithFallback);
+        queryCacheConfig = DefaultCacheConfig.of(configWithFallback, QUERY_CACHE_CONFIG_PATH);
+        countConfig = DefaultCountConfig.of(configWithFallback);
     }
 
     /**
@@ -106,6 +113,16 @@ public final class DittoSearchConfig implements SearchConfig {
         return streamConfig;
     }
 
+    @Override
+    public CacheConfig getQueryCacheConfig() {
+        return queryCacheConfig;
+    }
+
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -165,13 +182,16 @@ public final class DittoSearchConfig implements SearchConfig {
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(queryCacheConfig, that.queryCacheConfig) &&
+                Objects.equals(countConfig, that.countConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig,
+                queryCacheConfig, countConfig);
     }
 
     @Override
@@ -187,6 +207,8 @@ public final class DittoSearchConfig implements SearchConfig {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", streamConfig=" + streamConfig +
+                ", queryCacheConfig=" + queryCacheConfig +
+                ", countConfig=" + countConfig +
                 "]";
     }
 
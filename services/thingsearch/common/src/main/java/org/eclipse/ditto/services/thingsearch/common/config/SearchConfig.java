@@ -17,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.health.config.WithHealthCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithIndexInitializationConfig;
@@ -61,6 +62,22 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings of the cache of parsed RQL filters and options of search queries.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    CacheConfig getQueryCacheConfig();
+
+    /**
+     * Returns the configuration settings for counting the things of the search index.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    CountConfig getCountConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
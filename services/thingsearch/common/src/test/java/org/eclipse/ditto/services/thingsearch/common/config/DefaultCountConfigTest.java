@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig.CountConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultCountConfig}.
+ */
+public final class DefaultCountConfigTest {
+
+    private static Config countTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countTestConfig = ConfigFactory.load("count-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountConfig.class, areImmutable(),
+                provided(CacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isCacheEnabled())
+                .as(CountConfigValue.CACHE_ENABLED.getConfigPath())
+                .isEqualTo(CountConfigValue.CACHE_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.isApproximate())
+                .as(CountConfigValue.APPROXIMATE.getConfigPath())
+                .isEqualTo(CountConfigValue.APPROXIMATE.getDefaultValue());
+        softly.assertThat(underTest.getApproximateRefreshInterval())
+                .as(CountConfigValue.APPROXIMATE_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(CountConfigValue.APPROXIMATE_REFRESH_INTERVAL.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(countTestConfig);
+        final Config countScopedRawConfig = countTestConfig.getConfig(DefaultCountConfig.CONFIG_PATH);
+        final Config cacheScopedRawConfig = countScopedRawConfig.getConfig(DefaultCountConfig.CACHE_CONFIG_PATH);
+
+        softly.assertThat(underTest.isCacheEnabled())
+                .as(CountConfigValue.CACHE_ENABLED.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getBoolean(CountConfigValue.CACHE_ENABLED.getConfigPath()));
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as("cache.maximum-size")
+                .isEqualTo(cacheScopedRawConfig.getLong("maximum-size"));
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as("cache.expire-after-write")
+                .isEqualTo(cacheScopedRawConfig.getDuration("expire-after-write"));
+        softly.assertThat(underTest.isApproximate())
+                .as(CountConfigValue.APPROXIMATE.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getBoolean(CountConfigValue.APPROXIMATE.getConfigPath()));
+        softly.assertThat(underTest.getApproximateRefreshInterval())
+                .as(CountConfigValue.APPROXIMATE_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getDuration(
+                        CountConfigValue.APPROXIMATE_REFRESH_INTERVAL.getConfigPath()));
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.thingsearch.persistence.query;
 
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilder;
@@ -26,6 +28,7 @@ import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
+import org.eclipse.ditto.services.models.thingsearch.query.filter.RqlParseCache;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
@@ -39,16 +42,17 @@ public final class QueryParser {
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
-    private final RqlOptionParser rqlOptionParser;
+    @Nullable private final RqlParseCache rqlParseCache;
 
-    private QueryParser(final CriteriaFactory criteriaFactory,
+    private QueryParser(final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
-            final QueryBuilderFactory queryBuilderFactory) {
+            final QueryBuilderFactory queryBuilderFactory,
+            @Nullable final RqlParseCache rqlParseCache) {
 
-        this.queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
-        rqlOptionParser = new RqlOptionParser();
+        this.rqlParseCache = rqlParseCache;
     }
 
     /**
@@ -63,7 +67,25 @@ public final class QueryParser {
             final ThingsFieldExpressionFactory fieldExpressionFactory,
             final QueryBuilderFactory queryBuilderFactory) {
 
-        return new QueryParser(criteriaFactory, fieldExpressionFactory, queryBuilderFactory);
+        return new QueryParser(new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory),
+                fieldExpressionFactory, queryBuilderFactory, null);
+    }
+
+    /**
+     * Create a QueryFactory which looks up parsed filters and options in the given cache.
+     *
+     * @param fieldExpressionFactory a factory to retrieve things field expressions.
+     * @param queryBuilderFactory a factory to create a query builder.
+     * @param rqlParseCache the cache of parsed filters and options.
+     * @return the query factory.
+     * @since 1.2.0
+     */
+    public static QueryParser of(final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final QueryBuilderFactory queryBuilderFactory,
+            final RqlParseCache rqlParseCache) {
+
+        return new QueryParser(rqlParseCache.getQueryFilterCriteriaFactory(), fieldExpressionFactory,
+                queryBuilderFactory, rqlParseCache);
     }
 
     /**
@@ -100,7 +122,9 @@ public final class QueryParser {
     public Query parseSudoCountThings(final SudoCountThings sudoCountThings) {
         final DittoHeaders headers = sudoCountThings.getDittoHeaders();
         final String filters = sudoCountThings.getFilter().orElse(null);
-        final Criteria criteria = queryFilterCriteriaFactory.filterCriteria(filters, headers);
+        final Criteria criteria = null != rqlParseCache
+                ? rqlParseCache.filterCriteria(filters, headers)
+                : queryFilterCriteriaFactory.filterCriteria(filters, headers);
         return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
     }
 
@@ -115,6 +139,11 @@ public final class QueryParser {
         final DittoHeaders headers = command.getDittoHeaders();
         final Set<String> namespaces = command.getNamespaces().orElse(null);
         final String filter = command.getFilter().orElse(null);
+        if (null != rqlParseCache) {
+            return namespaces == null
+                    ? rqlParseCache.filterCriteria(filter, headers)
+                    : rqlParseCache.filterCriteriaRestrictedByNamespaces(filter, headers, namespaces);
+        }
         if (namespaces == null) {
             return queryFilterCriteriaFactory.filterCriteria(filter, command.getDittoHeaders());
         } else {
@@ -125,7 +154,9 @@ public final class QueryParser {
     private void setOptions(final String options, final QueryBuilder queryBuilder, final DittoHeaders headers) {
         try {
             final ParameterOptionVisitor visitor = new ParameterOptionVisitor(fieldExpressionFactory, queryBuilder);
-            visitor.visitAll(rqlOptionParser.parse(options));
+            visitor.visitAll(null != rqlParseCache
+                    ? rqlParseCache.parseOptions(options)
+                    : RqlOptionParser.parseOptions(options));
         } catch (final ParserException | IllegalArgumentException e) {
             throw InvalidOptionException.newBuilder()
                     .message(e.getMessage())
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cache of the results of counts against the search index.
+ * <p>
+ * Counts are cached by their MongoDB filter, which contains the authorization subjects and the namespace restriction
+ * of the count, together with the namespaces of the count and skip and limit. Cached counts expire after the
+ * configured time and are invalidated when things of their namespaces are written by the search updater of this
+ * instance. Writes of other instances are reflected after expiry only.
+ * </p>
+ * <p>
+ * Invalidation does not iterate the cached counts. Instead, each write increments the generation of its namespaces
+ * and the overall generation. A cached count remembers the generation of its namespaces, or the overall generation
+ * if it is not restricted to namespaces, at the time it was counted and is disregarded once that changed.
+ * </p>
+ * <p>
+ * Additionally, counts without any filter which disregard visibility may be approximated by the sum of the
+ * per-namespace counts of the search index, which are refreshed after the configured interval.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class CountCache {
+
+    private static final String CACHE_NAME = "search_count";
+
+    @Nullable private final Cache<CountKey, CachedCount> cache;
+    private final boolean approximate;
+    private final Duration approximateRefreshInterval;
+    private final ConcurrentMap<String, AtomicLong> namespaceGenerations;
+    private final AtomicLong overallGeneration;
+    private final AtomicReference<CompletableFuture<Long>> refreshingTotalCount;
+    @Nullable private volatile TotalCount totalCount;
+
+    private CountCache(@Nullable final Cache<CountKey, CachedCount> cache, final boolean approximate,
+            final Duration approximateRefreshInterval) {
+
+        this.cache = cache;
+        this.approximate = approximate;
+        this.approximateRefreshInterval = approximateRefreshInterval;
+        namespaceGenerations = new ConcurrentHashMap<>();
+        overallGeneration = new AtomicLong();
+        refreshingTotalCount = new AtomicReference<>();
+        totalCount = null;
+    }
+
+    /**
+     * Returns a new CountCache.
+     *
+     * @param countConfig the configuration settings for counting.
+     * @param executor the executor of the cache.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static CountCache of(final CountConfig countConfig, final Executor executor) {
+        checkNotNull(countConfig, "countConfig");
+        checkNotNull(executor, "executor");
+        final Cache<CountKey, CachedCount> cache = countConfig.isCacheEnabled()
+                ? CacheFactory.createCache(countConfig.getCacheConfig(), CACHE_NAME, executor)
+                : null;
+        return new CountCache(cache, countConfig.isApproximate(), countConfig.getApproximateRefreshInterval());
+    }
+
+    /**
+     * Returns a CountCache which neither caches nor approximates counts.
+     *
+     * @return the instance.
+     */
+    public static CountCache disabled() {
+        return new CountCache(null, false, Duration.ZERO);
+    }
+
+    /**
+     * Indicates whether counts are cached, i. e. whether invalidation of namespaces has any effect.
+     *
+     * @return {@code true} if counts are cached, {@code false} else.
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+
+    /**
+     * Indicates whether counts without filter which disregard visibility are approximated.
+     *
+     * @return {@code true} if such counts are approximated, {@code false} else.
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Returns the cached count of the given filter or counts it if it is not cached.
+     *
+     * @param filter the MongoDB filter of the count.
+     * @param namespaces the namespaces the count is restricted to, or {@code null} if it is not restricted.
+     * @param skip the skip of the count.
+     * @param limit the limit of the count.
+     * @param counter supplies the source of the actual count.
+     * @return the source of the count.
+     */
+    Source<Long, NotUsed> count(final BsonDocument filter, @Nullable final Set<String> namespaces, final int skip,
+            final int limit, final Supplier<Source<Long, NotUsed>> counter) {
+
+        if (null == cache) {
+            return counter.get();
+        }
+        final CountKey key = new CountKey(filter, namespaces, skip, limit);
+        // determined before counting, thus a write during the count invalidates its result
+        final long generation = getGeneration(namespaces);
+        return Source.fromCompletionStage(cache.getIfPresent(key))
+                .flatMapConcat(cachedCount -> cachedCount.filter(cached -> cached.generation == generation)
+                        .map(cached -> Source.single(cached.count))
+                        .orElseGet(() -> counter.get().map(count -> {
+                            cache.put(key, new CachedCount(count, generation));
+                            return count;
+                        })));
+    }
+
+    /**
+     * Returns the approximate count of all things of the search index. It is based on the sum of the per-namespace
+     * counts which are refreshed once they are older than the configured interval. While they are refreshed,
+     * the previous sum is returned. Before the first sum is known, concurrent calls await the aggregation of the
+     * first call instead of aggregating the per-namespace counts themselves.
+     * <p>
+     * Whether to refresh is decided when the returned source is materialized, thus sources which are never run do not
+     * block refreshes.
+     * </p>
+     *
+     * @param namespaceCounter supplies the source of the actual per-namespace counts.
+     * @return the source of the approximate count.
+     */
+    Source<Long, NotUsed> approximateTotalCount(
+            final Supplier<Source<SearchNamespaceResultEntry, NotUsed>> namespaceCounter) {
+
+        return Source.lazily(() -> getOrRefreshTotalCount(namespaceCounter))
+                .mapMaterializedValue(notUsed -> NotUsed.getInstance());
+    }
+
+    private Source<Long, NotUsed> getOrRefreshTotalCount(
+            final Supplier<Source<SearchNamespaceResultEntry, NotUsed>> namespaceCounter) {
+
+        final TotalCount currentTotalCount = totalCount;
+        if (null != currentTotalCount && currentTotalCount.isYoungerThan(approximateRefreshInterval)) {
+            return Source.single(currentTotalCount.count);
+        }
+        final CompletableFuture<Long> refresh = new CompletableFuture<>();
+        final CompletableFuture<Long> ongoingRefresh = refreshingTotalCount.compareAndExchange(null, refresh);
+        if (null != ongoingRefresh) {
+            return null != currentTotalCount
+                    ? Source.single(currentTotalCount.count)
+                    : Source.fromCompletionStage(ongoingRefresh);
+        }
+        return namespaceCounter.get()
+                .fold(0L, (sum, entry) -> sum + entry.getCount())
+                .map(sum -> {
+                    totalCount = new TotalCount(sum, Instant.now());
+                    return sum;
+                })
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((d, error) -> {
+                        refreshingTotalCount.set(null);
+                        final TotalCount refreshedTotalCount = totalCount;
+                        if (null != error) {
+                            refresh.completeExceptionally(error);
+                        } else if (null != refreshedTotalCount) {
+                            refresh.complete(refreshedTotalCount.count);
+                        } else {
+                            refresh.completeExceptionally(
+                                    new IllegalStateException("Per-namespace counts were not aggregated."));
+                        }
+                    });
+                    return notUsed;
+                });
+    }
+
+    /**
+     * Invalidates the cached counts which may include things of the given namespaces.
+     *
+     * @param namespaces the namespaces of written things.
+     */
+    public void invalidateNamespaces(final Collection<String> namespaces) {
+        if (null != cache && !namespaces.isEmpty()) {
+            namespaces.forEach(namespace ->
+                    namespaceGenerations.computeIfAbsent(namespace, ns -> new AtomicLong()).incrementAndGet());
+            overallGeneration.incrementAndGet();
+        }
+    }
+
+    private long getGeneration(@Nullable final Set<String> namespaces) {
+        if (null == namespaces) {
+            return overallGeneration.get();
+        }
+        // generations only grow, thus their sum changes with every write of any of the namespaces
+        long generation = 0L;
+        for (final String namespace : namespaces) {
+            final AtomicLong namespaceGeneration = namespaceGenerations.get(namespace);
+            if (null != namespaceGeneration) {
+                generation += namespaceGeneration.get();
+            }
+        }
+        return generation;
+    }
+
+    @Immutable
+    private static final class CountKey {
+
+        private final BsonDocument filter;
+        @Nullable private final Set<String> namespaces;
+        private final int skip;
+        private final int limit;
+
+        private CountKey(final BsonDocument filter, @Nullable final Set<String> namespaces, final int skip,
+                final int limit) {
+
+            this.filter = filter;
+            this.namespaces = namespaces;
+            this.skip = skip;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountKey that = (CountKey) o;
+            return skip == that.skip &&
+                    limit == that.limit &&
+                    Objects.equals(filter, that.filter) &&
+                    Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, namespaces, skip, limit);
+        }
+
+    }
+
+    @Immutable
+    private static final class CachedCount {
+
+        private final long count;
+        private final long generation;
+
+        private CachedCount(final long count, final long generation) {
+            this.count = count;
+            this.generation = generation;
+        }
+
+    }
+
+    @Immutable
+    private static final class TotalCount {
+
+        private final long count;
+        private final Instant timestamp;
+
+        private TotalCount(final long count, final Instant timestamp) {
+            this.count = count;
+            this.timestamp = timestamp;
+        }
+
+        private boolean isYoungerThan(final Duration age) {
+            return timestamp.plus(age).isAfter(Instant.now());
+        }
+
+    }
+
+}
@@ -91,6 +91,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final CountCache countCache;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -111,6 +112,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        countCache = CountCache.disabled();
     }
 
     private MongoThingsSearchPersistence(
@@ -118,13 +120,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final CountCache countCache) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.countCache = countCache;
     }
 
     /**
@@ -135,7 +139,19 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, countCache);
+    }
+
+    /**
+     * Create a copy of this object which caches and approximates counts with the given cache.
+     *
+     * @param countCache the cache of counts.
+     * @return copy of this object with the count cache configured.
+     * @since 1.2.0
+     */
+    public MongoThingsSearchPersistence withCountCache(final CountCache countCache) {
+        checkNotNull(countCache, "countCache");
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, countCache);
     }
 
     @Override
@@ -149,6 +165,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
     @Override
     public Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport() {
+        return countPerNamespace()
+                .fold(new ArrayList<SearchNamespaceResultEntry>(), (list, entry) -> {
+                    list.add(entry);
+                    return list;
+                })
+                .map(SearchNamespaceReportResult::new);
+    }
+
+    private Source<SearchNamespaceResultEntry, NotUsed> countPerNamespace() {
         final AggregatePublisher<Document> aggregatePublisher = collection.aggregate(
                 Collections.singletonList(
                         new Document("$group",
@@ -165,29 +190,40 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                             : "NOT_MIGRATED";
                     final long count = Long.parseLong(document.get(PersistenceConstants.FIELD_COUNT).toString());
                     return new SearchNamespaceResultEntry(namespace, count);
-                })
-                .fold(new ArrayList<SearchNamespaceResultEntry>(), (list, entry) -> {
-                    list.add(entry);
-                    return list;
-                })
-                .map(SearchNamespaceReportResult::new);
+                });
     }
 
     @Override
     public Source<Long, NotUsed> count(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
+        return count(query, authorizationSubjectIds, null);
+    }
+
+    @Override
+    public Source<Long, NotUsed> count(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
         checkNotNull(query, "query");
 
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         log.debug("count with query filter <{}>.", queryFilter);
 
+        if (null == authorizationSubjectIds && queryFilter.isEmpty() && countCache.isApproximate()) {
+            // the unrestricted sudo count, e. g. of the statistics of the search index, counts each document
+            return countCache.approximateTotalCount(this::countPerNamespace)
+                    .mapError(handleMongoExecutionTimeExceededException())
+                    .log("approximateCount");
+        }
+
         final CountOptions countOptions = new CountOptions()
                 .skip(query.getSkip())
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.count(queryFilter, countOptions))
+        return countCache.count(queryFilter, namespaces, query.getSkip(), query.getLimit(),
+                () -> Source.fromPublisher(collection.count(queryFilter, countOptions)))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
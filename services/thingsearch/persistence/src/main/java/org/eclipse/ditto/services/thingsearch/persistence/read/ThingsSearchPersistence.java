@@ -58,6 +58,23 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns the count of documents found by the given {@code query} which is restricted to the given namespaces.
+     * The namespaces allow implementations to invalidate cached counts selectively.
+     *
+     * @param query the query for matching. Its criteria are already restricted to {@code namespaces}.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces the query is restricted to, or null if it is not restricted.
+     * @return an {@link Source} which emits the count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 1.2.0
+     */
+    default Source<Long, NotUsed> count(final Query query, final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        return count(query, authorizationSubjectIds);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
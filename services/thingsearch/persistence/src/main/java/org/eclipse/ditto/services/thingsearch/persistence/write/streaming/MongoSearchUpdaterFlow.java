@@ -15,14 +15,17 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.persistence.read.CountCache;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreRegisteredTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +50,7 @@ import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.Zip;
 import kamon.Kamon;
+import kamon.metric.HistogramMetric;
 
 /**
  * Flow mapping write models to write results via the search persistence.
@@ -56,13 +60,23 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String SEGMENT_TAG = "segment";
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    private final CountCache countCache;
+    private final PreRegisteredTimer bulkUpdateTimer;
+    private final HistogramMetric updatesPerBulkHistogram;
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection, final CountCache countCache) {
         this.collection = collection;
+        this.countCache = countCache;
+        final Map<String, String> bulkUpdateTags = new HashMap<>();
+        bulkUpdateTags.put(UPDATE_TYPE_TAG, "bulkUpdate");
+        bulkUpdateTags.put(SEGMENT_TAG, "overall");
+        bulkUpdateTimer = DittoMetrics.preRegisteredTimer(TRACE_THING_BULK_UPDATE, bulkUpdateTags);
+        updatesPerBulkHistogram = Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK);
     }
 
     /**
@@ -72,7 +86,19 @@ final class MongoSearchUpdaterFlow {
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return of(database, CountCache.disabled());
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which invalidates the cached counts of the namespaces it writes.
+     *
+     * @param database the MongoDB database.
+     * @param countCache the cache of counts of the search index.
+     * @return the MongoSearchUpdaterFlow object.
+     * @since 1.2.0
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final CountCache countCache) {
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), countCache);
     }
 
 
@@ -127,23 +153,31 @@ final class MongoSearchUpdaterFlow {
                                 Source.single(WriteResultAndErrors.unexpectedError(abstractWriteModels, error))
                         )
                         .build()
-                );
+                )
+                .map(writeResultAndErrors -> {
+                    invalidateCachedCounts(abstractWriteModels);
+                    return writeResultAndErrors;
+                });
+    }
+
+    private void invalidateCachedCounts(final List<AbstractWriteModel> abstractWriteModels) {
+        if (countCache.isEnabled()) {
+            countCache.invalidateNamespaces(abstractWriteModels.stream()
+                    .map(writeModel -> writeModel.getMetadata().getThingId().getNamespace())
+                    .collect(Collectors.toSet()));
+        }
     }
 
-    private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
+    private <T> Flow<List<T>, Long, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
-            Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
-            return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
+            updatesPerBulkHistogram.record(writeModels.size());
+            return bulkUpdateTimer.start();
         });
     }
 
-    private static <T> Flow<Pair<T, StartedTimer>, T, NotUsed> createStopTimerFlow() {
+    private <T> Flow<Pair<T, Long>, T, NotUsed> createStopTimerFlow() {
         return Flow.fromFunction(pair -> {
-            try {
-                pair.second().stop();
-            } catch (final IllegalStateException e) {
-                // it is okay if the timer stopped already; simply return the result.
-            }
+            bulkUpdateTimer.recordSince(pair.second());
             return pair.first();
         });
     }
@@ -15,7 +15,6 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.things.ThingId;
@@ -26,6 +25,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.CountCache;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
@@ -84,6 +84,8 @@ public final class SearchUpdaterStream {
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
      * @param database MongoDB database.
+     * @param blockedNamespaces the namespaces whose things are not updated.
+     * @param countCache the cache of counts to invalidate for written namespaces.
      * @return a SearchUpdaterStream object.
      */
     public static SearchUpdaterStream of(final SearchConfig searchConfig,
@@ -93,7 +95,8 @@ public final class SearchUpdaterStream {
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase database,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final CountCache countCache) {
 
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
 
@@ -108,7 +111,7 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
                         deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database, countCache);
 
         final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
 
@@ -185,14 +188,7 @@ public final class SearchUpdaterStream {
 
     private <T> Flow<T, T, NotUsed> blockNamespaceFlow(final Function<T, String> namespaceExtractor) {
         return Flow.<T>create()
-                .flatMapConcat(element -> {
-                    final String namespace = namespaceExtractor.apply(element);
-                    final CompletionStage<Boolean> shouldUpdate = blockedNamespaces.contains(namespace)
-                            .handle((result, error) -> result == null || !result);
-                    return Source.fromCompletionStage(shouldUpdate)
-                            .filter(Boolean::valueOf)
-                            .map(bool -> element);
-                });
+                .filterNot(element -> blockedNamespaces.containsCached(namespaceExtractor.apply(element)));
     }
 
     private static String namespaceOfWriteModel(final AbstractWriteModel writeModel) {
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link CountCache}.
+ */
+public final class CountCacheTest {
+
+    private static final BsonDocument FILTER = new BsonDocument("_namespace", new BsonString("org.eclipse.ditto"));
+    private static final Set<String> NAMESPACES = Collections.singleton("org.eclipse.ditto");
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private CountCache underTest;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create();
+        materializer = ActorMaterializer.create(actorSystem);
+        underTest = CountCache.of(DefaultCountConfig.of(ConfigFactory.parseString(
+                "count { cache-enabled = true, approximate = true, approximate-refresh-interval = 1h }")),
+                Runnable::run);
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void recurringCountIsServedFromCache() throws Exception {
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = countingCounter(counts, 42L);
+
+        assertThat(count(NAMESPACES, counter)).isEqualTo(42L);
+        assertThat(count(NAMESPACES, counter)).isEqualTo(42L);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    public void writesOfOtherNamespacesKeepCachedCount() throws Exception {
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = countingCounter(counts, 42L);
+
+        count(NAMESPACES, counter);
+        underTest.invalidateNamespaces(Collections.singleton("org.eclipse.other"));
+        count(NAMESPACES, counter);
+
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    public void writesOfCountedNamespaceInvalidateCachedCount() throws Exception {
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = countingCounter(counts, 42L);
+
+        count(NAMESPACES, counter);
+        underTest.invalidateNamespaces(NAMESPACES);
+        count(NAMESPACES, counter);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void writesOfAnyNamespaceInvalidateUnrestrictedCount() throws Exception {
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = countingCounter(counts, 42L);
+
+        count(null, counter);
+        underTest.invalidateNamespaces(Collections.singleton("org.eclipse.other"));
+        count(null, counter);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void countDuringWriteOfCountedNamespaceIsNotServedFromCache() throws Exception {
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = () -> {
+            underTest.invalidateNamespaces(NAMESPACES);
+            counts.incrementAndGet();
+            return Source.single(42L);
+        };
+
+        count(NAMESPACES, counter);
+        count(NAMESPACES, counter);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void disabledCacheCountsEachTime() throws Exception {
+        underTest = CountCache.disabled();
+        final AtomicInteger counts = new AtomicInteger();
+        final Supplier<Source<Long, NotUsed>> counter = countingCounter(counts, 42L);
+
+        count(NAMESPACES, counter);
+        count(NAMESPACES, counter);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void approximateTotalCountSumsNamespaceCountsUntilRefresh() throws Exception {
+        final AtomicInteger reports = new AtomicInteger();
+        final Supplier<Source<SearchNamespaceResultEntry, NotUsed>> namespaceCounter = () -> {
+            reports.incrementAndGet();
+            return Source.from(Arrays.asList(new SearchNamespaceResultEntry("org.eclipse.ditto", 40L),
+                    new SearchNamespaceResultEntry("org.eclipse.other", 2L)));
+        };
+
+        assertThat(run(underTest.approximateTotalCount(namespaceCounter))).isEqualTo(42L);
+        assertThat(run(underTest.approximateTotalCount(namespaceCounter))).isEqualTo(42L);
+        assertThat(reports).hasValue(1);
+    }
+
+    @Test
+    public void concurrentInitialApproximateTotalCountsAggregateOnce() throws Exception {
+        final AtomicInteger reports = new AtomicInteger();
+        final CompletableFuture<List<SearchNamespaceResultEntry>> namespaceCounts = new CompletableFuture<>();
+        final Supplier<Source<SearchNamespaceResultEntry, NotUsed>> namespaceCounter = () -> {
+            reports.incrementAndGet();
+            return Source.fromCompletionStage(namespaceCounts).mapConcat(entries -> entries);
+        };
+
+        final CompletionStage<Long> first =
+                underTest.approximateTotalCount(namespaceCounter).runWith(Sink.head(), materializer);
+        final CompletionStage<Long> second =
+                underTest.approximateTotalCount(namespaceCounter).runWith(Sink.head(), materializer);
+        namespaceCounts.complete(Arrays.asList(new SearchNamespaceResultEntry("org.eclipse.ditto", 40L),
+                new SearchNamespaceResultEntry("org.eclipse.other", 2L)));
+
+        assertThat(first.toCompletableFuture().get(10L, TimeUnit.SECONDS)).isEqualTo(42L);
+        assertThat(second.toCompletableFuture().get(10L, TimeUnit.SECONDS)).isEqualTo(42L);
+        assertThat(reports).hasValue(1);
+    }
+
+    @Test
+    public void approximateTotalCountWhichIsNeverRunDoesNotBlockRefresh() throws Exception {
+        final AtomicInteger reports = new AtomicInteger();
+        final Supplier<Source<SearchNamespaceResultEntry, NotUsed>> namespaceCounter = () -> {
+            reports.incrementAndGet();
+            return Source.single(new SearchNamespaceResultEntry("org.eclipse.ditto", 42L));
+        };
+
+        underTest.approximateTotalCount(namespaceCounter);
+
+        assertThat(run(underTest.approximateTotalCount(namespaceCounter))).isEqualTo(42L);
+        assertThat(reports).hasValue(1);
+    }
+
+    private long count(@Nullable final Set<String> namespaces, final Supplier<Source<Long, NotUsed>> counter)
+            throws Exception {
+
+        return run(underTest.count(FILTER, namespaces, 0, Integer.MAX_VALUE, counter));
+    }
+
+    private long run(final Source<Long, NotUsed> countSource) throws Exception {
+        return countSource.runWith(Sink.head(), materializer).toCompletableFuture().get(10L, TimeUnit.SECONDS);
+    }
+
+    private static Supplier<Source<Long, NotUsed>> countingCounter(final AtomicInteger counts, final long count) {
+        return () -> {
+            counts.incrementAndGet();
+            return Source.single(count);
+        };
+    }
+
+}
@@ -51,6 +51,7 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -185,7 +186,8 @@ public final class SearchActor extends AbstractActor {
                     final Source<Long, NotUsed> countResultSource = isSudo
                             ? searchPersistence.sudoCount(query)
                             : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds(),
+                            getNamespaces(countCommand));
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -199,6 +201,13 @@ public final class SearchActor extends AbstractActor {
         Patterns.pipe(replySource.runWith(Sink.head(), materializer), getContext().dispatcher()).to(sender);
     }
 
+    @Nullable
+    private static Set<String> getNamespaces(final Command<?> countCommand) {
+        return countCommand instanceof ThingSearchQueryCommand
+                ? ((ThingSearchQueryCommand<?>) countCommand).getNamespaces().orElse(null)
+                : null;
+    }
+
     private void stream(final StreamThings streamThings) {
         log.withCorrelationId(streamThings)
                 .info("Processing StreamThings command: {}", streamThings);
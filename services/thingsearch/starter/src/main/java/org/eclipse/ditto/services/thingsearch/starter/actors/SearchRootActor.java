@@ -32,12 +32,15 @@ import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.models.thingsearch.query.filter.RqlParseCache;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
+import org.eclipse.ditto.services.thingsearch.persistence.read.CountCache;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
@@ -83,6 +86,7 @@ public final class SearchRootActor extends DittoRootActor {
     public static final String ACTOR_NAME = "thingsSearchRoot";
 
     private static final String KAMON_METRICS_PREFIX = "search";
+    private static final String QUERY_CACHE_NAME = "search_query";
 
     private final LoggingAdapter log;
 
@@ -100,8 +104,10 @@ public final class SearchRootActor extends DittoRootActor {
                 .addConnectionPoolListener(getConnectionPoolListenerOrNull(monitoringConfig))
                 .build();
 
-        final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final CountCache countCache = CountCache.of(searchConfig.getCountConfig(), getContext().getDispatcher());
+        final ThingsSearchPersistence thingsSearchPersistence =
+                getThingsSearchPersistence(searchConfig, mongoDbClient, countCache);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence backgroundSyncPersistence =
@@ -110,7 +116,7 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorRef searchUpdaterRootActor = startChildActor(SearchUpdaterRootActor.ACTOR_NAME,
                 SearchUpdaterRootActor.props(searchConfig, pubSubMediator, materializer, thingsSearchPersistence,
-                        backgroundSyncPersistence));
+                        backgroundSyncPersistence, countCache));
         final ActorRef healthCheckingActor = initializeHealthCheckActor(searchConfig, searchUpdaterRootActor);
 
         createHealthCheckingActorHttpBinding(searchConfig.getHttpConfig(), healthCheckingActor, materializer);
@@ -131,11 +137,11 @@ public final class SearchRootActor extends DittoRootActor {
     }
 
     private ThingsSearchPersistence getThingsSearchPersistence(final SearchConfig searchConfig,
-            final DittoMongoClient mongoDbClient) {
+            final DittoMongoClient mongoDbClient, final CountCache countCache) {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem()).withCountCache(countCache);
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -152,10 +158,15 @@ public final class SearchRootActor extends DittoRootActor {
                 .orElse(persistence);
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig);
+        final ThingsFieldExpressionFactory fieldExpressionFactory = getThingsFieldExpressionFactory();
+        final RqlParseCache rqlParseCache = RqlParseCache.of(
+                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), fieldExpressionFactory),
+                searchConfig.getQueryCacheConfig(), QUERY_CACHE_NAME, getContext().getDispatcher());
+        final QueryParser queryParser = QueryParser.of(fieldExpressionFactory,
+                new MongoQueryBuilderFactory(searchConfig.getLimitsConfig()), rqlParseCache);
 
         return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
     }
@@ -18,6 +18,7 @@ import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.read.CountCache;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
@@ -87,7 +88,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ActorRef pubSubMediator,
             final ActorMaterializer materializer,
             final ThingsSearchPersistence thingsSearchPersistence,
-            final TimestampPersistence backgroundSyncPersistence) {
+            final TimestampPersistence backgroundSyncPersistence,
+            final CountCache countCache) {
 
         final ClusterConfig clusterConfig = searchConfig.getClusterConfig();
         final int numberOfShards = clusterConfig.getNumberOfShards();
@@ -110,7 +112,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
-                        updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                        updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces,
+                        countCache);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
@@ -179,16 +182,18 @@ public final class SearchUpdaterRootActor extends AbstractActor {
      * @param materializer actor materializer to create stream actors.
      * @param thingsSearchPersistence persistence to access the search index in read-only mode.
      * @param backgroundSyncPersistence persistence for background synchronization.
+     * @param countCache the cache of counts to invalidate when things are written into the search index.
      * @return a Props object to create this actor.
      */
     public static Props props(final SearchConfig searchConfig,
             final ActorRef pubSubMediator,
             final ActorMaterializer materializer,
             final ThingsSearchPersistence thingsSearchPersistence,
-            final TimestampPersistence backgroundSyncPersistence) {
+            final TimestampPersistence backgroundSyncPersistence,
+            final CountCache countCache) {
 
         return Props.create(SearchUpdaterRootActor.class, searchConfig, pubSubMediator, materializer,
-                thingsSearchPersistence, backgroundSyncPersistence);
+                thingsSearchPersistence, backgroundSyncPersistence, countCache);
     }
 
     @Override
@@ -232,14 +237,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase mongoDatabase,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final CountCache countCache) {
 
         final ActorRef thingsShard = shardRegionFactory.getThingsShardRegion(numberOfShards);
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
 
         final SearchUpdaterStream searchUpdaterStream =
                 SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, mongoDatabase, blockedNamespaces);
+                        changeQueueActor, mongoDatabase, blockedNamespaces, countCache);
 
         return searchUpdaterStream.start(getContext());
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cached enforcers by their estimated retained size in bytes. The size of a policy enforcer grows with the
+ * subjects and resources of its policy entries, as it retains both the policy and the evaluation structure built
+ * from it. Policy enforcers which do not retain their policy carry the same estimate computed when they were loaded.
+ * Enforcers of other types are weighed with a constant.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class EnforcerWeigher implements Weigher<EntityIdWithResourceType, Entry<Enforcer>> {
+
+    /**
+     * Estimated bytes of a cache entry without any enforcer, i. e. key, revision and the entry object itself.
+     */
+    static final int ENTRY_BYTES = 256;
+
+    /**
+     * Estimated bytes of an enforcer which is not built from a policy.
+     */
+    static final int DEFAULT_ENFORCER_BYTES = 2048;
+
+    /**
+     * Estimated bytes per policy entry, subject and resource; each of them is retained by the policy and by the
+     * evaluation structure.
+     */
+    static final int POLICY_ENTRY_BYTES = 512;
+    static final int SUBJECT_BYTES = 384;
+    static final int RESOURCE_BYTES = 384;
+
+    private static final EnforcerWeigher INSTANCE = new EnforcerWeigher();
+
+    private EnforcerWeigher() {}
+
+    /**
+     * Returns the instance of {@code EnforcerWeigher}.
+     *
+     * @return the instance.
+     */
+    public static EnforcerWeigher getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int weigh(final EntityIdWithResourceType key, final Entry<Enforcer> entry) {
+        if (!entry.exists()) {
+            return ENTRY_BYTES;
+        }
+        final Enforcer enforcer = entry.getValueOrThrow();
+        if (enforcer instanceof PolicyEnforcer) {
+            return toWeight(estimatePolicyBytes(((PolicyEnforcer) enforcer).getPolicy()));
+        } else if (enforcer instanceof EstimatedSizeEnforcer) {
+            return toWeight(((EstimatedSizeEnforcer) enforcer).getEstimatedBytes());
+        }
+        return ENTRY_BYTES + DEFAULT_ENFORCER_BYTES;
+    }
+
+    static long estimatePolicyBytes(final Policy policy) {
+        long bytes = 0L;
+        for (final PolicyEntry policyEntry : policy) {
+            bytes += POLICY_ENTRY_BYTES +
+                    (long) SUBJECT_BYTES * policyEntry.getSubjects().getSize() +
+                    (long) RESOURCE_BYTES * policyEntry.getResources().getSize();
+        }
+        return bytes;
+    }
+
+    private static int toWeight(final long enforcerBytes) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_BYTES + enforcerBytes);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * An {@link Enforcer} built from a {@link Policy} which does not retain the policy but only an estimate of the bytes
+ * retained by its evaluation structure, so that {@link EnforcerWeigher} may weigh it without the policy.
+ */
+@Immutable
+final class EstimatedSizeEnforcer implements Enforcer {
+
+    private final Enforcer enforcer;
+    private final long estimatedBytes;
+
+    private EstimatedSizeEnforcer(final Enforcer enforcer, final long estimatedBytes) {
+        this.enforcer = enforcer;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Create an enforcer with the default evaluator of the given policy.
+     *
+     * @param policy the policy.
+     * @return the enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    static EstimatedSizeEnforcer of(final Policy policy) {
+        requireNonNull(policy, "policy");
+        return new EstimatedSizeEnforcer(PolicyEnforcers.defaultEvaluator(policy),
+                EnforcerWeigher.estimatePolicyBytes(policy));
+    }
+
+    /**
+     * Returns the estimated bytes retained by this enforcer.
+     *
+     * @return the estimated bytes.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return enforcer.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "estimatedBytes=" + estimatedBytes +
+                ", enforcer=" + enforcer +
+                "]";
+    }
+
+}
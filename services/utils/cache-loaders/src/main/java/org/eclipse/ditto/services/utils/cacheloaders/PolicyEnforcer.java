@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * An {@link Enforcer} which remembers the {@link Policy} it was built from, so that cached enforcers may be updated
+ * from policy events without loading the whole policy again.
+ */
+@Immutable
+public final class PolicyEnforcer implements Enforcer {
+
+    private final Policy policy;
+    private final Enforcer enforcer;
+
+    private PolicyEnforcer(final Policy policy, final Enforcer enforcer) {
+        this.policy = policy;
+        this.enforcer = enforcer;
+    }
+
+    /**
+     * Create a policy enforcer with the default evaluator of the given policy.
+     *
+     * @param policy the policy.
+     * @return the policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static PolicyEnforcer of(final Policy policy) {
+        requireNonNull(policy, "policy");
+        return new PolicyEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+    }
+
+    /**
+     * Returns the policy this enforcer was built from.
+     *
+     * @return the policy.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return enforcer.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return enforcer.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return enforcer.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policy.getEntityId().orElse(null) +
+                ", policyRevision=" + policy.getRevision().orElse(null) +
+                ", enforcer=" + enforcer +
+                "]";
+    }
+
+}
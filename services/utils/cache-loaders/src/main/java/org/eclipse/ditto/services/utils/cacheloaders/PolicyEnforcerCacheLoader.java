@@ -20,12 +20,10 @@ import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
-import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.enforcers.Enforcer;
-import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
@@ -56,12 +54,27 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param retainPolicy whether loaded enforcers keep the policy they were built from as {@link PolicyEnforcer},
+     * which is only needed if cached enforcers are updated from policy events.
+     * @since 1.2.0
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            final boolean retainPolicy) {
+
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
         final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
+                (response, context) -> handleSudoRetrievePolicyResponse(response, retainPolicy);
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -74,13 +87,15 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
     }
 
     private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
-            @Nullable final CacheLookupContext cacheLookupContext) {
+            final boolean retainPolicy) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            final Enforcer enforcer =
+                    retainPolicy ? PolicyEnforcer.of(policy) : EstimatedSizeEnforcer.of(policy);
+            return Entry.of(revision, enforcer);
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cacheloaders;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +22,7 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.slf4j.Logger;
@@ -76,6 +78,19 @@ final class ThingCommandFactory {
         );
     }
 
+    /**
+     * Creates a sudo command for retrieving several things at once.
+     *
+     * @param thingIds the thingIds.
+     * @return the created command.
+     */
+    static SudoRetrieveThings sudoRetrieveThings(final List<ThingId> thingIds) {
+        LOGGER.debug("Sending SudoRetrieveThings for <{}> Things", thingIds.size());
+        final String correlationId = LogUtil.getCorrelationId(() -> UUID.randomUUID().toString());
+        return SudoRetrieveThings.of(thingIds,
+                DittoHeaders.newBuilder().correlationId("sudoRetrieveThings-" + correlationId).build());
+    }
+
     private static String getCorrelationId(final ThingId thingId) {
         return LogUtil.getCorrelationId(() -> {
             final String correlationId = UUID.randomUUID().toString();
@@ -13,6 +13,10 @@
 package org.eclipse.ditto.services.utils.cacheloaders;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -29,6 +33,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
@@ -40,15 +45,22 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleEx
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import akka.actor.ActorRef;
+import akka.pattern.Patterns;
 
 /**
  * Loads entity ID relation for authorization of a Thing by asking the things-shard-region proxy.
+ * <p>
+ * If an aggregator of things is given, bulk loads retrieve all things with one {@code SudoRetrieveThings} command.
+ * Things missing in its response or without policy ID and ACL in their JSON are loaded one by one.
+ * </p>
  */
 @Immutable
 public final class ThingEnforcementIdCacheLoader
         implements AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> {
 
+    private final Duration askTimeout;
     private final ActorAskCacheLoader<EntityIdWithResourceType, Command> delegate;
+    @Nullable private final ActorRef thingsAggregator;
 
     /**
      * Constructor.
@@ -57,6 +69,23 @@ public final class ThingEnforcementIdCacheLoader
      * @param shardRegionProxy the shard-region-proxy.
      */
     public ThingEnforcementIdCacheLoader(final Duration askTimeout, final ActorRef shardRegionProxy) {
+        this(askTimeout, shardRegionProxy, null);
+    }
+
+    /**
+     * Constructor of a loader which supports bulk loads.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy and the things aggregator.
+     * @param shardRegionProxy the shard-region-proxy.
+     * @param thingsAggregator actor answering {@code SudoRetrieveThings} with {@code SudoRetrieveThingsResponse}, or
+     * {@code null} if bulk loads are not supported.
+     * @since 1.2.0
+     */
+    public ThingEnforcementIdCacheLoader(final Duration askTimeout, final ActorRef shardRegionProxy,
+            @Nullable final ActorRef thingsAggregator) {
+
+        this.askTimeout = askTimeout;
+        this.thingsAggregator = thingsAggregator;
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = ThingCommandFactory::sudoRetrieveThing;
         final BiFunction<Object, CacheLookupContext, Entry<EntityIdWithResourceType>> responseTransformer =
                 ThingEnforcementIdCacheLoader::handleSudoRetrieveThingResponse;
@@ -72,6 +101,69 @@ public final class ThingEnforcementIdCacheLoader
         return delegate.asyncLoad(key, executor);
     }
 
+    @Override
+    public CompletableFuture<Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>>> asyncLoadAll(
+            final Iterable<? extends EntityIdWithResourceType> keys, final Executor executor) {
+
+        if (null == thingsAggregator) {
+            throw new UnsupportedOperationException("No things aggregator to load several things at once.");
+        }
+        final Map<ThingId, EntityIdWithResourceType> keysByThingId = new LinkedHashMap<>();
+        keys.forEach(key -> keysByThingId.put(ThingId.of(key.getId()), key));
+        return Patterns.ask(thingsAggregator,
+                ThingCommandFactory.sudoRetrieveThings(new ArrayList<>(keysByThingId.keySet())), askTimeout)
+                .toCompletableFuture()
+                .thenCompose(response -> {
+                    final Map<ThingId, Entry<EntityIdWithResourceType>> entries =
+                            handleSudoRetrieveThingsResponse(response);
+                    return completeBulkLoad(keysByThingId, entries, executor);
+                });
+    }
+
+    private CompletableFuture<Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>>> completeBulkLoad(
+            final Map<ThingId, EntityIdWithResourceType> keysByThingId,
+            final Map<ThingId, Entry<EntityIdWithResourceType>> entries,
+            final Executor executor) {
+
+        final Map<EntityIdWithResourceType, CompletableFuture<Entry<EntityIdWithResourceType>>> loads =
+                new HashMap<>();
+        keysByThingId.forEach((thingId, key) -> {
+            final Entry<EntityIdWithResourceType> entry = entries.get(thingId);
+            loads.put(key, null != entry ? CompletableFuture.completedFuture(entry) : asyncLoad(key, executor));
+        });
+        return CompletableFuture.allOf(loads.values().toArray(new CompletableFuture[0]))
+                .thenApply(unused -> {
+                    final Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> result = new HashMap<>();
+                    loads.forEach((key, load) -> result.put(key, load.join()));
+                    return result;
+                });
+    }
+
+    private static Map<ThingId, Entry<EntityIdWithResourceType>> handleSudoRetrieveThingsResponse(
+            final Object response) {
+
+        if (response instanceof SudoRetrieveThingsResponse) {
+            final Map<ThingId, Entry<EntityIdWithResourceType>> entries = new HashMap<>();
+            for (final Thing thing : ((SudoRetrieveThingsResponse) response).getThings()) {
+                final Optional<ThingId> thingId = thing.getEntityId();
+                final Optional<Long> revision = thing.getRevision().map(ThingRevision::toLong);
+                if (thingId.isPresent() && revision.isPresent()) {
+                    if (thing.getAccessControlList().isPresent()) {
+                        entries.put(thingId.get(), Entry.of(revision.get(),
+                                EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId.get())));
+                    } else {
+                        thing.getPolicyEntityId().ifPresent(policyId -> entries.put(thingId.get(),
+                                Entry.of(revision.get(),
+                                        EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId))));
+                    }
+                }
+            }
+            return entries;
+        } else {
+            throw new IllegalStateException("expect SudoRetrieveThingsResponse, got: " + response);
+        }
+    }
+
     private static Entry<EntityIdWithResourceType> handleSudoRetrieveThingResponse(final Object response,
             @Nullable final CacheLookupContext cacheLookupContext) {
         if (response instanceof SudoRetrieveThingResponse) {
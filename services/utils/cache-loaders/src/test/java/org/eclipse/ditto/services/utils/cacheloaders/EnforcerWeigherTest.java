@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.enforcers.AclEnforcer;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.things.AccessControlList;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EnforcerWeigher}.
+ */
+public final class EnforcerWeigherTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("ns", "policy");
+    private static final EntityIdWithResourceType KEY =
+            CacheFactory.newEntityId(PolicyCommand.RESOURCE_TYPE, POLICY_ID);
+
+    private final EnforcerWeigher underTest = EnforcerWeigher.getInstance();
+
+    @Test
+    public void nonexistentEntryWeighsEntryOverhead() {
+        assertThat(underTest.weigh(KEY, Entry.nonexistent())).isEqualTo(EnforcerWeigher.ENTRY_BYTES);
+    }
+
+    @Test
+    public void aclEnforcerWeighsConstant() {
+        final AccessControlList acl = ThingsModelFactory.emptyAcl();
+        final Entry<Enforcer> entry = Entry.of(1L, AclEnforcer.of(acl));
+
+        assertThat(underTest.weigh(KEY, entry))
+                .isEqualTo(EnforcerWeigher.ENTRY_BYTES + EnforcerWeigher.DEFAULT_ENFORCER_BYTES);
+    }
+
+    @Test
+    public void policyEnforcerWeightGrowsWithSubjects() {
+        final int smallWeight = underTest.weigh(KEY, Entry.of(1L, PolicyEnforcer.of(policyWithSubjects(5))));
+        final int largeWeight = underTest.weigh(KEY, Entry.of(1L, PolicyEnforcer.of(policyWithSubjects(500))));
+
+        assertThat(smallWeight).isEqualTo(EnforcerWeigher.ENTRY_BYTES + EnforcerWeigher.POLICY_ENTRY_BYTES +
+                5 * EnforcerWeigher.SUBJECT_BYTES + EnforcerWeigher.RESOURCE_BYTES);
+        assertThat(largeWeight - smallWeight).isEqualTo(495 * EnforcerWeigher.SUBJECT_BYTES);
+    }
+
+    @Test
+    public void enforcerWithoutPolicyWeightGrowsWithSubjects() {
+        final int smallWeight = underTest.weigh(KEY, Entry.of(1L, EstimatedSizeEnforcer.of(policyWithSubjects(5))));
+        final int largeWeight =
+                underTest.weigh(KEY, Entry.of(1L, EstimatedSizeEnforcer.of(policyWithSubjects(500))));
+
+        assertThat(smallWeight)
+                .isEqualTo(underTest.weigh(KEY, Entry.of(1L, PolicyEnforcer.of(policyWithSubjects(5)))));
+        assertThat(largeWeight - smallWeight).isEqualTo(495 * EnforcerWeigher.SUBJECT_BYTES);
+    }
+
+    private static Policy policyWithSubjects(final int numberOfSubjects) {
+        final PolicyBuilder.LabelScoped entry = Policy.newBuilder(POLICY_ID).forLabel("label")
+                .setGrantedPermissions("thing", "/", Permissions.newInstance("READ"));
+        for (int i = 0; i < numberOfSubjects; i++) {
+            entry.setSubject("test:subject" + i, SubjectType.GENERATED);
+        }
+        return entry.build();
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link PolicyEnforcerCacheLoader}.
+ */
+public final class PolicyEnforcerCacheLoaderTest {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10L);
+    private static final PolicyId POLICY_ID = PolicyId.of("ns", "policy");
+    private static final EntityIdWithResourceType KEY =
+            CacheFactory.newEntityId(PolicyCommand.RESOURCE_TYPE, POLICY_ID);
+    private static final Policy POLICY = Policy.newBuilder(POLICY_ID)
+            .forLabel("label")
+            .setSubject("test:subject", SubjectType.GENERATED)
+            .setGrantedPermissions("thing", "/", Permissions.newInstance("READ"))
+            .setRevision(3L)
+            .build();
+
+    private ActorSystem system;
+    private TestProbe policiesShardRegion;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        policiesShardRegion = TestProbe.apply(system);
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void loadedEnforcerDoesNotRetainPolicyByDefault() throws Exception {
+        final Entry<Enforcer> entry = load(new PolicyEnforcerCacheLoader(ASK_TIMEOUT, policiesShardRegion.ref()));
+
+        assertThat(entry.getRevision()).isEqualTo(3L);
+        assertThat(entry.getValueOrThrow()).isNotInstanceOf(PolicyEnforcer.class);
+    }
+
+    @Test
+    public void loadedEnforcerRetainsPolicyIfRequested() throws Exception {
+        final Entry<Enforcer> entry =
+                load(new PolicyEnforcerCacheLoader(ASK_TIMEOUT, policiesShardRegion.ref(), true));
+
+        assertThat(entry.getRevision()).isEqualTo(3L);
+        assertThat(entry.getValueOrThrow()).isInstanceOf(PolicyEnforcer.class);
+        assertThat(((PolicyEnforcer) entry.getValueOrThrow()).getPolicy()).isEqualTo(POLICY);
+    }
+
+    @Test
+    public void enforcerLoadedWithoutPolicyWeighsAsMuchAsRetainedPolicy() throws Exception {
+        final Entry<Enforcer> defaultEntry =
+                load(new PolicyEnforcerCacheLoader(ASK_TIMEOUT, policiesShardRegion.ref()));
+        final Entry<Enforcer> retainingEntry =
+                load(new PolicyEnforcerCacheLoader(ASK_TIMEOUT, policiesShardRegion.ref(), true));
+        final EnforcerWeigher weigher = EnforcerWeigher.getInstance();
+
+        assertThat(weigher.weigh(KEY, defaultEntry))
+                .isEqualTo(weigher.weigh(KEY, retainingEntry))
+                .isEqualTo(EnforcerWeigher.ENTRY_BYTES + EnforcerWeigher.POLICY_ENTRY_BYTES +
+                        EnforcerWeigher.SUBJECT_BYTES + EnforcerWeigher.RESOURCE_BYTES);
+    }
+
+    private Entry<Enforcer> load(final PolicyEnforcerCacheLoader underTest) throws Exception {
+        final CompletableFuture<Entry<Enforcer>> future = underTest.asyncLoad(KEY, Runnable::run);
+        policiesShardRegion.expectMsgClass(Object.class);
+        policiesShardRegion.reply(SudoRetrievePolicyResponse.of(POLICY_ID, POLICY, DittoHeaders.empty()));
+        return future.get(10L, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingEnforcementIdCacheLoader}.
+ */
+public final class ThingEnforcementIdCacheLoaderTest {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10L);
+    private static final ThingId THING_ID = ThingId.of("ns", "thing");
+    private static final ThingId MISSING_THING_ID = ThingId.of("ns", "missing");
+    private static final PolicyId POLICY_ID = PolicyId.of("ns", "policy");
+    private static final EntityIdWithResourceType KEY = CacheFactory.newEntityId(ThingCommand.RESOURCE_TYPE, THING_ID);
+    private static final EntityIdWithResourceType MISSING_KEY =
+            CacheFactory.newEntityId(ThingCommand.RESOURCE_TYPE, MISSING_THING_ID);
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setPolicyId(POLICY_ID)
+            .setRevision(5L)
+            .build();
+
+    private ActorSystem system;
+    private TestProbe thingsShardRegion;
+    private TestProbe thingsAggregator;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        thingsShardRegion = TestProbe.apply(system);
+        thingsAggregator = TestProbe.apply(system);
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void bulkLoadRetrievesThingsWithOneCommandAndMissingThingsOneByOne() throws Exception {
+        final ThingEnforcementIdCacheLoader underTest =
+                new ThingEnforcementIdCacheLoader(ASK_TIMEOUT, thingsShardRegion.ref(), thingsAggregator.ref());
+
+        final CompletableFuture<Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>>> result =
+                underTest.asyncLoadAll(Arrays.asList(KEY, MISSING_KEY), system.dispatcher());
+
+        final SudoRetrieveThings sudoRetrieveThings = thingsAggregator.expectMsgClass(SudoRetrieveThings.class);
+        assertThat(sudoRetrieveThings.getThingIds()).containsExactly(THING_ID, MISSING_THING_ID);
+        thingsAggregator.reply(SudoRetrieveThingsResponse.of(JsonFactory.newArrayBuilder()
+                .add(THING.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()))
+                .build(), DittoHeaders.empty()));
+
+        final SudoRetrieveThing sudoRetrieveThing = thingsShardRegion.expectMsgClass(SudoRetrieveThing.class);
+        assertThat(sudoRetrieveThing.getEntityId().toString()).isEqualTo(MISSING_THING_ID.toString());
+        thingsShardRegion.reply(ThingNotAccessibleException.newBuilder(MISSING_THING_ID).build());
+
+        final Map<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> entries =
+                result.get(ASK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(entries.get(KEY))
+                .isEqualTo(Entry.of(5L, EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, POLICY_ID)));
+        assertThat(entries.get(MISSING_KEY).exists()).isFalse();
+    }
+
+    @Test
+    public void bulkLoadIsUnsupportedWithoutThingsAggregator() {
+        final ThingEnforcementIdCacheLoader underTest =
+                new ThingEnforcementIdCacheLoader(ASK_TIMEOUT, thingsShardRegion.ref());
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.asyncLoadAll(Collections.singletonList(KEY), system.dispatcher()));
+    }
+
+}
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.utils.cache;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -35,6 +37,27 @@ public interface Cache<K, V> {
      */
     CompletableFuture<Optional<V>> get(K key);
 
+    /**
+     * Returns a {@link CompletableFuture} returning the values which are associated with the specified keys.
+     * Implementations may load all missing values with one request of the cache loader.
+     *
+     * @param keys the keys to get the associated values for.
+     * @return a {@link CompletableFuture} returning the associated values by their keys. Keys without associated value
+     * are not contained in the map.
+     * @throws NullPointerException if {@code keys} is {@code null}.
+     * @since 1.2.0
+     */
+    default CompletableFuture<Map<K, V>> getAll(final Collection<K> keys) {
+        final Map<K, CompletableFuture<Optional<V>>> futures = new HashMap<>();
+        keys.forEach(key -> futures.put(key, get(key)));
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .thenApply(unused -> {
+                    final Map<K, V> result = new HashMap<>();
+                    futures.forEach((key, future) -> future.join().ifPresent(value -> result.put(key, value)));
+                    return result;
+                });
+    }
+
     /**
      * Retrieve the value associated with a key in a future if it exists in the cache, or a future empty optional if
      * it does not. The cache loader will never be called.
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig}.
@@ -34,6 +35,8 @@ import com.github.benmanes.caffeine.cache.Expiry;
 @Immutable
 public final class CacheFactory {
 
+    private static final String UNNAMED_CACHE = "unnamed";
+
     private CacheFactory() {
         throw new AssertionError();
     }
@@ -99,7 +102,7 @@ public final class CacheFactory {
     public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
             final Executor executor) {
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheName);
+        return CaffeineCache.of(caffeine(cacheConfig, executor).maximumSize(cacheConfig.getMaximumSize()), cacheName);
     }
 
     /**
@@ -121,7 +124,66 @@ public final class CacheFactory {
 
         checkNotNull(cacheLoader, "AsyncCacheLoader");
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        final Caffeine<Object, Object> caffeine = refreshingCaffeine(cacheConfig, executor)
+                .maximumSize(cacheConfig.getMaximumSize());
+        return createCache(caffeine, cacheLoader, cacheConfig, cacheName);
+    }
+
+    /**
+     * Creates a cache whose entries are weighed by the given weigher if the cache's configuration defines a maximum
+     * weight. Otherwise the cache is limited by its maximum size.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfig the the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param weigher estimates the retained size of a cache entry.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} is {@code null}.
+     * @since 1.2.0
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor,
+            final Weigher<? super K, ? super V> weigher) {
+
+        checkNotNull(cacheLoader, "AsyncCacheLoader");
+        checkNotNull(weigher, "Weigher");
+
+        final Caffeine<Object, Object> caffeine = refreshingCaffeine(cacheConfig, executor);
+        if (cacheConfig.getMaximumWeight() > 0) {
+            return createCache(caffeine.maximumWeight(cacheConfig.getMaximumWeight()).weigher(weigher), cacheLoader,
+                    cacheConfig, cacheName);
+        }
+        return createCache(caffeine.maximumSize(cacheConfig.getMaximumSize()), cacheLoader, cacheConfig, cacheName);
+    }
+
+    private static <K, V> Cache<K, V> createCache(final Caffeine<? super K, ? super V> caffeine,
+            final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName) {
+
+        if (cacheConfig.getCoalescingWindow().isZero()) {
+            return CaffeineCache.of(caffeine, cacheLoader, cacheName);
+        }
+        final AsyncCacheLoader<K, V> coalescingCacheLoader = CoalescingCacheLoader.of(cacheLoader,
+                cacheConfig.getCoalescingWindow(), cacheConfig.getCoalescingMaxBatchSize(),
+                null != cacheName ? cacheName : UNNAMED_CACHE);
+        return CaffeineCache.of(caffeine, coalescingCacheLoader, cacheName);
+    }
+
+    // refreshing requires a cache loader; caches without loader would lose their entries on refresh
+    private static Caffeine<Object, Object> refreshingCaffeine(final CacheConfig cacheConfig,
+            final Executor executor) {
+
+        final Caffeine<Object, Object> caffeine = caffeine(cacheConfig, executor);
+        if (!cacheConfig.getRefreshAfterWrite().isZero()) {
+            caffeine.refreshAfterWrite(cacheConfig.getRefreshAfterWrite());
+        }
+        return caffeine;
     }
 
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
@@ -129,7 +191,6 @@ public final class CacheFactory {
         checkNotNull(executor, "Executor");
 
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
-        caffeine.maximumSize(cacheConfig.getMaximumSize());
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
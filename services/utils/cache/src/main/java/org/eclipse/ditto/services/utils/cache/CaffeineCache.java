@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.utils.cache;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -51,10 +53,11 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             @Nullable final String cacheName) {
 
         if (cacheName != null) {
-            this.metricStatsCounter =
-                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize);
+            this.metricStatsCounter = MetricsStatsCounter.of(cacheName, this::getMaxCacheSize,
+                    this::getCurrentCacheSize, this::getCurrentWeightedSize);
             caffeine.recordStats(() -> metricStatsCounter);
-            this.asyncLoadingCache = caffeine.buildAsync(loader);
+            this.asyncLoadingCache =
+                    caffeine.buildAsync(new RefreshRecordingCacheLoader<>(loader, metricStatsCounter));
             this.synchronousCacheView = asyncLoadingCache.synchronous();
         } else {
             this.asyncLoadingCache = caffeine.buildAsync(loader);
@@ -73,6 +76,18 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.estimatedSize();
     }
 
+    @SuppressWarnings({"squid:S2583", "ConstantConditions"})
+    private Long getCurrentWeightedSize() {
+        if (synchronousCacheView == null) {
+            // This can occur if this method is called by metricStatsCounter before the cache has been initialized.
+            return 0L;
+        }
+
+        return synchronousCacheView.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
     private Long getMaxCacheSize() {
         if (synchronousCacheView == null) {
@@ -158,6 +173,14 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return asyncLoadingCache.get(key).thenApply(Optional::ofNullable);
     }
 
+    // loads all missing values with one call of AsyncCacheLoader.asyncLoadAll if the loader supports it
+    @Override
+    public CompletableFuture<Map<K, V>> getAll(final Collection<K> keys) {
+        requireNonNull(keys);
+
+        return asyncLoadingCache.getAll(keys);
+    }
+
     /**
      * Lookup a value in cache, or create it via {@code mappingFunction} and store it if the value was not cached.
      * Only available for Caffeine caches.
@@ -236,4 +259,55 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
                 (AsyncCacheLoader<K, V>) NULL_CACHE_LOADER;
         return nullCacheLoader;
     }
+
+    /**
+     * Delegating loader which records the asynchronous reloads triggered by refresh-after-write.
+     */
+    private static final class RefreshRecordingCacheLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+        private final AsyncCacheLoader<K, V> delegate;
+        private final MetricsStatsCounter metricsStatsCounter;
+
+        private RefreshRecordingCacheLoader(final AsyncCacheLoader<K, V> delegate,
+                final MetricsStatsCounter metricsStatsCounter) {
+
+            this.delegate = delegate;
+            this.metricsStatsCounter = metricsStatsCounter;
+        }
+
+        @Override
+        public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+            return delegate.asyncLoad(key, executor);
+        }
+
+        @Override
+        public CompletableFuture<Map<K, V>> asyncLoadAll(final Iterable<? extends K> keys, final Executor executor) {
+            try {
+                return delegate.asyncLoadAll(keys, executor);
+            } catch (final UnsupportedOperationException e) {
+                // Caffeine considers this loader capable of bulk loads; load the keys one by one for the delegate
+                final Map<K, CompletableFuture<V>> loads = new HashMap<>();
+                keys.forEach(key -> loads.put(key, delegate.asyncLoad(key, executor)));
+                return CompletableFuture.allOf(loads.values().toArray(new CompletableFuture[0]))
+                        .thenApply(unused -> {
+                            final Map<K, V> result = new HashMap<>();
+                            loads.forEach((key, load) -> {
+                                final V value = load.join();
+                                if (null != value) {
+                                    result.put(key, value);
+                                }
+                            });
+                            return result;
+                        });
+            }
+        }
+
+        @Override
+        public CompletableFuture<V> asyncReload(final K key, final V oldValue, final Executor executor) {
+            metricsStatsCounter.recordRefresh();
+            return delegate.asyncReload(key, oldValue, executor);
+        }
+
+    }
+
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Asynchronous cache loader which collects the loads requested within a short window and hands them to
+ * {@link AsyncCacheLoader#asyncLoadAll(Iterable, Executor)} of its delegate as one batch. A batch is loaded when the
+ * window elapsed or when it reached its maximum size, whatever happens first. Concurrent loads of the same key join
+ * the same batch entry.
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the value.
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class CoalescingCacheLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+    private static final String CACHE_NAME_TAG = "cache_name";
+
+    private final AsyncCacheLoader<K, V> delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Histogram batchSizes;
+    private final Counter coalescedLoads;
+    private final Object lock;
+
+    @GuardedBy("lock")
+    private Map<K, CompletableFuture<V>> pendingLoads;
+
+    // incremented whenever the pending loads are taken, so that the timer of a batch loaded early ignores later ones
+    @GuardedBy("lock")
+    private long batchNumber;
+
+    private CoalescingCacheLoader(final AsyncCacheLoader<K, V> delegate, final Duration window,
+            final int maxBatchSize, final String cacheName) {
+
+        this.delegate = delegate;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        batchSizes = DittoMetrics.histogram(MetricsStatsCounter.MetricName.BATCH_LOAD_SIZE.getValue())
+                .tag(CACHE_NAME_TAG, cacheName);
+        coalescedLoads = DittoMetrics.counter(MetricsStatsCounter.MetricName.COALESCED_LOADS.getValue())
+                .tag(CACHE_NAME_TAG, cacheName);
+        lock = new Object();
+        pendingLoads = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns a new instance of {@code CoalescingCacheLoader}.
+     *
+     * @param delegate the loader to load the batches with. It should support bulk loading; otherwise its keys are
+     * loaded one by one.
+     * @param window how long to wait for further loads after the first load of a batch was requested.
+     * @param maxBatchSize the maximum number of keys of a batch.
+     * @param cacheName the name of the cache; used as metric label.
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive.
+     */
+    public static <K, V> CoalescingCacheLoader<K, V> of(final AsyncCacheLoader<K, V> delegate, final Duration window,
+            final int maxBatchSize, final String cacheName) {
+
+        checkNotNull(delegate, "delegate");
+        checkNotNull(window, "window");
+        checkNotNull(cacheName, "cacheName");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be positive but was <" + maxBatchSize +
+                    ">!");
+        }
+        return new CoalescingCacheLoader<>(delegate, window, maxBatchSize, cacheName);
+    }
+
+    @Override
+    public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+        final CompletableFuture<V> result;
+        @Nullable final Map<K, CompletableFuture<V>> fullBatch;
+        final boolean isFirstOfBatch;
+        final long currentBatchNumber;
+        synchronized (lock) {
+            final CompletableFuture<V> pendingLoad = pendingLoads.get(key);
+            if (null != pendingLoad) {
+                coalescedLoads.increment();
+                return pendingLoad;
+            }
+            result = new CompletableFuture<>();
+            isFirstOfBatch = pendingLoads.isEmpty();
+            currentBatchNumber = batchNumber;
+            pendingLoads.put(key, result);
+            fullBatch = pendingLoads.size() >= maxBatchSize ? takePendingLoads() : null;
+        }
+        if (!isFirstOfBatch) {
+            coalescedLoads.increment();
+        }
+        if (null != fullBatch) {
+            loadBatch(fullBatch, executor);
+        } else if (isFirstOfBatch) {
+            final Executor delayedExecutor =
+                    CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+            delayedExecutor.execute(() -> loadPendingBatch(currentBatchNumber, executor));
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Map<K, V>> asyncLoadAll(final Iterable<? extends K> keys, final Executor executor) {
+        final Map<K, CompletableFuture<V>> batch = new LinkedHashMap<>();
+        keys.forEach(key -> batch.put(key, new CompletableFuture<>()));
+        loadBatch(batch, executor);
+        return CompletableFuture.allOf(batch.values().toArray(new CompletableFuture[0]))
+                .thenApply(unused -> {
+                    final Map<K, V> result = new HashMap<>();
+                    batch.forEach((key, future) -> {
+                        final V value = future.join();
+                        if (null != value) {
+                            result.put(key, value);
+                        }
+                    });
+                    return result;
+                });
+    }
+
+    @GuardedBy("lock")
+    private Map<K, CompletableFuture<V>> takePendingLoads() {
+        final Map<K, CompletableFuture<V>> batch = pendingLoads;
+        pendingLoads = new LinkedHashMap<>();
+        batchNumber++;
+        return batch;
+    }
+
+    private void loadPendingBatch(final long expectedBatchNumber, final Executor executor) {
+        final Map<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            if (batchNumber != expectedBatchNumber) {
+                // the batch was loaded early because it reached its maximum size
+                return;
+            }
+            batch = takePendingLoads();
+        }
+        loadBatch(batch, executor);
+    }
+
+    private void loadBatch(final Map<K, CompletableFuture<V>> batch, final Executor executor) {
+        batchSizes.record((long) batch.size());
+        try {
+            delegate.asyncLoadAll(batch.keySet(), executor).whenComplete((values, error) ->
+                    batch.forEach((key, future) -> completeLoad(future, null != values ? values.get(key) : null,
+                            error)));
+        } catch (final UnsupportedOperationException e) {
+            // the delegate does not support bulk loading: load the keys one by one
+            batch.forEach((key, future) -> delegate.asyncLoad(key, executor)
+                    .whenComplete((value, error) -> completeLoad(future, value, error)));
+        } catch (final RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static <V> void completeLoad(final CompletableFuture<V> future, @Nullable final V value,
+            @Nullable final Throwable error) {
+
+        if (null != error) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(value);
+        }
+    }
+
+}
@@ -78,9 +78,17 @@ public final class MetricsStatsCounter implements StatsCounter {
          */
         ESTIMATED_SIZE(CACHE_PREFIX + "_estimated-size"),
         /**
-         * The maximum size of the cache.
+         * The maximum size of the cache. For caches with a weigher, this is the maximum weight.
          */
         MAX_SIZE(CACHE_PREFIX + "_max-size"),
+        /**
+         * The sum of the weights of all cache entries; 0 for caches without a weigher.
+         */
+        WEIGHTED_SIZE(CACHE_PREFIX + "_weighted-size"),
+        /**
+         * Number of asynchronous reloads of cache entries triggered by refresh-after-write.
+         */
+        REFRESHES(CACHE_PREFIX + "_refreshes"),
         /**
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}). The value is estimated, it may
          * be not completely correct in case of parallel loads or evictions.
@@ -90,7 +98,16 @@ public final class MetricsStatsCounter implements StatsCounter {
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}) that did not invalidate an item
          * because it didn't exist in cache.
          */
-        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item");
+        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item"),
+        /**
+         * Number of keys loaded together by one batch load. Recorded by {@link CoalescingCacheLoader}.
+         */
+        BATCH_LOAD_SIZE(CACHE_PREFIX + "_batch-load-size"),
+        /**
+         * Number of loads which waited for a batch opened by another load. Recorded by
+         * {@link CoalescingCacheLoader}.
+         */
+        COALESCED_LOADS(CACHE_PREFIX + "_coalesced-loads");
 
         private final String name;
 
@@ -125,13 +142,16 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final Counter evictionWeight;
     private final Gauge estimatedSize;
     private final Gauge maxSize;
+    private final Gauge weightedSize;
+    private final Counter refreshCount;
     private final Counter estimatedInvalidations;
     private final Counter estimatedInvalidationsWithoutItem;
     private final Supplier<Long> maxSizeSupplier;
     private final Supplier<Long> estimatedSizeSupplier;
+    private final Supplier<Long> weightedSizeSupplier;
 
     private MetricsStatsCounter(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> weightedSizeSupplier) {
         hitCount = DittoMetrics.counter(MetricName.HITS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         missCount = DittoMetrics.counter(MetricName.MISSES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         totalLoadTime = DittoMetrics.timer(MetricName.TOTAL_LOAD_TIME.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -141,12 +161,15 @@ public final class MetricsStatsCounter implements StatsCounter {
         evictionWeight = DittoMetrics.counter(MetricName.EVICTIONS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedSize = DittoMetrics.gauge(MetricName.ESTIMATED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         maxSize = DittoMetrics.gauge(MetricName.MAX_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        weightedSize = DittoMetrics.gauge(MetricName.WEIGHTED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        refreshCount = DittoMetrics.counter(MetricName.REFRESHES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidations =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidationsWithoutItem =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS_WITHOUT_ITEM.getValue()).tag(CACHE_NAME_TAG, cacheName);
         this.maxSizeSupplier = maxSizeSupplier;
         this.estimatedSizeSupplier = estimatedSizeSupplier;
+        this.weightedSizeSupplier = weightedSizeSupplier;
     }
 
     /**
@@ -155,11 +178,12 @@ public final class MetricsStatsCounter implements StatsCounter {
      * @param cacheName The name of the cache.
      * @param maxSizeSupplier supplier for the maximum size of the cache
      * @param estimatedSizeSupplier supplier for the estimated size of the cache.
+     * @param weightedSizeSupplier supplier for the sum of the weights of all cache entries.
      * @return the instance.
      */
     static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
-        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> weightedSizeSupplier) {
+        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier, weightedSizeSupplier);
     }
 
     @Override
@@ -206,6 +230,13 @@ public final class MetricsStatsCounter implements StatsCounter {
         updateCacheSizeMetrics();
     }
 
+    /**
+     * Records the start of an asynchronous reload of an entry triggered by refresh-after-write.
+     */
+    void recordRefresh() {
+        refreshCount.increment();
+    }
+
     void recordInvalidationWithoutItem() {
         estimatedInvalidationsWithoutItem.increment();
     }
@@ -232,6 +263,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     private void updateCacheSizeMetrics() {
         maxSize.set(maxSizeSupplier.get());
         estimatedSize.set(estimatedSizeSupplier.get());
+        weightedSize.set(weightedSizeSupplier.get());
     }
 
 }
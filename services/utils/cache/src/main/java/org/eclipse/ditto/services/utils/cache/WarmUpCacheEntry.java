@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Concierge-service internal command signaling that the cache for a specific {@link EntityIdWithResourceType} should be
+ * loaded ahead of the first signal that needs it.
+ * Is emitted via Pub/Sub by the things service while it warms up the Things of a cluster node.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class WarmUpCacheEntry implements Jsonifiable<JsonObject> {
+
+    private static final JsonFieldDefinition<String> JSON_ENTITY_ID =
+            JsonFactory.newStringFieldDefinition("entityId", V_1, V_2);
+
+    private final EntityIdWithResourceType entityId;
+
+    private WarmUpCacheEntry(final EntityIdWithResourceType entityId) {this.entityId = entityId;}
+
+    /**
+     * Creates a new {@link WarmUpCacheEntry} from the passed {@code entityId}.
+     *
+     * @param entityId the EntityId to build the WarmUpCacheEntry for.
+     * @return the created WarmUpCacheEntry instance.
+     */
+    public static WarmUpCacheEntry of(final EntityIdWithResourceType entityId) {
+        return new WarmUpCacheEntry(entityId);
+    }
+
+    /**
+     * Creates a new {@link WarmUpCacheEntry} from a JSON object.
+     *
+     * @param jsonObject the JsonObject to create the WarmUpCacheEntry from.
+     * @return the created WarmUpCacheEntry instance.
+     */
+    public static WarmUpCacheEntry fromJson(final JsonObject jsonObject) {
+        final String entityIdStr = jsonObject.getValueOrThrow(JSON_ENTITY_ID);
+        return new WarmUpCacheEntry(EntityIdWithResourceType.readFrom(entityIdStr));
+    }
+
+    /**
+     * @return the EntityId to warm up caches for.
+     */
+    public EntityIdWithResourceType getEntityId() {
+        return entityId;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_ENTITY_ID, entityId.toString())
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WarmUpCacheEntry)) {
+            return false;
+        }
+        final WarmUpCacheEntry that = (WarmUpCacheEntry) o;
+        return Objects.equals(entityId, that.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entityId=" + entityId +
+                "]";
+    }
+}
@@ -33,6 +33,24 @@ public interface CacheConfig {
      */
     long getMaximumSize();
 
+    /**
+     * Returns the maximum sum of the weights of all entries of a cache. It replaces the maximum size for caches which
+     * are created with a weigher. Deactivated when {@code 0} is configured.
+     *
+     * @return the maximum weight.
+     * @since 1.2.0
+     */
+    long getMaximumWeight();
+
+    /**
+     * Returns duration after which a written cache entry is reloaded asynchronously on its next access while the old
+     * value is still returned. Deactivated when {@link Duration#ZERO} is configured.
+     *
+     * @return the duration between write and refresh.
+     * @since 1.2.0
+     */
+    Duration getRefreshAfterWrite();
+
     /**
      * Returns duration after which a written cache entry expires.
      *
@@ -55,6 +73,23 @@ public interface CacheConfig {
      */
     Duration getExpireAfterCreate();
 
+    /**
+     * Returns how long the cache loader waits for further loads before it loads the collected keys as one batch.
+     * Coalescing of loads is deactivated when {@link Duration#ZERO} is configured.
+     *
+     * @return the coalescing window.
+     * @since 1.2.0
+     */
+    Duration getCoalescingWindow();
+
+    /**
+     * Returns the maximum number of keys which are loaded as one batch if coalescing of loads is active.
+     *
+     * @return the maximum batch size.
+     * @since 1.2.0
+     */
+    int getCoalescingMaxBatchSize();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -72,6 +107,16 @@ public interface CacheConfig {
          */
         MAXIMUM_SIZE("maximum-size", 50_000L),
 
+        /**
+         * The maximum sum of entry weights for caches with a weigher.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
+        /**
+         * Duration after which a written cache entry is refreshed asynchronously.
+         */
+        REFRESH_AFTER_WRITE("refresh-after-write", Duration.ZERO),
+
         /**
          * Duration after which a written cache entry expires.
          */
@@ -85,7 +130,17 @@ public interface CacheConfig {
         /**
          * Duration after which an accessed cache entry expires.
          */
-        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO);
+        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO),
+
+        /**
+         * Duration to wait for further loads before loading the collected keys as one batch.
+         */
+        COALESCING_WINDOW("coalescing-window", Duration.ZERO),
+
+        /**
+         * Maximum number of keys loaded as one batch.
+         */
+        COALESCING_MAX_BATCH_SIZE("coalescing-max-batch-size", 100);
 
         private final String path;
         private final Object defaultValue;
@@ -30,15 +30,24 @@ import com.typesafe.config.ConfigValueFactory;
 public final class DefaultCacheConfig implements CacheConfig {
 
     private final long maximumSize;
+    private final long maximumWeight;
+    private final Duration refreshAfterWrite;
     private final Duration expireAfterWrite;
     private final Duration expireAfterAccess;
     private final Duration expireAfterCreate;
+    private final Duration coalescingWindow;
+    private final int coalescingMaxBatchSize;
 
     private DefaultCacheConfig(final ConfigWithFallback configWithFallback) {
         maximumSize = configWithFallback.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        maximumWeight = configWithFallback.getLong(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath());
+        refreshAfterWrite = configWithFallback.getDuration(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath());
         expireAfterWrite = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
         expireAfterAccess = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath());
         expireAfterCreate = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath());
+        coalescingWindow = configWithFallback.getDuration(CacheConfigValue.COALESCING_WINDOW.getConfigPath());
+        coalescingMaxBatchSize =
+                configWithFallback.getInt(CacheConfigValue.COALESCING_MAX_BATCH_SIZE.getConfigPath());
     }
 
     /**
@@ -58,6 +67,16 @@ public final class DefaultCacheConfig implements CacheConfig {
         return maximumSize;
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -73,13 +92,28 @@ public final class DefaultCacheConfig implements CacheConfig {
         return expireAfterCreate;
     }
 
+    @Override
+    public Duration getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    @Override
+    public int getCoalescingMaxBatchSize() {
+        return coalescingMaxBatchSize;
+    }
+
     @Override
     public Config render() {
         return ConfigFactory.empty()
                 .withValue(CacheConfigValue.MAXIMUM_SIZE.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumSize))
+                .withValue(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumWeight))
+                .withValue(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(refreshAfterWrite))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterCreate))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterAccess))
-                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite));
+                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite))
+                .withValue(CacheConfigValue.COALESCING_WINDOW.getConfigPath(), ConfigValueFactory.fromAnyRef(coalescingWindow))
+                .withValue(CacheConfigValue.COALESCING_MAX_BATCH_SIZE.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(coalescingMaxBatchSize));
     }
 
     @Override
@@ -92,23 +126,32 @@ public final class DefaultCacheConfig implements CacheConfig {
         }
         final DefaultCacheConfig that = (DefaultCacheConfig) o;
         return maximumSize == that.maximumSize &&
+                maximumWeight == that.maximumWeight &&
+                Objects.equals(refreshAfterWrite, that.refreshAfterWrite) &&
                 Objects.equals(expireAfterWrite, that.expireAfterWrite) &&
                 Objects.equals(expireAfterAccess, that.expireAfterAccess)&&
-                Objects.equals(expireAfterCreate, that.expireAfterCreate);
+                Objects.equals(expireAfterCreate, that.expireAfterCreate) &&
+                Objects.equals(coalescingWindow, that.coalescingWindow) &&
+                coalescingMaxBatchSize == that.coalescingMaxBatchSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate);
+        return Objects.hash(maximumSize, maximumWeight, refreshAfterWrite, expireAfterWrite, expireAfterAccess, expireAfterCreate, coalescingWindow,
+                coalescingMaxBatchSize);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maximumSize=" + maximumSize +
+                ", maximumWeight=" + maximumWeight +
+                ", refreshAfterWrite=" + refreshAfterWrite +
                 ", expireAfterWrite=" + expireAfterWrite +
                 ", expireAfterAccess=" + expireAfterAccess +
                 ", expireAfterCreate=" + expireAfterCreate +
+                ", coalescingWindow=" + coalescingWindow +
+                ", coalescingMaxBatchSize=" + coalescingMaxBatchSize +
                 "]";
     }
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Unit test for {@link CoalescingCacheLoader}.
+ */
+public final class CoalescingCacheLoaderTest {
+
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
+
+    @Test
+    public void loadsWithinWindowAreLoadedAsOneBatch() {
+        final RecordingBulkLoader delegate = new RecordingBulkLoader();
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofMillis(500), 100, "test");
+
+        final CompletableFuture<String> first = underTest.asyncLoad("a", EXECUTOR);
+        final CompletableFuture<String> second = underTest.asyncLoad("b", EXECUTOR);
+
+        assertThat(first.join()).isEqualTo("value-a");
+        assertThat(second.join()).isEqualTo("value-b");
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    public void concurrentLoadsOfSameKeyShareOneFuture() {
+        final RecordingBulkLoader delegate = new RecordingBulkLoader();
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofHours(1), 2, "test");
+
+        final CompletableFuture<String> first = underTest.asyncLoad("a", EXECUTOR);
+        final CompletableFuture<String> sameAsFirst = underTest.asyncLoad("a", EXECUTOR);
+        underTest.asyncLoad("b", EXECUTOR);
+
+        assertThat(sameAsFirst).isSameAs(first);
+        assertThat(first.join()).isEqualTo("value-a");
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    public void fullBatchIsLoadedWithoutWaitingForWindow() {
+        final RecordingBulkLoader delegate = new RecordingBulkLoader();
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofHours(1), 2, "test");
+
+        final CompletableFuture<String> first = underTest.asyncLoad("a", EXECUTOR);
+        final CompletableFuture<String> second = underTest.asyncLoad("b", EXECUTOR);
+
+        assertThat(first.join()).isEqualTo("value-a");
+        assertThat(second.join()).isEqualTo("value-b");
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    public void windowOfBatchLoadedEarlyDoesNotCutShortTheNextBatch() throws InterruptedException {
+        final RecordingBulkLoader delegate = new RecordingBulkLoader();
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofSeconds(1), 2, "test");
+
+        underTest.asyncLoad("a", EXECUTOR);
+        underTest.asyncLoad("b", EXECUTOR);
+        Thread.sleep(500L);
+        final CompletableFuture<String> third = underTest.asyncLoad("c", EXECUTOR);
+
+        // the window of the first batch elapsed, the window of the second batch did not
+        Thread.sleep(700L);
+        assertThat(third).isNotDone();
+        assertThat(third.join()).isEqualTo("value-c");
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    @Test
+    public void delegateWithoutBulkSupportLoadsKeysOneByOne() {
+        final AsyncCacheLoader<String, String> delegate =
+                (key, executor) -> CompletableFuture.completedFuture("single-" + key);
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofMillis(10), 100, "test");
+
+        final Map<String, String> result = underTest.asyncLoadAll(List.of("a", "b"), EXECUTOR).join();
+
+        assertThat(result).isEqualTo(Map.of("a", "single-a", "b", "single-b"));
+    }
+
+    @Test
+    public void failedBatchFailsAllLoads() {
+        final IllegalStateException error = new IllegalStateException("expected");
+        final AsyncCacheLoader<String, String> delegate = new AsyncCacheLoader<>() {
+            @Override
+            public CompletableFuture<String> asyncLoad(final String key, final Executor executor) {
+                return CompletableFuture.failedFuture(error);
+            }
+
+            @Override
+            public CompletableFuture<Map<String, String>> asyncLoadAll(final Iterable<? extends String> keys,
+                    final Executor executor) {
+                return CompletableFuture.failedFuture(error);
+            }
+        };
+        final CoalescingCacheLoader<String, String> underTest =
+                CoalescingCacheLoader.of(delegate, Duration.ofMillis(10), 100, "test");
+
+        final CompletableFuture<String> first = underTest.asyncLoad("a", EXECUTOR);
+        final CompletableFuture<String> second = underTest.asyncLoad("b", EXECUTOR);
+
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(first::join).withCause(error);
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(second::join).withCause(error);
+    }
+
+    private static final class RecordingBulkLoader implements AsyncCacheLoader<String, String> {
+
+        private final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<String> asyncLoad(final String key, final Executor executor) {
+            throw new AssertionError("Expected bulk load of key <" + key + ">");
+        }
+
+        @Override
+        public synchronized CompletableFuture<Map<String, String>> asyncLoadAll(
+                final Iterable<? extends String> keys, final Executor executor) {
+
+            final List<String> batch = StreamSupport.stream(keys.spliterator(), false).collect(Collectors.toList());
+            batches.add(batch);
+            return CompletableFuture.completedFuture(
+                    batch.stream().collect(Collectors.toMap(Function.identity(), key -> "value-" + key)));
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.awaitility.Awaitility;
 import org.awaitility.core.ThrowingRunnable;
@@ -64,6 +65,12 @@ public final class MetricsStatsCounterTest {
     private final Gauge maxSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.MAX_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge weightedSize = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.WEIGHTED_SIZE.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter refreshCount = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REFRESHES.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Counter estimatedInvalidations = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.ESTIMATED_INVALIDATIONS.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
@@ -79,6 +86,8 @@ public final class MetricsStatsCounterTest {
         evictionWeight.reset();
         estimatedSize.reset();
         maxSize.reset();
+        weightedSize.reset();
+        refreshCount.reset();
         estimatedInvalidations.reset();
     }
 
@@ -170,6 +179,49 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void weightedSize() {
+        // GIVEN
+        final Caffeine<Integer, Integer> caffeine = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumWeight(1000L)
+                .weigher((Integer key, Integer value) -> value);
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final CaffeineCache<Integer, Integer> cache = CaffeineCache.of(caffeine, loader, TEST_CACHE_NAME);
+
+        // WHEN
+        cache.get(10).join();
+        cache.get(20).join();
+        // the weight of an entry is updated after its load was recorded; load an entry of weight 0 to update metrics
+        cache.get(0).join();
+
+        // THEN
+        waitUntilAsserted(() -> {
+            assertThat(maxSize.get()).isEqualTo(1000L);
+            assertThat(weightedSize.get()).isEqualTo(30L);
+        });
+    }
+
+    @Test
+    public void refreshes() {
+        // GIVEN
+        final AtomicLong nanoTime = new AtomicLong();
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .refreshAfterWrite(1L, TimeUnit.MINUTES)
+                .ticker(nanoTime::get);
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final CaffeineCache<Integer, Integer> cache = CaffeineCache.of(caffeine, loader, TEST_CACHE_NAME);
+        cache.get(0).join();
+
+        // WHEN
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(2L));
+        cache.get(0).join();
+
+        // THEN
+        waitUntilAsserted(() -> assertThat(refreshCount.getCount()).isEqualTo(1L));
+    }
+
     private CaffeineCache<Integer, Integer> createCaffeineCache() {
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE);
         final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
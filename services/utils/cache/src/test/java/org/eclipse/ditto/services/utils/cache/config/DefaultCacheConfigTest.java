@@ -64,12 +64,24 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getDefaultValue());
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getDefaultValue());
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getDefaultValue());
+        softly.assertThat(underTest.getCoalescingWindow())
+                .as(CacheConfig.CacheConfigValue.COALESCING_WINDOW.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.COALESCING_WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getCoalescingMaxBatchSize())
+                .as(CacheConfig.CacheConfigValue.COALESCING_MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.COALESCING_MAX_BATCH_SIZE.getDefaultValue());
     }
 
     @Test
@@ -79,12 +91,24 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(4711);
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(1_000_000L);
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2));
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(3));
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(4));
+        softly.assertThat(underTest.getCoalescingWindow())
+                .as(CacheConfig.CacheConfigValue.COALESCING_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5));
+        softly.assertThat(underTest.getCoalescingMaxBatchSize())
+                .as(CacheConfig.CacheConfigValue.COALESCING_MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(50);
     }
 
 }
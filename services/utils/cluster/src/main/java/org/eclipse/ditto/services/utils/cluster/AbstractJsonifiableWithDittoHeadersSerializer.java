@@ -29,11 +29,12 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.BinaryToHexConverter;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -69,11 +70,15 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    private static final JsonKey DITTO_HEADERS_KEY = JsonKey.of("dittoHeaders");
+
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
-            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+            JsonFactory.newJsonObjectFieldDefinition(DITTO_HEADERS_KEY);
+
+    private static final JsonKey PAYLOAD_KEY = JsonKey.of("payload");
 
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
-            JsonFactory.newJsonValueFieldDefinition("payload");
+            JsonFactory.newJsonValueFieldDefinition(PAYLOAD_KEY);
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
@@ -138,36 +143,19 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
-            final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
-            try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+            try (final JsonWriter jsonWriter = createJsonWriter(buf)) {
+                writeJsonifiable((Jsonifiable<?>) object, jsonWriter);
+                LOG.trace("toBinary object about to send 'out': {}", object);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
+                        "Could not put bytes of Jsonifiable <{0}> into ByteBuffer due to BufferOverflow", object);
                 LOG.error(errorMessage, e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final String errorMessage = MessageFormat.format(
                         "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
+                        e.getClass().getName(), object);
                 LOG.warn(errorMessage, e);
                 throw new RuntimeException(errorMessage, e);
             }
@@ -180,13 +168,36 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     }
 
     /**
-     * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
+     * Writes the envelope of headers and payload field by field, so that the JSON representation of the payload does
+     * not have to be copied into an envelope JSON object first.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void writeJsonifiable(final Jsonifiable<?> jsonifiable, final JsonWriter jsonWriter)
+            throws IOException {
+
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(jsonifiable);
+        jsonWriter.writeStartObject();
+        jsonWriter.writeField(DITTO_HEADERS_KEY, dittoHeaders.toJson());
+        jsonWriter.writeKey(PAYLOAD_KEY);
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            ((Jsonifiable.WithPredicate) jsonifiable).writeJson(jsonWriter, schemaVersion,
+                    FieldType.regularOrSpecial());
+        } else {
+            jsonWriter.writeValue(jsonifiable.toJson());
+        }
+        jsonWriter.writeEndObject();
+    }
+
+    /**
+     * Creates a writer which serializes the written JSON elements into the passed {@code byteBuffer}.
+     * All written elements have to be in the ByteBuffer after the writer was closed.
      *
-     * @param jsonObject the JsonObject to serialize.
      * @param byteBuffer the ByteBuffer to serialize into.
-     * @throws IOException in case writing to the ByteBuffer fails.
+     * @return the writer.
+     * @throws IOException in case the writer could not be created.
      */
-    protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
+    protected abstract JsonWriter createJsonWriter(ByteBuffer byteBuffer) throws IOException;
 
     @Override
     public byte[] toBinary(final Object object) {
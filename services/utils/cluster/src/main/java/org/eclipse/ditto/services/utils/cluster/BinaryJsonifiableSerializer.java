@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.BinaryToHexConverter;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.ByteBufferSerializer;
+import akka.serialization.SerializerWithStringManifest;
+
+/**
+ * Serializer of Eclipse Ditto for Jsonifiables which uses a compact binary format for the most frequently exchanged
+ * signals: thing commands, thing command responses, thing events and {@code ShardedMessageEnvelope}s.
+ * <p>
+ * For those the {@link DittoHeaders} are encoded with {@link DittoHeadersBinaryCodec} which replaces well-known header
+ * keys by dictionary indices. The payload is streamed as CBOR directly after the headers without an enclosing
+ * envelope object; on deserialization the headers are read without parsing any JSON.
+ * </p>
+ * <p>
+ * The used version of the header dictionary is configured by
+ * {@code akka.actor.serializers-binary.header-dictionary-version}. It may only be raised after all cluster members
+ * know the new version.
+ * </p>
+ * <p>
+ * All other manifests are delegated to the {@link CborJsonifiableSerializer}. The first byte of each serialized
+ * message tells which of both formats follows, so that the set of binary encoded manifests may change without
+ * breaking deserialization of messages which were serialized by other cluster members.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class BinaryJsonifiableSerializer extends SerializerWithStringManifest implements ByteBufferSerializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryJsonifiableSerializer.class);
+
+    private static final int UNIQUE_IDENTIFIER = 913745281;
+
+    private static final byte FORMAT_CBOR_FALLBACK = 0;
+    private static final byte FORMAT_BINARY = 1;
+
+    private static final List<String> BINARY_MANIFEST_PREFIXES = Arrays.asList(
+            "things.commands:",
+            "things.responses:",
+            "things.events:"
+    );
+
+    private static final String SHARDED_MESSAGE_ENVELOPE_MANIFEST = "ShardedMessageEnvelope";
+
+    private static final String CONFIG_HEADER_DICTIONARY_VERSION =
+            "akka.actor.serializers-binary.header-dictionary-version";
+
+    private static final Config FALLBACK_CONF = ConfigFactory.empty()
+            .withValue(CONFIG_HEADER_DICTIONARY_VERSION, ConfigValueFactory.fromAnyRef(1));
+
+    private static final String METRIC_NAME = "binary_serializer_messages";
+    private static final String METRIC_DIRECTION = "direction";
+
+    private final MappingStrategies mappingStrategies;
+    private final ManifestProvider manifestProvider;
+    private final CborJsonifiableSerializer fallbackSerializer;
+    private final int headerDictionaryVersion;
+    private final Counter inCounter;
+    private final Counter outCounter;
+
+    /**
+     * Constructs a new {@code BinaryJsonifiableSerializer} object.
+     *
+     * @param actorSystem the ExtendedActorSystem to use in order to dynamically load mapping strategies.
+     */
+    public BinaryJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        mappingStrategies = MappingStrategies.loadMappingStrategies(actorSystem);
+        manifestProvider = ManifestProvider.getInstance();
+        fallbackSerializer = new CborJsonifiableSerializer(actorSystem);
+        headerDictionaryVersion = actorSystem.settings()
+                .config()
+                .withFallback(FALLBACK_CONF)
+                .getInt(CONFIG_HEADER_DICTIONARY_VERSION);
+        inCounter = DittoMetrics.counter(METRIC_NAME).tag(METRIC_DIRECTION, "in");
+        outCounter = DittoMetrics.counter(METRIC_NAME).tag(METRIC_DIRECTION, "out");
+    }
+
+    @Override
+    public int identifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public String manifest(final Object o) {
+        return manifestProvider.apply(o);
+    }
+
+    @Override
+    public void toBinary(final Object object, final ByteBuffer buf) {
+        if (isBinaryEncoded(object)) {
+            buf.put(FORMAT_BINARY);
+            try {
+                writeBinary((Jsonifiable<?>) object, new ByteBufferOutputStream(buf));
+            } catch (final BufferOverflowException e) {
+                final String errorMessage = MessageFormat.format(
+                        "Could not put bytes of Jsonifiable <{0}> into ByteBuffer due to BufferOverflow", object);
+                LOG.error(errorMessage, e);
+                throw new IllegalArgumentException(errorMessage, e);
+            }
+        } else {
+            buf.put(FORMAT_CBOR_FALLBACK);
+            fallbackSerializer.toBinary(object, buf);
+        }
+    }
+
+    @Override
+    public byte[] toBinary(final Object object) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (isBinaryEncoded(object)) {
+            outputStream.write(FORMAT_BINARY);
+            writeBinary((Jsonifiable<?>) object, outputStream);
+        } else {
+            outputStream.write(FORMAT_CBOR_FALLBACK);
+            final byte[] fallbackBytes = fallbackSerializer.toBinary(object);
+            outputStream.write(fallbackBytes, 0, fallbackBytes.length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private boolean isBinaryEncoded(final Object object) {
+        if (!(object instanceof Jsonifiable)) {
+            return false;
+        }
+        final String manifest = manifest(object);
+        if (SHARDED_MESSAGE_ENVELOPE_MANIFEST.equals(manifest)) {
+            return true;
+        }
+        for (final String prefix : BINARY_MANIFEST_PREFIXES) {
+            if (manifest.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeBinary(final Jsonifiable<?> jsonifiable, final OutputStream outputStream) {
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(jsonifiable);
+        try {
+            DittoHeadersBinaryCodec.write(dittoHeaders, headerDictionaryVersion, outputStream);
+            try (final JsonWriter jsonWriter = CborFactory.newWriter(outputStream)) {
+                if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+                    final JsonSchemaVersion schemaVersion =
+                            dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+                    ((Jsonifiable.WithPredicate) jsonifiable).writeJson(jsonWriter, schemaVersion,
+                            FieldType.regularOrSpecial());
+                } else {
+                    jsonWriter.writeValue(jsonifiable.toJson());
+                }
+            }
+            LOG.trace("toBinary object about to send 'out': {}", jsonifiable);
+            outCounter.increment();
+        } catch (final IOException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
+                    e.getClass().getName(), jsonifiable);
+            LOG.warn(errorMessage, e);
+            throw new UncheckedIOException(errorMessage, e);
+        }
+    }
+
+    private static DittoHeaders getDittoHeadersOrEmpty(final Object object) {
+        if (object instanceof WithDittoHeaders) {
+            @Nullable final DittoHeaders dittoHeaders = ((WithDittoHeaders<?>) object).getDittoHeaders();
+            if (null != dittoHeaders) {
+                return dittoHeaders;
+            }
+        }
+        return DittoHeaders.empty();
+    }
+
+    @Override
+    public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        final byte format = buf.get();
+        if (FORMAT_CBOR_FALLBACK == format) {
+            return fallbackSerializer.fromBinary(buf, manifest);
+        } else if (FORMAT_BINARY == format) {
+            try {
+                final Jsonifiable<?> jsonifiable = readBinary(buf, manifest);
+                inCounter.increment();
+                return jsonifiable;
+            } catch (final NotSerializableException e) {
+                return e;
+            }
+        }
+        LOG.error("Got unknown format <{}> during deserialization for manifest <{}>.", format, manifest);
+        return new NotSerializableException(manifest);
+    }
+
+    @Override
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        return fromBinary(ByteBuffer.wrap(bytes), manifest);
+    }
+
+    private Jsonifiable<?> readBinary(final ByteBuffer buf, final String manifest) throws NotSerializableException {
+        final MappingStrategy mappingStrategy = mappingStrategies.getMappingStrategy(manifest)
+                .orElseThrow(() -> {
+                    LOG.warn("No strategy found to map manifest <{}> to a Jsonifiable.WithPredicate!", manifest);
+                    return new NotSerializableException(manifest);
+                });
+        final ByteBuffer duplicate = buf.duplicate();
+        try {
+            final DittoHeaders dittoHeaders = DittoHeadersBinaryCodec.read(buf);
+            final JsonValue payload = CborFactory.readFrom(buf);
+            if (!payload.isObject()) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Payload <{0}> of manifest <{1}> is not an object!", payload,
+                                manifest))
+                        .build();
+            }
+            return mappingStrategy.map(payload.asObject(), dittoHeaders);
+        } catch (final DittoRuntimeException | JsonRuntimeException | BufferUnderflowException |
+                IllegalArgumentException e) {
+            LOG.error("Got <{}> during deserialization for manifest <{}> while processing message: <{}>.",
+                    e.getClass().getSimpleName(), manifest,
+                    BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(duplicate), e);
+            throw new NotSerializableException(manifest);
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link OutputStream} which puts all written bytes into a {@link ByteBuffer}.
+ * Writing more bytes than the buffer has remaining causes a {@link java.nio.BufferOverflowException}.
+ */
+@NotThreadSafe
+final class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer byteBuffer;
+
+    ByteBufferOutputStream(final ByteBuffer byteBuffer) {
+        this.byteBuffer = byteBuffer;
+    }
+
+    @Override
+    public void write(final int b) {
+        byteBuffer.put((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        byteBuffer.put(bytes, offset, length);
+    }
+
+}
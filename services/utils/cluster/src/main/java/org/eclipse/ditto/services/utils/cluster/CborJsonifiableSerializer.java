@@ -16,8 +16,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.eclipse.ditto.json.CborFactory;
-import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 
 import akka.actor.ExtendedActorSystem;
 
@@ -38,8 +38,8 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
     }
 
     @Override
-    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) throws IOException {
-        CborFactory.writeToByteBuffer(jsonObject, byteBuffer);
+    protected JsonWriter createJsonWriter(final ByteBuffer byteBuffer) throws IOException {
+        return CborFactory.newWriter(byteBuffer);
     }
 
     @Override
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes {@link DittoHeaders} into a compact binary representation and decodes them again.
+ * <p>
+ * The headers are written as the version of the used dictionary and the number of entries followed by one entry per
+ * header. An entry starts with one byte: a value greater than zero is the index of a well-known key in the dictionary
+ * of this class, zero means that the key follows as string. The value of the header is written as string afterwards.
+ * Strings and numbers are encoded as unsigned variable length integers, strings are prefixed by the length of their
+ * UTF-8 bytes.
+ * </p>
+ * <p>
+ * The dictionary is part of the wire format: keys may only be appended to it, never removed or reordered. Each
+ * appended batch of keys makes up a new dictionary version. Writers only use the indices of the requested version and
+ * write all other keys as strings, so that cluster members which only know an older version of the dictionary can
+ * still read the headers. Readers skip entries with an index of a newer dictionary version than they know.
+ * </p>
+ */
+@Immutable
+final class DittoHeadersBinaryCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DittoHeadersBinaryCodec.class);
+
+    private static final byte LITERAL_KEY = 0;
+
+    private static final String[] DICTIONARY = {
+            null, // index 0 marks a literal key
+            DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
+            DittoHeaderDefinition.CORRELATION_ID.getKey(),
+            DittoHeaderDefinition.SCHEMA_VERSION.getKey(),
+            DittoHeaderDefinition.RESPONSE_REQUIRED.getKey(),
+            DittoHeaderDefinition.DRY_RUN.getKey(),
+            DittoHeaderDefinition.READ_SUBJECTS.getKey(),
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS.getKey(),
+            DittoHeaderDefinition.CONTENT_TYPE.getKey(),
+            DittoHeaderDefinition.REPLY_TO.getKey(),
+            DittoHeaderDefinition.CHANNEL.getKey(),
+            DittoHeaderDefinition.ORIGIN.getKey(),
+            DittoHeaderDefinition.ETAG.getKey(),
+            DittoHeaderDefinition.IF_MATCH.getKey(),
+            DittoHeaderDefinition.IF_NONE_MATCH.getKey(),
+            DittoHeaderDefinition.REPLY_TARGET.getKey(),
+            DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER.getKey(),
+            DittoHeaderDefinition.ORIGINATOR.getKey(),
+            DittoHeaderDefinition.REQUESTED_ACKS.getKey(),
+            DittoHeaderDefinition.TIMEOUT.getKey(),
+            DittoHeaderDefinition.ENTITY_ID.getKey(),
+            DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(),
+            DittoHeaderDefinition.LOCATION.getKey(),
+            DittoHeaderDefinition.ENFORCE_COLOCATED.getKey(),
+            DittoHeaderDefinition.TRACE_CONTEXT.getKey()
+    };
+
+    /**
+     * The size of the dictionary per version, the first entry belongs to version 1. Version 2 adds the trace context.
+     */
+    private static final int[] DICTIONARY_SIZE_BY_VERSION = {
+            DICTIONARY.length - 1,
+            DICTIONARY.length
+    };
+
+    /**
+     * The latest version of the dictionary which contains all keys of this class.
+     */
+    static final int LATEST_DICTIONARY_VERSION = DICTIONARY_SIZE_BY_VERSION.length;
+
+    private static final Map<String, Byte> INDEX_BY_KEY = createIndexByKey();
+
+    private DittoHeadersBinaryCodec() {
+        throw new AssertionError();
+    }
+
+    private static Map<String, Byte> createIndexByKey() {
+        final Map<String, Byte> result = new HashMap<>();
+        for (int i = 1; i < DICTIONARY.length; i++) {
+            result.put(DICTIONARY[i], (byte) i);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the binary representation of the given headers to the given stream.
+     *
+     * @param dittoHeaders the headers to write.
+     * @param dictionaryVersion the version of the dictionary whose indices are used; all cluster members have to know
+     * at least this version.
+     * @param outputStream the stream to write to.
+     * @throws IOException if writing to the stream failed.
+     * @throws IllegalArgumentException if {@code dictionaryVersion} is unknown.
+     */
+    static void write(final DittoHeaders dittoHeaders, final int dictionaryVersion, final OutputStream outputStream)
+            throws IOException {
+
+        final int dictionarySize = getDictionarySize(dictionaryVersion);
+        outputStream.write(dictionaryVersion);
+        writeUnsignedVarInt(dittoHeaders.size(), outputStream);
+        for (final Map.Entry<String, String> header : dittoHeaders.entrySet()) {
+            final String key = header.getKey();
+            @Nullable final Byte index = INDEX_BY_KEY.get(key);
+            if (null != index && index < dictionarySize) {
+                outputStream.write(index);
+            } else {
+                outputStream.write(LITERAL_KEY);
+                writeString(key, outputStream);
+            }
+            writeString(header.getValue(), outputStream);
+        }
+    }
+
+    private static int getDictionarySize(final int dictionaryVersion) {
+        if (dictionaryVersion < 1 || dictionaryVersion > LATEST_DICTIONARY_VERSION) {
+            throw new IllegalArgumentException("Unknown header dictionary version <" + dictionaryVersion + ">!");
+        }
+        return DICTIONARY_SIZE_BY_VERSION[dictionaryVersion - 1];
+    }
+
+    /**
+     * Reads headers from the current position of the given buffer. Afterwards the position of the buffer is right
+     * behind the read headers. Entries with an index of a newer dictionary version than the latest known one are
+     * skipped.
+     *
+     * @param byteBuffer the buffer to read from.
+     * @return the read headers.
+     * @throws java.nio.BufferUnderflowException if the buffer does not contain the complete headers.
+     * @throws IllegalArgumentException if the buffer contains a dictionary index which is invalid for the dictionary
+     * version the headers were written with.
+     */
+    static DittoHeaders read(final ByteBuffer byteBuffer) {
+        final int dictionaryVersion = Byte.toUnsignedInt(byteBuffer.get());
+        final int size = readUnsignedVarInt(byteBuffer);
+        final Map<String, String> headers = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            final int index = Byte.toUnsignedInt(byteBuffer.get());
+            if (LITERAL_KEY == index) {
+                final String key = readString(byteBuffer);
+                headers.put(key, readString(byteBuffer));
+            } else if (index < DICTIONARY.length) {
+                headers.put(DICTIONARY[index], readString(byteBuffer));
+            } else if (dictionaryVersion > LATEST_DICTIONARY_VERSION) {
+                final String value = readString(byteBuffer);
+                LOG.warn("Skipping header with index <{}> of unknown dictionary version <{}> and value <{}>.",
+                        index, dictionaryVersion, value);
+            } else {
+                throw new IllegalArgumentException("Unknown header dictionary index <" + index +
+                        "> for dictionary version <" + dictionaryVersion + ">!");
+            }
+        }
+        return DittoHeaders.of(headers);
+    }
+
+    private static void writeString(final String string, final OutputStream outputStream) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(bytes.length, outputStream);
+        outputStream.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer byteBuffer) {
+        final int length = readUnsignedVarInt(byteBuffer);
+        final byte[] bytes = new byte[length];
+        byteBuffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeUnsignedVarInt(final int value, final OutputStream outputStream) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            outputStream.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        outputStream.write(remaining);
+    }
+
+    private static int readUnsignedVarInt(final ByteBuffer byteBuffer) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IllegalArgumentException("Variable length integer is too long!");
+            }
+            b = byteBuffer.get();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+}
@@ -12,13 +12,14 @@
  */
 package org.eclipse.ditto.services.utils.cluster;
 
+import java.io.OutputStreamWriter;
 import java.nio.ByteBuffer;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 
 import akka.actor.ExtendedActorSystem;
 
@@ -40,9 +41,8 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
     }
 
     @Override
-    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
-        final String jsonStr = jsonObject.toString();
-        byteBuffer.put(CHARSET.encode(jsonStr));
+    protected JsonWriter createJsonWriter(final ByteBuffer byteBuffer) {
+        return JsonFactory.newWriter(new OutputStreamWriter(new ByteBufferOutputStream(byteBuffer), CHARSET));
     }
 
     @Override
@@ -50,4 +50,5 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
         String json = CHARSET.decode(byteBuffer).toString();
         return JsonFactory.readFrom(json);
     }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoHeadersBinaryCodec}.
+ */
+public final class DittoHeadersBinaryCodecTest {
+
+    private static final DittoHeaders KNOWN_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("authSubject")))
+            .correlationId("correlationId-äöü")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .responseRequired(false)
+            .putHeader("custom-header", "custom value which is longer than 127 bytes to require more than one byte " +
+                    "for the length of the string in the variable length encoding")
+            .build();
+
+    @Test
+    public void writtenHeadersCanBeReadAgain() throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(write(KNOWN_HEADERS));
+
+        assertThat(DittoHeadersBinaryCodec.read(byteBuffer)).isEqualTo(KNOWN_HEADERS);
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void emptyHeadersAreWrittenAsTwoBytes() throws IOException {
+        final byte[] bytes = write(DittoHeaders.empty());
+
+        // dictionary version, size
+        assertThat(bytes).hasSize(2);
+        assertThat(DittoHeadersBinaryCodec.read(ByteBuffer.wrap(bytes))).isEqualTo(DittoHeaders.empty());
+    }
+
+    @Test
+    public void knownKeysAreNotWrittenAsString() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("c").build();
+
+        // dictionary version, size, key index, value length, value
+        assertThat(write(dittoHeaders)).hasSize(5);
+    }
+
+    @Test
+    public void keysOfNewerDictionaryVersionAreWrittenAsString() throws IOException {
+        final String key = DittoHeaderDefinition.TRACE_CONTEXT.getKey();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().putHeader(key, "t").build();
+
+        final byte[] version1Bytes = write(dittoHeaders, 1);
+        final byte[] version2Bytes = write(dittoHeaders, 2);
+
+        // dictionary version, size, literal key marker, key length, key, value length, value
+        assertThat(version1Bytes).hasSize(6 + key.length());
+        // dictionary version, size, key index, value length, value
+        assertThat(version2Bytes).hasSize(5);
+        assertThat(DittoHeadersBinaryCodec.read(ByteBuffer.wrap(version1Bytes))).isEqualTo(dittoHeaders);
+        assertThat(DittoHeadersBinaryCodec.read(ByteBuffer.wrap(version2Bytes))).isEqualTo(dittoHeaders);
+    }
+
+    @Test
+    public void unknownDictionaryVersionCannotBeWritten() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.write(KNOWN_HEADERS,
+                        DittoHeadersBinaryCodec.LATEST_DICTIONARY_VERSION + 1, outputStream));
+    }
+
+    @Test
+    public void unknownDictionaryIndexOfNewerVersionIsSkipped() {
+        final byte newerVersion = (byte) (DittoHeadersBinaryCodec.LATEST_DICTIONARY_VERSION + 1);
+        // dictionary version, size, unknown key index, value; literal key, key, value
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[]{newerVersion, 2, 127, 1, 'x', 0, 1, 'k', 1, 'v'});
+
+        assertThat(DittoHeadersBinaryCodec.read(byteBuffer))
+                .isEqualTo(DittoHeaders.newBuilder().putHeader("k", "v").build());
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void unknownDictionaryIndexOfKnownVersionFails() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[]{1, 1, 127, 1, 'x'});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.read(byteBuffer));
+    }
+
+    private static byte[] write(final DittoHeaders dittoHeaders) throws IOException {
+        return write(dittoHeaders, DittoHeadersBinaryCodec.LATEST_DICTIONARY_VERSION);
+    }
+
+    private static byte[] write(final DittoHeaders dittoHeaders, final int dictionaryVersion) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DittoHeadersBinaryCodec.write(dittoHeaders, dictionaryVersion, outputStream);
+        return outputStream.toByteArray();
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.NotSerializableException;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
@@ -48,10 +49,12 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ExtendedActorSystem;
+import akka.serialization.SerializerWithStringManifest;
 import akka.testkit.javadsl.TestKit;
 
 /**
- * Unit test for {@link JsonJsonifiableSerializer} and {@link CborJsonifiableSerializer}.
+ * Unit test for {@link JsonJsonifiableSerializer}, {@link CborJsonifiableSerializer} and
+ * {@link BinaryJsonifiableSerializer}.
  */
 @RunWith(Enclosed.class)
 public final class SharedJsonifiableSerializerTest {
@@ -60,18 +63,24 @@ public final class SharedJsonifiableSerializerTest {
 
         JSONIFIABLE_SERIALIZER {
             @Override
-            public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
+            public SerializerWithStringManifest getInstance(final ExtendedActorSystem actorSystem) {
                 return new JsonJsonifiableSerializer(actorSystem);
             }
         },
         CBOR_JSONIFIABLE_SERIALIZER {
             @Override
-            public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
+            public SerializerWithStringManifest getInstance(final ExtendedActorSystem actorSystem) {
                 return new CborJsonifiableSerializer(actorSystem);
             }
+        },
+        BINARY_JSONIFIABLE_SERIALIZER {
+            @Override
+            public SerializerWithStringManifest getInstance(final ExtendedActorSystem actorSystem) {
+                return new BinaryJsonifiableSerializer(actorSystem);
+            }
         };
 
-        abstract AbstractJsonifiableWithDittoHeadersSerializer getInstance(ExtendedActorSystem actorSystem);
+        abstract SerializerWithStringManifest getInstance(ExtendedActorSystem actorSystem);
 
     }
 
@@ -97,7 +106,7 @@ public final class SharedJsonifiableSerializerTest {
         @Parameterized.Parameter
         public SerializerImplementation serializerImplementation;
 
-        private AbstractJsonifiableWithDittoHeadersSerializer underTest;
+        private SerializerWithStringManifest underTest;
 
         @Parameterized.Parameters(name = "{0}")
         public static SerializerImplementation[] getSerializers() {
@@ -122,7 +131,7 @@ public final class SharedJsonifiableSerializerTest {
         }
 
         @Test
-        public void thingCommandSerializationWorksAsExpected() {
+        public void thingCommandSerializationWorksAsExpected() throws NotSerializableException {
             final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
 
             final byte[] serialized = underTest.toBinary(createThing);
@@ -132,7 +141,7 @@ public final class SharedJsonifiableSerializerTest {
         }
 
         @Test
-        public void thingCommandResponseSerializationWorksAsExpected() {
+        public void thingCommandResponseSerializationWorksAsExpected() throws NotSerializableException {
             final CreateThingResponse createThingResponse = CreateThingResponse.of(thing, DITTO_HEADERS);
 
             final byte[] serialized = underTest.toBinary(createThingResponse);
@@ -142,7 +151,7 @@ public final class SharedJsonifiableSerializerTest {
         }
 
         @Test
-        public void shardedMessageEnvelopeSerializationWorksAsExpected() {
+        public void shardedMessageEnvelopeSerializationWorksAsExpected() throws NotSerializableException {
             final EntityId id = DefaultEntityId.generateRandom();
             final DittoHeaders dittoHeaders = DittoHeaders.empty();
             final RetrieveThings retrieveThings = RetrieveThings.getBuilder(thingId)
@@ -201,7 +210,7 @@ public final class SharedJsonifiableSerializerTest {
         @Parameterized.Parameter
         public SerializerImplementation serializerImplementation;
 
-        private AbstractJsonifiableWithDittoHeadersSerializer underTest;
+        private SerializerWithStringManifest underTest;
 
         @Parameterized.Parameters(name = "{0}")
         public static SerializerImplementation[] getSerializers() {
@@ -224,7 +233,7 @@ public final class SharedJsonifiableSerializerTest {
         }
 
         @Test
-        public void ensureSimpleMappingStrategyWithOnlyDittoHeadersWorks() {
+        public void ensureSimpleMappingStrategyWithOnlyDittoHeadersWorks() throws NotSerializableException {
             final byte[] bytes = underTest.toBinary(DITTO_HEADERS);
             final Object o = underTest.fromBinary(bytes, DittoHeaders.class.getSimpleName());
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster.benchmark;
+
+import java.io.NotSerializableException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cluster.BinaryJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.SerializerWithStringManifest;
+
+/**
+ * JMH Benchmark comparing the {@link CborJsonifiableSerializer} with the {@link BinaryJsonifiableSerializer} for a
+ * small command and a large command response. The average time of a serialization round trip is reported in
+ * microseconds per message; the serialized size in bytes of each message is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int NUMBER_OF_ATTRIBUTES = 50;
+
+    @Param({"CBOR", "BINARY"})
+    public String serializerName;
+
+    private ExtendedActorSystem actorSystem;
+    private SerializerWithStringManifest serializer;
+    private ModifyFeatureProperty modifyFeatureProperty;
+    private RetrieveThingResponse retrieveThingResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = (ExtendedActorSystem) ActorSystem.create("SerializerBenchmark", ConfigFactory.parseMap(
+                Map.of("ditto.mapping-strategy.implementation", CommandMappingStrategies.class.getName())));
+        if ("BINARY".equals(serializerName)) {
+            serializer = new BinaryJsonifiableSerializer(actorSystem);
+        } else {
+            serializer = new CborJsonifiableSerializer(actorSystem);
+        }
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("integration:user")))
+                .correlationId("b2b3c1e8-0c5f-4a1b-9d1e-8a4f9e4e2a13")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .responseRequired(true)
+                .build();
+        final ThingId thingId = ThingId.of("org.eclipse.ditto:benchmark");
+
+        modifyFeatureProperty = ModifyFeatureProperty.of(thingId, "temperature", JsonPointer.of("value"),
+                JsonValue.of(23.5), dittoHeaders);
+
+        final var thingBuilder = Thing.newBuilder().setId(thingId);
+        for (int i = 0; i < NUMBER_OF_ATTRIBUTES; i++) {
+            thingBuilder.setAttribute(JsonPointer.of("attribute" + i), JsonValue.of("value" + i));
+        }
+        retrieveThingResponse = RetrieveThingResponse.of(thingId, thingBuilder.build(), dittoHeaders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object modifyFeatureProperty() throws NotSerializableException {
+        return roundTrip(modifyFeatureProperty);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object retrieveThingResponse() throws NotSerializableException {
+        return roundTrip(retrieveThingResponse);
+    }
+
+    private Object roundTrip(final Object message) throws NotSerializableException {
+        final byte[] bytes = serializer.toBinary(message);
+        return serializer.fromBinary(bytes, serializer.manifest(message));
+    }
+
+    /**
+     * Mapping strategies for the serialized commands and responses.
+     */
+    public static final class CommandMappingStrategies extends MappingStrategies {
+
+        public CommandMappingStrategies() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalCommandResponseRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
@@ -21,6 +21,8 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 
 import akka.actor.AbstractExtensionId;
@@ -62,6 +64,9 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
 
     private final Executor ddataExecutor;
 
+    @Nullable private volatile R cachedValue;
+    @Nullable private volatile ActorRef localReplicaCache;
+
     /**
      * Create a wrapper of distributed data replicator.
      *
@@ -117,6 +122,32 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
      */
     protected abstract R getInitialValue();
 
+    /**
+     * Subscribe for changes of the local replica and keep its latest value in memory, so that it can be read
+     * synchronously by {@link #getCached()} without a round-trip to the replicator. Updates made via
+     * {@link #update(Replicator.WriteConsistency, Function)} are visible in the cached value as soon as their future
+     * completes; updates from other cluster members become visible after the notify-subscribers-interval of the
+     * replicator. Should be called only once, typically in the constructor of the subclass.
+     *
+     * @param factory creator of the actor which subscribes for changes.
+     * @since 1.2.0
+     */
+    protected void subscribeAndCache(final ActorRefFactory factory) {
+        cachedValue = getInitialValue();
+        localReplicaCache = factory.actorOf(
+                LocalReplicaCacheActor.props(replicator, getKey(), getInitialValue(), value -> cachedValue = value));
+    }
+
+    /**
+     * Retrieves the latest known value of the local replica without any actor round-trip.
+     *
+     * @return the cached value or an empty Optional if {@link #subscribeAndCache(ActorRefFactory)} was not called.
+     * @since 1.2.0
+     */
+    public Optional<R> getCached() {
+        return Optional.ofNullable(cachedValue);
+    }
+
     /**
      * Asynchronously retrieves the replicated data.
      *
@@ -141,8 +172,15 @@ public abstract class DistributedData<R extends ReplicatedData> implements Exten
 
         final Replicator.Update<R> replicatorUpdate =
                 new Replicator.Update<>(getKey(), getInitialValue(), writeConsistency, updateFunction);
-        return Patterns.ask(replicator, replicatorUpdate, getAskTimeout(writeConsistency.timeout(), writeTimeout))
-                .thenApplyAsync(this::handleUpdateResponse, ddataExecutor);
+        final CompletionStage<Void> updated =
+                Patterns.ask(replicator, replicatorUpdate, getAskTimeout(writeConsistency.timeout(), writeTimeout))
+                        .thenApplyAsync(this::handleUpdateResponse, ddataExecutor);
+        final ActorRef cache = localReplicaCache;
+        if (null != cache) {
+            return updated.thenCompose(done -> Patterns.ask(cache, LocalReplicaCacheActor.REFRESH, readTimeout))
+                    .thenApply(done -> null);
+        }
+        return updated;
     }
 
     /**
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.ddata;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import akka.Done;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.Replicator;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which subscribes for changes of one distributed data object and hands each new value of the local replica
+ * to a consumer, e. g. for storing it in a volatile field which can be read without any actor round-trip.
+ * <p>
+ * On {@link #REFRESH} the actor reads the local replica and replies with {@link Done} after the consumer received
+ * the value. As reads and change notifications are both sent by the replicator to this actor, their order is
+ * preserved and an outdated value never overwrites a newer one.
+ * </p>
+ *
+ * @param <R> type of replicated data.
+ */
+final class LocalReplicaCacheActor<R extends ReplicatedData> extends AbstractActor {
+
+    /**
+     * Message to read the local replica once and to reply with {@link Done} afterwards.
+     */
+    static final Object REFRESH = Refresh.INSTANCE;
+
+    private final ActorRef replicator;
+    private final Key<R> key;
+    private final R initialValue;
+    private final Consumer<R> valueConsumer;
+
+    @SuppressWarnings("unused")
+    private LocalReplicaCacheActor(final ActorRef replicator, final Key<R> key, final R initialValue,
+            final Consumer<R> valueConsumer) {
+
+        this.replicator = replicator;
+        this.key = key;
+        this.initialValue = initialValue;
+        this.valueConsumer = valueConsumer;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param replicator the replicator of the distributed data.
+     * @param key key of the distributed data.
+     * @param initialValue the value to hand to the consumer if the local replica has no entry yet.
+     * @param valueConsumer consumer of the values of the local replica.
+     * @param <R> type of replicated data.
+     * @return the Props object.
+     */
+    static <R extends ReplicatedData> Props props(final ActorRef replicator, final Key<R> key, final R initialValue,
+            final Consumer<R> valueConsumer) {
+
+        return Props.create(LocalReplicaCacheActor.class, replicator, key, initialValue, valueConsumer);
+    }
+
+    @Override
+    public void preStart() {
+        replicator.tell(new Replicator.Subscribe<>(key, getSelf()), getSelf());
+        readLocalReplica(null);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Replicator.Changed.class, this::changed)
+                .match(Replicator.GetSuccess.class, this::getSuccess)
+                .match(Replicator.NotFound.class, this::notFound)
+                .matchEquals(REFRESH, refresh -> readLocalReplica(getSender()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void changed(final Replicator.Changed<?> changed) {
+        if (key.equals(changed.key())) {
+            valueConsumer.accept((R) changed.dataValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void getSuccess(final Replicator.GetSuccess<?> getSuccess) {
+        valueConsumer.accept((R) getSuccess.dataValue());
+        replyDone(getSuccess.getRequest());
+    }
+
+    private void notFound(final Replicator.NotFound<?> notFound) {
+        valueConsumer.accept(initialValue);
+        replyDone(notFound.getRequest());
+    }
+
+    private void readLocalReplica(@Nullable final ActorRef requester) {
+        replicator.tell(new Replicator.Get<>(key, Replicator.readLocal(), Optional.<Object>ofNullable(requester)), getSelf());
+    }
+
+    private static void replyDone(final Optional<Object> request) {
+        request.filter(ActorRef.class::isInstance)
+                .map(ActorRef.class::cast)
+                .ifPresent(requester -> requester.tell(Done.getInstance(), ActorRef.noSender()));
+    }
+
+    private enum Refresh {
+        INSTANCE
+    }
+
+}
@@ -22,6 +22,8 @@ import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.metrics.instruments.histogram.KamonHistogram;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.DefaultTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreRegisteredKamonTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreRegisteredTimer;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 /**
@@ -41,6 +43,19 @@ public final class DittoMetrics {
         return new DefaultTimerBuilder(name).build();
     }
 
+    /**
+     * Creates a new timer for hot paths whose tags are bound at creation. Starting and stopping a measurement does
+     * not allocate; the timer should therefore be created once and kept by its user.
+     *
+     * @param name the name of the metric.
+     * @param tags the tags of the metric.
+     * @return the new timer.
+     * @since 1.2.0
+     */
+    public static PreRegisteredTimer preRegisteredTimer(final String name, final Map<String, String> tags) {
+        return PreRegisteredKamonTimer.newTimer(name, tags);
+    }
+
     /**
      * Creates an {@link ExpiringTimerBuilder} that allows to customize the timer before it will be started.
      *
@@ -33,12 +33,14 @@ public final class DefaultMetricsConfig implements MetricsConfig {
     private final boolean prometheusEnabled;
     private final String prometheusHostname;
     private final int prometheusPort;
+    private final double tracingSamplingRate;
 
     private DefaultMetricsConfig(final ConfigWithFallback metricsScopedConfig) {
         systemMetricEnabled = metricsScopedConfig.getBoolean(MetricsConfigValue.SYSTEM_METRICS_ENABLED.getConfigPath());
         prometheusEnabled = metricsScopedConfig.getBoolean(MetricsConfigValue.PROMETHEUS_ENABLED.getConfigPath());
         prometheusHostname = metricsScopedConfig.getString(MetricsConfigValue.PROMETHEUS_HOSTNAME.getConfigPath());
         prometheusPort = metricsScopedConfig.getInt(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath());
+        tracingSamplingRate = metricsScopedConfig.getDouble(MetricsConfigValue.TRACING_SAMPLING_RATE.getConfigPath());
     }
 
     /**
@@ -73,6 +75,11 @@ public final class DefaultMetricsConfig implements MetricsConfig {
         return prometheusPort;
     }
 
+    @Override
+    public double getTracingSamplingRate() {
+        return tracingSamplingRate;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -85,12 +92,14 @@ public final class DefaultMetricsConfig implements MetricsConfig {
         return systemMetricEnabled == that.systemMetricEnabled &&
                 prometheusEnabled == that.prometheusEnabled &&
                 prometheusPort == that.prometheusPort &&
+                Double.compare(tracingSamplingRate, that.tracingSamplingRate) == 0 &&
                 Objects.equals(prometheusHostname, that.prometheusHostname);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(systemMetricEnabled, prometheusEnabled, prometheusHostname, prometheusPort);
+        return Objects.hash(systemMetricEnabled, prometheusEnabled, prometheusHostname, prometheusPort,
+                tracingSamplingRate);
     }
 
     @Override
@@ -100,6 +109,7 @@ public final class DefaultMetricsConfig implements MetricsConfig {
                 ", prometheusEnabled=" + prometheusEnabled +
                 ", prometheusHostname=" + prometheusHostname +
                 ", prometheusPort=" + prometheusPort +
+                ", tracingSamplingRate=" + tracingSamplingRate +
                 "]";
     }
 
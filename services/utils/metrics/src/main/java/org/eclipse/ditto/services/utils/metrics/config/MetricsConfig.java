@@ -50,6 +50,15 @@ public interface MetricsConfig {
      */
     int getPrometheusPort();
 
+    /**
+     * Returns the probability with which a signal entering the cluster is traced in order to record the latencies of
+     * its hops between the services.
+     *
+     * @return the sampling rate between 0.0 and 1.0; 0.0 disables tracing.
+     * @since 1.2.0
+     */
+    double getTracingSamplingRate();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MetricsConfig}.
@@ -74,7 +83,14 @@ public interface MetricsConfig {
         /**
          * The port to bind the Prometheus HTTP server to.
          */
-        PROMETHEUS_PORT("prometheus.port", 9095);
+        PROMETHEUS_PORT("prometheus.port", 9095),
+
+        /**
+         * The probability with which a signal entering the cluster is traced.
+         *
+         * @since 1.2.0
+         */
+        TRACING_SAMPLING_RATE("tracing.sampling-rate", 0.0);
 
         private final String path;
         private final Object defaultValue;
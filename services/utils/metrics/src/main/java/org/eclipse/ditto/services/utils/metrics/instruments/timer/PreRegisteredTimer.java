@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import org.eclipse.ditto.services.utils.metrics.instruments.ResettableMetricInstrument;
+import org.eclipse.ditto.services.utils.metrics.instruments.TaggedMetricInstrument;
+
+/**
+ * A Timer metric whose tags are bound at creation. In contrast to a {@link PreparedTimer} it does not create a
+ * {@link StartedTimer} object per measurement; the start of a measurement is a plain timestamp and its duration is
+ * recorded directly into the histogram of the timer. Thus it is meant for hot paths which are measured very often.
+ * <p>
+ * Tagging such a timer creates a new timer; this should happen once at creation time and not per measurement.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface PreRegisteredTimer extends Timer, ResettableMetricInstrument,
+        TaggedMetricInstrument<PreRegisteredTimer> {
+
+    /**
+     * Returns the timestamp marking the start of a measurement.
+     *
+     * @return the start timestamp in nanoseconds which has to be passed to {@link #recordSince(long)}.
+     */
+    long start();
+
+    /**
+     * Records the time elapsed since the given start timestamp.
+     *
+     * @param startNanos the start timestamp as returned by {@link #start()}.
+     * @return the recorded duration in nanoseconds.
+     */
+    long recordSince(long startNanos);
+
+    /**
+     * Records the given duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     * @return this timer.
+     */
+    PreRegisteredTimer record(long nanos);
+
+    /**
+     * Get number of records.
+     *
+     * @return The number of records for this timer.
+     */
+    Long getNumberOfRecords();
+
+}
@@ -69,6 +69,9 @@ public final class DefaultMetricsConfigTest {
         softly.assertThat(underTest.getPrometheusPort())
                 .as(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath())
                 .isEqualTo(MetricsConfigValue.PROMETHEUS_PORT.getDefaultValue());
+        softly.assertThat(underTest.getTracingSamplingRate())
+                .as(MetricsConfigValue.TRACING_SAMPLING_RATE.getConfigPath())
+                .isEqualTo(MetricsConfigValue.TRACING_SAMPLING_RATE.getDefaultValue());
     }
 
     @Test
@@ -87,6 +90,9 @@ public final class DefaultMetricsConfigTest {
         softly.assertThat(underTest.getPrometheusPort())
                 .as(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath())
                 .isEqualTo(9999);
+        softly.assertThat(underTest.getTracingSamplingRate())
+                .as(MetricsConfigValue.TRACING_SAMPLING_RATE.getConfigPath())
+                .isEqualTo(0.25);
     }
 
 }
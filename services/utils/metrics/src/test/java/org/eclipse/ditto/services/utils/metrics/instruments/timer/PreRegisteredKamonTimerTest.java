@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PreRegisteredKamonTimerTest {
+
+    private PreRegisteredTimer sut;
+
+    @Before
+    public void setup() {
+        sut = PreRegisteredKamonTimer.newTimer("TestPreRegisteredTimer", Collections.singletonMap("TEST", "value"));
+        sut.reset();
+    }
+
+    @Test
+    public void recordSinceRecordsElapsedTime() {
+        final long start = sut.start();
+
+        final long recorded = sut.recordSince(start);
+
+        assertThat(recorded).isNotNegative();
+        assertThat(sut.getNumberOfRecords()).isEqualTo(1L);
+    }
+
+    @Test
+    public void reset() {
+        sut.record(5L);
+        assertThat(sut.getNumberOfRecords()).isEqualTo(1L);
+        sut.reset();
+        assertThat(sut.getNumberOfRecords()).isEqualTo(0L);
+    }
+
+    @Test
+    public void taggingCreatesNewTimer() {
+        final PreRegisteredTimer tagged = sut.tag("success", true);
+
+        assertThat(tagged).isNotSameAs(sut);
+        assertThat(tagged.getName()).isEqualTo(sut.getName());
+        assertThat(tagged.getTags()).containsEntry("TEST", "value").containsEntry("success", "true");
+        assertThat(sut.getTags()).containsOnlyKeys("TEST");
+    }
+
+    @Test
+    public void differentlyTaggedTimersRecordSeparately() {
+        final PreRegisteredTimer tagged = sut.tag("success", false);
+        tagged.reset();
+
+        tagged.record(5L);
+
+        assertThat(tagged.getNumberOfRecords()).isEqualTo(1L);
+        assertThat(sut.getNumberOfRecords()).isEqualTo(0L);
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.namespaces;
 
+import java.text.MessageFormat;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
@@ -55,6 +57,7 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
     private BlockedNamespaces(final DistributedDataConfig config, final ActorSystem system) {
         super(config, system, system.dispatchers().lookup(BLOCKED_NAMESPACES_DISPATCHER));
         selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        subscribeAndCache(system);
     }
 
     /**
@@ -81,35 +84,51 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
     }
 
     /**
-     * Test whether a namespace is stored in the local replica with the configured READ timeout.
+     * Test whether a namespace is stored in the local replica. The test is answered from the in-memory copy of the
+     * local replica; the returned future is always completed.
      *
      * @param namespace the namespace.
-     * @return whether the local replica is retrieved successfully and contains the namespace.
+     * @return whether the local replica contains the namespace.
      */
     public CompletionStage<Boolean> contains(final String namespace) {
-        return get(Replicator.readLocal())
-                .thenApply(maybeORSet -> maybeORSet.orElse(ORSet.empty()).contains(namespace))
-                .exceptionally(error -> false);
+        return CompletableFuture.completedFuture(containsCached(namespace));
     }
 
     /**
-     * Write a namespace to ALL replicas with the configured WRITE timeout.
+     * Synchronously test whether a namespace is stored in the in-memory copy of the local replica.
+     * Namespaces added or removed on this cluster member are visible as soon as the future of {@link #add(String)}
+     * or {@link #remove(String)} completes; changes of other members become visible after they were replicated.
      *
      * @param namespace the namespace.
-     * @return future that completes after the update propagates to all replicas, exceptionally if there is any error.
+     * @return whether the local replica contains the namespace.
+     * @since 1.2.0
+     */
+    public boolean containsCached(final String namespace) {
+        return getCached().map(orSet -> orSet.contains(namespace)).orElse(false);
+    }
+
+    /**
+     * Write a namespace to ALL replicas with the configured WRITE timeout. The namespace is visible in the local
+     * replica cache before ALL replicas are read to confirm the replication.
+     *
+     * @param namespace the namespace.
+     * @return future that completes after ALL replicas confirmed the update, exceptionally if there is any error.
      */
     public CompletionStage<Void> add(final String namespace) {
-        return update(writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace));
+        return update(writeAll(), orSet -> orSet.add(selfUniqueAddress, namespace))
+                .thenCompose(_void -> confirmReplication(namespace, true));
     }
 
     /**
-     * Remove a namespace from ALL replicas with the configured WRITE timeout.
+     * Remove a namespace from ALL replicas with the configured WRITE timeout. The removal is visible in the local
+     * replica cache before ALL replicas are read to confirm the replication.
      *
      * @param namespace the namespace to remove.
-     * @return future that completes after the removal propagates to all replicas, exceptionally if there is any error.
+     * @return future that completes after ALL replicas confirmed the removal, exceptionally if there is any error.
      */
     public CompletionStage<Void> remove(final String namespace) {
-        return update(writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace));
+        return update(writeAll(), orSet -> orSet.remove(selfUniqueAddress, namespace))
+                .thenCompose(_void -> confirmReplication(namespace, false));
     }
 
     @Override
@@ -126,6 +145,23 @@ public final class BlockedNamespaces extends DistributedData<ORSet<String>> {
         return new Replicator.WriteAll(FiniteDuration.apply(writeTimeout.toMillis(), TimeUnit.MILLISECONDS));
     }
 
+    private Replicator.ReadConsistency readAll() {
+        return new Replicator.ReadAll(FiniteDuration.apply(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private CompletionStage<Void> confirmReplication(final String namespace, final boolean expectBlocked) {
+        return get(readAll()).thenApply(orSet -> {
+            final boolean blocked = orSet.map(set -> set.contains(namespace)).orElse(false);
+            if (blocked != expectBlocked) {
+                final String errorMessage =
+                        MessageFormat.format("Expect namespace ''{0}'' to be {1} in all replicas, got: <{2}>",
+                                namespace, expectBlocked ? "blocked" : "unblocked", orSet);
+                throw new IllegalStateException(errorMessage);
+            }
+            return null;
+        });
+    }
+
     private static final class Provider
             extends DistributedData.AbstractDDataProvider<ORSet<String>, BlockedNamespaces> {
 
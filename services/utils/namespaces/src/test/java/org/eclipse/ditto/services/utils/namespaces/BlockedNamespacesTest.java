@@ -130,6 +130,21 @@ public final class BlockedNamespacesTest {
 
     }
 
+    @Test
+    public void containsCachedReflectsLocalUpdates() throws Exception {
+        new TestKit(actorSystem) {{
+            final BlockedNamespaces underTest = BlockedNamespaces.of(actorSystem);
+            final String namespace = "cached.namespace";
+            assertThat(underTest.containsCached(namespace)).isFalse();
+
+            underTest.add(namespace).toCompletableFuture().get();
+            assertThat(underTest.containsCached(namespace)).isTrue();
+
+            underTest.remove(namespace).toCompletableFuture().get();
+            assertThat(underTest.containsCached(namespace)).isFalse();
+        }};
+    }
+
     private static void testCRUD(final BlockedNamespaces underTest, final ActorSystem actorSystem) throws Exception {
         new TestKit(actorSystem) {{
             final String namespace = "dummy.namespace";
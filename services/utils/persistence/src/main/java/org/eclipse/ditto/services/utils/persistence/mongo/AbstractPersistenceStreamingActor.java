@@ -18,6 +18,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
@@ -47,7 +49,7 @@ public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRe
     private final Function<PidWithSeqNr, T> entityMapper;
     private final Function<EntityIdWithRevision, PidWithSeqNr> entityUnmapper;
 
-    private final DittoMongoClient mongoClient;
+    @Nullable private final DittoMongoClient mongoClient;
     private final MongoReadJournal readJournal;
 
     /**
@@ -70,29 +72,27 @@ public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRe
     }
 
     /**
-     * Constructor for tests.
+     * Constructor with a read journal which may be shared with other actors.
      *
      * @param entityMapper the mapper used to map {@link org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr} to {@code T}. The resulting entity will be
      * streamed to the recipient actor.
      * @param entityUnmapper the mapper used to map elements back to PidWithSeqNr for stream resumption.
-     * @param readJournal the ReadJournal to use instead of creating one in the non-test constructor.
+     * @param readJournal the ReadJournal to use instead of creating one. Its client is not closed by this actor.
      */
     protected AbstractPersistenceStreamingActor(final Function<PidWithSeqNr, T> entityMapper,
             final Function<EntityIdWithRevision, PidWithSeqNr> entityUnmapper,
             final MongoReadJournal readJournal) {
         this.entityMapper = requireNonNull(entityMapper);
         this.entityUnmapper = entityUnmapper;
-
-        final Config config = getContext().getSystem().settings().config();
-        final MongoDbConfig mongoDbConfig =
-                DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(config));
-        mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
+        mongoClient = null;
         this.readJournal = readJournal;
     }
 
     @Override
     public void postStop() throws Exception {
-        mongoClient.close();
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
         super.postStop();
     }
 
@@ -67,6 +67,30 @@ public final class DefaultPersistenceStreamingActor<T extends EntityIdWithRevisi
         return Props.create(DefaultPersistenceStreamingActor.class, elementClass, entityMapper, entityUnmapper);
     }
 
+    /**
+     * Creates Akka configuration object Props for this PersistenceStreamingActor which reads from the given read
+     * journal.
+     *
+     * @param <T> type of messages to stream.
+     * @param elementClass class of the elements.
+     * @param entityMapper the mapper used to map
+     * {@link org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr} to {@code T}.
+     * The resulting entity will be streamed to the recipient actor.
+     * @param entityUnmapper the inverse of {@code entityMapper}.
+     * @param readJournal the read journal, which may be shared with other actors. Its client is not closed by the
+     * actor.
+     * @return the Akka configuration Props object.
+     * @since 1.2.0
+     */
+    public static <T extends EntityIdWithRevision> Props props(final Class<T> elementClass,
+            final Function<PidWithSeqNr, T> entityMapper,
+            final Function<EntityIdWithRevision, PidWithSeqNr> entityUnmapper,
+            final MongoReadJournal readJournal) {
+
+        return Props.create(DefaultPersistenceStreamingActor.class, elementClass, entityMapper, entityUnmapper,
+                readJournal);
+    }
+
     static <T extends EntityIdWithRevision> Props propsForTests(final Class<T> elementClass,
             final Function<PidWithSeqNr, T> entityMapper,
             final Function<EntityIdWithRevision, PidWithSeqNr> entityUnmapper,
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.sharding.ShardRegion;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor which starts the recently active entities of a shard region after a restart of the service instance, before
+ * the first command addresses them.
+ * <p>
+ * After an initial delay it determines the newest snapshots of the snapshot store ordered by the last modification
+ * of their entities and keeps at most the configured number of them. Then it periodically checks which shards the
+ * local shard region hosts. As soon as a shard containing such entities is allocated to this instance, their
+ * warm-up messages are sent to the shard region with bounded parallelism, the most recently modified entities first.
+ * The warm-up ends once all entities are warmed up or after the configured maximum duration.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@AllValuesAreNonnullByDefault
+public final class PersistenceWarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "persistenceWarmUp";
+
+    /**
+     * Field of the snapshot JSON containing the timestamp of the last modification of an entity.
+     */
+    static final String MODIFIED = "_modified";
+
+    private static final Counter WARMED_UP_ENTITIES = DittoMetrics.counter("entity_warm_up").tag("result", "success");
+    private static final Counter FAILED_ENTITIES = DittoMetrics.counter("entity_warm_up").tag("result", "failure");
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
+
+    private final WarmUpConfig warmUpConfig;
+    private final ActorRef shardRegion;
+    private final ShardRegion.MessageExtractor messageExtractor;
+    private final Function<String, Object> warmUpMessageFactory;
+    private final Function<Document, CompletionStage<?>> snapshotWarmUp;
+    private final String[] snapshotFields;
+    private final MongoReadJournal readJournal;
+
+    private final Map<String, List<Candidate>> candidatesByShardId = new HashMap<>();
+    private boolean warmUpInProgress = false;
+
+    @SuppressWarnings("unused") // called by reflection
+    private PersistenceWarmUpActor(final WarmUpConfig warmUpConfig,
+            final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Function<String, Object> warmUpMessageFactory,
+            final Function<Document, CompletionStage<?>> snapshotWarmUp,
+            final MongoReadJournal readJournal,
+            final String[] snapshotFields) {
+
+        this.warmUpConfig = warmUpConfig;
+        this.shardRegion = shardRegion;
+        this.messageExtractor = messageExtractor;
+        this.warmUpMessageFactory = warmUpMessageFactory;
+        this.snapshotWarmUp = snapshotWarmUp;
+        this.readJournal = readJournal;
+        this.snapshotFields = snapshotFields;
+    }
+
+    /**
+     * Create Akka Props object for this actor.
+     *
+     * @param warmUpConfig the config of the warm-up.
+     * @param shardRegion the shard region of the entities to warm up.
+     * @param messageExtractor the message extractor of the shard region.
+     * @param warmUpMessageFactory creates the message which starts an entity from its persistence ID. The shard
+     * region has to reply to it once the entity is recovered.
+     * @param snapshotWarmUp additional warm-up of an entity started after its warm-up message was answered, e.g. to
+     * load caches. It receives the snapshot document containing the persistence ID at {@link MongoReadJournal#ID}
+     * and the requested {@code snapshotFields}.
+     * @param readJournal the read journal of the snapshot store. Its client is not closed by this actor.
+     * @param snapshotFields snapshot fields required by {@code snapshotWarmUp}.
+     * @return Props for this actor.
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Function<String, Object> warmUpMessageFactory,
+            final Function<Document, CompletionStage<?>> snapshotWarmUp,
+            final MongoReadJournal readJournal,
+            final String... snapshotFields) {
+
+        return Props.create(PersistenceWarmUpActor.class, warmUpConfig, shardRegion, messageExtractor,
+                warmUpMessageFactory, snapshotWarmUp, readJournal, snapshotFields);
+    }
+
+    @Override
+    public void preStart() {
+        log.info("Warming up recently active entities after <{}>.", warmUpConfig.getInitialDelay());
+        timers().startSingleTimer(Control.LOAD_CANDIDATES, Control.LOAD_CANDIDATES, warmUpConfig.getInitialDelay());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .matchEquals(Control.LOAD_CANDIDATES, trigger -> loadCandidates())
+                .match(Candidates.class, this::scheduleWarmUp)
+                .matchEquals(Control.CHECK_SHARDS, trigger -> checkShards())
+                .match(ShardRegion.CurrentShardRegionState.class, this::warmUpAllocatedShards)
+                .matchEquals(Control.SHARD_CHECK_FAILED,
+                        trigger -> log.info("Failed to retrieve the shards of this instance, retrying."))
+                .match(WarmUpDone.class, this::warmUpDone)
+                .matchEquals(Control.STOP, trigger -> stopWarmUp())
+                .match(Status.Failure.class, failure -> {
+                    log.warning("Failed to determine recently active entities: {}", failure.cause());
+                    getContext().stop(getSelf());
+                })
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void loadCandidates() {
+        final int maxEntities = warmUpConfig.getMaxEntities();
+        final String[] fields = Stream.concat(Stream.of(MODIFIED), Stream.of(snapshotFields))
+                .distinct()
+                .toArray(String[]::new);
+        final CompletionStage<Candidates> candidates =
+                readJournal.getNewestSnapshotsAbove("", warmUpConfig.getBatchSize(), materializer, fields)
+                        .map(Candidate::fromSnapshot)
+                        .runFold(new PriorityQueue<>(maxEntities + 1, Candidate.BY_MODIFIED),
+                                (queue, candidate) -> {
+                                    // keep the most recently modified entities only
+                                    queue.add(candidate);
+                                    if (queue.size() > maxEntities) {
+                                        queue.poll();
+                                    }
+                                    return queue;
+                                }, materializer)
+                        .thenApply(Candidates::new);
+        Patterns.pipe(candidates, getContext().getDispatcher()).to(getSelf());
+    }
+
+    private void scheduleWarmUp(final Candidates candidates) {
+        for (final Candidate candidate : candidates.getMostRecentlyModifiedFirst()) {
+            final Object warmUpMessage = warmUpMessageFactory.apply(candidate.getPersistenceId());
+            final String shardId = messageExtractor.shardId(warmUpMessage);
+            if (null != shardId) {
+                candidatesByShardId.computeIfAbsent(shardId, id -> new ArrayList<>())
+                        .add(candidate.withWarmUpMessage(warmUpMessage));
+            }
+        }
+        log.info("Found <{}> recently active entities in <{}> shards.", candidates.size(),
+                candidatesByShardId.size());
+        if (candidatesByShardId.isEmpty()) {
+            getContext().stop(getSelf());
+        } else {
+            timers().startPeriodicTimer(Control.CHECK_SHARDS, Control.CHECK_SHARDS,
+                    warmUpConfig.getShardCheckInterval());
+            timers().startSingleTimer(Control.STOP, Control.STOP, warmUpConfig.getMaxDuration());
+            checkShards();
+        }
+    }
+
+    private void checkShards() {
+        if (!warmUpInProgress) {
+            final CompletionStage<Object> shardRegionState =
+                    Patterns.ask(shardRegion, ShardRegion.getShardRegionStateInstance(), warmUpConfig.getTimeout())
+                            .exceptionally(error -> Control.SHARD_CHECK_FAILED);
+            Patterns.pipe(shardRegionState, getContext().getDispatcher()).to(getSelf());
+        }
+    }
+
+    private void warmUpAllocatedShards(final ShardRegion.CurrentShardRegionState shardRegionState) {
+        if (warmUpInProgress) {
+            return;
+        }
+        final List<Candidate> allocatedCandidates = new ArrayList<>();
+        shardRegionState.getShards().forEach(shardState -> {
+            final List<Candidate> candidatesOfShard = candidatesByShardId.remove(shardState.shardId());
+            if (null != candidatesOfShard) {
+                allocatedCandidates.addAll(candidatesOfShard);
+            }
+        });
+        if (!allocatedCandidates.isEmpty()) {
+            allocatedCandidates.sort(Candidate.BY_MODIFIED.reversed());
+            log.info("Warming up <{}> entities of newly allocated shards.", allocatedCandidates.size());
+            warmUpInProgress = true;
+            final CompletionStage<WarmUpDone> done = Source.from(allocatedCandidates)
+                    .mapAsyncUnordered(warmUpConfig.getParallelism(), this::warmUp)
+                    .runFold(0, (count, success) -> success ? count + 1 : count, materializer)
+                    .thenApply(count -> new WarmUpDone(count, allocatedCandidates.size()));
+            Patterns.pipe(done, getContext().getDispatcher()).to(getSelf());
+        }
+    }
+
+    private CompletionStage<Boolean> warmUp(final Candidate candidate) {
+        // the shard region replies once the entity is recovered; error replies are fine as the entity is started
+        return Patterns.ask(shardRegion, candidate.getWarmUpMessage(), warmUpConfig.getTimeout())
+                .thenCompose(reply -> snapshotWarmUp.apply(candidate.getSnapshot()))
+                .handle((result, error) -> {
+                    if (null == error) {
+                        WARMED_UP_ENTITIES.increment();
+                        return true;
+                    } else {
+                        FAILED_ENTITIES.increment();
+                        return false;
+                    }
+                });
+    }
+
+    private void warmUpDone(final WarmUpDone warmUpDone) {
+        warmUpInProgress = false;
+        log.info("Warmed up <{}> of <{}> entities.", warmUpDone.succeeded, warmUpDone.total);
+        if (candidatesByShardId.isEmpty()) {
+            log.info("Warm-up finished.");
+            getContext().stop(getSelf());
+        }
+    }
+
+    private void stopWarmUp() {
+        final int remaining = candidatesByShardId.values().stream().mapToInt(List::size).sum();
+        log.info("Stopping warm-up after <{}>. <{}> entities of shards not allocated to this instance are skipped.",
+                warmUpConfig.getMaxDuration(), remaining);
+        getContext().stop(getSelf());
+    }
+
+    private enum Control {
+        LOAD_CANDIDATES,
+        CHECK_SHARDS,
+        SHARD_CHECK_FAILED,
+        STOP
+    }
+
+    private static final class Candidate {
+
+        private static final Comparator<Candidate> BY_MODIFIED = Comparator.comparing(candidate -> candidate.modified);
+
+        private final Document snapshot;
+        private final Instant modified;
+        @Nullable private final Object warmUpMessage;
+
+        private Candidate(final Document snapshot, final Instant modified, @Nullable final Object warmUpMessage) {
+            this.snapshot = snapshot;
+            this.modified = modified;
+            this.warmUpMessage = warmUpMessage;
+        }
+
+        private static Candidate fromSnapshot(final Document snapshot) {
+            return new Candidate(snapshot, parseModified(snapshot.get(MODIFIED)), null);
+        }
+
+        private static Instant parseModified(@Nullable final Object modified) {
+            if (modified instanceof String) {
+                try {
+                    return Instant.parse((String) modified);
+                } catch (final DateTimeParseException e) {
+                    // entities with invalid timestamp are warmed up last
+                }
+            }
+            return Instant.EPOCH;
+        }
+
+        private Candidate withWarmUpMessage(final Object warmUpMessage) {
+            return new Candidate(snapshot, modified, warmUpMessage);
+        }
+
+        private String getPersistenceId() {
+            return snapshot.getString(MongoReadJournal.ID);
+        }
+
+        private Document getSnapshot() {
+            return snapshot;
+        }
+
+        private Object getWarmUpMessage() {
+            return warmUpMessage;
+        }
+
+    }
+
+    private static final class Candidates {
+
+        private final List<Candidate> mostRecentlyModifiedFirst;
+
+        private Candidates(final PriorityQueue<Candidate> queue) {
+            mostRecentlyModifiedFirst = new ArrayList<>(queue);
+            mostRecentlyModifiedFirst.sort(Candidate.BY_MODIFIED.reversed());
+        }
+
+        private List<Candidate> getMostRecentlyModifiedFirst() {
+            return mostRecentlyModifiedFirst;
+        }
+
+        private int size() {
+            return mostRecentlyModifiedFirst.size();
+        }
+
+    }
+
+    private static final class WarmUpDone {
+
+        private final int succeeded;
+        private final int total;
+
+        private WarmUpDone(final int succeeded, final int total) {
+            this.succeeded = succeeded;
+            this.total = total;
+        }
+
+    }
+
+}
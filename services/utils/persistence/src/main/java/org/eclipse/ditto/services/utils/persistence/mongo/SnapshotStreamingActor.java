@@ -16,6 +16,8 @@ import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -53,7 +55,7 @@ public final class SnapshotStreamingActor extends AbstractActor {
 
     private final Function<String, EntityId> pid2EntityId;
     private final Function<EntityId, String> entityId2Pid;
-    private final DittoMongoClient mongoClient;
+    @Nullable private final DittoMongoClient mongoClient;
     private final MongoReadJournal readJournal;
 
     @SuppressWarnings("unused") // called by reflection
@@ -67,6 +69,16 @@ public final class SnapshotStreamingActor extends AbstractActor {
         this.readJournal = readJournal;
     }
 
+    @SuppressWarnings("unused") // called by reflection
+    private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
+            final Function<EntityId, String> entityId2Pid,
+            final MongoReadJournal readJournal) {
+        this.pid2EntityId = pid2EntityId;
+        this.entityId2Pid = entityId2Pid;
+        mongoClient = null;
+        this.readJournal = readJournal;
+    }
+
     @SuppressWarnings("unused") // called by reflection
     private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
             final Function<EntityId, String> entityId2Pid) {
@@ -93,6 +105,23 @@ public final class SnapshotStreamingActor extends AbstractActor {
         return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid);
     }
 
+    /**
+     * Create Akka Props object for this actor which reads from the given read journal.
+     *
+     * @param pid2EntityId function mapping PID to entity ID.
+     * @param entityId2Pid function mapping entity ID to PID.
+     * @param readJournal the read journal, which may be shared with other actors. Its client is not closed by the
+     * actor.
+     * @return Props for this actor.
+     * @since 1.2.0
+     */
+    public static Props props(final Function<String, EntityId> pid2EntityId,
+            final Function<EntityId, String> entityId2Pid,
+            final MongoReadJournal readJournal) {
+
+        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid, readJournal);
+    }
+
     /**
      * Create Akka Props object for this actor with given Mongo client and read journal.
      * This is useful for unit tests with a mocked MongoDB.
@@ -113,7 +142,9 @@ public final class SnapshotStreamingActor extends AbstractActor {
 
     @Override
     public void postStop() throws Exception {
-        mongoClient.close();
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
         super.postStop();
     }
 
@@ -38,6 +38,15 @@ public interface ActivityCheckConfig {
      */
     Duration getDeletedInterval();
 
+    /**
+     * Returns the interval after which an "inactive" entity is held in memory in a compact serialized form until it
+     * is accessed again. Compaction is disabled if the interval is zero or negative.
+     *
+     * @return the interval.
+     * @since 1.2.0
+     */
+    Duration getCompactionInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ActivityCheckConfig}.
@@ -52,7 +61,12 @@ public interface ActivityCheckConfig {
         /**
          * The interval of how long to keep a deleted entity in memory.
          */
-        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L));
+        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * The interval after which an "inactive" entity is held in memory in a compact serialized form.
+         */
+        COMPACTION_INTERVAL("compaction-interval", Duration.ZERO);
 
         private final String path;
         private final Object defaultValue;
@@ -32,10 +32,12 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
 
     private final Duration inactiveInterval;
     private final Duration deletedInterval;
+    private final Duration compactionInterval;
 
     private DefaultActivityCheckConfig(final ScopedConfig scopedConfig) {
         inactiveInterval = scopedConfig.getDuration(ActivityCheckConfigValue.INACTIVE_INTERVAL.getConfigPath());
         deletedInterval = scopedConfig.getDuration(ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath());
+        compactionInterval = scopedConfig.getDuration(ActivityCheckConfigValue.COMPACTION_INTERVAL.getConfigPath());
     }
 
     /**
@@ -60,6 +62,11 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return deletedInterval;
     }
 
+    @Override
+    public Duration getCompactionInterval() {
+        return compactionInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -70,12 +77,13 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         }
         final DefaultActivityCheckConfig that = (DefaultActivityCheckConfig) o;
         return Objects.equals(inactiveInterval, that.inactiveInterval) &&
-                Objects.equals(deletedInterval, that.deletedInterval);
+                Objects.equals(deletedInterval, that.deletedInterval) &&
+                Objects.equals(compactionInterval, that.compactionInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(inactiveInterval, deletedInterval);
+        return Objects.hash(inactiveInterval, deletedInterval, compactionInterval);
     }
 
     @Override
@@ -83,6 +91,7 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return getClass().getSimpleName() + " [" +
                 "inactiveInterval=" + inactiveInterval +
                 ", deletedInterval=" + deletedInterval +
+                ", compactionInterval=" + compactionInterval +
                 "]";
     }
 
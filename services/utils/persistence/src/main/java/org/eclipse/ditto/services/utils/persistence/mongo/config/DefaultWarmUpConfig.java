@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for warming up recently active entities.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final Duration initialDelay;
+    private final int maxEntities;
+    private final int parallelism;
+    private final Duration shardCheckInterval;
+    private final Duration maxDuration;
+    private final int batchSize;
+    private final Duration timeout;
+
+    private DefaultWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WarmUpConfigValue.ENABLED.getConfigPath());
+        initialDelay = config.getDuration(WarmUpConfigValue.INITIAL_DELAY.getConfigPath());
+        maxEntities = getPositiveInt(config, WarmUpConfigValue.MAX_ENTITIES);
+        parallelism = getPositiveInt(config, WarmUpConfigValue.PARALLELISM);
+        shardCheckInterval = config.getDuration(WarmUpConfigValue.SHARD_CHECK_INTERVAL.getConfigPath());
+        maxDuration = config.getDuration(WarmUpConfigValue.MAX_DURATION.getConfigPath());
+        batchSize = getPositiveInt(config, WarmUpConfigValue.BATCH_SIZE);
+        timeout = config.getDuration(WarmUpConfigValue.TIMEOUT.getConfigPath());
+    }
+
+    private static int getPositiveInt(final ScopedConfig config, final WarmUpConfigValue configValue) {
+        final int result = config.getInt(configValue.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The warm-up value <{0}> must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default warm-up config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    @Override
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getShardCheckInterval() {
+        return shardCheckInterval;
+    }
+
+    @Override
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxEntities == that.maxEntities &&
+                parallelism == that.parallelism &&
+                batchSize == that.batchSize &&
+                Objects.equals(initialDelay, that.initialDelay) &&
+                Objects.equals(shardCheckInterval, that.shardCheckInterval) &&
+                Objects.equals(maxDuration, that.maxDuration) &&
+                Objects.equals(timeout, that.timeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, initialDelay, maxEntities, parallelism, shardCheckInterval, maxDuration,
+                batchSize, timeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", initialDelay=" + initialDelay +
+                ", maxEntities=" + maxEntities +
+                ", parallelism=" + parallelism +
+                ", shardCheckInterval=" + shardCheckInterval +
+                ", maxDuration=" + maxDuration +
+                ", batchSize=" + batchSize +
+                ", timeout=" + timeout +
+                "]";
+    }
+
+}
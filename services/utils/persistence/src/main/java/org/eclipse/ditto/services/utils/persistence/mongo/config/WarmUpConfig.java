@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warming up recently active entities after a service instance started.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface WarmUpConfig {
+
+    /**
+     * Indicates whether recently active entities should be started before the first command addresses them.
+     *
+     * @return {@code true} if the warm-up is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the delay after the start of the service instance before the recently active entities are determined.
+     *
+     * @return the initial delay.
+     */
+    Duration getInitialDelay();
+
+    /**
+     * Returns the maximum number of recently active entities to warm up, i. e. the budget of the warm-up.
+     *
+     * @return the maximum number of entities.
+     */
+    int getMaxEntities();
+
+    /**
+     * Returns how many entities are warmed up in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the interval in which the shards allocated to this instance are checked for newly allocated ones.
+     *
+     * @return the interval.
+     */
+    Duration getShardCheckInterval();
+
+    /**
+     * Returns how long to wait for the allocation of shards containing recently active entities before giving up
+     * the remaining entities.
+     *
+     * @return the maximum duration of the warm-up.
+     */
+    Duration getMaxDuration();
+
+    /**
+     * Returns how many snapshots are read from the snapshot store in one query.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns the timeout of warming up a single entity.
+     *
+     * @return the timeout.
+     */
+    Duration getTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmUpConfig}.
+     */
+    enum WarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether recently active entities should be warmed up.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The delay after the start of the service instance before the recently active entities are determined.
+         */
+        INITIAL_DELAY("initial-delay", Duration.ofSeconds(10L)),
+
+        /**
+         * The maximum number of recently active entities to warm up.
+         */
+        MAX_ENTITIES("max-entities", 10_000),
+
+        /**
+         * How many entities are warmed up in parallel.
+         */
+        PARALLELISM("parallelism", 8),
+
+        /**
+         * The interval in which the shards allocated to this instance are checked.
+         */
+        SHARD_CHECK_INTERVAL("shard-check-interval", Duration.ofSeconds(5L)),
+
+        /**
+         * How long to wait for the allocation of shards containing recently active entities.
+         */
+        MAX_DURATION("max-duration", Duration.ofMinutes(10L)),
+
+        /**
+         * How many snapshots are read from the snapshot store in one query.
+         */
+        BATCH_SIZE("batch-size", 1000),
+
+        /**
+         * The timeout of warming up a single entity.
+         */
+        TIMEOUT("timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        WarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
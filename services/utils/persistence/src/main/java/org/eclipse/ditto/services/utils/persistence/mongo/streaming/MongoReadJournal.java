@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -36,8 +39,11 @@ import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.BsonField;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.typesafe.config.Config;
@@ -47,6 +53,7 @@ import akka.actor.ActorSystem;
 import akka.contrib.persistence.mongodb.JournallingFieldNames$;
 import akka.contrib.persistence.mongodb.SnapshottingFieldNames$;
 import akka.japi.Pair;
+import akka.japi.pf.PFBuilder;
 import akka.stream.ActorMaterializer;
 import akka.stream.Attributes;
 import akka.stream.javadsl.RestartSource;
@@ -54,7 +61,8 @@ import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
- * Reads the event journal of com.github.scullxbones.akka-persistence-mongo plugin.
+ * Reads the event journal of com.github.scullxbones.akka-persistence-mongo plugin and deletes events and snapshots
+ * made obsolete by newer snapshots.
  * In the Akka system configuration,
  * <ul>
  * <li>
@@ -86,6 +94,7 @@ public class MongoReadJournal {
 
     private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     private static final String SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String TO = JournallingFieldNames$.MODULE$.TO();
 
     // Not working: SnapshottingFieldNames.V2$.MODULE$.SERIALIZED()
     private static final String SERIALIZED_SNAPSHOT = "s2";
@@ -97,12 +106,16 @@ public class MongoReadJournal {
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+
+    @Nullable private final String databaseName;
     private final String journalCollection;
     private final String snapsCollection;
     private final DittoMongoClient mongoClient;
 
-    private MongoReadJournal(final String journalCollection, final String snapsCollection,
-            final DittoMongoClient mongoClient) {
+    private MongoReadJournal(@Nullable final String databaseName, final String journalCollection,
+            final String snapsCollection, final DittoMongoClient mongoClient) {
+        this.databaseName = databaseName;
         this.journalCollection = journalCollection;
         this.snapsCollection = snapsCollection;
         this.mongoClient = mongoClient;
@@ -132,7 +145,46 @@ public class MongoReadJournal {
     public static MongoReadJournal newInstance(final String journalCollection, final String snapsCollection,
             final DittoMongoClient dittoMongoClient) {
 
-        return new MongoReadJournal(journalCollection, snapsCollection, dittoMongoClient);
+        return new MongoReadJournal(null, journalCollection, snapsCollection, dittoMongoClient);
+    }
+
+    /**
+     * Instantiate a read journal for collections in a database other than the default database of the client.
+     *
+     * @param databaseName the name of the database containing the journal and snapshot collections.
+     * @param journalCollection the journal collection name.
+     * @param snapsCollection the snapshot collection name.
+     * @param dittoMongoClient the client.
+     * @return a read journal for the journal and snapshot collections.
+     * @since 1.2.0
+     */
+    public static MongoReadJournal newInstance(final String databaseName, final String journalCollection,
+            final String snapsCollection, final DittoMongoClient dittoMongoClient) {
+
+        return new MongoReadJournal(databaseName, journalCollection, snapsCollection, dittoMongoClient);
+    }
+
+    /**
+     * Instantiate a read journal for collections in a database other than the default database of the client.
+     * The collection names are read from the overrides of the given journal and snapshot plugins, which need not be
+     * started in the actor system of the caller.
+     *
+     * @param databaseName the name of the database containing the journal and snapshot collections.
+     * @param config the configuration containing the journal and snapshot plugins.
+     * @param journalPluginId the config key of the journal plugin.
+     * @param snapsPluginId the config key of the snapshot plugin.
+     * @param dittoMongoClient the client.
+     * @return a read journal for the journal and snapshot collections.
+     * @since 1.2.0
+     */
+    public static MongoReadJournal newInstance(final String databaseName, final Config config,
+            final String journalPluginId, final String snapsPluginId, final DittoMongoClient dittoMongoClient) {
+
+        final String journalCollection =
+                getOverrideCollectionName(config.getConfig(journalPluginId), JOURNAL_COLLECTION_NAME_KEY);
+        final String snapshotCollection =
+                getOverrideCollectionName(config.getConfig(snapsPluginId), SNAPS_COLLECTION_NAME_KEY);
+        return new MongoReadJournal(databaseName, journalCollection, snapshotCollection, dittoMongoClient);
     }
 
     /**
@@ -149,7 +201,7 @@ public class MongoReadJournal {
                 getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
         final String snapshotCollection =
                 getOverrideCollectionName(config.getConfig(autoStartSnapsKey), SNAPS_COLLECTION_NAME_KEY);
-        return new MongoReadJournal(journalCollection, snapshotCollection, mongoClient);
+        return new MongoReadJournal(null, journalCollection, snapshotCollection, mongoClient);
     }
 
     /**
@@ -217,6 +269,73 @@ public class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the sequence numbers of the latest snapshots of the given persistence IDs in one query.
+     * Persistence IDs without snapshot are omitted.
+     *
+     * @param pids the persistence IDs.
+     * @return source of the persistence IDs together with the sequence numbers of their latest snapshots.
+     * @since 1.2.0
+     */
+    public Source<PidWithSeqNr, NotUsed> getLatestSnapshotSequenceNumbers(final Collection<String> pids) {
+        if (pids.isEmpty()) {
+            return Source.empty();
+        }
+        final String maxSn = "m";
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(maxSn, "$" + SN))
+        );
+        return getSnapshotStore()
+                .flatMapConcat(snapshotStore -> Source.fromPublisher(snapshotStore.aggregate(pipeline)))
+                .map(document -> new PidWithSeqNr(document.getString(ID),
+                        document.get(maxSn, Number.class).longValue()));
+    }
+
+    /**
+     * Delete all snapshots older than the given latest snapshots and all events included in them in 2 bulk writes,
+     * one against the event journal and one against the snapshot store.
+     * This is equivalent to the cleanup performed by each persistence actor itself without having to start them.
+     *
+     * @param latestSnapshots persistence IDs with the sequence numbers of their latest snapshots.
+     * @param staleEventsKept how many events included in the latest snapshot to keep.
+     * @return source of the errors of both bulk writes; empty if both succeeded.
+     * @since 1.2.0
+     */
+    public Source<List<Throwable>, NotUsed> deleteEventsAndSnapshotsBefore(
+            final Collection<PidWithSeqNr> latestSnapshots, final long staleEventsKept) {
+
+        if (latestSnapshots.isEmpty()) {
+            return Source.single(Collections.emptyList());
+        }
+        final List<WriteModel<Document>> eventDeletions = new ArrayList<>(latestSnapshots.size());
+        final List<WriteModel<Document>> snapshotDeletions = new ArrayList<>(latestSnapshots.size());
+        for (final PidWithSeqNr latestSnapshot : latestSnapshots) {
+            final Bson pidFilter = Filters.eq(PROCESSOR_ID, latestSnapshot.getPersistenceId());
+            final long snapshotSeqNr = latestSnapshot.getSequenceNr();
+            eventDeletions.add(new DeleteManyModel<>(
+                    Filters.and(pidFilter, Filters.lte(TO, snapshotSeqNr - staleEventsKept))));
+            snapshotDeletions.add(new DeleteManyModel<>(Filters.and(pidFilter, Filters.lt(SN, snapshotSeqNr))));
+        }
+        return getJournal().zip(getSnapshotStore())
+                .flatMapConcat(collections -> bulkWrite(collections.first(), eventDeletions)
+                        .zipWith(bulkWrite(collections.second(), snapshotDeletions), (errors1, errors2) -> {
+                            final List<Throwable> errors = new ArrayList<>(errors1);
+                            errors.addAll(errors2);
+                            return errors;
+                        }));
+    }
+
+    private static Source<List<Throwable>, NotUsed> bulkWrite(final MongoCollection<Document> collection,
+            final List<WriteModel<Document>> writeModels) {
+
+        return Source.fromPublisher(collection.bulkWrite(writeModels, UNORDERED))
+                .<List<Throwable>>map(result -> Collections.emptyList())
+                .recover(new PFBuilder<Throwable, List<Throwable>>()
+                        .match(Throwable.class, Collections::singletonList)
+                        .build());
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBound, final int batchSize, final ActorMaterializer mat, final Duration maxBackOff,
             final int maxRestarts) {
@@ -385,11 +504,15 @@ public class MongoReadJournal {
     }
 
     private Source<MongoCollection<Document>, NotUsed> getJournal() {
-        return Source.single(mongoClient.getDefaultDatabase().getCollection(journalCollection));
+        return Source.single(getDatabase().getCollection(journalCollection));
     }
 
     private Source<MongoCollection<Document>, NotUsed> getSnapshotStore() {
-        return Source.single(mongoClient.getDefaultDatabase().getCollection(snapsCollection));
+        return Source.single(getDatabase().getCollection(snapsCollection));
+    }
+
+    private MongoDatabase getDatabase() {
+        return null != databaseName ? mongoClient.getDatabase(databaseName) : mongoClient.getDefaultDatabase();
     }
 
     private static Document toDocument(final Object[][] keyValuePairs) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.Set;
+import scala.collection.immutable.Set$;
+
+/**
+ * Test for {@link org.eclipse.ditto.services.utils.persistence.mongo.PersistenceWarmUpActor}.
+ */
+public final class PersistenceWarmUpActorTest {
+
+    private static final WarmUpConfig WARM_UP_CONFIG = DefaultWarmUpConfig.of(ConfigFactory.parseString(
+            "warm-up {\n" +
+                    "  enabled = true\n" +
+                    "  initial-delay = 0s\n" +
+                    "  max-entities = 3\n" +
+                    "  parallelism = 1\n" +
+                    "  shard-check-interval = 100ms\n" +
+                    "  max-duration = 1m\n" +
+                    "}"));
+
+    private ActorSystem actorSystem;
+    private MongoReadJournal mockReadJournal;
+
+    @Before
+    public void initActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        mockReadJournal = Mockito.mock(MongoReadJournal.class);
+        Mockito.when(mockReadJournal.getNewestSnapshotsAbove(any(), anyInt(), any(), any()))
+                .thenReturn(Source.from(List.of(
+                        snapshot("thing:a:1", "2001-01-01T00:00:00Z"),
+                        snapshot("thing:b:1", "2003-03-03T00:00:00Z"),
+                        snapshot("thing:c:2", "2002-02-02T00:00:00Z"),
+                        new Document().append(MongoReadJournal.ID, "thing:d:1")
+                )));
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void warmUpMostRecentlyModifiedEntitiesOfAllocatedShards() {
+        new TestKit(actorSystem) {{
+            final TestProbe shardRegion = TestProbe.apply(actorSystem);
+            final List<String> warmedUpSnapshots = new CopyOnWriteArrayList<>();
+            final ActorRef underTest = actorSystem.actorOf(PersistenceWarmUpActor.props(WARM_UP_CONFIG,
+                    shardRegion.ref(), new LastCharacterShardExtractor(), pid -> pid,
+                    snapshot -> {
+                        warmedUpSnapshots.add(snapshot.getString(MongoReadJournal.ID));
+                        return CompletableFuture.completedStage(null);
+                    }, mockReadJournal));
+            watch(underTest);
+
+            // only shard 1 is allocated
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(shardRegionState("1"));
+
+            // the most recently modified entities of shard 1 first; thing:d:1 exceeds the budget
+            shardRegion.expectMsg("thing:b:1");
+            shardRegion.reply("started");
+            shardRegion.expectMsg("thing:a:1");
+            shardRegion.reply("started");
+
+            // shard 2 is allocated afterwards
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(shardRegionState("1", "2"));
+            shardRegion.expectMsg("thing:c:2");
+            shardRegion.reply("started");
+
+            expectTerminated(underTest);
+            assertThat(warmedUpSnapshots).containsExactly("thing:b:1", "thing:a:1", "thing:c:2");
+        }};
+    }
+
+    private static Document snapshot(final String pid, final String modified) {
+        return new Document().append(MongoReadJournal.ID, pid).append(PersistenceWarmUpActor.MODIFIED, modified);
+    }
+
+    private static ShardRegion.CurrentShardRegionState shardRegionState(final String... shardIds) {
+        final Set<String> noEntityIds = Set$.MODULE$.empty();
+        final java.util.Set<ShardRegion.ShardState> shards = Arrays.stream(shardIds)
+                .map(shardId -> new ShardRegion.ShardState(shardId, noEntityIds))
+                .collect(Collectors.toSet());
+        return new ShardRegion.CurrentShardRegionState(JavaConverters.asScalaSet(shards).toSet());
+    }
+
+    private static final class LastCharacterShardExtractor implements ShardRegion.MessageExtractor {
+
+        @Override
+        public String entityId(final Object message) {
+            return message.toString();
+        }
+
+        @Override
+        public Object entityMessage(final Object message) {
+            return message;
+        }
+
+        @Override
+        public String shardId(final Object message) {
+            final String entityId = entityId(message);
+            return entityId.substring(entityId.length() - 1);
+        }
+
+    }
+
+}
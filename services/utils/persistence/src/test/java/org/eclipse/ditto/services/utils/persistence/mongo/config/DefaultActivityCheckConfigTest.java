@@ -66,6 +66,9 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getCompactionInterval())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.COMPACTION_INTERVAL.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.COMPACTION_INTERVAL.getDefaultValue());
     }
 
     @Test
@@ -78,5 +81,8 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofDays(100L));
+        softly.assertThat(underTest.getCompactionInterval())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.COMPACTION_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(10L));
     }
 }
@@ -255,6 +255,40 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4");
     }
 
+    @Test
+    public void deleteEventsAndSnapshotsBeforeLatestSnapshots() {
+        insert("test_journal", new Document().append("pid", "pid1").append("from", 1L).append("to", 1L));
+        insert("test_journal", new Document().append("pid", "pid1").append("from", 2L).append("to", 2L));
+        insert("test_journal", new Document().append("pid", "pid1").append("from", 3L).append("to", 3L));
+        insert("test_journal", new Document().append("pid", "pid2").append("from", 1L).append("to", 1L));
+        insert("test_snaps", new Document().append("pid", "pid1").append("sn", 1L));
+        insert("test_snaps", new Document().append("pid", "pid1").append("sn", 2L));
+        insert("test_snaps", new Document().append("pid", "pid2").append("sn", 1L));
+
+        final List<PidWithSeqNr> latestSnapshots =
+                readJournal.getLatestSnapshotSequenceNumbers(Arrays.asList("pid1", "pid3"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+        assertThat(latestSnapshots).containsExactly(new PidWithSeqNr("pid1", 2L));
+
+        final List<List<Throwable>> errors = readJournal.deleteEventsAndSnapshotsBefore(latestSnapshots, 0L)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture().join();
+        assertThat(errors).containsExactly(List.of());
+
+        assertThat(find("test_journal")).extracting(doc -> doc.getString("pid") + ":" + doc.getLong("to"))
+                .containsExactlyInAnyOrder("pid1:3", "pid2:1");
+        assertThat(find("test_snaps")).extracting(doc -> doc.getString("pid") + ":" + doc.getLong("sn"))
+                .containsExactlyInAnyOrder("pid1:2", "pid2:1");
+    }
+
+    private List<Document> find(final String collection) {
+        return Source.fromPublisher(mongoClient.getCollection(collection).find())
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
     private void insert(final String collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
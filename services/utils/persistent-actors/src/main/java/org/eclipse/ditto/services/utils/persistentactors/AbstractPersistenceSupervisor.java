@@ -103,6 +103,17 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Create the behaviour for messages which are not to be forwarded to the supervised persistence actor while this
+     * actor is active. By default no message is handled before forwarding.
+     *
+     * @return the behaviour which is applied before forwarding messages to the child.
+     * @since 1.2.0
+     */
+    protected Receive activeBehaviourBeforeForwarding() {
+        return ReceiveBuilder.create().build();
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -143,8 +154,11 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
-                .matchAny(this::forwardToChildIfAvailable)
-                .build());
+                .build()
+                .orElse(activeBehaviourBeforeForwarding())
+                .orElse(ReceiveBuilder.create()
+                        .matchAny(this::forwardToChildIfAvailable)
+                        .build()));
     }
 
     private void becomeCorrupted() {
@@ -12,12 +12,16 @@
  */
 package org.eclipse.ditto.services.utils.persistentactors;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
@@ -25,6 +29,9 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -32,6 +39,7 @@ import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrateg
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
@@ -61,6 +69,11 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String COMPACTED_ENTITIES_METRIC_NAME = "compacted_entities";
+    private static final String ENTITY_INFLATION_METRIC_NAME = "entity_inflation";
+    private static final String ENTITY_TYPE_TAG = "entity_type";
+    private static final String COMPACTION_TIMER = "compaction";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
@@ -78,6 +91,12 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected final I entityId;
 
+    /**
+     * The current entity in compact serialized form while it is inactive, or null if it is not compacted.
+     */
+    @Nullable
+    private byte[] compactedEntity;
+
     private long accessCounter = 0L;
 
     /**
@@ -172,6 +191,17 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract JsonSchemaVersion getEntitySchemaVersion(S entity);
 
+    /**
+     * Get the compactor to hold the entity in compact serialized form after it was inactive for the configured
+     * compaction interval. Compaction is disabled unless overridden.
+     *
+     * @return the compactor of the entity, or an empty Optional if the entity is not to be compacted.
+     * @since 1.2.0
+     */
+    protected Optional<EntityCompactor<S>> getEntityCompactor() {
+        return Optional.empty();
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -204,6 +234,9 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (null != compactedEntity) {
+            getCompactedEntitiesGauge().decrement();
+        }
         super.postStop();
     }
 
@@ -240,25 +273,44 @@ public abstract class AbstractShardedPersistenceActor<
      * Start handling messages for an existing entity and schedule maintenance messages to self.
      */
     protected void becomeCreatedHandler() {
+        getContext().become(createCreatedBehavior());
+
+        scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
+        scheduleSnapshot();
+        scheduleCompaction();
+    }
+
+    private Receive createCreatedBehavior() {
         final CommandStrategy<C, S, K, Result<E>> commandStrategy = getCreatedStrategy();
 
-        final Receive receive = handleCleanups.orElse(ReceiveBuilder.create()
+        return handleCleanups.orElse(ReceiveBuilder.create()
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
+                .match(CompactIfInactive.class, this::compactIfInactive)
                 .matchAny(this::matchAnyAfterInitialization)
                 .build());
+    }
 
-        getContext().become(receive);
-
-        scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
-        scheduleSnapshot();
+    /**
+     * Behavior while the entity is held in compact serialized form. Maintenance messages which do not need the
+     * entity are handled directly; any other message restores the entity and is then handled by the created behavior.
+     */
+    private Receive createCompactedBehavior() {
+        return handleCleanups.orElse(ReceiveBuilder.create()
+                .match(CheckForActivity.class, this::checkForActivityWhileCompacted)
+                .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotWhileCompacted)
+                .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
+                .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
+                .matchAny(this::inflateAndHandle)
+                .build());
     }
 
     protected void becomeDeletedHandler() {
         getContext().become(createDeletedBehavior());
+        timers().cancel(COMPACTION_TIMER);
 
         /* check in the next X minutes and therefore
          * - stay in-memory for a short amount of minutes after deletion
@@ -366,6 +418,76 @@ public abstract class AbstractShardedPersistenceActor<
         timers().cancel("takeSnapshot");
     }
 
+    private void scheduleCompaction() {
+        final Duration compactionInterval = getActivityCheckConfig().getCompactionInterval();
+        if (!compactionInterval.isNegative() && !compactionInterval.isZero()) {
+            timers().startSingleTimer(COMPACTION_TIMER, new CompactIfInactive(accessCounter), compactionInterval);
+        }
+    }
+
+    private void compactIfInactive(final CompactIfInactive message) {
+        if (accessCounter > message.accessCounter) {
+            scheduleCompaction();
+        } else if (null != entity && isEntityActive()) {
+            getEntityCompactor().ifPresent(compactor -> compact(compactor.toJson(entity)));
+        }
+    }
+
+    private void compact(final JsonObject entityJson) {
+        try {
+            compactedEntity = CborFactory.toByteArray(entityJson);
+        } catch (final IOException e) {
+            log.warning("Could not compact entity <{}>: {}", entityId, e.getMessage());
+            return;
+        }
+        log.debug("Compacted inactive entity <{}> into <{}> bytes.", entityId, compactedEntity.length);
+        entity = null;
+        getCompactedEntitiesGauge().increment();
+        getContext().become(createCompactedBehavior());
+    }
+
+    private void inflateAndHandle(final Object message) {
+        final StartedTimer inflationTimer = DittoMetrics.timer(ENTITY_INFLATION_METRIC_NAME)
+                .tag(ENTITY_TYPE_TAG, getEntityType())
+                .start();
+        final EntityCompactor<S> compactor = getEntityCompactor()
+                .orElseThrow(() -> new IllegalStateException("Compacted entity without compactor"));
+        entity = compactor.fromJson(CborFactory.readFrom(compactedEntity).asObject());
+        compactedEntity = null;
+        getCompactedEntitiesGauge().decrement();
+        inflationTimer.stop();
+
+        final Receive createdBehavior = createCreatedBehavior();
+        getContext().become(createdBehavior);
+        scheduleCompaction();
+        createdBehavior.onMessage().apply(message);
+    }
+
+    private void checkForActivityWhileCompacted(final CheckForActivity message) {
+        // the entity is active and accessing it would have restored it
+        if (accessCounter > message.accessCounter) {
+            scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
+        } else {
+            shutdown("Entity <{}> was not accessed in a while. Shutting Actor down ...", entityId);
+        }
+    }
+
+    private void takeSnapshotWhileCompacted(final Control takeSnapshot) {
+        if (lastSnapshotRevision != getRevisionNumber()) {
+            inflateAndHandle(takeSnapshot);
+        }
+    }
+
+    private Gauge getCompactedEntitiesGauge() {
+        return DittoMetrics.gauge(COMPACTED_ENTITIES_METRIC_NAME).tag(ENTITY_TYPE_TAG, getEntityType());
+    }
+
+    private String getEntityType() {
+        final String persistenceId = persistenceId();
+        final int separatorIndex = persistenceId.indexOf(':');
+        return 0 < separatorIndex ? persistenceId.substring(0, separatorIndex) : persistenceId;
+    }
+
     private void handleByCommandStrategy(final C command) {
         handleByStrategy(command, getCreatedStrategy());
     }
@@ -423,7 +545,8 @@ public abstract class AbstractShardedPersistenceActor<
         LogUtil.enhanceLogWithCorrelationId(log, event);
         log.debug("Persisting Event <{}>.", event.getType());
 
-        persist(event, persistedEvent -> {
+        final E tracedEvent = TraceContext.recordHop(event, TraceContext.SPAN_PERSISTENCE);
+        persist(tracedEvent, persistedEvent -> {
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
 
@@ -431,7 +554,7 @@ public abstract class AbstractShardedPersistenceActor<
                sequence no (e.g. 2), but old entity revision no (e.g. 1) will be created -> can lead to serious
                aftereffects.
              */
-            handler.accept(persistedEvent);
+            handler.accept(TraceContext.recordHop(persistedEvent, TraceContext.SPAN_PERSISTED));
 
             // save a snapshot if there were too many changes since the last snapshot
             if (snapshotThresholdPassed()) {
@@ -554,6 +677,18 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Self-message to compact the entity if it was not accessed since the message was scheduled.
+     */
+    private static final class CompactIfInactive {
+
+        private final long accessCounter;
+
+        private CompactIfInactive(final long accessCounter) {
+            this.accessCounter = accessCounter;
+        }
+    }
+
     private enum Control {
         TAKE_SNAPSHOT
     }
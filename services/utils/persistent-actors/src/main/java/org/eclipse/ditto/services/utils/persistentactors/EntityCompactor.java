@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Converts entities of persistence actors to JSON and back in order to hold them in compact serialized form while
+ * they are inactive.
+ *
+ * @param <S> type of the entity.
+ * @since 1.2.0
+ */
+public interface EntityCompactor<S> {
+
+    /**
+     * Convert the entity into JSON.
+     *
+     * @param entity the active entity.
+     * @return the JSON representation of the entity.
+     */
+    JsonObject toJson(S entity);
+
+    /**
+     * Restore the entity from the JSON representation of {@link #toJson(Object)}.
+     *
+     * @param jsonObject the JSON representation of the entity.
+     * @return the entity.
+     */
+    S fromJson(JsonObject jsonObject);
+
+}
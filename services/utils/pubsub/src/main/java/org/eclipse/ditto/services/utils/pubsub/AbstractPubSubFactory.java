@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.pubsub;
 
+import java.util.Collections;
+
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
 import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
 import org.eclipse.ditto.services.utils.pubsub.actors.PubSupervisor;
@@ -40,6 +42,7 @@ public abstract class AbstractPubSubFactory<T> implements PubSubFactory<T> {
     protected final Class<T> messageClass;
     protected final String factoryId;
     protected final PubSubTopicExtractor<T> topicExtractor;
+    protected final PubSubTopicExtractor<T> probeTopicExtractor;
 
     protected final DistributedDataConfig ddataConfig;
     protected final DData<?, ?> ddata;
@@ -57,10 +60,31 @@ public abstract class AbstractPubSubFactory<T> implements PubSubFactory<T> {
             final PubSubTopicExtractor<T> topicExtractor,
             final DDataProvider provider) {
 
+        this(context, messageClass, topicExtractor, message -> Collections.emptySet(), provider);
+    }
+
+    /**
+     * Create a pub-sub factory whose publications look up the subscribers of probe topics in addition.
+     *
+     * @param context context of the actor under which publisher and subscriber actors are created.
+     * @param messageClass the class of messages to publish and subscribe for.
+     * @param topicExtractor a function extracting from each message the topics it was published at.
+     * @param probeTopicExtractor a function extracting from each message the topics whose subscribers are counted
+     * as filtered at source if the message is not routed to them.
+     * @param provider provider of the underlying ddata extension.
+     * @since 1.2.0
+     */
+    protected AbstractPubSubFactory(final ActorContext context,
+            final Class<T> messageClass,
+            final PubSubTopicExtractor<T> topicExtractor,
+            final PubSubTopicExtractor<T> probeTopicExtractor,
+            final DDataProvider provider) {
+
         this.actorRefFactory = context;
         this.messageClass = messageClass;
         factoryId = provider.clusterRole;
         this.topicExtractor = topicExtractor;
+        this.probeTopicExtractor = probeTopicExtractor;
         ddataConfig = provider.getConfig(context.system());
         ddata = CompressedDData.of(context.system(), provider);
     }
@@ -70,7 +94,7 @@ public abstract class AbstractPubSubFactory<T> implements PubSubFactory<T> {
         final String pubSupervisorName = factoryId + "-pub-supervisor";
         final Props pubSupervisorProps = PubSupervisor.props(ddata);
         final ActorRef pubSupervisor = actorRefFactory.actorOf(pubSupervisorProps, pubSupervisorName);
-        return DistributedPub.of(pubSupervisor, topicExtractor);
+        return DistributedPub.of(pubSupervisor, topicExtractor, probeTopicExtractor);
     }
 
     @Override
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.pubsub;
 
+import java.util.Collections;
+
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
 
 import akka.actor.ActorRef;
@@ -67,6 +69,22 @@ public interface DistributedPub<T> {
      * @return the publication access.
      */
     static <T> DistributedPub<T> of(final ActorRef pubSupervisor, final PubSubTopicExtractor<T> topicExtractor) {
-        return new DistributedPubImpl<>(pubSupervisor, topicExtractor);
+        return of(pubSupervisor, topicExtractor, message -> Collections.emptySet());
+    }
+
+    /**
+     * Create publication access from an already-started pub-supervisor, topic extractor and probe topic extractor.
+     *
+     * @param pubSupervisor the pub-supervisor.
+     * @param topicExtractor the topic extractor.
+     * @param probeTopicExtractor extractor of the topics whose subscribers are counted as filtered at source if a
+     * message is not routed to them.
+     * @param <T> the type of messages.
+     * @return the publication access.
+     * @since 1.2.0
+     */
+    static <T> DistributedPub<T> of(final ActorRef pubSupervisor, final PubSubTopicExtractor<T> topicExtractor,
+            final PubSubTopicExtractor<T> probeTopicExtractor) {
+        return new DistributedPubImpl<>(pubSupervisor, topicExtractor, probeTopicExtractor);
     }
 }
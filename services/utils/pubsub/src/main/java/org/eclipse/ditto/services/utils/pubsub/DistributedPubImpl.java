@@ -27,10 +27,13 @@ final class DistributedPubImpl<T> implements DistributedPub<T> {
 
     private final ActorRef pubSupervisor;
     private final PubSubTopicExtractor<T> topicExtractor;
+    private final PubSubTopicExtractor<T> probeTopicExtractor;
 
-    DistributedPubImpl(final ActorRef pubSupervisor, final PubSubTopicExtractor<T> topicExtractor) {
+    DistributedPubImpl(final ActorRef pubSupervisor, final PubSubTopicExtractor<T> topicExtractor,
+            final PubSubTopicExtractor<T> probeTopicExtractor) {
         this.pubSupervisor = pubSupervisor;
         this.topicExtractor = topicExtractor;
+        this.probeTopicExtractor = probeTopicExtractor;
     }
 
     @Override
@@ -40,6 +43,7 @@ final class DistributedPubImpl<T> implements DistributedPub<T> {
 
     @Override
     public Object wrapForPublication(final T message) {
-        return Publisher.Publish.of(topicExtractor.getTopics(message), message);
+        return Publisher.Publish.of(topicExtractor.getTopics(message), probeTopicExtractor.getTopics(message),
+                message);
     }
 }
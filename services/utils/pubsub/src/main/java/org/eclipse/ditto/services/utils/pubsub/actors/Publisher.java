@@ -13,7 +13,10 @@
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
@@ -22,6 +25,8 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -48,6 +53,12 @@ public final class Publisher<T> extends AbstractActor {
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
 
+    /**
+     * Counts cluster members subscribed to a probe topic of a message to which the message is not routed because none
+     * of their subscriptions match the message's topics.
+     */
+    private final Counter filteredAtSourceCounter = DittoMetrics.counter("pubsub-filtered-at-source");
+
     private CompletionStage<Void> currentPublication = CompletableFuture.completedFuture(null);
 
     @SuppressWarnings("unused")
@@ -78,12 +89,16 @@ public final class Publisher<T> extends AbstractActor {
     private void publish(final Publish publish) {
         messageCounter.increment();
         topicCounter.increment(publish.getTopics().size());
-        final List<T> hashes = publish.getTopics().stream().map(ddataReader::approximate).collect(Collectors.toList());
-        final Object message = publish.getMessage();
+        final List<T> hashes = approximate(publish.getTopics());
+        final List<T> probeHashes = approximate(publish.getProbeTopics());
+        final Object message = recordPublishedHop(publish.getMessage());
         final ActorRef sender = getSender();
         currentPublication = currentPublication.thenCompose(_void ->
                 ddataReader.getSubscribers(hashes)
-                        .thenAccept(subscribers -> subscribers.forEach(subscriber -> subscriber.tell(message, sender)))
+                        .thenCompose(subscribers -> {
+                            subscribers.forEach(subscriber -> subscriber.tell(message, sender));
+                            return countFilteredAtSource(subscribers, probeHashes);
+                        })
                         .exceptionally(e -> {
                             log.error(e, "Failed: <{}>", publish);
                             return null;
@@ -91,6 +106,33 @@ public final class Publisher<T> extends AbstractActor {
         );
     }
 
+    private List<T> approximate(final Collection<String> topics) {
+        return topics.stream().map(ddataReader::approximate).collect(Collectors.toList());
+    }
+
+    private CompletionStage<Void> countFilteredAtSource(final Collection<ActorRef> subscribers,
+            final List<T> probeHashes) {
+
+        if (probeHashes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final Set<ActorRef> routedSubscribers = new HashSet<>(subscribers);
+        return ddataReader.getSubscribers(probeHashes).thenAccept(probeSubscribers -> {
+            final long filteredAtSource =
+                    probeSubscribers.stream().filter(subscriber -> !routedSubscribers.contains(subscriber)).count();
+            if (filteredAtSource > 0) {
+                filteredAtSourceCounter.increment(filteredAtSource);
+            }
+        });
+    }
+
+    private static Object recordPublishedHop(final Object message) {
+        if (message instanceof Signal) {
+            return TraceContext.recordHop((Signal<?>) message, TraceContext.SPAN_PUBLISHED);
+        }
+        return message;
+    }
+
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
@@ -103,10 +145,14 @@ public final class Publisher<T> extends AbstractActor {
 
         private final Collection<String> topics;
 
+        private final Collection<String> probeTopics;
+
         private final Object message;
 
-        private Publish(final Collection<String> topics, final Object message) {
+        private Publish(final Collection<String> topics, final Collection<String> probeTopics,
+                final Object message) {
             this.topics = topics;
+            this.probeTopics = probeTopics;
             this.message = message;
         }
 
@@ -118,7 +164,22 @@ public final class Publisher<T> extends AbstractActor {
          * @return a publish message.
          */
         public static Publish of(final Collection<String> topics, final Object message) {
-            return new Publish(topics, message);
+            return new Publish(topics, Collections.emptySet(), message);
+        }
+
+        /**
+         * Create a publish message for the publisher which looks up the subscribers of probe topics in addition.
+         * Subscribers of probe topics to which the message is not routed are counted as filtered at source.
+         *
+         * @param topics the topics to publish at.
+         * @param probeTopics the probe topics.
+         * @param message the message to publish.
+         * @return a publish message.
+         * @since 1.2.0
+         */
+        public static Publish of(final Collection<String> topics, final Collection<String> probeTopics,
+                final Object message) {
+            return new Publish(topics, probeTopics, message);
         }
 
         /**
@@ -130,6 +191,16 @@ public final class Publisher<T> extends AbstractActor {
             return topics;
         }
 
+        /**
+         * Get the collection of probe topics whose subscribers are only looked up.
+         *
+         * @return the collection of probe topics.
+         * @since 1.2.0
+         */
+        public Collection<String> getProbeTopics() {
+            return probeTopics;
+        }
+
         /**
          * Get the message to publish.
          *
@@ -18,6 +18,8 @@ import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriptionsReader;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
+import org.eclipse.ditto.services.utils.tracing.TraceContext;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -76,12 +78,20 @@ public final class Subscriber<T> extends AbstractActor {
             falsePositiveCounter.increment();
         } else {
             truePositiveCounter.increment();
+            final Object deliveredMessage = recordDeliveredHop(message);
             for (final ActorRef localSubscriber : localSubscribers) {
-                localSubscriber.tell(message, getSender());
+                localSubscriber.tell(deliveredMessage, getSender());
             }
         }
     }
 
+    private static Object recordDeliveredHop(final Object message) {
+        if (message instanceof Signal) {
+            return TraceContext.recordHop((Signal<?>) message, TraceContext.SPAN_DELIVERED);
+        }
+        return message;
+    }
+
     private void updateLocalSubscriptions(final SubscriptionsReader localSubscriptions) {
         this.localSubscriptions = localSubscriptions;
     }
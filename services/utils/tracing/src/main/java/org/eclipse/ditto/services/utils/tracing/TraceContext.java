@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.tracing;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.signals.base.Signal;
+
+/**
+ * The trace context of a signal which is propagated through the services in the internal header
+ * {@link DittoHeaderDefinition#TRACE_CONTEXT}.
+ * <p>
+ * It consists of the ID of the trace, the name of the last span the signal passed and the timestamps of the start of
+ * the trace and of the last span. Whenever a signal passes a span, the time since the last span is recorded in the
+ * histogram {@value #HOP_METRIC_NAME} tagged with the source span, the target span and the type of the signal.
+ * Timestamps are taken from the wall clock as microseconds since the epoch, thus hops between cluster members are only
+ * as accurate as the synchronization of their clocks.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class TraceContext {
+
+    /**
+     * Span of a request or signal entering the cluster through the gateway or the connectivity service.
+     */
+    public static final String SPAN_INGRESS = "ingress";
+
+    /**
+     * Span of a signal whose trace was started at the HTTP or WebSocket ingress of the gateway and which is forwarded
+     * into the cluster.
+     */
+    public static final String SPAN_FORWARDED = "forwarded";
+
+    /**
+     * Span of a signal which is passed to the enforcer colocated with the things shards.
+     */
+    public static final String SPAN_COLOCATED = "colocated";
+
+    /**
+     * Span of a signal for which the enforcement was scheduled.
+     */
+    public static final String SPAN_ENFORCEMENT_SCHEDULED = "enforcement_scheduled";
+
+    /**
+     * Span of a signal whose enforcer is about to be retrieved from the enforcer caches, loading it if necessary.
+     */
+    public static final String SPAN_ENFORCER_LOADING = "enforcer_loading";
+
+    /**
+     * Span of a signal whose enforcer was retrieved from the enforcer caches.
+     */
+    public static final String SPAN_ENFORCER_LOADED = "enforcer_loaded";
+
+    /**
+     * Span of a signal which was enforced and is dispatched to its target.
+     */
+    public static final String SPAN_ENFORCED = "enforced";
+
+    /**
+     * Span of an event which is about to be persisted.
+     */
+    public static final String SPAN_PERSISTENCE = "persistence";
+
+    /**
+     * Span of an event which was persisted.
+     */
+    public static final String SPAN_PERSISTED = "persisted";
+
+    /**
+     * Span of a signal which is published via pub/sub.
+     */
+    public static final String SPAN_PUBLISHED = "published";
+
+    /**
+     * Span of a signal which was delivered to the local subscribers of a cluster member.
+     */
+    public static final String SPAN_DELIVERED = "delivered";
+
+    static final String HOP_METRIC_NAME = "signal_hop";
+
+    private static final String DELIMITER = ";";
+    private static final int NUMBER_OF_PARTS = 4;
+
+    /**
+     * Tagged hop histograms by source span, target span and signal type; bounded by the number of spans and signal
+     * types.
+     */
+    private static final Map<String, Histogram> HOP_HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private final String traceId;
+    private final String span;
+    private final long startMicros;
+    private final long spanMicros;
+
+    private TraceContext(final String traceId, final String span, final long startMicros, final long spanMicros) {
+        this.traceId = traceId;
+        this.span = span;
+        this.startMicros = startMicros;
+        this.spanMicros = spanMicros;
+    }
+
+    /**
+     * Starts a new trace for the given signal at the given span with the given probability if the signal does not
+     * carry a trace context yet.
+     *
+     * @param signal the signal.
+     * @param span name of the span at which the trace starts.
+     * @param samplingRate the probability between 0.0 and 1.0 to start a trace; 0.0 disables tracing.
+     * @param <T> type of the signal.
+     * @return the signal carrying a trace context if it is sampled, the unchanged signal otherwise.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <T extends Signal<?>> T start(final T signal, final String span, final double samplingRate) {
+        if (!isSampled(samplingRate)) {
+            return checkNotNull(signal, "signal");
+        }
+        return start(signal, span, Clock.systemUTC());
+    }
+
+    /**
+     * Starts a new trace in the given headers at the given span with the given probability if the headers do not
+     * contain a trace context yet. This allows to start a trace before the signal it belongs to exists, e. g. before
+     * an HTTP request is authenticated.
+     *
+     * @param dittoHeaders the headers.
+     * @param span name of the span at which the trace starts.
+     * @param samplingRate the probability between 0.0 and 1.0 to start a trace; 0.0 disables tracing.
+     * @return the headers containing a trace context if they are sampled, the unchanged headers otherwise.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static DittoHeaders start(final DittoHeaders dittoHeaders, final String span, final double samplingRate) {
+        if (!isSampled(samplingRate)) {
+            return checkNotNull(dittoHeaders, "dittoHeaders");
+        }
+        return start(dittoHeaders, span, Clock.systemUTC());
+    }
+
+    /**
+     * Records the hop of the given signal from the last span it passed to the given span and sets the given span as
+     * the last span of the signal. Signals without trace context are returned unchanged.
+     *
+     * @param signal the signal.
+     * @param span name of the span the signal passes.
+     * @param <T> type of the signal.
+     * @return the signal with the updated trace context.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <T extends Signal<?>> T recordHop(final T signal, final String span) {
+        return recordHop(signal, span, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the trace context contained in the given headers.
+     *
+     * @param dittoHeaders the headers.
+     * @return the trace context or an empty Optional if the headers contain none or an invalid one.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     */
+    public static Optional<TraceContext> of(final DittoHeaders dittoHeaders) {
+        checkNotNull(dittoHeaders, "dittoHeaders");
+        return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.TRACE_CONTEXT.getKey()))
+                .flatMap(TraceContext::parse);
+    }
+
+    static <T extends Signal<?>> T start(final T signal, final String span, final Clock clock) {
+        checkNotNull(signal, "signal");
+        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        final DittoHeaders startedDittoHeaders = start(dittoHeaders, span, clock);
+        if (startedDittoHeaders == dittoHeaders) {
+            return signal;
+        }
+        return withDittoHeaders(signal, startedDittoHeaders);
+    }
+
+    static DittoHeaders start(final DittoHeaders dittoHeaders, final String span, final Clock clock) {
+        checkNotNull(span, "span");
+        if (of(dittoHeaders).isPresent()) {
+            return dittoHeaders;
+        }
+        final long nowMicros = toMicros(clock.instant());
+        final String traceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return withTraceContext(dittoHeaders, new TraceContext(traceId, span, nowMicros, nowMicros));
+    }
+
+    static <T extends Signal<?>> T recordHop(final T signal, final String span, final Clock clock) {
+        checkNotNull(signal, "signal");
+        checkNotNull(span, "span");
+        final Optional<TraceContext> traceContextOptional = of(signal.getDittoHeaders());
+        if (!traceContextOptional.isPresent()) {
+            return signal;
+        }
+        final TraceContext traceContext = traceContextOptional.get();
+        final long nowMicros = toMicros(clock.instant());
+        getHopHistogram(traceContext.span, span, signal.getType())
+                .record(Math.max(0L, nowMicros - traceContext.spanMicros));
+        return withDittoHeaders(signal, withTraceContext(signal.getDittoHeaders(),
+                new TraceContext(traceContext.traceId, span, traceContext.startMicros, nowMicros)));
+    }
+
+    /**
+     * Returns the ID of the trace.
+     *
+     * @return the trace ID.
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Returns the name of the last span the signal passed.
+     *
+     * @return the span name.
+     */
+    public String getSpan() {
+        return span;
+    }
+
+    /**
+     * Returns the timestamp of the start of the trace.
+     *
+     * @return the microseconds since the epoch.
+     */
+    public long getStartMicros() {
+        return startMicros;
+    }
+
+    /**
+     * Returns the timestamp at which the signal passed its last span.
+     *
+     * @return the microseconds since the epoch.
+     */
+    public long getSpanMicros() {
+        return spanMicros;
+    }
+
+    /**
+     * Returns the value of the header {@link DittoHeaderDefinition#TRACE_CONTEXT} representing this trace context.
+     *
+     * @return the header value.
+     */
+    public String toHeaderValue() {
+        return traceId + DELIMITER + span + DELIMITER + startMicros + DELIMITER + spanMicros;
+    }
+
+    private static boolean isSampled(final double samplingRate) {
+        return samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private static DittoHeaders withTraceContext(final DittoHeaders dittoHeaders, final TraceContext traceContext) {
+        return dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.TRACE_CONTEXT.getKey(), traceContext.toHeaderValue())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Signal<?>> T withDittoHeaders(final T signal, final DittoHeaders dittoHeaders) {
+        return (T) signal.setDittoHeaders(dittoHeaders);
+    }
+
+    private static Histogram getHopHistogram(final String sourceSpan, final String targetSpan,
+            final String signalType) {
+
+        return HOP_HISTOGRAMS.computeIfAbsent(sourceSpan + DELIMITER + targetSpan + DELIMITER + signalType,
+                key -> DittoMetrics.histogram(HOP_METRIC_NAME)
+                        .tag(TracingTags.HOP_SOURCE, sourceSpan)
+                        .tag(TracingTags.HOP_TARGET, targetSpan)
+                        .tag(TracingTags.SIGNAL_TYPE, signalType));
+    }
+
+    private static Optional<TraceContext> parse(final String headerValue) {
+        final String[] parts = headerValue.split(DELIMITER, -1);
+        if (NUMBER_OF_PARTS != parts.length || parts[0].isEmpty() || parts[1].isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                    new TraceContext(parts[0], parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long toMicros(final Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TraceContext that = (TraceContext) o;
+        return startMicros == that.startMicros &&
+                spanMicros == that.spanMicros &&
+                Objects.equals(traceId, that.traceId) &&
+                Objects.equals(span, that.span);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(traceId, span, startMicros, spanMicros);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "traceId=" + traceId +
+                ", span=" + span +
+                ", startMicros=" + startMicros +
+                ", spanMicros=" + spanMicros +
+                "]";
+    }
+
+}
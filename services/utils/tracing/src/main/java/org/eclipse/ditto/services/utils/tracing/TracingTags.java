@@ -36,4 +36,9 @@ public final class TracingTags {
 
     //Mapping tags
     public static final String MAPPING_SUCCESS = PREFIX + "mapping.success";
+
+    //Signal hop tags
+    public static final String SIGNAL_TYPE = PREFIX + "signal.type";
+    public static final String HOP_SOURCE = PREFIX + "hop.source";
+    public static final String HOP_TARGET = PREFIX + "hop.target";
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.tracing.TraceContext}.
+ */
+public final class TraceContextTest {
+
+    private static final Instant START = Instant.parse("2020-05-20T10:15:30.123456Z");
+    private static final long START_MICROS = 1589969730123456L;
+
+    private static final RetrieveThing SIGNAL =
+            RetrieveThing.of(ThingId.of("org.eclipse.ditto:thing"), DittoHeaders.empty());
+
+    @Test
+    public void startAddsTraceContext() {
+        final RetrieveThing started = TraceContext.start(SIGNAL, "first", clockAt(START));
+
+        assertThat(TraceContext.of(started.getDittoHeaders())).hasValueSatisfying(traceContext -> {
+            assertThat(traceContext.getTraceId()).isNotEmpty();
+            assertThat(traceContext.getSpan()).isEqualTo("first");
+            assertThat(traceContext.getStartMicros()).isEqualTo(START_MICROS);
+            assertThat(traceContext.getSpanMicros()).isEqualTo(START_MICROS);
+        });
+    }
+
+    @Test
+    public void startDoesNotReplaceExistingTraceContext() {
+        final RetrieveThing started = TraceContext.start(SIGNAL, "first", clockAt(START));
+
+        final RetrieveThing startedAgain = TraceContext.start(started, "second", clockAt(START.plusSeconds(1)));
+
+        assertThat(startedAgain).isSameAs(started);
+    }
+
+    @Test
+    public void startWithoutSamplingRateDoesNotAddTraceContext() {
+        assertThat(TraceContext.start(SIGNAL, "first", 0.0)).isSameAs(SIGNAL);
+    }
+
+    @Test
+    public void startWithFullSamplingRateAddsTraceContext() {
+        final RetrieveThing started = TraceContext.start(SIGNAL, "first", 1.0);
+
+        assertThat(TraceContext.of(started.getDittoHeaders()))
+                .hasValueSatisfying(traceContext -> assertThat(traceContext.getSpan()).isEqualTo("first"));
+    }
+
+    @Test
+    public void startInHeadersIsKeptByTheSignalBuiltFromThem() {
+        final DittoHeaders startedHeaders = TraceContext.start(DittoHeaders.empty(), "first", clockAt(START));
+        final RetrieveThing signal = RetrieveThing.of(SIGNAL.getThingEntityId(), startedHeaders);
+
+        final RetrieveThing hopped = TraceContext.recordHop(signal, "second", clockAt(START.plusMillis(5)));
+
+        assertThat(TraceContext.of(hopped.getDittoHeaders())).hasValueSatisfying(traceContext -> {
+            assertThat(traceContext.getSpan()).isEqualTo("second");
+            assertThat(traceContext.getStartMicros()).isEqualTo(START_MICROS);
+        });
+    }
+
+    @Test
+    public void startInHeadersWithoutSamplingRateReturnsHeadersUnchanged() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("cid").build();
+
+        assertThat(TraceContext.start(dittoHeaders, "first", 0.0)).isSameAs(dittoHeaders);
+    }
+
+    @Test
+    public void recordHopUpdatesSpanAndKeepsTraceId() {
+        final RetrieveThing started = TraceContext.start(SIGNAL, "first", clockAt(START));
+        final TraceContext initial = TraceContext.of(started.getDittoHeaders()).orElseThrow(AssertionError::new);
+
+        final RetrieveThing hopped = TraceContext.recordHop(started, "second", clockAt(START.plusMillis(5)));
+
+        assertThat(TraceContext.of(hopped.getDittoHeaders())).hasValueSatisfying(traceContext -> {
+            assertThat(traceContext.getTraceId()).isEqualTo(initial.getTraceId());
+            assertThat(traceContext.getSpan()).isEqualTo("second");
+            assertThat(traceContext.getStartMicros()).isEqualTo(START_MICROS);
+            assertThat(traceContext.getSpanMicros()).isEqualTo(START_MICROS + 5_000L);
+        });
+    }
+
+    @Test
+    public void recordHopWithoutTraceContextReturnsSignalUnchanged() {
+        assertThat(TraceContext.recordHop(SIGNAL, "second")).isSameAs(SIGNAL);
+    }
+
+    @Test
+    public void invalidHeaderValueIsIgnored() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .putHeader(DittoHeaderDefinition.TRACE_CONTEXT.getKey(), "abc;span;notANumber;1")
+                .build();
+
+        assertThat(TraceContext.of(dittoHeaders)).isEmpty();
+    }
+
+    private static Clock clockAt(final Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+}